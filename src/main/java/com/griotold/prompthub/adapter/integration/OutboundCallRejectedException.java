@@ -0,0 +1,14 @@
+package com.griotold.prompthub.adapter.integration;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 외부 호출을 보내지 않고 바로 거절한 경우 (동시 호출 한도 초과, 회로 열림)
+ * 호출하는 쪽은 다른 통신 오류와 같이 RestClientException으로 처리할 수 있다.
+ */
+public class OutboundCallRejectedException extends RestClientException {
+
+    public OutboundCallRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.griotold.prompthub.adapter.integration;
+
+import com.griotold.prompthub.domain.member.Provider;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자별 HTTP 호출 창구 모음
+ * 제공자마다 연결 풀, 제한 시간, 동시 호출 한도, 회로 차단기를 따로 가진다.
+ * 한 제공자가 느려져도 다른 제공자 로그인과 요청 스레드 전체가 함께 묶이지 않는다.
+ */
+public class OutboundHttpClients {
+
+    private final Map<Provider, ProviderHttpClient> clients;
+
+    public OutboundHttpClients(Map<Provider, ProviderHttpClient> clients) {
+        this.clients = new EnumMap<>(clients);
+    }
+
+    public ProviderHttpClient get(Provider provider) {
+        ProviderHttpClient client = clients.get(provider);
+        if (client == null) {
+            throw new IllegalArgumentException("설정되지 않은 제공자입니다: " + provider);
+        }
+        return client;
+    }
+
+    /** 제공자 이름(소문자) → 지표 */
+    public Map<String, ProviderHttpClient.Metrics> metrics() {
+        Map<String, ProviderHttpClient.Metrics> metrics = new LinkedHashMap<>();
+        clients.forEach((provider, client) -> metrics.put(provider.name().toLowerCase(), client.metrics()));
+        return metrics;
+    }
+}
@@ -0,0 +1,29 @@
+package com.griotold.prompthub.adapter.integration;
+
+import java.time.Duration;
+
+/**
+ * 외부 제공자별 호출 설정
+ *
+ * @param connectTimeout     연결 제한 시간
+ * @param readTimeout        응답 대기 제한 시간
+ * @param maxConcurrentCalls 동시 호출 한도 (넘으면 기다리지 않고 바로 실패)
+ * @param failureThreshold   연속 실패가 이 횟수에 도달하면 회로를 연다
+ * @param openDuration       회로가 열린 뒤 시험 호출을 허용하기까지 기다리는 시간
+ */
+public record OutboundHttpSettings(
+        Duration connectTimeout,
+        Duration readTimeout,
+        int maxConcurrentCalls,
+        int failureThreshold,
+        Duration openDuration
+) {
+    public OutboundHttpSettings {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("동시 호출 한도는 1 이상이어야 합니다: " + maxConcurrentCalls);
+        }
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("회로 차단 실패 횟수는 1 이상이어야 합니다: " + failureThreshold);
+        }
+    }
+}
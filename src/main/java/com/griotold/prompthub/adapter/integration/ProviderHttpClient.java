@@ -0,0 +1,137 @@
+package com.griotold.prompthub.adapter.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 외부 제공자 하나에 대한 HTTP 호출 창구
+ * - 제공자마다 HttpClient를 따로 두어 호스트별 keep-alive 연결을 재사용한다
+ * - 연결/응답 제한 시간을 넘기면 ResourceAccessException
+ * - 동시 호출이 한도에 차면 기다리지 않고 OutboundCallRejectedException (bulkhead)
+ * - 연결 실패/타임아웃/5xx가 이어지면 회로를 열고, 열린 동안은 호출하지 않고 바로 실패한다
+ *   4xx는 제공자가 정상 응답한 것이므로 실패로 세지 않는다
+ */
+@Slf4j
+public class ProviderHttpClient {
+
+    private final String name;
+    private final RestClient restClient;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final CircuitBreaker circuitBreaker;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    ProviderHttpClient(String name, RestClient restClient, OutboundHttpSettings settings, Clock clock) {
+        this.name = name;
+        this.restClient = restClient;
+        this.maxConcurrentCalls = settings.maxConcurrentCalls();
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(clock, settings.failureThreshold(), settings.openDuration());
+    }
+
+    public static ProviderHttpClient create(String name, OutboundHttpSettings settings) {
+        return create(name, settings, Clock.systemUTC());
+    }
+
+    static ProviderHttpClient create(String name, OutboundHttpSettings settings, Clock clock) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.connectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.readTimeout());
+
+        RestClient restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+        return new ProviderHttpClient(name, restClient, settings, clock);
+    }
+
+    /**
+     * @param request RestClient로 요청을 보내고 응답을 변환하는 함수
+     * @throws OutboundCallRejectedException 동시 호출 한도 초과 또는 회로 열림
+     */
+    public <T> T call(Function<RestClient, T> request) {
+        if (!bulkhead.tryAcquire()) {
+            rejected.incrementAndGet();
+            log.warn("{} 호출 거절 - 동시 호출 한도({}) 초과", name, maxConcurrentCalls);
+            throw new OutboundCallRejectedException(name + " 동시 호출 한도를 초과했습니다.");
+        }
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                shortCircuited.incrementAndGet();
+                throw new OutboundCallRejectedException(name + " 서버 장애로 호출을 잠시 중단했습니다.");
+            }
+            return execute(request);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public Metrics metrics() {
+        long callCount = calls.get();
+        return new Metrics(
+                circuitBreaker.state().name(),
+                callCount,
+                failures.get(),
+                rejected.get(),
+                shortCircuited.get(),
+                callCount == 0 ? 0 : totalLatencyNanos.get() / callCount / 1_000_000,
+                maxLatencyNanos.get() / 1_000_000,
+                maxConcurrentCalls - bulkhead.availablePermits()
+        );
+    }
+
+    private <T> T execute(Function<RestClient, T> request) {
+        long startedAt = System.nanoTime();
+        try {
+            T result = request.apply(restClient);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            failures.incrementAndGet();
+            circuitBreaker.onFailure();
+            if (circuitBreaker.state() == CircuitBreaker.State.OPEN) {
+                log.warn("{} 회로 열림 - 최근 오류: {}", name, e.getMessage());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            // 응답은 받았으므로(4xx, 변환 오류 등) 제공자 장애로 보지 않는다
+            circuitBreaker.onSuccess();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            calls.incrementAndGet();
+            totalLatencyNanos.addAndGet(elapsed);
+            maxLatencyNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * @param circuitState     회로 상태 (CLOSED, OPEN, HALF_OPEN)
+     * @param calls            실제로 보낸 호출 수
+     * @param failures         연결 실패/타임아웃/5xx 수
+     * @param rejected         동시 호출 한도 초과로 거절한 수
+     * @param shortCircuited   회로가 열려 보내지 않은 수
+     * @param avgLatencyMillis 평균 응답 시간(ms)
+     * @param maxLatencyMillis 최대 응답 시간(ms)
+     * @param inFlight         진행 중인 호출 수
+     */
+    public record Metrics(String circuitState, long calls, long failures, long rejected, long shortCircuited,
+                          long avgLatencyMillis, long maxLatencyMillis, int inFlight) {
+    }
+}
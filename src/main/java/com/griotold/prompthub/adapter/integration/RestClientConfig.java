@@ -1,15 +1,45 @@
 package com.griotold.prompthub.adapter.integration;
 
+import com.griotold.prompthub.domain.member.Provider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestClient;
+import org.springframework.core.env.Environment;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출 설정
+ * 제공자별 설정은 app.outbound.{google|naver|kakao}.* 로 지정하고, 없으면 기본값을 쓴다.
+ */
 @Configuration
 public class RestClientConfig {
 
+    private static final long DEFAULT_CONNECT_TIMEOUT_MS = 1_000;
+    private static final long DEFAULT_READ_TIMEOUT_MS = 3_000;
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 20;
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_OPEN_DURATION_MS = 30_000;
+
     @Bean
-    public RestClient restClient() {
-        return RestClient.builder()
-                .build();
+    public OutboundHttpClients outboundHttpClients(Environment environment) {
+        Map<Provider, ProviderHttpClient> clients = new EnumMap<>(Provider.class);
+        for (Provider provider : Provider.values()) {
+            String name = provider.name().toLowerCase();
+            clients.put(provider, ProviderHttpClient.create(name, settings(environment, name)));
+        }
+        return new OutboundHttpClients(clients);
+    }
+
+    private OutboundHttpSettings settings(Environment environment, String name) {
+        String prefix = "app.outbound." + name + ".";
+        return new OutboundHttpSettings(
+                Duration.ofMillis(environment.getProperty(prefix + "connect-timeout-ms", Long.class, DEFAULT_CONNECT_TIMEOUT_MS)),
+                Duration.ofMillis(environment.getProperty(prefix + "read-timeout-ms", Long.class, DEFAULT_READ_TIMEOUT_MS)),
+                environment.getProperty(prefix + "max-concurrent-calls", Integer.class, DEFAULT_MAX_CONCURRENT_CALLS),
+                environment.getProperty(prefix + "failure-threshold", Integer.class, DEFAULT_FAILURE_THRESHOLD),
+                Duration.ofMillis(environment.getProperty(prefix + "open-duration-ms", Long.class, DEFAULT_OPEN_DURATION_MS))
+        );
     }
 }
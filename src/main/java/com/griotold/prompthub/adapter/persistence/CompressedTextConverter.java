@@ -0,0 +1,130 @@
+package com.griotold.prompthub.adapter.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문/설명을 압축해서 TEXT 컬럼에 저장
+ * - 저장 형식: 접두사 + Base64(원문 UTF-8 바이트 수 4바이트 + raw deflate)
+ * - 접두사로 시작하지 않는 값은 압축 전 행이므로 그대로 읽는다. 설정을 끈 뒤에도 압축된 행은 읽는다
+ * - 원문이 기준 크기보다 작거나, 압축해도 줄지 않으면 그대로 저장한다
+ * - 원문이 접두사로 시작하면 크기와 상관없이 압축해서 두 형식이 섞이지 않게 한다
+ * - 읽을 때 길이 헤더가 max-bytes를 넘으면 배열을 잡기 전에 실패한다 (손상된 행이 큰 메모리를 잡지 않게)
+ * - 그래서 max-bytes를 넘는 값은 압축해서 쓰지 않고 저장할 때 실패한다 (다시 읽을 수 없는 행을 남기지 않게)
+ * 도메인이 어댑터를 모르도록 Prompt에는 붙이지 않고 META-INF/orm.xml에서 본문/설명 컬럼에 연결한다.
+ * 압축된 행은 DB의 LIKE 검색에 걸리지 않는다 (검색은 역색인을 쓴다).
+ * Hibernate가 Spring 빈 컨테이너로 만들기 때문에 설정값을 생성자로 받는다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    // 사용자가 입력하기 어려운 제어 문자로 시작 (PostgreSQL TEXT는 NUL을 저장할 수 없다)
+    static final String PREFIX = "\u0001z1:";
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final boolean enabled;
+    private final int minBytes;
+    private final int maxBytes;
+
+    public CompressedTextConverter(@Value("${app.prompt-compression.enabled:false}") boolean enabled,
+                                   @Value("${app.prompt-compression.min-bytes:1024}") int minBytes,
+                                   @Value("${app.prompt-compression.max-bytes:65536}") int maxBytes) {
+        if (minBytes < 0) {
+            throw new IllegalArgumentException("압축 기준 크기는 0 이상이어야 합니다.");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("압축을 푼 최대 크기는 0보다 커야 합니다.");
+        }
+        this.enabled = enabled;
+        this.minBytes = minBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        boolean ambiguous = text.startsWith(PREFIX);
+        if (!enabled && !ambiguous) {
+            return text;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < minBytes && !ambiguous) {
+            return text;
+        }
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("압축할 본문이 최대 크기(" + maxBytes + "바이트)를 넘습니다: " + bytes.length);
+        }
+        String compressed = PREFIX + Base64.getEncoder().encodeToString(deflate(bytes));
+        // 접두사와 Base64가 모두 ASCII라 문자 수가 곧 바이트 수
+        return compressed.length() < bytes.length || ambiguous ? compressed : text;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) {
+            return stored;
+        }
+        byte[] frame = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        return new String(inflate(frame), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + LENGTH_BYTES);
+            out.writeBytes(ByteBuffer.allocate(LENGTH_BYTES).putInt(bytes.length).array());
+            byte[] buffer = new byte[Math.max(64, Math.min(bytes.length, 8192))];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] frame) {
+        if (frame.length < LENGTH_BYTES) {
+            throw new IllegalStateException("압축된 본문 형식이 올바르지 않습니다.");
+        }
+        int expected = ByteBuffer.wrap(frame).getInt();
+        if (expected < 0 || expected > maxBytes) {
+            throw new IllegalStateException("압축된 본문 길이가 허용 범위(0~" + maxBytes + "바이트)를 벗어났습니다: " + expected);
+        }
+        byte[] bytes = new byte[expected];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(frame, LENGTH_BYTES, frame.length - LENGTH_BYTES);
+            int length = 0;
+            while (length < bytes.length) {
+                int inflated = inflater.inflate(bytes, length, bytes.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != bytes.length) {
+                throw new IllegalStateException("압축된 본문 길이가 맞지 않습니다.");
+            }
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문을 풀 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.griotold.prompthub.adapter.prompt.infra;
+
+import com.griotold.prompthub.application.prompt.required.PromptViewCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcPromptViewCountRepository implements PromptViewCountRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE p_prompt SET views_count = views_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
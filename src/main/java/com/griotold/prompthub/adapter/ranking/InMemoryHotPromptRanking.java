@@ -0,0 +1,247 @@
+package com.griotold.prompthub.adapter.ranking;
+
+import com.griotold.prompthub.application.prompt.required.PromptHotRanking;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지수 감쇠 hot 랭킹
+ * 이벤트 가중치 w가 시각 t에 들어오면 점수 S에 w * e^(λ(t - t0))를 더한다.
+ * 모든 점수가 같은 비율로 감쇠하므로 과거 점수를 다시 계산하지 않아도 순위가 유지되고,
+ * 현재 시점의 실제 점수는 S * e^(-λ(now - t0))이다. 오버플로를 피하려고 log(S)로 저장한다.
+ * <p>
+ * 좋아요 취소, 리뷰 삭제는 현재 시점 가중치를 빼되 작성 시점 점수 아래로는 내려가지 않는다.
+ * 보드(전체, 카테고리별)는 모든 항목을 점수순으로 유지하고 그중 상위 K개만 노출한다.
+ * 상위 K개 밖으로 밀려난 프롬프트도 점수는 계속 추적하므로, 제거/감점으로 자리가 비면 다음 항목이 O(log N)에 올라온다.
+ */
+@Component
+public class InMemoryHotPromptRanking implements PromptHotRanking {
+
+    static final double CREATED_WEIGHT = 10;
+    static final double LIKE_WEIGHT = 3;
+    static final double VIEW_WEIGHT = 0.2;
+    static final double REVIEW_BASE_WEIGHT = 2;
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final Clock clock;
+    private final double lambdaPerSecond;
+    private final int topK;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Board global;
+    private final Map<Long, Board> boardsByCategory = new HashMap<>();
+
+    @Autowired
+    public InMemoryHotPromptRanking(@Value("${app.hot-ranking.half-life-hours:24}") double halfLifeHours,
+                                    @Value("${app.hot-ranking.top-k:1000}") int topK) {
+        this(Clock.systemDefaultZone(), halfLifeHours, topK);
+    }
+
+    InMemoryHotPromptRanking(Clock clock, double halfLifeHours, int topK) {
+        this.clock = clock;
+        this.lambdaPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        this.topK = topK;
+        this.global = new Board(topK);
+    }
+
+    @Override
+    public void register(Prompt prompt) {
+        if (!prompt.getIsPublic()) {
+            remove(prompt.getId());
+            return;
+        }
+        register(PromptStats.of(prompt));
+    }
+
+    @Override
+    public void register(PromptStats stats) {
+        // 과거 반응의 발생 시각은 알 수 없으므로 작성 시각에 몰아서 반영
+        double weight = CREATED_WEIGHT
+                + LIKE_WEIGHT * stats.likesCount()
+                + VIEW_WEIGHT * stats.viewsCount()
+                + REVIEW_BASE_WEIGHT * stats.reviewsCount() + stats.totalScore();
+        LocalDateTime createdAt = stats.createdAt() != null ? stats.createdAt() : LocalDateTime.now(clock);
+        double createdAtLog = timeLog(createdAt.atZone(clock.getZone()).toInstant());
+
+        lock.writeLock().lock();
+        try {
+            removeEntry(stats.id());
+            Entry entry = new Entry(stats.id(), stats.categoryId(),
+                    createdAtLog + Math.log(weight), createdAtLog + Math.log(CREATED_WEIGHT));
+            entries.put(entry.promptId(), entry);
+            addToBoards(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long promptId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(promptId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void recordLike(Long promptId, int delta) {
+        addWeight(promptId, LIKE_WEIGHT * delta);
+    }
+
+    @Override
+    public void recordViews(Map<Long, Long> viewDeltas) {
+        viewDeltas.forEach((promptId, views) -> addWeight(promptId, VIEW_WEIGHT * views));
+    }
+
+    @Override
+    public void recordReview(Long promptId, int rating, int delta) {
+        addWeight(promptId, (REVIEW_BASE_WEIGHT + rating) * delta);
+    }
+
+    @Override
+    public List<Long> topIds(@Nullable Long categoryId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Board board = categoryId == null ? global : boardsByCategory.get(categoryId);
+            if (board == null) {
+                return List.of();
+            }
+            return board.top(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size(@Nullable Long categoryId) {
+        lock.readLock().lock();
+        try {
+            Board board = categoryId == null ? global : boardsByCategory.get(categoryId);
+            return board == null ? 0 : board.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 현재 시점 기준으로 감쇠된 점수 (표시/디버깅용) */
+    double currentScore(Long promptId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(promptId);
+            return entry == null ? 0 : Math.exp(entry.logScore() - timeLog(clock.instant()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addWeight(Long promptId, double weight) {
+        if (weight == 0) {
+            return;
+        }
+        double weightLog = timeLog(clock.instant()) + Math.log(Math.abs(weight));
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(promptId);
+            if (entry == null) {
+                return;
+            }
+            double logScore = weight > 0
+                    ? logAdd(entry.logScore(), weightLog)
+                    : Math.max(logSubtract(entry.logScore(), weightLog), entry.floorLog());
+
+            Entry updated = entry.withLogScore(logScore);
+            removeFromBoards(entry);
+            entries.put(promptId, updated);
+            addToBoards(updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addToBoards(Entry entry) {
+        global.ranked.add(entry);
+        boardsByCategory.computeIfAbsent(entry.categoryId(), id -> new Board(topK)).ranked.add(entry);
+    }
+
+    private void removeEntry(Long promptId) {
+        Entry entry = entries.remove(promptId);
+        if (entry != null) {
+            removeFromBoards(entry);
+        }
+    }
+
+    private void removeFromBoards(Entry entry) {
+        global.ranked.remove(entry);
+        Board board = boardsByCategory.get(entry.categoryId());
+        if (board != null) {
+            board.ranked.remove(entry);
+            if (board.ranked.isEmpty()) {
+                boardsByCategory.remove(entry.categoryId());
+            }
+        }
+    }
+
+    private double timeLog(Instant instant) {
+        return lambdaPerSecond * Duration.between(EPOCH, instant).toSeconds();
+    }
+
+    // log(e^a + e^b)
+    private static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    // log(e^a - e^b), b >= a 이면 -∞
+    private static double logSubtract(double a, double b) {
+        return b >= a ? Double.NEGATIVE_INFINITY : a + Math.log1p(-Math.exp(b - a));
+    }
+
+    /**
+     * @param floorLog 작성 시점 점수. 감점해도 이 아래로 내려가지 않는다
+     */
+    private record Entry(Long promptId, Long categoryId, double logScore, double floorLog) {
+        Entry withLogScore(double logScore) {
+            return new Entry(promptId, categoryId, logScore, floorLog);
+        }
+    }
+
+    // 점수 내림차순, 같은 점수면 최신(ID 큰) 프롬프트 우선. 모든 항목을 유지하고 상위 capacity개만 노출
+    private static final class Board {
+        private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::logScore).reversed()
+                .thenComparing(Entry::promptId, Comparator.reverseOrder());
+
+        private final TreeSet<Entry> ranked = new TreeSet<>(ORDER);
+        private final int capacity;
+
+        private Board(int capacity) {
+            this.capacity = capacity;
+        }
+
+        List<Long> top(int offset, int limit) {
+            return ranked.stream()
+                    .limit(capacity)
+                    .skip(Math.max(0, offset))
+                    .limit(limit)
+                    .map(Entry::promptId)
+                    .toList();
+        }
+
+        int size() {
+            return Math.min(ranked.size(), capacity);
+        }
+    }
+}
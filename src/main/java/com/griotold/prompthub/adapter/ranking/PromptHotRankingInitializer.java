@@ -0,0 +1,44 @@
+package com.griotold.prompthub.adapter.ranking;
+
+import com.griotold.prompthub.application.prompt.required.PromptHotRanking;
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.domain.prompt.PromptStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 공개 프롬프트의 hot 점수를 현재 카운트로 초기화
+ * 엔티티 대신 점수에 필요한 카운트만 프로젝션으로 읽는다 (content, 카테고리/회원 조인 없음)
+ * 이후 좋아요/조회/리뷰는 이벤트가 들어올 때마다 증분 반영된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PromptHotRankingInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PromptRepository promptRepository;
+    private final PromptHotRanking promptHotRanking;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRanking() {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        List<PromptStats> batch = promptRepository.findPublicStatsAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(promptHotRanking::register);
+            count += batch.size();
+            batch = promptRepository.findPublicStatsAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+
+        log.info("인기 랭킹 적재 완료 - 프롬프트 {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+}
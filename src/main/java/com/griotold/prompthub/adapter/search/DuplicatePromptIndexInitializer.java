@@ -0,0 +1,44 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.DuplicatePromptIndex;
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.domain.prompt.ContentFingerprint;
+import com.griotold.prompthub.domain.prompt.PromptFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 공개 프롬프트의 본문 지문 전체를 중복 인덱스에 적재
+ * 본문 없이 ID와 지문만 읽는다. 이후 변경분은 PromptModifyService가 반영한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DuplicatePromptIndexInitializer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PromptRepository promptRepository;
+    private final DuplicatePromptIndex duplicatePromptIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        List<PromptFingerprint> batch = promptRepository.findPublicFingerprintsAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(row -> duplicatePromptIndex.add(row.id(), new ContentFingerprint(row.fingerprint())));
+            count += batch.size();
+            batch = promptRepository.findPublicFingerprintsAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+
+        log.info("중복 인덱스 적재 완료 - 프롬프트 {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,157 @@
+package com.griotold.prompthub.adapter.search;
+
+/**
+ * 해싱 트릭 TF-IDF 벡터화
+ * - 토큰은 검색과 같은 규칙(SearchTokenizer)으로 나누고, 사전 없이 해시로 차원을 정한다
+ * - 해시의 한 비트로 부호를 정해서 충돌한 토큰끼리 서로 상쇄되게 한다 (내적의 기댓값이 보존됨)
+ * - 빈도는 1 + log(tf), 가중치는 차원별 문서 빈도로 구한 idf, 마지막에 L2 정규화
+ * - 저장은 차원당 1바이트(int8)와 벡터당 배율 하나로 양자화한다
+ * 문서 빈도는 색인/제거할 때마다 갱신하지만, 이미 저장된 벡터는 다시 계산하지 않는다 (재구축할 때 맞춰진다).
+ */
+final class HashingVectorizer {
+
+    // 제목 토큰은 설명/본문보다 두 배로 센다 (검색 인덱스와 같은 가중치)
+    static final int TITLE_WEIGHT = 2;
+
+    private final int dimensions;
+    private final int[] documentFrequencies;
+    private int documents;
+
+    HashingVectorizer(int dimensions) {
+        this(dimensions, new int[dimensions], 0);
+    }
+
+    HashingVectorizer(int dimensions, int[] documentFrequencies, int documents) {
+        if (documentFrequencies.length != dimensions) {
+            throw new IllegalArgumentException("문서 빈도 배열 크기가 차원 수와 다릅니다.");
+        }
+        this.dimensions = dimensions;
+        this.documentFrequencies = documentFrequencies;
+        this.documents = documents;
+    }
+
+    /** 차원별 부호 있는 단어 빈도 (토큰이 없으면 모두 0) */
+    float[] termFrequencies(String title, String description, String content) {
+        float[] frequencies = new float[dimensions];
+        count(title, TITLE_WEIGHT, frequencies);
+        count(description, 1, frequencies);
+        count(content, 1, frequencies);
+        return frequencies;
+    }
+
+    /** 문서 빈도에 문서 하나를 더한다 (0이 아닌 차원만, 토큰이 없는 문서는 세지 않는다) */
+    void addDocument(float[] termFrequencies) {
+        boolean counted = false;
+        for (int dimension = 0; dimension < dimensions; dimension++) {
+            if (termFrequencies[dimension] != 0) {
+                documentFrequencies[dimension]++;
+                counted = true;
+            }
+        }
+        if (counted) {
+            documents++;
+        }
+    }
+
+    /** 저장된 벡터의 0이 아닌 차원으로 문서 빈도에서 문서 하나를 뺀다 */
+    void removeDocument(byte[] vector) {
+        documents = Math.max(0, documents - 1);
+        for (int dimension = 0; dimension < dimensions; dimension++) {
+            if (vector[dimension] != 0 && documentFrequencies[dimension] > 0) {
+                documentFrequencies[dimension]--;
+            }
+        }
+    }
+
+    /**
+     * TF-IDF 가중치를 주고 L2 정규화한 뒤 int8로 양자화
+     * 0이 아닌 성분은 양자화 후에도 0이 되지 않게 해서, 저장된 벡터만으로 문서 빈도를 되돌릴 수 있게 한다.
+     * @return 토큰이 하나도 없으면 null
+     */
+    QuantizedVector vectorize(float[] termFrequencies) {
+        double[] weights = new double[dimensions];
+        double norm = 0;
+        for (int dimension = 0; dimension < dimensions; dimension++) {
+            float frequency = termFrequencies[dimension];
+            if (frequency == 0) {
+                continue;
+            }
+            double tf = Math.signum(frequency) * (1 + Math.log(Math.abs(frequency)));
+            double idf = Math.log((1.0 + documents) / (1.0 + documentFrequencies[dimension])) + 1;
+            weights[dimension] = tf * idf;
+            norm += weights[dimension] * weights[dimension];
+        }
+        if (norm == 0) {
+            return null;
+        }
+
+        norm = Math.sqrt(norm);
+        double max = 0;
+        for (int dimension = 0; dimension < dimensions; dimension++) {
+            weights[dimension] /= norm;
+            max = Math.max(max, Math.abs(weights[dimension]));
+        }
+
+        float scale = (float) (max / Byte.MAX_VALUE);
+        byte[] values = new byte[dimensions];
+        for (int dimension = 0; dimension < dimensions; dimension++) {
+            if (weights[dimension] == 0) {
+                continue;
+            }
+            long quantized = Math.round(weights[dimension] / scale);
+            if (quantized == 0) {
+                quantized = weights[dimension] > 0 ? 1 : -1;
+            }
+            values[dimension] = (byte) Math.max(-Byte.MAX_VALUE, Math.min(Byte.MAX_VALUE, quantized));
+        }
+        return new QuantizedVector(values, scale);
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    int documents() {
+        return documents;
+    }
+
+    int[] documentFrequencies() {
+        return documentFrequencies.clone();
+    }
+
+    private void count(String text, int weight, float[] frequencies) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            int hash = mix(token.hashCode());
+            int dimension = Math.floorMod(hash >>> 1, dimensions);
+            frequencies[dimension] += (hash & 1) == 0 ? weight : -weight;
+        }
+    }
+
+    // 문자열 해시의 하위 비트 편향을 섞는다 (MurmurHash3 최종 단계)
+    private static int mix(int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /** int8 양자화 벡터: 성분 ≈ values[i] * scale */
+    record QuantizedVector(byte[] values, float scale) {
+
+        /** 코사인 유사도 (두 벡터 모두 정규화되어 있으므로 내적) */
+        float dot(QuantizedVector other) {
+            return dot(values, scale, other.values, other.scale);
+        }
+
+        static float dot(byte[] left, float leftScale, byte[] right, float rightScale) {
+            int sum = 0;
+            for (int i = 0; i < left.length; i++) {
+                sum += left[i] * right[i];
+            }
+            return sum * leftScale * rightScale;
+        }
+    }
+}
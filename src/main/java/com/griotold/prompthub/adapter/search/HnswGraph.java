@@ -0,0 +1,358 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.adapter.search.HashingVectorizer.QuantizedVector;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 그래프 - 코사인 유사도(정규화된 int8 벡터의 내적)
+ * - 노드마다 무작위 층을 정하고, 위층에서 탐욕적으로 내려온 뒤 0층에서 ef개 후보를 넓게 훑는다
+ * - 새 노드의 이웃은 "새 노드보다 이미 고른 이웃에 더 가까운 후보는 건너뛰는" 휴리스틱으로 골라 여러 방향으로 연결한다
+ * - 기존 노드의 이웃이 가득 차면 가장 덜 비슷한 이웃 하나만 바꾼다 (휴리스틱으로 다시 고르면 구축이 두 배 느리고 재현율은 같았다)
+ * - 삭제는 표시만 한다. 탐색 경로로는 계속 쓰고 결과에서만 뺀다 (삭제 비율이 커지면 살아 있는 노드로 다시 만든다)
+ * 동기화하지 않는다. 호출하는 쪽이 쓰기는 배타적으로, 읽기는 쓰기와 겹치지 않게 잠근다.
+ */
+final class HnswGraph {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int dimensions;
+    private final int maxConnections;
+    private final int maxBaseConnections;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private byte[][] vectors = new byte[INITIAL_CAPACITY][];
+    private float[] scales = new float[INITIAL_CAPACITY];
+    private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+    // links[node][level] = [이웃 수, 이웃1, 이웃2, ...]
+    private int[][][] links = new int[INITIAL_CAPACITY][][];
+
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private int size;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    HnswGraph(int dimensions, int maxConnections, int efConstruction, long seed) {
+        this.dimensions = dimensions;
+        this.maxConnections = maxConnections;
+        this.maxBaseConnections = maxConnections * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxConnections);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /** 노드를 추가한다. 같은 ID가 있으면 기존 노드는 삭제 표시 */
+    void add(long id, QuantizedVector vector) {
+        remove(id);
+
+        int node = size++;
+        ensureCapacity(node);
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        ids[node] = id;
+        vectors[node] = vector.values();
+        scales[node] = vector.scale();
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[capacityOf(l) + 1];
+        }
+        nodeById.put(id, node);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = topLevel; l > level; l--) {
+            current = greedyClosest(vector.values(), vector.scale(), current, l);
+        }
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            List<Scored> candidates = searchLayer(vector.values(), vector.scale(), current, efConstruction, l);
+            int[] neighbors = selectNeighbors(candidates, maxConnections);
+            for (int neighbor : neighbors) {
+                append(node, l, neighbor);
+                connect(neighbor, l, node);
+            }
+            current = candidates.getFirst().node();
+        }
+
+        if (level > topLevel) {
+            entryPoint = node;
+            topLevel = level;
+        }
+    }
+
+    /** 삭제 표시 (탐색 경로로는 계속 사용) */
+    boolean remove(long id) {
+        Integer node = nodeById.remove(id);
+        if (node == null) {
+            return false;
+        }
+        deleted[node] = true;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return nodeById.containsKey(id);
+    }
+
+    /** 저장된 벡터 (없으면 null) */
+    QuantizedVector vectorOf(long id) {
+        Integer node = nodeById.get(id);
+        return node == null ? null : new QuantizedVector(vectors[node], scales[node]);
+    }
+
+    /** 유사도 내림차순 상위 k개 ID (excludeId 제외, 삭제된 노드 제외) */
+    List<Long> search(QuantizedVector query, int k, int ef, long excludeId) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int l = topLevel; l > 0; l--) {
+            current = greedyClosest(query.values(), query.scale(), current, l);
+        }
+        List<Long> found = new ArrayList<>(k);
+        for (Scored candidate : searchLayer(query.values(), query.scale(), current, Math.max(ef, k + 1), 0)) {
+            if (!deleted[candidate.node()] && ids[candidate.node()] != excludeId) {
+                found.add(ids[candidate.node()]);
+                if (found.size() == k) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /** 살아 있는 노드 수 */
+    int liveSize() {
+        return nodeById.size();
+    }
+
+    /** 삭제 표시된 노드 수 */
+    int deletedSize() {
+        return size - nodeById.size();
+    }
+
+    /** 살아 있는 노드의 ID와 벡터 (추가된 순서) - 벡터 배열은 저장 후 바뀌지 않으므로 잠금 밖에서 읽어도 된다 */
+    Map<Long, QuantizedVector> liveVectors() {
+        Map<Long, QuantizedVector> live = new LinkedHashMap<>(nodeById.size() * 2);
+        for (int node = 0; node < size; node++) {
+            if (!deleted[node]) {
+                live.put(ids[node], new QuantizedVector(vectors[node], scales[node]));
+            }
+        }
+        return live;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(dimensions);
+        out.writeInt(maxConnections);
+        out.writeInt(efConstruction);
+        out.writeInt(size);
+        out.writeInt(entryPoint);
+        out.writeInt(topLevel);
+        for (int node = 0; node < size; node++) {
+            out.writeLong(ids[node]);
+            out.writeBoolean(deleted[node]);
+            out.writeFloat(scales[node]);
+            out.write(vectors[node]);
+            out.writeInt(links[node].length);
+            for (int[] level : links[node]) {
+                out.writeInt(level[0]);
+                for (int i = 1; i <= level[0]; i++) {
+                    out.writeInt(level[i]);
+                }
+            }
+        }
+    }
+
+    static HnswGraph readFrom(DataInputStream in, long seed) throws IOException {
+        HnswGraph graph = new HnswGraph(in.readInt(), in.readInt(), in.readInt(), seed);
+        int size = in.readInt();
+        graph.entryPoint = in.readInt();
+        graph.topLevel = in.readInt();
+        for (int node = 0; node < size; node++) {
+            graph.ensureCapacity(node);
+            graph.ids[node] = in.readLong();
+            graph.deleted[node] = in.readBoolean();
+            graph.scales[node] = in.readFloat();
+            graph.vectors[node] = new byte[graph.dimensions];
+            in.readFully(graph.vectors[node]);
+            int levels = in.readInt();
+            graph.links[node] = new int[levels][];
+            for (int l = 0; l < levels; l++) {
+                int count = in.readInt();
+                int[] level = new int[Math.max(graph.capacityOf(l), count) + 1];
+                level[0] = count;
+                for (int i = 1; i <= count; i++) {
+                    level[i] = in.readInt();
+                }
+                graph.links[node][l] = level;
+            }
+            if (!graph.deleted[node]) {
+                graph.nodeById.put(graph.ids[node], node);
+            }
+        }
+        graph.size = size;
+        return graph;
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    // 한 층에서 더 가까운 이웃이 없을 때까지 이동
+    private int greedyClosest(byte[] query, float queryScale, int start, int level) {
+        int current = start;
+        float best = similarity(query, queryScale, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float score = similarity(query, queryScale, neighbors[i]);
+                if (score > best) {
+                    best = score;
+                    current = neighbors[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 유사도 내림차순 후보 최대 ef개 (삭제된 노드 포함 - 탐색 경로 유지)
+    private List<Scored> searchLayer(byte[] query, float queryScale, int entry, int ef, int level) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(Comparator.reverseOrder());
+        PriorityQueue<Scored> results = new PriorityQueue<>();
+
+        Scored start = new Scored(entry, similarity(query, queryScale, entry));
+        visited.set(entry);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Scored closest = candidates.poll();
+            if (results.size() >= ef && closest.score() < results.peek().score()) {
+                break;
+            }
+            int[] neighbors = links[closest.node()][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = similarity(query, queryScale, neighbor);
+                if (results.size() < ef || score > results.peek().score()) {
+                    Scored scored = new Scored(neighbor, score);
+                    candidates.add(scored);
+                    results.add(scored);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.reverseOrder());
+        return sorted;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 (후보는 기준 노드와의 유사도 내림차순)
+     * 이미 고른 이웃과 더 비슷한 후보는 그 이웃을 거쳐 도달할 수 있으므로 건너뛰고, 자리가 남으면 건너뛴 후보로 채운다.
+     */
+    private int[] selectNeighbors(List<Scored> candidates, int limit) {
+        List<Integer> selected = new ArrayList<>(limit);
+        List<Integer> skipped = new ArrayList<>();
+        for (Scored candidate : candidates) {
+            if (selected.size() == limit) {
+                break;
+            }
+            boolean diverse = true;
+            for (int chosen : selected) {
+                if (similarity(candidate.node(), chosen) > candidate.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            (diverse ? selected : skipped).add(candidate.node());
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < limit; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // neighbor의 이웃 목록에 node를 넣고, 가득 찼으면 가장 덜 비슷한 이웃보다 가까울 때만 그 자리를 바꾼다
+    private void connect(int neighbor, int level, int node) {
+        int[] current = links[neighbor][level];
+        if (current[0] < capacityOf(level)) {
+            append(neighbor, level, node);
+            return;
+        }
+        int weakest = -1;
+        float weakestScore = similarity(neighbor, node);
+        for (int i = 1; i <= current[0]; i++) {
+            float score = similarity(neighbor, current[i]);
+            if (score < weakestScore) {
+                weakestScore = score;
+                weakest = i;
+            }
+        }
+        if (weakest > 0) {
+            current[weakest] = node;
+        }
+    }
+
+    private void append(int node, int level, int neighbor) {
+        int[] current = links[node][level];
+        if (current[0] + 1 >= current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+            links[node][level] = current;
+        }
+        current[++current[0]] = neighbor;
+    }
+
+    private int capacityOf(int level) {
+        return level == 0 ? maxBaseConnections : maxConnections;
+    }
+
+    private float similarity(byte[] query, float queryScale, int node) {
+        return QuantizedVector.dot(query, queryScale, vectors[node], scales[node]);
+    }
+
+    private float similarity(int left, int right) {
+        return QuantizedVector.dot(vectors[left], scales[left], vectors[right], scales[right]);
+    }
+
+    private void ensureCapacity(int node) {
+        if (node < ids.length) {
+            return;
+        }
+        int newCapacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, newCapacity);
+        vectors = Arrays.copyOf(vectors, newCapacity);
+        scales = Arrays.copyOf(scales, newCapacity);
+        deleted = Arrays.copyOf(deleted, newCapacity);
+        links = Arrays.copyOf(links, newCapacity);
+    }
+
+    private record Scored(int node, float score) implements Comparable<Scored> {
+        @Override
+        public int compareTo(Scored other) {
+            int byScore = Float.compare(score, other.score);
+            return byScore != 0 ? byScore : Integer.compare(other.node, node);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.DuplicatePromptIndex;
+import com.griotold.prompthub.domain.prompt.ContentFingerprint;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 메모리에 두는 본문 지문(64비트 SimHash) 인덱스
+ * - 지문을 16비트씩 4개 구간으로 나누고, 구간 값마다 버킷을 둔다 (구간별 2^16개)
+ * - 다른 비트가 7개 이하인 두 지문은 4개 구간 중 적어도 하나가 1비트 이하로만 다르므로,
+ *   구간마다 같은 값과 1비트 다른 값(17개)의 버킷, 모두 68개만 보면 빠짐없이 찾는다
+ * - 버킷에는 (프롬프트 ID, 지문) 쌍을 long 배열로 이어 붙여 두고, 해밍 거리로 다시 거른다
+ * 지문이 고르게 퍼지면 100만 건에서도 버킷당 15개 안팎이라 한 번 찾을 때 1천 개 정도만 비교한다.
+ */
+@Component
+public class InMemoryDuplicatePromptIndex implements DuplicatePromptIndex {
+
+    static final int BANDS = 4;
+    static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // buckets[band << BAND_BITS | 구간 값] = [ID, 지문, ID, 지문, ...]
+    private final long[][] buckets = new long[BANDS << BAND_BITS][];
+    private final int[] bucketSizes = new int[BANDS << BAND_BITS];
+    private int size;
+
+    @Override
+    public void add(Long promptId, ContentFingerprint fingerprint) {
+        long value = fingerprint.value();
+        lock.writeLock().lock();
+        try {
+            if (indexOf(bucketOf(value, 0), promptId, value) >= 0) {
+                return;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                append(bucketOf(value, band), promptId, value);
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long promptId, ContentFingerprint fingerprint) {
+        long value = fingerprint.value();
+        lock.writeLock().lock();
+        try {
+            boolean removed = false;
+            for (int band = 0; band < BANDS; band++) {
+                int bucket = bucketOf(value, band);
+                int index = indexOf(bucket, promptId, value);
+                if (index >= 0) {
+                    // 순서는 상관없으므로 마지막 쌍으로 덮는다
+                    long[] entries = buckets[bucket];
+                    int last = --bucketSizes[bucket] * 2;
+                    entries[index] = entries[last];
+                    entries[index + 1] = entries[last + 1];
+                    removed = true;
+                }
+            }
+            if (removed) {
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findNearDuplicates(ContentFingerprint fingerprint, Long excludePromptId) {
+        long value = fingerprint.value();
+        long excluded = excludePromptId == null ? -1 : excludePromptId;
+        Map<Long, Integer> distances = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                int bucket = bucketOf(value, band);
+                collect(bucket, value, excluded, distances);
+                for (int bit = 0; bit < BAND_BITS; bit++) {
+                    collect(bucket ^ (1 << bit), value, excluded, distances);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return distances.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 같은 버킷 안의 쌍과 1비트 다른 버킷 사이의 쌍만 비교해서 유사 중복끼리 묶는다 (서로소 집합)
+     * 같은 크기면 가장 최근에 등록된 프롬프트가 있는 묶음부터
+     */
+    @Override
+    public List<List<Long>> findClusters(int limit) {
+        Map<Long, Long> parents = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                if (bucketSizes[bucket] == 0) {
+                    continue;
+                }
+                long[] entries = buckets[bucket];
+                int length = bucketSizes[bucket] * 2;
+                for (int i = 0; i < length; i += 2) {
+                    for (int j = i + 2; j < length; j += 2) {
+                        unionIfNear(parents, entries, i, entries, j);
+                    }
+                }
+                // 1비트 다른 버킷 쌍은 한 번씩만
+                for (int bit = 0; bit < BAND_BITS; bit++) {
+                    int neighbor = bucket ^ (1 << bit);
+                    if (neighbor < bucket || bucketSizes[neighbor] == 0) {
+                        continue;
+                    }
+                    long[] others = buckets[neighbor];
+                    for (int i = 0; i < length; i += 2) {
+                        for (int j = 0; j < bucketSizes[neighbor] * 2; j += 2) {
+                            unionIfNear(parents, entries, i, others, j);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, List<Long>> clusters = new HashMap<>();
+        for (Long promptId : parents.keySet()) {
+            clusters.computeIfAbsent(find(parents, promptId), root -> new ArrayList<>()).add(promptId);
+        }
+        clusters.values().forEach(Collections::sort);
+        return clusters.values().stream()
+                .sorted(Comparator.<List<Long>>comparingInt(List::size).reversed()
+                        .thenComparing(List::getLast, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int bucketOf(long fingerprint, int band) {
+        return band << BAND_BITS | (int) ((fingerprint >>> (band * BAND_BITS)) & BAND_MASK);
+    }
+
+    private void collect(int bucket, long fingerprint, long excluded, Map<Long, Integer> distances) {
+        long[] entries = buckets[bucket];
+        for (int i = 0; i < bucketSizes[bucket] * 2; i += 2) {
+            int distance = Long.bitCount(entries[i + 1] ^ fingerprint);
+            if (distance <= ContentFingerprint.NEAR_DUPLICATE_DISTANCE && entries[i] != excluded) {
+                distances.put(entries[i], distance);
+            }
+        }
+    }
+
+    private int indexOf(int bucket, long promptId, long fingerprint) {
+        long[] entries = buckets[bucket];
+        for (int i = 0; i < bucketSizes[bucket] * 2; i += 2) {
+            if (entries[i] == promptId && entries[i + 1] == fingerprint) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void append(int bucket, long promptId, long fingerprint) {
+        long[] entries = buckets[bucket];
+        int index = bucketSizes[bucket] * 2;
+        if (entries == null) {
+            entries = new long[4];
+            buckets[bucket] = entries;
+        } else if (index == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+            buckets[bucket] = entries;
+        }
+        entries[index] = promptId;
+        entries[index + 1] = fingerprint;
+        bucketSizes[bucket]++;
+    }
+
+    private static void unionIfNear(Map<Long, Long> parents, long[] left, int leftIndex, long[] right, int rightIndex) {
+        if (Long.bitCount(left[leftIndex + 1] ^ right[rightIndex + 1]) <= ContentFingerprint.NEAR_DUPLICATE_DISTANCE) {
+            union(parents, left[leftIndex], right[rightIndex]);
+        }
+    }
+
+    private static void union(Map<Long, Long> parents, long left, long right) {
+        long leftRoot = find(parents, left);
+        long rightRoot = find(parents, right);
+        if (leftRoot != rightRoot) {
+            // 먼저 등록된(작은) ID를 대표로
+            parents.put(Math.max(leftRoot, rightRoot), Math.min(leftRoot, rightRoot));
+        }
+    }
+
+    private static long find(Map<Long, Long> parents, long promptId) {
+        long root = promptId;
+        Long parent;
+        while ((parent = parents.putIfAbsent(root, root)) != null && parent != root) {
+            root = parent;
+        }
+        // 경로 압축
+        long current = promptId;
+        while (current != root) {
+            long next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+}
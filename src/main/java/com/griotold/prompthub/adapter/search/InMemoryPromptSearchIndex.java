@@ -0,0 +1,308 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptSearchIndex;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 메모리에 두는 역색인 검색 엔진
+ * - 토큰 -> 포스팅 리스트(문서 번호, tf)
+ * - 질의의 모든 토큰을 포함하는 문서만 매칭 (AND), 가장 짧은 포스팅 리스트부터 교집합
+ * - BM25 점수에 좋아요 수, 평균 평점 가중치를 곱해서 정렬
+ * 문서 번호는 색인할 때마다 새로 발급하므로 포스팅 리스트는 대부분 끝에 추가만 일어난다.
+ * 수정/제거로 버려진 번호가 살아 있는 문서 수보다 많아지면 배열을 늘리는 대신 번호를 다시 매긴다.
+ */
+@Component
+public class InMemoryPromptSearchIndex implements PromptSearchIndex {
+
+    // BM25 파라미터 (일반적인 기본값)
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    // 제목 토큰은 본문보다 두 배로 센다
+    static final int TITLE_WEIGHT = 2;
+
+    // 랭킹 가중치: 좋아요는 로그 스케일, 평점은 5점 만점 비율
+    static final double LIKES_BOOST = 0.1;
+    static final double RATING_BOOST = 0.2;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByPromptId = new HashMap<>();
+
+    private long[] promptIds = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] likes = new int[INITIAL_CAPACITY];
+    private float[] ratings = new float[INITIAL_CAPACITY];
+    private String[][] terms = new String[INITIAL_CAPACITY][];
+
+    private int nextDoc;
+    private int liveDocs;
+    private long totalLength;
+
+    @Override
+    public void index(Prompt prompt) {
+        if (!prompt.getIsPublic()) {
+            remove(prompt.getId());
+            return;
+        }
+        index(PromptDocument.of(prompt));
+    }
+
+    @Override
+    public void index(PromptDocument prompt) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        SearchTokenizer.tokenize(prompt.title()).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        SearchTokenizer.tokenize(prompt.content()).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        // 한 음절 질의("글")도 찾도록 음절도 색인한다 (문서 길이에는 넣지 않아 BM25 정규화는 그대로)
+        SearchTokenizer.syllables(prompt.title()).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        SearchTokenizer.syllables(prompt.content()).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeDoc(prompt.id());
+
+            int doc = allocateDoc();
+            docByPromptId.put(prompt.id(), doc);
+            promptIds[doc] = prompt.id();
+            lengths[doc] = length;
+            likes[doc] = prompt.likesCount();
+            ratings[doc] = (float) prompt.averageRating();
+            terms[doc] = frequencies.keySet().toArray(String[]::new);
+
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(doc, frequency));
+            liveDocs++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long promptId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(promptId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void adjustLikes(Long promptId, int delta) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByPromptId.get(promptId);
+            if (doc != null) {
+                likes[doc] = Math.max(0, likes[doc] + delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateRating(Long promptId, double averageRating) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByPromptId.get(promptId);
+            if (doc != null) {
+                ratings[doc] = (float) averageRating;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Hits search(String keyword, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(SearchTokenizer.tokenize(keyword));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return Hits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return Hits.empty();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            double averageLength = (double) totalLength / liveDocs;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+            }
+
+            int from = Math.max(0, offset);
+            int topK = (int) Math.min((long) from + limit, Integer.MAX_VALUE);
+            PriorityQueue<ScoredDoc> heap = new PriorityQueue<>(Math.min(topK, 1024) + 1);
+            long totalHits = 0;
+
+            PostingList shortest = lists.getFirst();
+            int[] positions = new int[lists.size()];
+            candidates:
+            for (int i = 0; i < shortest.size(); i++) {
+                int doc = shortest.docAt(i);
+                for (int j = 1; j < lists.size(); j++) {
+                    PostingList list = lists.get(j);
+                    positions[j] = list.advance(positions[j], doc);
+                    if (positions[j] == list.size()) {
+                        break candidates;
+                    }
+                    if (list.docAt(positions[j]) != doc) {
+                        continue candidates;
+                    }
+                }
+
+                double normalizer = K1 * (1 - B + B * lengths[doc] / averageLength);
+                double score = bm25(idf[0], shortest.frequencyAt(i), normalizer);
+                for (int j = 1; j < lists.size(); j++) {
+                    score += bm25(idf[j], lists.get(j).frequencyAt(positions[j]), normalizer);
+                }
+
+                totalHits++;
+                heap.offer(new ScoredDoc(doc, score * boost(doc)));
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            }
+
+            List<Long> ranked = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                ranked.add(promptIds[heap.poll().doc()]);
+            }
+            Collections.reverse(ranked);
+
+            List<Long> page = from >= ranked.size() ? List.of() : List.copyOf(ranked.subList(from, ranked.size()));
+            return new Hits(page, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 문서 번호 배열 크기 (압축 확인용) */
+    int capacity() {
+        lock.readLock().lock();
+        try {
+            return promptIds.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 공개 프롬프트 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double bm25(double idf, int frequency, double normalizer) {
+        return idf * frequency * (K1 + 1) / (frequency + normalizer);
+    }
+
+    private double boost(int doc) {
+        return (1 + LIKES_BOOST * Math.log1p(likes[doc])) * (1 + RATING_BOOST * ratings[doc] / 5);
+    }
+
+    private void removeDoc(Long promptId) {
+        Integer doc = docByPromptId.remove(promptId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : terms[doc]) {
+            PostingList list = postings.get(term);
+            list.remove(doc);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        terms[doc] = null;
+        liveDocs--;
+        totalLength -= lengths[doc];
+    }
+
+    /** 쓰는 쪽 락을 잡은 상태에서 호출. 배열이 찼을 때 버려진 번호가 절반을 넘으면 늘리지 않고 압축한다 */
+    private int allocateDoc() {
+        if (nextDoc == promptIds.length && nextDoc - liveDocs > liveDocs) {
+            compact();
+        }
+        int doc = nextDoc++;
+        ensureCapacity(doc);
+        return doc;
+    }
+
+    /**
+     * 살아 있는 문서를 0번부터 순서대로 다시 번호를 매긴다
+     * 기존 순서를 그대로 유지하므로 포스팅 리스트 정렬과 동점 처리 순서가 바뀌지 않는다
+     */
+    private void compact() {
+        int[] newDocs = new int[nextDoc];
+        int live = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (terms[doc] == null) {
+                continue;
+            }
+            newDocs[doc] = live;
+            promptIds[live] = promptIds[doc];
+            lengths[live] = lengths[doc];
+            likes[live] = likes[doc];
+            ratings[live] = ratings[doc];
+            terms[live] = terms[doc];
+            live++;
+        }
+        Arrays.fill(terms, live, nextDoc, null);
+        postings.values().forEach(list -> list.renumber(newDocs));
+        docByPromptId.replaceAll((promptId, doc) -> newDocs[doc]);
+        nextDoc = live;
+
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, live)) << 1);
+        if (capacity < promptIds.length) {
+            resize(capacity);
+        }
+    }
+
+    private void ensureCapacity(int doc) {
+        if (doc < promptIds.length) {
+            return;
+        }
+        resize(promptIds.length << 1);
+    }
+
+    private void resize(int newCapacity) {
+        promptIds = Arrays.copyOf(promptIds, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        likes = Arrays.copyOf(likes, newCapacity);
+        ratings = Arrays.copyOf(ratings, newCapacity);
+        terms = Arrays.copyOf(terms, newCapacity);
+    }
+
+    // 점수가 낮을수록, 같은 점수면 먼저 색인된 문서일수록 먼저 밀려난다
+    private record ScoredDoc(int doc, double score) implements Comparable<ScoredDoc> {
+        @Override
+        public int compareTo(ScoredDoc other) {
+            int compared = Double.compare(score, other.score);
+            return compared != 0 ? compared : Integer.compare(doc, other.doc);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.adapter.search.HashingVectorizer.QuantizedVector;
+import com.griotold.prompthub.application.prompt.required.PromptSimilarityIndex;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 메모리에 두는 내용 기반 유사 프롬프트 인덱스
+ * - 해싱 트릭 TF-IDF 벡터(512차원, int8) + HNSW 그래프
+ * - 전체 재구축과 압축은 잠금 밖에서 새 그래프를 만들고, 그동안 들어온 변경을 기록해 두었다가 교체할 때 다시 반영한다
+ * - 스냅샷 파일로 저장/복원해서 재시작할 때 DB 전체를 다시 읽지 않는다 (메모리에 직렬화하는 동안만 쓰기가 기다린다)
+ */
+@Component
+public class InMemoryPromptSimilarityIndex implements PromptSimilarityIndex {
+
+    static final int DIMENSIONS = 512;
+    static final int MAX_CONNECTIONS = 16;
+    static final int EF_CONSTRUCTION = 100;
+    static final int EF_SEARCH = 64;
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final long SEED = 42L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private HashingVectorizer vectorizer = new HashingVectorizer(DIMENSIONS);
+    private HnswGraph graph = newGraph();
+
+    // 재구축/압축 중에 들어온 변경 (단어 빈도, 제거면 null)
+    private Map<Long, float[]> journal;
+    private boolean dirty;
+
+    @Override
+    public void index(Prompt prompt) {
+        if (!prompt.getIsPublic()) {
+            remove(prompt.getId());
+            return;
+        }
+        float[] termFrequencies = vectorizer.termFrequencies(prompt.getTitle(), prompt.getDescription(), prompt.getContent());
+        lock.writeLock().lock();
+        try {
+            apply(prompt.getId(), termFrequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long promptId) {
+        lock.writeLock().lock();
+        try {
+            apply(promptId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findSimilar(Long promptId, int limit) {
+        lock.readLock().lock();
+        try {
+            QuantizedVector vector = graph.vectorOf(promptId);
+            if (vector == null) {
+                return List.of();
+            }
+            return graph.search(vector, limit, EF_SEARCH, promptId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return graph.liveSize();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 시작 - 이후의 변경은 교체할 때 다시 반영하도록 기록한다
+     * @return 재구축에 쓸 빈 벡터화기 (문서 빈도를 새로 센다)
+     */
+    HashingVectorizer beginRebuild() {
+        startJournal();
+        return new HashingVectorizer(DIMENSIONS);
+    }
+
+    /** 재구축에 쓸 빈 그래프 */
+    HnswGraph newGraph() {
+        return new HnswGraph(DIMENSIONS, MAX_CONNECTIONS, EF_CONSTRUCTION, SEED);
+    }
+
+    /** 재구축한 벡터화기와 그래프로 교체하고, 그동안 기록된 변경을 반영 */
+    void finishRebuild(HashingVectorizer rebuiltVectorizer, HnswGraph rebuiltGraph) {
+        lock.writeLock().lock();
+        try {
+            vectorizer = rebuiltVectorizer;
+            graph = rebuiltGraph;
+            dirty = true;
+            replayJournal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 재구축을 포기 - 기록만 멈추고 지금 인덱스를 그대로 쓴다 */
+    void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 삭제 표시가 살아 있는 노드 수 이상이면 압축이 필요하다 */
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return journal == null && graph.deletedSize() > 0 && graph.deletedSize() >= graph.liveSize();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 삭제 표시된 노드를 뺀 그래프로 교체 (벡터는 다시 계산하지 않음) */
+    void compact() {
+        Map<Long, QuantizedVector> live = beginCompaction();
+        HnswGraph compacted = newGraph();
+        live.forEach(compacted::add);
+        finishCompaction(compacted);
+    }
+
+    /**
+     * 압축 시작 - 이후의 변경은 교체할 때 그래프에 다시 반영하도록 기록한다
+     * @return 지금 살아 있는 노드의 ID와 벡터
+     */
+    Map<Long, QuantizedVector> beginCompaction() {
+        lock.writeLock().lock();
+        try {
+            journal = new LinkedHashMap<>();
+            return graph.liveVectors();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 압축한 그래프로 교체 - 벡터화기는 그대로 쓰므로 기록된 변경은 그래프에만 다시 반영한다 */
+    void finishCompaction(HnswGraph compacted) {
+        lock.writeLock().lock();
+        try {
+            graph = compacted;
+            dirty = true;
+            replayJournalIntoGraph();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 문서 빈도에 센 문서 수 */
+    int documents() {
+        lock.readLock().lock();
+        try {
+            return vectorizer.documents();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 마지막 저장 이후 바뀌었고, 재구축/압축/복원 중이 아니면 저장할 차례 */
+    boolean isDirty() {
+        lock.readLock().lock();
+        try {
+            return dirty && journal == null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 잠금 안에서는 메모리에 직렬화만 하고, 파일은 잠금 밖에서 쓴다
+     * 임시 파일에 쓴 뒤 옮겨서, 쓰는 도중에 종료되어도 이전 스냅샷이 남는다
+     */
+    void save(Path path) throws IOException {
+        byte[] snapshot = snapshot();
+        try {
+            write(path, snapshot);
+        } catch (IOException | RuntimeException e) {
+            markDirty();
+            throw e;
+        }
+    }
+
+    // 읽기 잠금 안에서 벡터화기와 그래프를 한 시점으로 직렬화
+    private byte[] snapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(Instant.now().toEpochMilli());
+            out.writeInt(vectorizer.dimensions());
+            out.writeInt(vectorizer.documents());
+            for (int frequency : vectorizer.documentFrequencies()) {
+                out.writeInt(frequency);
+            }
+            graph.writeTo(out);
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void write(Path path, byte[] snapshot) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, snapshot);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // 파일 쓰기에 실패하면 다음 주기에 다시 저장한다
+    private void markDirty() {
+        lock.writeLock().lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷으로 교체 - 읽는 동안 들어온 변경은 교체한 뒤 다시 반영한다
+     * @return 스냅샷을 저장한 시각 (이후 변경분은 DB에서 다시 읽어야 한다)
+     * @throws IOException 파일이 없거나, 형식/버전/차원이 다를 때
+     */
+    Instant restore(Path path) throws IOException {
+        startJournal();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("유사도 인덱스 스냅샷 형식이 다릅니다: " + path);
+            }
+            Instant savedAt = Instant.ofEpochMilli(in.readLong());
+            int dimensions = in.readInt();
+            if (dimensions != DIMENSIONS) {
+                throw new IOException("유사도 인덱스 스냅샷 차원이 다릅니다: " + dimensions);
+            }
+            int documents = in.readInt();
+            int[] documentFrequencies = new int[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                documentFrequencies[i] = in.readInt();
+            }
+            HnswGraph restored = HnswGraph.readFrom(in, SEED);
+
+            lock.writeLock().lock();
+            try {
+                vectorizer = new HashingVectorizer(dimensions, documentFrequencies, documents);
+                graph = restored;
+                dirty = false;
+                replayJournal();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return savedAt;
+        } catch (IOException | RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void apply(Long promptId, float[] termFrequencies) {
+        QuantizedVector previous = graph.vectorOf(promptId);
+        if (previous != null) {
+            vectorizer.removeDocument(previous.values());
+            graph.remove(promptId);
+        }
+        QuantizedVector vector = null;
+        if (termFrequencies != null) {
+            vector = vectorizer.vectorize(termFrequencies);
+        }
+        if (vector != null) {
+            vectorizer.addDocument(termFrequencies);
+            graph.add(promptId, vector);
+        }
+        if (journal != null) {
+            journal.put(promptId, vector == null ? null : termFrequencies);
+        }
+        dirty = true;
+    }
+
+    private void startJournal() {
+        lock.writeLock().lock();
+        try {
+            journal = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void replayJournal() {
+        Map<Long, float[]> pending = journal;
+        journal = null;
+        if (pending != null && !pending.isEmpty()) {
+            pending.forEach(this::apply);
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출 - 문서 빈도는 변경이 들어올 때 이미 반영했으므로 다시 세지 않는다
+    private void replayJournalIntoGraph() {
+        Map<Long, float[]> pending = journal;
+        journal = null;
+        if (pending == null) {
+            return;
+        }
+        pending.forEach((promptId, termFrequencies) -> {
+            graph.remove(promptId);
+            QuantizedVector vector = termFrequencies == null ? null : vectorizer.vectorize(termFrequencies);
+            if (vector != null) {
+                graph.add(promptId, vector);
+            }
+        });
+    }
+}
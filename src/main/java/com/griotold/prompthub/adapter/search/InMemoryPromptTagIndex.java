@@ -0,0 +1,150 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptTagIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 애플리케이션 메모리에 두는 태그 -> 공개 프롬프트 ID 인덱스
+ * - 태그마다 오름차순 프롬프트 ID 목록(int 배열)을 유지
+ * - 여러 태그는 가장 짧은 목록부터 갤로핑 탐색으로 교집합 (SQL 다중 조인 없음)
+ * - 프롬프트 ID는 생성 순서대로 증가하므로 교집합의 뒤쪽부터 읽으면 최신순
+ */
+@Component
+public class InMemoryPromptTagIndex implements PromptTagIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, PromptIdList> postings = new HashMap<>();
+    // 프롬프트 단위 제거용 역방향 맵
+    private final Map<Long, Set<Long>> tagsByPrompt = new HashMap<>();
+
+    @Override
+    public void add(Long promptId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        int id = Math.toIntExact(promptId);
+        lock.writeLock().lock();
+        try {
+            Set<Long> tags = tagsByPrompt.computeIfAbsent(promptId, key -> new HashSet<>());
+            for (Long tagId : tagIds) {
+                if (tags.add(tagId)) {
+                    postings.computeIfAbsent(tagId, key -> new PromptIdList()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long promptId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Set<Long> tags = tagsByPrompt.get(promptId);
+            if (tags == null) {
+                return;
+            }
+            for (Long tagId : tagIds) {
+                if (tags.remove(tagId)) {
+                    removePosting(tagId, promptId);
+                }
+            }
+            if (tags.isEmpty()) {
+                tagsByPrompt.remove(promptId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removePrompt(Long promptId) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> tags = tagsByPrompt.remove(promptId);
+            if (tags != null) {
+                tags.forEach(tagId -> removePosting(tagId, promptId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Hits findByAllTags(Collection<Long> tagIds, int offset, int limit) {
+        if (tagIds.isEmpty() || limit <= 0) {
+            return Hits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PromptIdList> lists = new ArrayList<>(tagIds.size());
+            for (Long tagId : new HashSet<>(tagIds)) {
+                PromptIdList list = postings.get(tagId);
+                if (list == null) {
+                    return Hits.empty();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PromptIdList::size));
+
+            PromptIdList shortest = lists.getFirst();
+            if (lists.size() == 1) {
+                return page(shortest::idAt, shortest.size(), offset, limit);
+            }
+            int[] matches = new int[shortest.size()];
+            int count = 0;
+            int[] positions = new int[lists.size()];
+            candidates:
+            for (int i = 0; i < shortest.size(); i++) {
+                int id = shortest.idAt(i);
+                for (int j = 1; j < lists.size(); j++) {
+                    PromptIdList list = lists.get(j);
+                    positions[j] = list.advance(positions[j], id);
+                    if (positions[j] == list.size()) {
+                        break candidates;
+                    }
+                    if (list.idAt(positions[j]) != id) {
+                        continue candidates;
+                    }
+                }
+                matches[count++] = id;
+            }
+
+            return page(index -> matches[index], count, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 최신순: 오름차순 목록의 끝에서부터 offset만큼 건너뛴다
+    private static Hits page(IntUnaryOperator idAt, int count, int offset, int limit) {
+        int from = count - 1 - Math.max(0, offset);
+        int to = Math.max(-1, from - limit);
+        List<Long> page = new ArrayList<>(Math.max(0, from - to));
+        for (int i = from; i > to; i--) {
+            page.add((long) idAt.applyAsInt(i));
+        }
+        return new Hits(page, count);
+    }
+
+    private void removePosting(Long tagId, Long promptId) {
+        PromptIdList list = postings.get(tagId);
+        if (list == null) {
+            return;
+        }
+        list.remove(Math.toIntExact(promptId));
+        if (list.isEmpty()) {
+            postings.remove(tagId);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.RelatedPromptIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 메모리에 두는 관련 프롬프트 인덱스
+ * - 프롬프트 -> 정렬된 태그 ID 배열
+ * - MinHash LSH 버킷(밴드 키 -> 프롬프트 ID 목록)으로 태그가 겹칠 만한 후보만 추린 뒤 자카드 유사도로 정렬
+ *   버킷은 밴드마다 고정 크기 배열이라 프롬프트 수가 늘어도 버킷 객체 수가 제한된다 (충돌한 후보는 유사도 계산에서 걸러짐)
+ * - 태그 동시 출현 행렬은 비슷한 프롬프트가 모자랄 때 채울 태그를 고르는 데 쓴다
+ * 태그가 바뀌면 그 프롬프트의 버킷과 동시 출현 수만 빼고 다시 넣는다 (전체 재계산 없음).
+ */
+@Component
+public class InMemoryRelatedPromptIndex implements RelatedPromptIndex {
+
+    // 밴드 8개 x 행 2개: 유사도 0.5면 후보가 될 확률 약 0.9, 0.2면 약 0.28
+    static final int BANDS = 8;
+    static final int ROWS = 2;
+
+    // 밴드당 버킷 수 (2^16)
+    static final int BUCKET_BITS = 16;
+
+    // 버킷 하나에서 읽는 최신 후보 수 상한 - 흔한 태그 조합이어도 조회 비용이 일정하다
+    static final int MAX_CANDIDATES_PER_BUCKET = 64;
+
+    private static final long SEED = 0x5EEDL;
+    private static final long[] NO_TAGS = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final MinHash minHash = new MinHash(BANDS, ROWS, SEED);
+    private final Map<Long, long[]> tagsByPrompt = new HashMap<>();
+    private final PromptIdList[] buckets = new PromptIdList[BANDS << BUCKET_BITS];
+    private final TagCooccurrence cooccurrence = new TagCooccurrence();
+
+    @Override
+    public void add(Long promptId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long[] current = tagsByPrompt.getOrDefault(promptId, NO_TAGS);
+            Set<Long> merged = new TreeSet<>(tagIds);
+            Arrays.stream(current).forEach(merged::add);
+            replace(promptId, current, toArray(merged));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long promptId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long[] current = tagsByPrompt.getOrDefault(promptId, NO_TAGS);
+            Set<Long> removed = new HashSet<>(tagIds);
+            replace(promptId, current, Arrays.stream(current).filter(tagId -> !removed.contains(tagId)).toArray());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removePrompt(Long promptId) {
+        lock.writeLock().lock();
+        try {
+            replace(promptId, tagsByPrompt.getOrDefault(promptId, NO_TAGS), NO_TAGS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findSimilar(Long promptId, int limit) {
+        lock.readLock().lock();
+        try {
+            long[] tags = tagsByPrompt.get(promptId);
+            if (tags == null || limit <= 0) {
+                return List.of();
+            }
+
+            int self = Math.toIntExact(promptId);
+            Set<Integer> seen = new HashSet<>();
+            PriorityQueue<ScoredPrompt> heap = new PriorityQueue<>(limit + 1);
+            for (int bucketIndex : bucketIndexes(tags)) {
+                PromptIdList bucket = buckets[bucketIndex];
+                if (bucket == null) {
+                    continue;
+                }
+                // 버킷은 ID 오름차순이므로 뒤에서부터 읽으면 최신 후보
+                int stop = Math.max(0, bucket.size() - MAX_CANDIDATES_PER_BUCKET);
+                for (int i = bucket.size() - 1; i >= stop; i--) {
+                    int candidate = bucket.idAt(i);
+                    if (candidate == self || !seen.add(candidate)) {
+                        continue;
+                    }
+                    double similarity = jaccard(tags, tagsByPrompt.get((long) candidate));
+                    if (similarity > 0) {
+                        heap.offer(new ScoredPrompt(candidate, similarity));
+                        if (heap.size() > limit) {
+                            heap.poll();
+                        }
+                    }
+                }
+            }
+
+            List<Long> similar = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                similar.add((long) heap.poll().promptId());
+            }
+            Collections.reverse(similar);
+            return similar;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findCooccurringTags(Long promptId, int limit) {
+        lock.readLock().lock();
+        try {
+            long[] tags = tagsByPrompt.get(promptId);
+            if (tags == null) {
+                return List.of();
+            }
+            return limit <= 0 ? List.of() : cooccurrence.top(tags, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tagsByPrompt.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(Long promptId, long[] current, long[] next) {
+        if (Arrays.equals(current, next)) {
+            return;
+        }
+        int id = Math.toIntExact(promptId);
+        if (current.length > 0) {
+            for (int bucketIndex : bucketIndexes(current)) {
+                PromptIdList bucket = buckets[bucketIndex];
+                if (bucket == null) {
+                    continue;
+                }
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets[bucketIndex] = null;
+                }
+            }
+            cooccurrence.remove(current);
+        }
+        if (next.length == 0) {
+            tagsByPrompt.remove(promptId);
+            return;
+        }
+        tagsByPrompt.put(promptId, next);
+        for (int bucketIndex : bucketIndexes(next)) {
+            if (buckets[bucketIndex] == null) {
+                buckets[bucketIndex] = new PromptIdList();
+            }
+            buckets[bucketIndex].add(id);
+        }
+        cooccurrence.add(next);
+    }
+
+    // 밴드 키의 상위 비트로 밴드 안의 버킷을 고른다
+    private int[] bucketIndexes(long[] tagIds) {
+        long[] keys = minHash.bandKeys(tagIds);
+        int[] indexes = new int[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            indexes[band] = (band << BUCKET_BITS) | (int) (keys[band] >>> (Long.SIZE - BUCKET_BITS));
+        }
+        return indexes;
+    }
+
+    // 두 배열 모두 오름차순
+    private static double jaccard(long[] left, long[] right) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (left.length + right.length - common);
+    }
+
+    private static long[] toArray(Set<Long> sortedTagIds) {
+        return sortedTagIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // 힙의 맨 위가 가장 약한 후보: 유사도가 낮을수록, 같으면 오래된(ID가 작은) 프롬프트일수록 먼저 밀려난다
+    private record ScoredPrompt(int promptId, double similarity) implements Comparable<ScoredPrompt> {
+        @Override
+        public int compareTo(ScoredPrompt other) {
+            int bySimilarity = Double.compare(similarity, other.similarity);
+            return bySimilarity != 0 ? bySimilarity : Integer.compare(promptId, other.promptId);
+        }
+    }
+}
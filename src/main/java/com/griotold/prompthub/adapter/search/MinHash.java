@@ -0,0 +1,54 @@
+package com.griotold.prompthub.adapter.search;
+
+import java.util.SplittableRandom;
+
+/**
+ * 태그 집합의 MinHash 서명과 LSH 밴드 키
+ * 두 집합의 서명 한 자리가 같을 확률이 자카드 유사도와 같으므로,
+ * 서명을 밴드로 나눠 밴드 하나라도 같으면 후보로 본다 (유사도가 높을수록 후보가 될 확률이 급격히 커진다).
+ */
+final class MinHash {
+
+    private final long[] seeds;
+    private final int bands;
+    private final int rows;
+
+    MinHash(int bands, int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+        this.bands = bands;
+        this.rows = rows;
+    }
+
+    /** 밴드마다 키 하나 (같은 행 값이어도 밴드가 다르면 키가 다르다) */
+    long[] bandKeys(long[] tagIds) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rows; row++) {
+                key = key * 0x9E3779B97F4A7C15L + minHash(band * rows + row, tagIds);
+            }
+            keys[band] = mix(key);
+        }
+        return keys;
+    }
+
+    private long minHash(int function, long[] tagIds) {
+        long min = Long.MAX_VALUE;
+        for (long tagId : tagIds) {
+            min = Math.min(min, mix(tagId ^ seeds[function]));
+        }
+        return min;
+    }
+
+    // SplitMix64 최종 단계
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
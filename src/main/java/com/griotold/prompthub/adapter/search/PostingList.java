@@ -0,0 +1,96 @@
+package com.griotold.prompthub.adapter.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나의 포스팅 리스트
+ * 문서 번호(doc)를 오름차순으로 유지하는 int 배열과 출현 빈도(tf) 배열로 구성된다.
+ * 박싱된 컬렉션 대신 원시 배열을 써서 문서당 8바이트만 사용한다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private int[] frequencies = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /** 문서 번호는 항상 증가하므로 대부분 끝에 붙는다 */
+    void add(int doc, int frequency) {
+        int position = size == 0 || docs[size - 1] < doc ? size : Arrays.binarySearch(docs, 0, size, doc);
+        if (position >= 0 && position < size) {
+            frequencies[position] = frequency;
+            return;
+        }
+        int insertAt = position < 0 ? -position - 1 : position;
+        ensureCapacity();
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    void remove(int doc) {
+        int position = Arrays.binarySearch(docs, 0, size, doc);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+        System.arraycopy(frequencies, position + 1, frequencies, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * from 위치부터 doc 이상인 첫 위치를 찾는다 (갤로핑 탐색)
+     * 교집합을 오름차순으로 훑을 때 위치를 앞으로만 옮기므로 전체 비용이 O(m log(n/m))
+     */
+    int advance(int from, int doc) {
+        int bound = 1;
+        while (from + bound < size && docs[from + bound] < doc) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, size - 1);
+        if (low > high) {
+            return size;
+        }
+        int position = Arrays.binarySearch(docs, low, high + 1, doc);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * 압축 후 새 문서 번호로 바꾼다
+     * 살아 있는 문서끼리의 순서를 유지하는 번호표라서 정렬은 다시 하지 않는다
+     */
+    void renumber(int[] newDocs) {
+        for (int i = 0; i < size; i++) {
+            docs[i] = newDocs[docs[i]];
+        }
+    }
+
+    int docAt(int index) {
+        return docs[index];
+    }
+
+    int frequencyAt(int index) {
+        return frequencies[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size < docs.length) {
+            return;
+        }
+        int newCapacity = docs.length + (docs.length >> 1) + 1;
+        docs = Arrays.copyOf(docs, newCapacity);
+        frequencies = Arrays.copyOf(frequencies, newCapacity);
+    }
+}
@@ -0,0 +1,69 @@
+package com.griotold.prompthub.adapter.search;
+
+import java.util.Arrays;
+
+/**
+ * 태그 하나의 프롬프트 ID 목록
+ * 오름차순으로 정렬된 int 배열 하나로만 구성된다 (ID당 4바이트, 박싱 없음).
+ * 프롬프트 ID는 생성 순서대로 증가하므로 대부분 끝에 붙는다.
+ */
+final class PromptIdList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int id) {
+        int position = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * from 위치부터 id 이상인 첫 위치를 찾는다 (갤로핑 탐색)
+     * 교집합을 오름차순으로 훑을 때 위치를 앞으로만 옮기므로 전체 비용이 O(m log(n/m))
+     */
+    int advance(int from, int id) {
+        int bound = 1;
+        while (from + bound < size && ids[from + bound] < id) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, size - 1);
+        if (low > high) {
+            return size;
+        }
+        int position = Arrays.binarySearch(ids, low, high + 1, id);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    int idAt(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.application.prompt.required.PromptSearchIndex;
+import com.griotold.prompthub.domain.prompt.PromptDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 공개 프롬프트 전체를 검색 인덱스에 적재
+ * 엔티티 대신 본문 프로젝션(PromptDocument)을 읽는다 (영속성 컨텍스트, 카테고리/회원 조인 없음)
+ * 이후 변경분은 PromptModifyService가 반영한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PromptSearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PromptRepository promptRepository;
+    private final PromptSearchIndex promptSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        List<PromptDocument> batch = promptRepository.findPublicDocumentsAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(promptSearchIndex::index);
+            count += batch.size();
+            batch = promptRepository.findPublicDocumentsAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+
+        log.info("검색 인덱스 적재 완료 - 프롬프트 {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+}
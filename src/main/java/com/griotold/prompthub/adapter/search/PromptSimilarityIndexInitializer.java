@@ -0,0 +1,183 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.adapter.search.HashingVectorizer.QuantizedVector;
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDocument;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 유사도 인덱스 적재와 유지
+ * - 시작할 때 백그라운드 스레드에서 스냅샷을 복원하고, 저장 이후 수정된 프롬프트만 DB에서 다시 읽는다
+ * - 스냅샷이 없거나 읽을 수 없으면 공개 프롬프트 전체로 재구축 (문서 빈도를 먼저 세고, 두 번째로 읽으며 벡터를 넣는다)
+ * - 주기적으로 바뀐 인덱스를 저장하고, 삭제 표시가 쌓였으면 압축한다. 종료할 때도 저장
+ * - 적재가 끝나기 전에는 조회 결과가 비어 있을 수 있다. 이후 변경분은 PromptModifyService가 반영한다
+ */
+@Slf4j
+@Component
+public class PromptSimilarityIndexInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 스냅샷 저장 직전에 커밋된 변경도 다시 읽도록 여유를 둔다
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final PromptRepository promptRepository;
+    private final InMemoryPromptSimilarityIndex promptSimilarityIndex;
+    private final Path snapshotPath;
+    private final ExecutorService builder;
+
+    // 적재가 끝나기 전에는 일부만 든 인덱스를 저장하지 않는다
+    private volatile boolean loaded;
+
+    public PromptSimilarityIndexInitializer(PromptRepository promptRepository,
+                                            InMemoryPromptSimilarityIndex promptSimilarityIndex,
+                                            @Value("${app.similarity.snapshot-path:}") String snapshotPath) {
+        this.promptRepository = promptRepository;
+        this.promptSimilarityIndex = promptSimilarityIndex;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prompt-similarity-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        builder.execute(this::load);
+    }
+
+    @Scheduled(fixedDelayString = "${app.similarity.snapshot-interval-ms:600000}",
+            initialDelayString = "${app.similarity.snapshot-interval-ms:600000}")
+    public void maintain() {
+        if (!loaded) {
+            return;
+        }
+        if (promptSimilarityIndex.needsCompaction()) {
+            builder.execute(this::compact);
+        }
+        save();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+        if (loaded) {
+            save();
+        }
+    }
+
+    private void load() {
+        try {
+            if (snapshotPath != null && Files.exists(snapshotPath) && restore()) {
+                loaded = true;
+                return;
+            }
+            rebuild();
+            loaded = true;
+            save();
+        } catch (RuntimeException e) {
+            log.error("유사도 인덱스 적재 실패 - 이후 변경분만 반영됨", e);
+        }
+    }
+
+    private boolean restore() {
+        long startedAt = System.currentTimeMillis();
+        Instant savedAt;
+        try {
+            savedAt = promptSimilarityIndex.restore(snapshotPath);
+        } catch (IOException | RuntimeException e) {
+            log.warn("유사도 인덱스 스냅샷 복원 실패 - 전체 재구축. 파일: {}", snapshotPath, e);
+            return false;
+        }
+
+        LocalDateTime since = LocalDateTime.ofInstant(savedAt.minus(CATCH_UP_MARGIN), ZoneId.systemDefault());
+        long count = 0;
+        List<Prompt> batch = promptRepository.findAllUpdatedSince(since, 0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(promptSimilarityIndex::index);
+            count += batch.size();
+            batch = promptRepository.findAllUpdatedSince(since, batch.getLast().getId(), Limit.of(BATCH_SIZE));
+        }
+
+        log.info("유사도 인덱스 스냅샷 복원 완료 - 프롬프트 {}건, 저장 이후 변경 {}건, {}ms",
+                promptSimilarityIndex.size(), count, System.currentTimeMillis() - startedAt);
+        return true;
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        HashingVectorizer vectorizer = promptSimilarityIndex.beginRebuild();
+        try {
+            forEachPublic(document -> vectorizer.addDocument(termFrequencies(vectorizer, document)));
+
+            HnswGraph graph = promptSimilarityIndex.newGraph();
+            forEachPublic(document -> {
+                QuantizedVector vector = vectorizer.vectorize(termFrequencies(vectorizer, document));
+                if (vector != null) {
+                    graph.add(document.id(), vector);
+                }
+            });
+
+            promptSimilarityIndex.finishRebuild(vectorizer, graph);
+        } catch (RuntimeException e) {
+            promptSimilarityIndex.abortRebuild();
+            throw e;
+        }
+        log.info("유사도 인덱스 재구축 완료 - 프롬프트 {}건, {}ms",
+                promptSimilarityIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void compact() {
+        long startedAt = System.currentTimeMillis();
+        promptSimilarityIndex.compact();
+        log.info("유사도 인덱스 압축 완료 - 프롬프트 {}건, {}ms",
+                promptSimilarityIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void save() {
+        if (snapshotPath == null || !promptSimilarityIndex.isDirty()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            promptSimilarityIndex.save(snapshotPath);
+            log.debug("유사도 인덱스 스냅샷 저장 - {}ms", System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("유사도 인덱스 스냅샷 저장 실패 - 다음 주기에 재시도. 파일: {}", snapshotPath, e);
+        }
+    }
+
+    // 검색 인덱스 적재와 같은 본문 프로젝션 - 엔티티를 영속성 컨텍스트에 올리지 않는다
+    private void forEachPublic(Consumer<PromptDocument> action) {
+        List<PromptDocument> batch = promptRepository.findPublicDocumentsAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(action);
+            batch = promptRepository.findPublicDocumentsAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+    }
+
+    private static float[] termFrequencies(HashingVectorizer vectorizer, PromptDocument document) {
+        return vectorizer.termFrequencies(document.title(), document.description(), document.content());
+    }
+}
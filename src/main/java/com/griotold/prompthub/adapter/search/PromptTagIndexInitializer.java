@@ -0,0 +1,43 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptTagIndex;
+import com.griotold.prompthub.application.prompt.required.PromptTagRepository;
+import com.griotold.prompthub.domain.prompt.PromptTagLink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 공개 프롬프트의 태그 연결 전체를 태그 인덱스에 적재
+ * 엔티티 없이 ID만 읽는다. 이후 변경분은 PromptTagModifyService가 반영한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PromptTagIndexInitializer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PromptTagRepository promptTagRepository;
+    private final PromptTagIndex promptTagIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        List<PromptTagLink> batch = promptTagRepository.findPublicLinksAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(link -> promptTagIndex.add(link.promptId(), List.of(link.tagId())));
+            count += batch.size();
+            batch = promptTagRepository.findPublicLinksAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+
+        log.info("태그 인덱스 적재 완료 - 연결 {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+}
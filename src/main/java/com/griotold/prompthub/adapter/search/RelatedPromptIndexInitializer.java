@@ -0,0 +1,62 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptTagRepository;
+import com.griotold.prompthub.application.prompt.required.RelatedPromptIndex;
+import com.griotold.prompthub.domain.prompt.PromptTagLink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 애플리케이션 시작 시 공개 프롬프트의 태그 연결 전체를 관련 프롬프트 인덱스에 적재
+ * 한 프롬프트의 연결은 INSERT 한 번으로 만들어져 연결 ID가 이어지므로, 연속된 연결을 묶어서 한 번에 넣는다.
+ * 이후 변경분은 PromptTagModifyService가 반영한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RelatedPromptIndexInitializer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PromptTagRepository promptTagRepository;
+    private final RelatedPromptIndex relatedPromptIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        List<PromptTagLink> batch = promptTagRepository.findPublicLinksAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            addGroupedByPrompt(batch);
+            count += batch.size();
+            batch = promptTagRepository.findPublicLinksAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+
+        log.info("관련 프롬프트 인덱스 적재 완료 - 연결 {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+
+    private void addGroupedByPrompt(List<PromptTagLink> links) {
+        Long promptId = null;
+        List<Long> tagIds = new ArrayList<>();
+        for (PromptTagLink link : links) {
+            if (!Objects.equals(promptId, link.promptId()) && !tagIds.isEmpty()) {
+                relatedPromptIndex.add(promptId, tagIds);
+                tagIds = new ArrayList<>();
+            }
+            promptId = link.promptId();
+            tagIds.add(link.tagId());
+        }
+        if (!tagIds.isEmpty()) {
+            relatedPromptIndex.add(promptId, tagIds);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.griotold.prompthub.adapter.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+/**
+ * 검색용 토크나이저
+ * - 한글: 음절 바이그램 (형태소 분석기 없이 부분 일치를 지원)
+ * - 영문/숫자: 단어 단위
+ * 색인과 질의에 같은 규칙을 적용해야 한다.
+ * 한 음절 질의도 찾을 수 있도록 검색 인덱스는 여러 음절 단어의 음절({@link #syllables})도 함께 색인한다.
+ */
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(text, (type, run) -> {
+            if (type == CharType.HANGUL) {
+                addBigrams(run, tokens);
+            } else {
+                tokens.add(run);
+            }
+        });
+        return tokens;
+    }
+
+    /** 두 음절 이상인 한글 단어의 음절 ("블로그" -> "블", "로", "그"). 한 음절 단어는 tokenize에 이미 들어 있다 */
+    static List<String> syllables(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(text, (type, run) -> {
+            if (type == CharType.HANGUL && run.length() > 1) {
+                for (int i = 0; i < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 1));
+                }
+            }
+        });
+        return tokens;
+    }
+
+    // 정규화한 텍스트를 같은 문자 종류끼리 묶어서 넘긴다 (구분자는 버린다)
+    private static void forEachRun(String text, BiConsumer<CharType, String> action) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+
+        while (start < length) {
+            int codePoint = normalized.codePointAt(start);
+            CharType type = CharType.of(codePoint);
+            if (type == CharType.SEPARATOR) {
+                start += Character.charCount(codePoint);
+                continue;
+            }
+
+            int end = start + Character.charCount(codePoint);
+            while (end < length) {
+                int next = normalized.codePointAt(end);
+                if (CharType.of(next) != type) {
+                    break;
+                }
+                end += Character.charCount(next);
+            }
+
+            action.accept(type, normalized.substring(start, end));
+            start = end;
+        }
+    }
+
+    // 한 음절 단어는 그대로, 두 음절 이상은 겹치는 바이그램으로 분해 ("블로그" -> "블로", "로그")
+    private static void addBigrams(String run, List<String> tokens) {
+        if (run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private enum CharType {
+        HANGUL, WORD, SEPARATOR;
+
+        static CharType of(int codePoint) {
+            if (Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL) {
+                return HANGUL;
+            }
+            if (Character.isLetterOrDigit(codePoint)) {
+                return WORD;
+            }
+            return SEPARATOR;
+        }
+    }
+}
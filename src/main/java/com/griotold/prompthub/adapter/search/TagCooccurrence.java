@@ -0,0 +1,175 @@
+package com.griotold.prompthub.adapter.search;
+
+import java.util.*;
+
+/**
+ * 태그 동시 출현 희소 행렬
+ * 같은 프롬프트에 함께 붙은 태그 쌍만 (양방향으로) 센다. 0이 된 칸은 지운다.
+ * 칸 수가 프롬프트 수에 비례해 커지므로 행은 박싱 없는 int -> int 해시 테이블(선형 탐사)로 둔다.
+ */
+final class TagCooccurrence {
+
+    private final Map<Long, Row> rows = new HashMap<>();
+
+    void add(long[] tagIds) {
+        adjust(tagIds, 1);
+    }
+
+    void remove(long[] tagIds) {
+        adjust(tagIds, -1);
+    }
+
+    /**
+     * tagIds와 함께 많이 쓰인 다른 태그 상위 limit개 (행 합계 내림차순, 같으면 ID 오름차순)
+     * 합계도 같은 int 해시 테이블에 모아서 박싱 없이 센다.
+     */
+    List<Long> top(long[] tagIds, int limit) {
+        List<Row> matched = Arrays.stream(tagIds).mapToObj(rows::get).filter(Objects::nonNull).toList();
+        Row sum = new Row(matched.stream().mapToInt(row -> row.size).sum());
+        matched.forEach(row -> row.addTo(sum));
+        for (long tagId : tagIds) {
+            sum.clear(Math.toIntExact(tagId));
+        }
+        return sum.top(limit);
+    }
+
+    private void adjust(long[] tagIds, int delta) {
+        for (long tagId : tagIds) {
+            Row row = rows.computeIfAbsent(tagId, key -> new Row());
+            for (long other : tagIds) {
+                if (tagId != other) {
+                    row.add(Math.toIntExact(other), delta);
+                }
+            }
+            if (row.isEmpty()) {
+                rows.remove(tagId);
+            }
+        }
+    }
+
+    // 0은 빈 칸 표시로 쓰므로 키는 태그 ID + 1
+    private static final class Row {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private int[] keys;
+        private int[] counts;
+        private int size;
+
+        Row() {
+            this(INITIAL_CAPACITY / 2);
+        }
+
+        // expectedSize개를 넣어도 늘어나지 않는 크기 (2의 거듭제곱)
+        Row(int expectedSize) {
+            int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+            keys = new int[capacity];
+            counts = new int[capacity];
+        }
+
+        void add(int tagId, int delta) {
+            int key = tagId + 1;
+            int slot = find(key);
+            if (keys[slot] == key) {
+                counts[slot] += delta;
+                if (counts[slot] <= 0) {
+                    delete(slot);
+                }
+                return;
+            }
+            if (delta <= 0) {
+                return;
+            }
+            keys[slot] = key;
+            counts[slot] = delta;
+            if (++size * 4 > keys.length * 3) {
+                resize();
+            }
+        }
+
+        void addTo(Row target) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != 0) {
+                    target.add(keys[slot] - 1, counts[slot]);
+                }
+            }
+        }
+
+        void clear(int tagId) {
+            int slot = find(tagId + 1);
+            if (keys[slot] != 0) {
+                delete(slot);
+            }
+        }
+
+        // 힙의 맨 위가 가장 약한 칸: 횟수가 적을수록, 같으면 ID가 클수록 먼저 밀려난다
+        List<Long> top(int limit) {
+            Comparator<Integer> weakestFirst = (left, right) -> counts[left] != counts[right]
+                    ? Integer.compare(counts[left], counts[right])
+                    : Integer.compare(keys[right], keys[left]);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, weakestFirst);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] == 0 || (heap.size() == limit && weakestFirst.compare(slot, heap.peek()) <= 0)) {
+                    continue;
+                }
+                heap.offer(slot);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            List<Long> top = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                top.add((long) keys[heap.poll()] - 1);
+            }
+            Collections.reverse(top);
+            return top;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        // key가 있는 칸, 없으면 넣을 빈 칸
+        private int find(int key) {
+            int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        // 뒤에 이어진 칸들을 당겨서 탐사 경로를 유지 (묘비 없음)
+        private void delete(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (keys[next] != 0) {
+                int home = (keys[next] * 0x9E3779B9) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    counts[hole] = counts[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = 0;
+            counts[hole] = 0;
+            size--;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new int[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] != 0) {
+                    int target = find(oldKeys[slot]);
+                    keys[target] = oldKeys[slot];
+                    counts[target] = oldCounts[slot];
+                }
+            }
+        }
+    }
+}
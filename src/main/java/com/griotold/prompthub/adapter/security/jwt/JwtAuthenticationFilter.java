@@ -1,5 +1,6 @@
 package com.griotold.prompthub.adapter.security.jwt;
 
+import com.griotold.prompthub.adapter.security.user.LoginUserResolver;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -12,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,7 +25,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final LoginUserResolver loginUserResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -56,22 +56,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return authHeader.substring(7);
     }
 
+    /**
+     * 토큰은 요청당 한 번만 검증한다 (서명과 만료를 함께 확인, 만료면 ExpiredJwtException)
+     * 사용자는 클레임의 memberId로 회원 스냅샷 캐시에서 만든다 (LoginUserResolver)
+     */
     private void authenticateJwt(String jwt, HttpServletRequest request) {
-        String username = jwtTokenProvider.getUsername(jwt);
-        if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
             return;
         }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        JwtClaims claims = jwtTokenProvider.verify(jwt);
+        UserDetails userDetails = loginUserResolver.resolve(claims);
+        if (userDetails == null) {
+            return;
+        }
 
-        if (!jwtTokenProvider.isExpired(jwt)) {
-            UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
 
-            log.debug("JWT 인증 성공 - 사용자: {}", username);
-        }
+        log.debug("JWT 인증 성공 - 사용자: {}", userDetails.getUsername());
     }
 
     private void handleTokenException(HttpServletRequest request, String exceptionType, Exception e) {
@@ -0,0 +1,31 @@
+package com.griotold.prompthub.adapter.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임
+ * 리프레시 토큰은 email, role이 없다
+ */
+public record JwtClaims(
+        Long memberId,
+        String email,
+        String role,
+        String type,
+        Instant expiresAt
+) {
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.get("memberId", Long.class),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
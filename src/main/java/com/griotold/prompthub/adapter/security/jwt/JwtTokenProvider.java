@@ -2,14 +2,20 @@ package com.griotold.prompthub.adapter.security.jwt;
 
 import com.griotold.prompthub.domain.member.Member;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
 
 @Slf4j
@@ -19,22 +25,40 @@ public class JwtTokenProvider {
     private final SecretKey secretKey;
     private final long accessTokenValidityTime;
     private final long refreshTokenValidityTime;
+    private final Clock clock;
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${application.security.jwt.secret-key}") String secret,
             @Value("${application.security.jwt.expiration:3600000}") long accessTokenValidityTime, // 1시간
-            @Value("${application.security.jwt.refresh-token.expiration:604800000}") long refreshTokenValidityTime // 7일
+            @Value("${application.security.jwt.refresh-token.expiration:604800000}") long refreshTokenValidityTime, // 7일
+            @Value("${application.security.jwt.claims-cache-size:10000}") int claimsCacheSize // 0이면 캐시하지 않음
     ) {
+        this(secret, accessTokenValidityTime, refreshTokenValidityTime, claimsCacheSize, Clock.systemUTC());
+    }
+
+    JwtTokenProvider(String secret, long accessTokenValidityTime, long refreshTokenValidityTime,
+                     int claimsCacheSize, Clock clock) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessTokenValidityTime = accessTokenValidityTime;
         this.refreshTokenValidityTime = refreshTokenValidityTime;
+        this.clock = clock;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(claimsCacheSize);
     }
 
     /**
      * Access Token 생성
      */
     public String createAccessToken(Long memberId, String email, String role) {
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date validity = new Date(now.getTime() + accessTokenValidityTime);
 
         return Jwts.builder()
@@ -56,7 +80,7 @@ public class JwtTokenProvider {
      * Refresh Token 생성
      */
     public String createRefreshToken(Long memberId) {
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date validity = new Date(now.getTime() + refreshTokenValidityTime);
 
         return Jwts.builder()
@@ -69,38 +93,49 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Token에서 Claims 추출
+     * 서명과 만료를 한 번에 검증하고 클레임 반환
+     * 최근에 검증한 토큰이면 다시 파싱하지 않는다 (토큰 만료 시각까지만)
+     *
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException        서명 불일치, 형식 오류 등
+     */
+    public JwtClaims verify(String token) {
+        Instant now = clock.instant();
+        JwtClaims cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+        JwtClaims claims = JwtClaims.from(getClaims(token));
+        verifiedTokens.put(token, claims, now);
+        return claims;
+    }
+
+    /**
+     * Token에서 Claims 추출 (캐시 없이 매번 검증)
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
      * Token에서 memberId 추출
      */
     public Long getMemberId(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("memberId", Long.class);
+        return verify(token).memberId();
     }
 
     /**
      * Token에서 email 추출
      */
     public String getEmail(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("email", String.class);
+        return verify(token).email();
     }
 
     /**
      * Token에서 role 추출
      */
     public String getRole(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("role", String.class);
+        return verify(token).role();
     }
 
     /**
@@ -108,8 +143,8 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Claims claims = getClaims(token);
-            return !claims.getExpiration().before(new Date());
+            verify(token);
+            return true;
         } catch (Exception e) {
             log.debug("Invalid JWT token: {}", e.getMessage());
             return false;
@@ -120,24 +155,23 @@ public class JwtTokenProvider {
      * Token 타입 확인 (access/refresh)
      */
     public String getTokenType(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("type", String.class);
+        return verify(token).type();
     }
 
     /**
-     * Token에서 username(email) 추출 - JwtAuthenticationFilter용
+     * Token에서 username(email) 추출
      */
     public String getUsername(String token) {
         return getEmail(token);  // 기존 getEmail() 재사용
     }
 
     /**
-     * Token 만료 여부 확인 - JwtAuthenticationFilter용
+     * Token 만료 여부 확인
      */
     public boolean isExpired(String token) {
         try {
-            Claims claims = getClaims(token);
-            return claims.getExpiration().before(new Date());
+            verify(token);
+            return false;
         } catch (Exception e) {
             log.debug("Token expiration check failed: {}", e.getMessage());
             return true;  // 예외 발생 시 만료된 것으로 처리
@@ -145,11 +179,7 @@ public class JwtTokenProvider {
     }
 
     public boolean isValidRefreshToken(String refreshToken) {
-        try {
-            return !isExpired(refreshToken);
-        } catch (Exception e) {
-            return false;
-        }
+        return !isExpired(refreshToken);
     }
 
     public boolean isRefreshTokenMatchUser(String refreshToken, Long memberId) {
@@ -165,11 +195,6 @@ public class JwtTokenProvider {
      * 리프레시 토큰에서 사용자명 추출
      */
     public Long getMemberIdFromRefreshToken(String refreshToken) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(refreshToken)
-                .getPayload()
-                .get("memberId", Long.class);
+        return verify(refreshToken).memberId();
     }
 }
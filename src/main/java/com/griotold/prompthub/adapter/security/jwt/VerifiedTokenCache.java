@@ -0,0 +1,88 @@
+package com.griotold.prompthub.adapter.security.jwt;
+
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 검증한 토큰 캐시 (토큰 SHA-256 → 클레임)
+ * - 같은 토큰으로 연달아 들어오는 요청은 서명 검증과 JSON 파싱을 건너뛴다
+ * - 토큰 원문은 들고 있지 않는다
+ * - 항목은 토큰 만료 시각까지만 유효하다. 인증 요청마다 거치므로 조회와 저장은 잠금을 잡지 않는다
+ * - max-entries를 넘으면 한 스레드만 만료된 항목을 쓸어내고, 그래도 넘치면 임의의 항목을 버려 3/4까지 줄인다
+ *   (쓸어내는 동안 다른 요청은 기다리지 않는다)
+ */
+class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, JwtClaims> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evicting = new ReentrantLock();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Nullable
+    JwtClaims get(String token, Instant now) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        JwtClaims claims = entries.get(key);
+        if (claims != null && claims.isExpiredAt(now)) {
+            entries.remove(key, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(String token, JwtClaims claims, Instant now) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        entries.put(hash(token), claims);
+        if (entries.size() > maxEntries) {
+            evict(now);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(Instant now) {
+        if (!evicting.tryLock()) {
+            return;
+        }
+        try {
+            entries.values().removeIf(claims -> claims.isExpiredAt(now));
+            if (entries.size() <= maxEntries) {
+                return;
+            }
+            int target = maxEntries - maxEntries / 4;
+            Iterator<String> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.unlock();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
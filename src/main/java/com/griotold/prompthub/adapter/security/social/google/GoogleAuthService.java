@@ -1,5 +1,6 @@
 package com.griotold.prompthub.adapter.security.social.google;
 
+import com.griotold.prompthub.adapter.integration.OutboundHttpClients;
 import com.griotold.prompthub.adapter.security.jwt.JwtTokenProvider;
 import com.griotold.prompthub.adapter.security.social.MemberSaveResult;
 import com.griotold.prompthub.adapter.security.social.TokenResponse;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.util.Optional;
@@ -27,7 +27,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class GoogleAuthService {
 
-    private final RestClient restClient;
+    private final OutboundHttpClients outboundHttpClients;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRegister  memberRegister;
     private final MemberFinder memberFinder;
@@ -51,10 +52,11 @@ public class GoogleAuthService {
         log.info("구글 로그인 시작 - 인가코드: {}", authorizationCode);
 
         // 1. 구글에서 Access Token 받기
-        String googleAccessToken = getGoogleAccessToken(authorizationCode);
+        GoogleTokenResponse tokenResponse = getGoogleToken(authorizationCode);
 
-        // 2. 구글 사용자 정보 조회
-        GoogleUserResponse googleUserInfo = getGoogleUserInfo(googleAccessToken);
+        // 2. 구글 사용자 정보 - id_token 클레임으로 충분하면 userinfo 호출 생략
+        GoogleUserResponse googleUserInfo = userInfoFromIdToken(tokenResponse.idToken())
+                .orElseGet(() -> getGoogleUserInfo(tokenResponse.accessToken()));
 
         // 3. 우리 DB에 사용자 저장/업데이트
         MemberSaveResult result = saveOrUpdateMember(googleUserInfo);
@@ -63,7 +65,7 @@ public class GoogleAuthService {
         return TokenResponse.fromMember(result.member(), result.isNewMember(), jwtTokenProvider);
     }
 
-    private String getGoogleAccessToken(String authorizationCode) {
+    private GoogleTokenResponse getGoogleToken(String authorizationCode) {
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
         params.add("client_id", clientId);
@@ -72,15 +74,15 @@ public class GoogleAuthService {
         params.add("code", authorizationCode);
 
         try {
-            GoogleTokenResponse tokenResponse = restClient.post()
-                    .uri(tokenUri)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(params)
-                    .retrieve()
-                    .body(GoogleTokenResponse.class);
+            GoogleTokenResponse tokenResponse = outboundHttpClients.get(Provider.GOOGLE).call(restClient -> restClient.post()
+                        .uri(tokenUri)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(params)
+                        .retrieve()
+                        .body(GoogleTokenResponse.class));
 
             log.info("구글 토큰 발급 성공");
-            return tokenResponse.accessToken();
+            return tokenResponse;
 
         } catch (HttpClientErrorException.BadRequest e) {
             log.warn("구글 토큰 발급 실패 - 잘못된 인가코드: {}", e.getMessage());
@@ -94,13 +96,36 @@ public class GoogleAuthService {
         }
     }
 
+    /**
+     * id_token을 로컬에서 검증해 사용자 정보를 읽는다.
+     * id_token이 없거나 필요한 클레임이 빠졌거나 공개키를 받아오지 못하면 empty (userinfo로 대체)
+     * 검증에 실패한 토큰은 대체하지 않고 거절한다.
+     */
+    private Optional<GoogleUserResponse> userInfoFromIdToken(String idToken) {
+        if (idToken == null) {
+            return Optional.empty();
+        }
+        try {
+            GoogleUserResponse userResponse = googleIdTokenVerifier.verify(idToken);
+            if (userResponse.sub() == null || userResponse.email() == null || userResponse.name() == null) {
+                log.info("구글 ID 토큰에 사용자 정보가 부족해 userinfo로 조회");
+                return Optional.empty();
+            }
+            log.info("구글 ID 토큰 검증 성공 - ID: {}", userResponse.sub());
+            return Optional.of(userResponse);
+        } catch (RestClientException | IllegalStateException e) {
+            log.warn("구글 공개키 조회 실패, userinfo로 조회: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     private GoogleUserResponse getGoogleUserInfo(String accessToken) {
         try {
-            GoogleUserResponse userResponse = restClient.get()
-                    .uri(userInfoUri)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .body(GoogleUserResponse.class);
+            GoogleUserResponse userResponse = outboundHttpClients.get(Provider.GOOGLE).call(restClient -> restClient.get()
+                        .uri(userInfoUri)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .body(GoogleUserResponse.class));
 
             log.info("구글 사용자 정보 조회 성공 - ID: {}", userResponse.sub());
             return userResponse;
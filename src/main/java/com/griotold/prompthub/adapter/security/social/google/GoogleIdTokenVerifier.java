@@ -0,0 +1,168 @@
+package com.griotold.prompthub.adapter.security.social.google;
+
+import com.griotold.prompthub.adapter.integration.OutboundHttpClients;
+import com.griotold.prompthub.domain.member.Provider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구글 id_token 로컬 검증
+ * 토큰 응답에 함께 오는 id_token의 서명/audience/만료/issuer를 직접 확인해 userinfo 호출을 생략한다.
+ * - 공개키(JWKS)는 응답의 Cache-Control max-age 동안 재사용한다
+ * - 모르는 kid가 오면 키가 교체된 것으로 보고 다시 받아온다. 위조 토큰으로 재조회가 반복되지 않도록 최소 간격을 둔다
+ */
+@Slf4j
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final long CLOCK_SKEW_SECONDS = 30;
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final Supplier<PublicKeys> keySource;
+    private final Clock clock;
+    private final JwtParser parser;
+
+    // 갱신은 HTTP 호출을 포함하므로 synchronized 대신 ReentrantLock (가상 스레드 고정 방지)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile PublicKeys publicKeys;
+    private volatile Instant expiresAt = Instant.MIN;
+    private volatile Instant fetchedAt = Instant.MIN;
+
+    @Autowired
+    public GoogleIdTokenVerifier(OutboundHttpClients outboundHttpClients,
+                                 @Value("${google.client-id}") String clientId,
+                                 @Value("${google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri) {
+        this(clientId, () -> fetch(outboundHttpClients, jwksUri), Clock.systemUTC());
+    }
+
+    GoogleIdTokenVerifier(String clientId, Supplier<PublicKeys> keySource, Clock clock) {
+        this.keySource = keySource;
+        this.clock = clock;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return publicKey(header.getKeyId());
+                    }
+                })
+                .requireAudience(clientId)
+                .clock(() -> Date.from(clock.instant()))
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .build();
+    }
+
+    /**
+     * @return 클레임에서 읽은 사용자 정보 (없는 항목은 null)
+     * @throws IllegalArgumentException 서명, audience, issuer, 만료 중 하나라도 맞지 않을 때
+     * @throws org.springframework.web.client.RestClientException 공개키를 받아오지 못했을 때
+     */
+    public GoogleUserResponse verify(String idToken) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(idToken).getPayload();
+        } catch (JwtException e) {
+            log.warn("구글 ID 토큰 검증 실패: {}", e.getMessage());
+            throw new IllegalArgumentException("유효하지 않은 구글 ID 토큰입니다.");
+        }
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            log.warn("구글 ID 토큰 발급자 불일치: {}", claims.getIssuer());
+            throw new IllegalArgumentException("유효하지 않은 구글 ID 토큰입니다.");
+        }
+        return new GoogleUserResponse(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                claims.get("picture", String.class)
+        );
+    }
+
+    private PublicKey publicKey(String kid) {
+        Instant now = clock.instant();
+        PublicKeys current = publicKeys;
+        if (current != null && now.isBefore(expiresAt) && current.byKid().containsKey(kid)) {
+            return current.byKid().get(kid);
+        }
+        refreshLock.lock();
+        try {
+            current = publicKeys;
+            boolean expired = current == null || !now.isBefore(expiresAt);
+            boolean unknownKid = current != null && !current.byKid().containsKey(kid);
+            if (expired || (unknownKid && !now.isBefore(fetchedAt.plus(MIN_REFRESH_INTERVAL)))) {
+                current = refresh(now);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        PublicKey key = current.byKid().get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 구글 공개키입니다. kid: " + kid);
+        }
+        return key;
+    }
+
+    private PublicKeys refresh(Instant now) {
+        PublicKeys fetched = keySource.get();
+        publicKeys = fetched;
+        fetchedAt = now;
+        expiresAt = now.plus(fetched.maxAge());
+        log.info("구글 공개키 갱신 - {}개, {}초간 사용", fetched.byKid().size(), fetched.maxAge().toSeconds());
+        return fetched;
+    }
+
+    private static PublicKeys fetch(OutboundHttpClients outboundHttpClients, String jwksUri) {
+        ResponseEntity<GoogleJwks> response = outboundHttpClients.get(Provider.GOOGLE).call(restClient -> restClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .toEntity(GoogleJwks.class));
+        GoogleJwks jwks = response.getBody();
+        if (jwks == null) {
+            throw new IllegalStateException("구글 공개키 응답이 비어 있습니다.");
+        }
+        return new PublicKeys(jwks.toPublicKeys(), maxAge(response.getHeaders()));
+    }
+
+    private static Duration maxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+
+    /**
+     * @param byKid  kid → 공개키
+     * @param maxAge 다시 받아오기 전까지 사용할 시간
+     */
+    record PublicKeys(Map<String, PublicKey> byKid, Duration maxAge) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.griotold.prompthub.adapter.security.social.google;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구글 id_token 서명 공개키 목록 (JWKS)
+ */
+public record GoogleJwks(List<Key> keys) {
+
+    public record Key(String kid, String kty, String n, String e) {
+    }
+
+    /** kid → RSA 공개키 (RSA가 아닌 키는 건너뛴다) */
+    public Map<String, PublicKey> toPublicKeys() {
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        if (keys == null) {
+            return publicKeys;
+        }
+        for (Key key : keys) {
+            if ("RSA".equals(key.kty()) && key.kid() != null) {
+                publicKeys.put(key.kid(), rsaPublicKey(key));
+            }
+        }
+        return publicKeys;
+    }
+
+    private static PublicKey rsaPublicKey(Key key) {
+        try {
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(key.n()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(key.e()));
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("구글 공개키를 읽을 수 없습니다. kid: " + key.kid(), e);
+        }
+    }
+}
@@ -16,5 +16,8 @@ public record GoogleTokenResponse(
         String refreshToken,
 
         @JsonProperty("scope")
-        String scope
+        String scope,
+
+        @JsonProperty("id_token")
+        String idToken
 ) {}
@@ -1,5 +1,6 @@
 package com.griotold.prompthub.adapter.security.social.kakao;
 
+import com.griotold.prompthub.adapter.integration.OutboundHttpClients;
 import com.griotold.prompthub.adapter.security.jwt.JwtTokenProvider;
 import com.griotold.prompthub.adapter.security.social.MemberSaveResult;
 import com.griotold.prompthub.adapter.security.social.TokenResponse;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.util.Optional;
@@ -27,7 +27,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class KakaoAuthService {
 
-    private final RestClient restClient;
+    private final OutboundHttpClients outboundHttpClients;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRegister memberRegister;
     private final MemberFinder memberFinder;
@@ -72,12 +72,12 @@ public class KakaoAuthService {
         params.add("code", authorizationCode);
 
         try {
-            KakaoTokenResponse tokenResponse = restClient.post()
-                    .uri(tokenUri)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(params)
-                    .retrieve()
-                    .body(KakaoTokenResponse.class);
+            KakaoTokenResponse tokenResponse = outboundHttpClients.get(Provider.KAKAO).call(restClient -> restClient.post()
+                        .uri(tokenUri)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(params)
+                        .retrieve()
+                        .body(KakaoTokenResponse.class));
 
             log.info("카카오 토큰 발급 성공");
             return tokenResponse.accessToken();
@@ -96,11 +96,11 @@ public class KakaoAuthService {
 
     private KakaoUserResponse getKakaoUserInfo(String accessToken) {
         try {
-            KakaoUserResponse userResponse = restClient.get()
-                    .uri(userInfoUri)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .body(KakaoUserResponse.class);
+            KakaoUserResponse userResponse = outboundHttpClients.get(Provider.KAKAO).call(restClient -> restClient.get()
+                        .uri(userInfoUri)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .body(KakaoUserResponse.class));
 
             log.info("카카오 사용자 정보 조회 성공 - ID: {}", userResponse.id());
             return userResponse;
@@ -1,5 +1,6 @@
 package com.griotold.prompthub.adapter.security.social.naver;
 
+import com.griotold.prompthub.adapter.integration.OutboundHttpClients;
 import com.griotold.prompthub.adapter.security.jwt.JwtTokenProvider;
 import com.griotold.prompthub.adapter.security.social.MemberSaveResult;
 import com.griotold.prompthub.adapter.security.social.TokenResponse;
@@ -16,7 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.util.Optional;
@@ -26,7 +26,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class NaverAuthService {
 
-    private final RestClient restClient;
+    private final OutboundHttpClients outboundHttpClients;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRegister memberRegister;
     private final MemberFinder memberFinder;
@@ -72,12 +72,12 @@ public class NaverAuthService {
         params.add("state", "random_port"); // 요청에서 받은 state 사용
 
         try {
-            NaverTokenResponse tokenResponse = restClient.post()
-                    .uri(tokenUri)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(params)
-                    .retrieve()
-                    .body(NaverTokenResponse.class);
+            NaverTokenResponse tokenResponse = outboundHttpClients.get(Provider.NAVER).call(restClient -> restClient.post()
+                        .uri(tokenUri)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(params)
+                        .retrieve()
+                        .body(NaverTokenResponse.class));
 
             log.info("네이버 토큰 발급 성공");
             log.info("네이버 accessToken='{}'", tokenResponse.accessToken());
@@ -97,11 +97,11 @@ public class NaverAuthService {
 
     private NaverUserResponse getNaverUserInfo(String accessToken) {
         try {
-            NaverUserResponse userResponse = restClient.get()
-                    .uri(userInfoUri)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .body(NaverUserResponse.class);
+            NaverUserResponse userResponse = outboundHttpClients.get(Provider.NAVER).call(restClient -> restClient.get()
+                        .uri(userInfoUri)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .body(NaverUserResponse.class));
 
             log.info("네이버 사용자 정보 조회 성공 - ID: {}", userResponse.getId());
             return userResponse;
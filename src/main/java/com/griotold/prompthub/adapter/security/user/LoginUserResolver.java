@@ -0,0 +1,47 @@
+package com.griotold.prompthub.adapter.security.user;
+
+import com.griotold.prompthub.adapter.security.jwt.JwtClaims;
+import com.griotold.prompthub.application.member.provided.MemberFinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 JWT 클레임으로 인증 사용자 생성
+ * - stateless(기본): 클레임의 memberId로 회원 스냅샷 캐시를 조회. 캐시 적중이면 DB에 접근하지 않는다
+ * - stateless=false: 기존처럼 매 요청 이메일로 회원을 조회 (UserDetailsService)
+ */
+@Component
+public class LoginUserResolver {
+
+    private final UserDetailsService userDetailsService;
+    private final MemberFinder memberFinder;
+    private final boolean stateless;
+
+    public LoginUserResolver(UserDetailsService userDetailsService,
+                             MemberFinder memberFinder,
+                             @Value("${application.security.jwt.stateless:true}") boolean stateless) {
+        this.userDetailsService = userDetailsService;
+        this.memberFinder = memberFinder;
+        this.stateless = stateless;
+    }
+
+    /**
+     * @return 클레임에 사용자 정보가 없으면(리프레시 토큰 등) null
+     */
+    public UserDetails resolve(JwtClaims claims) {
+        if (claims.email() == null) {
+            return null;
+        }
+        if (!stateless || claims.memberId() == null) {
+            return userDetailsService.loadUserByUsername(claims.email());
+        }
+        try {
+            return new LoginUser(memberFinder.findSnapshot(claims.memberId()));
+        } catch (IllegalArgumentException e) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + claims.memberId(), e);
+        }
+    }
+}
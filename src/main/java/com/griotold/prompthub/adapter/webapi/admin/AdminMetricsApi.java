@@ -0,0 +1,30 @@
+package com.griotold.prompthub.adapter.webapi.admin;
+
+import com.griotold.prompthub.adapter.integration.OutboundHttpClients;
+import com.griotold.prompthub.adapter.webapi.dto.BaseResponse;
+import com.griotold.prompthub.application.prompt.PromptDetailCache;
+import com.griotold.prompthub.application.prompt.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/metrics")
+@RequiredArgsConstructor
+public class AdminMetricsApi {
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final PromptDetailCache promptDetailCache;
+    private final OutboundHttpClients outboundHttpClients;
+
+    /**
+     * 인메모리 버퍼/캐시, 외부 호출 지표 조회
+     */
+    @GetMapping
+    public ResponseEntity<BaseResponse<AdminMetricsResponse>> getMetrics() {
+        return BaseResponse.success(new AdminMetricsResponse(
+                viewCountBuffer.metrics(), promptDetailCache.metrics(), outboundHttpClients.metrics()));
+    }
+}
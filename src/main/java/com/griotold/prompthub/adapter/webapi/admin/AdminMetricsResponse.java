@@ -0,0 +1,14 @@
+package com.griotold.prompthub.adapter.webapi.admin;
+
+import com.griotold.prompthub.adapter.integration.ProviderHttpClient;
+import com.griotold.prompthub.application.prompt.PromptDetailCache;
+import com.griotold.prompthub.application.prompt.ViewCountBuffer;
+
+import java.util.Map;
+
+public record AdminMetricsResponse(
+        ViewCountBuffer.Metrics viewCount,
+        PromptDetailCache.Metrics promptDetailCache,
+        Map<String, ProviderHttpClient.Metrics> outbound
+) {
+}
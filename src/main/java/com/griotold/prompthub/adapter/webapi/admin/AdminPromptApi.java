@@ -0,0 +1,37 @@
+package com.griotold.prompthub.adapter.webapi.admin;
+
+import com.griotold.prompthub.adapter.webapi.dto.BaseResponse;
+import com.griotold.prompthub.application.prompt.provided.PromptFinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/prompts")
+@RequiredArgsConstructor
+public class AdminPromptApi {
+
+    private final PromptFinder promptFinder;
+
+    /**
+     * 본문이 거의 같은 공개 프롬프트 묶음 (큰 묶음부터, 기본 20개)
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<BaseResponse<List<DuplicateClusterResponse>>> getDuplicateClusters(
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("유사 중복 묶음 조회. size: {}", size);
+
+        List<DuplicateClusterResponse> responses = promptFinder.findDuplicateClusters(size).stream()
+                .map(DuplicateClusterResponse::of)
+                .toList();
+
+        return BaseResponse.success(responses);
+    }
+}
@@ -0,0 +1,21 @@
+package com.griotold.prompthub.adapter.webapi.admin;
+
+import com.griotold.prompthub.adapter.webapi.prompt.PromptListResponse;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
+
+import java.util.List;
+
+/**
+ * 유사 중복 묶음 - 첫 프롬프트가 가장 먼저 등록된 것 (원본일 가능성이 높음)
+ */
+public record DuplicateClusterResponse(
+        int size,
+        List<PromptListResponse> prompts
+) {
+    public static DuplicateClusterResponse of(List<PromptSummary> cluster) {
+        return new DuplicateClusterResponse(
+                cluster.size(),
+                cluster.stream().map(summary -> PromptListResponse.of(summary, false)).toList()
+        );
+    }
+}
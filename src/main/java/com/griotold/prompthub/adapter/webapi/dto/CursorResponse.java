@@ -0,0 +1,21 @@
+package com.griotold.prompthub.adapter.webapi.dto;
+
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,   // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(CursorSlice<T> slice) {
+        Cursor nextCursor = slice.nextCursor();
+        return new CursorResponse<>(
+                slice.content(),
+                nextCursor != null ? nextCursor.encode() : null,
+                slice.hasNext()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.griotold.prompthub.adapter.webapi.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -9,14 +10,38 @@ public record PageResponse<T>(
         PaginationInfo pagination
 ) {
     public static <T> PageResponse<T> of(Page<T> page) {
+        return of(page, page.getTotalElements());
+    }
+
+    /**
+     * COUNT 없이 조회한 Slice - 총 건수/페이지 수 없이 다음 페이지 여부만 제공
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        PaginationInfo pagination = new PaginationInfo(
+                slice.getNumber() + 1,    // 0-based → 1-based
+                null,
+                null,
+                slice.hasNext(),
+                slice.hasPrevious()
+        );
+
+        return new PageResponse<>(slice.getContent(), pagination);
+    }
+
+    /**
+     * Slice + 별도로 구한 총 건수
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, long totalCount) {
+        int pageSize = slice.getSize();
+        int totalPages = pageSize == 0 ? 1 : (int) Math.ceil((double) totalCount / pageSize);
         PaginationInfo pagination = new PaginationInfo(
-                page.getNumber() + 1,    // 0-based → 1-based
-                page.getTotalPages(),
-                page.getTotalElements(),
-                page.hasNext(),
-                page.hasPrevious()
+                slice.getNumber() + 1,    // 0-based → 1-based
+                totalPages,
+                totalCount,
+                slice.hasNext(),
+                slice.hasPrevious()
         );
 
-        return new PageResponse<>(page.getContent(), pagination);
+        return new PageResponse<>(slice.getContent(), pagination);
     }
 }
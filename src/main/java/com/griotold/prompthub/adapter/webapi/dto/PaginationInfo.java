@@ -2,8 +2,8 @@ package com.griotold.prompthub.adapter.webapi.dto;
 
 public record PaginationInfo(
         int currentPage,
-        int totalPages,
-        long totalCount,
+        Integer totalPages,  // 총 건수를 요청하지 않은 Slice 응답이면 null
+        Long totalCount,     // 총 건수를 요청하지 않은 Slice 응답이면 null
         boolean hasNext,
         boolean hasPrevious
 ) {}
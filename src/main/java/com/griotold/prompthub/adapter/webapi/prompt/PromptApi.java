@@ -3,18 +3,24 @@ package com.griotold.prompthub.adapter.webapi.prompt;
 
 import com.griotold.prompthub.adapter.security.user.LoginUser;
 import com.griotold.prompthub.adapter.webapi.dto.BaseResponse;
+import com.griotold.prompthub.adapter.webapi.dto.CursorResponse;
 import com.griotold.prompthub.adapter.webapi.dto.PageResponse;
 import com.griotold.prompthub.application.category.provided.CategoryFinder;
 import com.griotold.prompthub.application.prompt.provided.PromptFinder;
 import com.griotold.prompthub.application.prompt.provided.PromptRegister;
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDetail;
 import com.griotold.prompthub.domain.prompt.PromptRegisterRequest;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
 import com.griotold.prompthub.domain.prompt.PromptUpdateRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +28,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/prompts")
@@ -35,50 +45,112 @@ public class PromptApi {
 
     /**
      * 프롬프트 목록 조회 (공개된 것만, 페이징)
+     * 목록 API는 모두 PromptSummary 프로젝션으로 조회한다 (content 미조회)
+     * 기본은 COUNT 없는 Slice 응답(hasNext만 제공), withTotal=true면 캐시된 총 건수를 함께 내려준다
+     * 검색과 태그 필터(tags=a,b,c, 모두 가진 프롬프트를 최신순)는 인덱스에서 총 건수가 함께 나오므로 항상 포함
+     * 카테고리, 태그, 키워드 필터는 함께 쓸 수 없다 (둘 이상이면 400)
      */
     @GetMapping
     public ResponseEntity<BaseResponse<PageResponse<PromptListResponse>>> getPrompts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @AuthenticationPrincipal LoginUser loginUser) {
+
+        log.info("프롬프트 목록 조회. 카테고리: {}, 키워드: {}, 태그: {}", categoryId, keyword, tags);
+
+        boolean hasTags = tags != null && !tags.isEmpty();
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        if ((categoryId != null ? 1 : 0) + (hasTags ? 1 : 0) + (hasKeyword ? 1 : 0) > 1) {
+            throw new IllegalArgumentException("카테고리, 태그, 키워드 필터는 하나만 지정할 수 있습니다.");
+        }
+
+        if (categoryId != null) {
+            Category category = categoryFinder.find(categoryId);
+            Slice<PromptSummary> prompts = promptFinder.findPublicSummariesByCategory(category, pageable);
+            Slice<PromptListResponse> responses = prompts.map(withLiked(prompts.getContent(), loginUser));
+            return BaseResponse.success(withTotal
+                    ? PageResponse.of(responses, promptFinder.countPublicByCategory(category))
+                    : PageResponse.of(responses));
+        }
+
+        if (hasTags) {
+            Page<PromptSummary> prompts = promptFinder.findPublicSummariesByTags(tags, pageable);
+            Page<PromptListResponse> responses = prompts.map(withLiked(prompts.getContent(), loginUser));
+            return BaseResponse.success(PageResponse.of(responses));
+        }
+
+        if (hasKeyword) {
+            Page<PromptSummary> prompts = promptFinder.searchPublicSummaries(keyword, pageable);
+            Page<PromptListResponse> responses = prompts.map(withLiked(prompts.getContent(), loginUser));
+            return BaseResponse.success(PageResponse.of(responses));
+        }
+
+        Slice<PromptSummary> prompts = promptFinder.findPublicSummaries(pageable);
+        Slice<PromptListResponse> responses = prompts.map(withLiked(prompts.getContent(), loginUser));
+        return BaseResponse.success(withTotal
+                ? PageResponse.of(responses, promptFinder.countPublic())
+                : PageResponse.of(responses));
+    }
+
+    /**
+     * 프롬프트 목록 조회 - 커서 모드 (무한 스크롤)
+     * cursor 파라미터가 있으면 이 핸들러가 선택된다. 첫 페이지는 빈 값(cursor=)으로 요청
+     * COUNT 쿼리 없이 (createdAt, id) 키셋으로 조회하므로 깊은 페이지도 일정한 속도를 유지
+     * 커서 모드는 카테고리 필터만 지원한다 (키워드/태그를 주면 400)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<BaseResponse<CursorResponse<PromptListResponse>>> getPromptsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> tags,
             @AuthenticationPrincipal LoginUser loginUser) {
 
-        log.info("프롬프트 목록 조회. 카테고리: {}, 키워드: {}", categoryId, keyword);
+        log.info("프롬프트 목록 커서 조회. 카테고리: {}, 커서: {}", categoryId, cursor);
+
+        if ((tags != null && !tags.isEmpty()) || (keyword != null && !keyword.trim().isEmpty())) {
+            throw new IllegalArgumentException("커서 모드에서는 키워드, 태그 필터를 지정할 수 없습니다.");
+        }
 
-        Page<Prompt> prompts;
+        Cursor position = cursor.isBlank() ? null : Cursor.decode(cursor);
+        CursorSlice<PromptSummary> prompts;
 
         if (categoryId != null) {
             Category category = categoryFinder.find(categoryId);
-            prompts = promptFinder.findAllPublicByCategory(category, pageable);
-        } else if (keyword != null && !keyword.trim().isEmpty()) {
-            prompts = promptFinder.searchPublic(keyword, pageable);
+            prompts = promptFinder.findPublicSummariesByCategory(category, position, size);
         } else {
-            prompts = promptFinder.findAllPublic(pageable);
+            prompts = promptFinder.findPublicSummaries(position, size);
         }
 
-        Page<PromptListResponse> responses = prompts.map(PromptListResponse::of);
-        return BaseResponse.success(PageResponse.of(responses));
+        return BaseResponse.success(CursorResponse.of(prompts.map(withLiked(prompts.content(), loginUser))));
     }
 
     /**
      * 인기 프롬프트 목록 조회 (별도 엔드포인트)
+     * 좋아요/조회/리뷰/작성 시점을 감쇠 합산한 hot 랭킹 상위 K개에서 제공
      */
     @GetMapping("/popular")
     public ResponseEntity<BaseResponse<PageResponse<PromptListResponse>>> getPopularPrompts(
             @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) Long categoryId,
             @AuthenticationPrincipal LoginUser loginUser) {
 
-        log.info("인기 프롬프트 목록 조회");
+        log.info("인기 프롬프트 목록 조회. 카테고리: {}", categoryId);
 
-        Page<Prompt> prompts = promptFinder.findPopular(pageable);
-        Page<PromptListResponse> responses = prompts.map(PromptListResponse::of);
+        Page<PromptSummary> prompts = categoryId != null
+                ? promptFinder.findPopularSummariesByCategory(categoryFinder.find(categoryId), pageable)
+                : promptFinder.findPopularSummaries(pageable);
+        Page<PromptListResponse> responses = prompts.map(withLiked(prompts.getContent(), loginUser));
 
         return BaseResponse.success(PageResponse.of(responses));
     }
 
-    // todo ReviewStatsResponse 포함
     /**
-     * 프롬프트 상세 조회 (조회수 증가)
+     * 프롬프트 상세 조회 (조회수 증가, 리뷰 통계 포함)
      */
     @GetMapping("/{id}")
     public ResponseEntity<BaseResponse<PromptDetailResponse>> getPrompt(
@@ -87,11 +159,49 @@ public class PromptApi {
 
         log.info("프롬프트 상세 조회. ID: {}, 사용자: {}", id, loginUser.getMember().getId());
 
-        // 조회수 증가
-        Prompt prompt = promptRegister.increaseViewCount(id);
+        // 상세는 캐시된 스냅샷, 조회수는 버퍼에 기록 후 주기적으로 반영 (응답의 조회수는 최대 반영 주기만큼 늦을 수 있음)
+        PromptDetail detail = promptFinder.findDetail(id);
+        promptRegister.increaseViewCount(id);
         boolean isLiked = promptFinder.isLikedBy(id, loginUser.getMember());
+        Category category = categoryFinder.find(detail.categoryId());
 
-        return BaseResponse.success(PromptDetailResponse.of(prompt, isLiked));
+        return BaseResponse.success(PromptDetailResponse.of(detail, category, isLiked));
+    }
+
+    /**
+     * 관련 프롬프트 (태그 집합이 비슷한 순, 기본 10개)
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<BaseResponse<List<PromptListResponse>>> getRelatedPrompts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal LoginUser loginUser) {
+
+        log.info("관련 프롬프트 조회. ID: {}, 개수: {}", id, size);
+
+        promptFinder.findDetail(id); // 존재 확인 (없으면 예외)
+        List<PromptSummary> prompts = promptFinder.findRelatedSummaries(id, size);
+        List<PromptListResponse> responses = prompts.stream().map(withLiked(prompts, loginUser)).toList();
+
+        return BaseResponse.success(responses);
+    }
+
+    /**
+     * 내용이 비슷한 프롬프트 (제목, 설명, 본문의 TF-IDF 코사인 유사도 순, 기본 10개)
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<BaseResponse<List<PromptListResponse>>> getSimilarPrompts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal LoginUser loginUser) {
+
+        log.info("비슷한 프롬프트 조회. ID: {}, 개수: {}", id, size);
+
+        promptFinder.findDetail(id); // 존재 확인 (없으면 예외)
+        List<PromptSummary> prompts = promptFinder.findSimilarSummaries(id, size);
+        List<PromptListResponse> responses = prompts.stream().map(withLiked(prompts, loginUser)).toList();
+
+        return BaseResponse.success(responses);
     }
 
     /**
@@ -159,42 +269,67 @@ public class PromptApi {
 
         log.info("좋아요 토글. 프롬프트 ID: {}, 사용자: {}", id, loginUser.getMember().getId());
 
-        boolean isLiked = promptFinder.isLikedBy(id, loginUser.getMember());
-
-        if (isLiked) {
-            promptRegister.removeLike(id, loginUser.getMember());
-        } else {
-            promptRegister.addLike(id, loginUser.getMember());
-        }
+        boolean liked = promptRegister.toggleLike(id, loginUser.getMember());
+        log.info("좋아요 토글 완료. 프롬프트 ID: {}, 좋아요: {}", id, liked);
 
         return BaseResponse.success(null);
     }
 
     /**
-     * 내가 작성한 프롬프트 목록
+     * 내가 작성한 프롬프트 목록 (기본 Slice, withTotal=true면 총 건수 포함)
      */
     @GetMapping("/my")
     public ResponseEntity<BaseResponse<PageResponse<PromptListResponse>>> getMyPrompts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @AuthenticationPrincipal LoginUser loginUser) {
 
-        Page<Prompt> prompts = promptFinder.findAllByMember(loginUser.getMember(), pageable);
-        Page<PromptListResponse> responses = prompts.map(PromptListResponse::of);
+        Slice<PromptSummary> prompts = promptFinder.findSummariesByMember(loginUser.getMember(), pageable);
+        Slice<PromptListResponse> responses = prompts.map(withLiked(prompts.getContent(), loginUser));
 
-        return BaseResponse.success(PageResponse.of(responses));
+        return BaseResponse.success(withTotal
+                ? PageResponse.of(responses, promptFinder.countByMember(loginUser.getMember()))
+                : PageResponse.of(responses));
     }
 
     /**
-     * 좋아요한 프롬프트 목록 (PromptFinder에 메서드 추가 필요)
+     * 내가 작성한 프롬프트 목록 - 커서 모드
+     */
+    @GetMapping(value = "/my", params = "cursor")
+    public ResponseEntity<BaseResponse<CursorResponse<PromptListResponse>>> getMyPromptsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal LoginUser loginUser) {
+
+        Cursor position = cursor.isBlank() ? null : Cursor.decode(cursor);
+        CursorSlice<PromptSummary> prompts = promptFinder.findSummariesByMember(loginUser.getMember(), position, size);
+
+        return BaseResponse.success(CursorResponse.of(prompts.map(withLiked(prompts.content(), loginUser))));
+    }
+
+    /**
+     * 좋아요한 프롬프트 목록 (기본 Slice, withTotal=true면 총 건수 포함)
      */
     @GetMapping("/liked")
     public ResponseEntity<BaseResponse<PageResponse<PromptListResponse>>> getLikedPrompts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @AuthenticationPrincipal LoginUser loginUser) {
 
-        Page<Prompt> prompts = promptFinder.findLikedByMember(loginUser.getMember(), pageable);
-        Page<PromptListResponse> responses = prompts.map(PromptListResponse::of);
+        // 좋아요한 목록이므로 조회 없이 모두 isLiked=true
+        Slice<PromptSummary> prompts = promptFinder.findLikedSummariesByMember(loginUser.getMember(), pageable);
+        Slice<PromptListResponse> responses = prompts.map(summary -> PromptListResponse.of(summary, true));
 
-        return BaseResponse.success(PageResponse.of(responses));
+        return BaseResponse.success(withTotal
+                ? PageResponse.of(responses, promptFinder.countLikedByMember(loginUser.getMember()))
+                : PageResponse.of(responses));
+    }
+
+    /**
+     * 한 페이지의 좋아요 여부를 한 번에 확인해 응답으로 변환하는 함수
+     */
+    private Function<PromptSummary, PromptListResponse> withLiked(List<PromptSummary> prompts, LoginUser loginUser) {
+        Set<Long> liked = promptFinder.likedAmong(loginUser.getMember(), prompts.stream().map(PromptSummary::id).toList());
+        return summary -> PromptListResponse.of(summary, liked.contains(summary.id()));
     }
 }
@@ -1,7 +1,10 @@
 package com.griotold.prompthub.adapter.webapi.prompt;
 
 import com.griotold.prompthub.adapter.webapi.category.CategoryInfoResponse;
+import com.griotold.prompthub.adapter.webapi.review.ReviewStatsResponse;
+import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDetail;
 
 import java.time.LocalDateTime;
 
@@ -14,6 +17,7 @@ public record PromptDetailResponse(
         String authorNickname,
         Integer viewsCount,
         Integer likesCount,
+        ReviewStatsResponse reviewStats,
         boolean isLiked,
         boolean isPublic,
         LocalDateTime createdAt,
@@ -29,10 +33,29 @@ public record PromptDetailResponse(
                 prompt.getMember().getNickname(),
                 prompt.getViewsCount(),
                 prompt.getLikesCount(),
+                ReviewStatsResponse.of(prompt.getRating(), prompt.getRatingHistogram()),
                 isLiked,
                 prompt.getIsPublic(),
                 prompt.getCreatedAt(),
                 prompt.getUpdatedAt()
         );
     }
+
+    public static PromptDetailResponse of(PromptDetail detail, Category category, boolean isLiked) {
+        return new PromptDetailResponse(
+                detail.id(),
+                detail.title(),
+                detail.content(),
+                detail.description(),
+                CategoryInfoResponse.of(category),
+                detail.authorNickname(),
+                detail.viewsCount(),
+                detail.likesCount(),
+                ReviewStatsResponse.of(detail.rating(), detail.ratingHistogram()),
+                isLiked,
+                detail.isPublic(),
+                detail.createdAt(),
+                detail.updatedAt()
+        );
+    }
 }
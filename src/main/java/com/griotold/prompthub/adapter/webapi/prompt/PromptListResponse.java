@@ -1,6 +1,6 @@
 package com.griotold.prompthub.adapter.webapi.prompt;
 
-import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
 
 import java.time.LocalDateTime;
 
@@ -12,18 +12,20 @@ public record PromptListResponse(
         String authorNickname,
         Integer viewsCount,
         Integer likesCount,
+        boolean isLiked,
         LocalDateTime createdAt
 ) {
-    public static PromptListResponse of(Prompt prompt) {
+    public static PromptListResponse of(PromptSummary summary, boolean isLiked) {
         return new PromptListResponse(
-                prompt.getId(),
-                prompt.getTitle(),
-                prompt.getDescription(),
-                prompt.getCategory().getName(),
-                prompt.getMember().getNickname(),
-                prompt.getViewsCount(),
-                prompt.getLikesCount(),
-                prompt.getCreatedAt()
+                summary.id(),
+                summary.title(),
+                summary.description(),
+                summary.categoryName(),
+                summary.authorNickname(),
+                summary.viewsCount(),
+                summary.likesCount(),
+                isLiked,
+                summary.createdAt()
         );
     }
 }
@@ -2,9 +2,12 @@ package com.griotold.prompthub.adapter.webapi.review;
 
 import com.griotold.prompthub.adapter.security.user.LoginUser;
 import com.griotold.prompthub.adapter.webapi.dto.BaseResponse;
+import com.griotold.prompthub.adapter.webapi.dto.CursorResponse;
 import com.griotold.prompthub.application.prompt.provided.PromptFinder;
 import com.griotold.prompthub.application.review.provided.ReviewFinder;
 import com.griotold.prompthub.application.review.provided.ReviewRegister;
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.review.Review;
@@ -50,6 +53,29 @@ public class ReviewApi {
         return BaseResponse.success(ReviewListResponse.from(reviewSlice));
     }
 
+    /**
+     * 프롬프트별 리뷰 목록 조회 - 커서 모드 (내 리뷰 우선 + 최신순)
+     * cursor 파라미터가 있으면 이 핸들러가 선택된다. 첫 페이지는 빈 값(cursor=)으로 요청
+     * 내 리뷰는 첫 페이지 맨 앞에만 붙고 size에는 포함되지 않는다. 리뷰 쿼리는 첫 페이지 2번, 이후 페이지 1번
+     */
+    @GetMapping(value = "/prompts/{promptId}/reviews", params = "cursor")
+    public ResponseEntity<BaseResponse<CursorResponse<ReviewDetailResponse>>> getPromptReviewsByCursor(
+            @PathVariable("promptId") Long promptId,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "4") int size,
+            @AuthenticationPrincipal LoginUser loginUser) {
+
+        log.info("프롬프트 리뷰 목록 커서 조회. promptId: {}, 커서: {}", promptId, cursor);
+
+        // 존재 확인은 상세 캐시로 (프롬프트 조회 쿼리 생략)
+        promptFinder.findDetail(promptId);
+
+        Cursor position = cursor.isBlank() ? null : Cursor.decode(cursor);
+        CursorSlice<Review> reviews = reviewFinder.findByPromptWithMyReviewFirst(promptId, loginUser.getMember(), position, size);
+
+        return BaseResponse.success(CursorResponse.of(reviews.map(ReviewDetailResponse::of)));
+    }
+
     /**
      * 리뷰 작성
      */
@@ -0,0 +1,32 @@
+package com.griotold.prompthub.adapter.webapi.review;
+
+import com.griotold.prompthub.domain.prompt.Rating;
+import com.griotold.prompthub.domain.prompt.RatingHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상세 화면 리뷰 통계 - 프롬프트에 쌓아 둔 평점/별점별 리뷰 수로 만든다 (p_review를 읽지 않음)
+ *
+ * @param averageRating      평균 평점 (소수 첫째 자리 반올림)
+ * @param reviewsCount       리뷰 수
+ * @param ratingDistribution 별점별 리뷰 수 (5점 → 1점 순)
+ */
+public record ReviewStatsResponse(
+        double averageRating,
+        int reviewsCount,
+        Map<Integer, Integer> ratingDistribution
+) {
+    public static ReviewStatsResponse of(Rating rating, RatingHistogram histogram) {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        for (int star = 5; star >= 1; star--) {
+            distribution.put(star, histogram.count(star));
+        }
+        return new ReviewStatsResponse(
+                Math.round(rating.getAverage() * 10) / 10.0,
+                rating.reviewsCount(),
+                distribution
+        );
+    }
+}
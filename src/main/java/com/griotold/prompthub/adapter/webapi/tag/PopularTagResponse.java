@@ -0,0 +1,13 @@
+package com.griotold.prompthub.adapter.webapi.tag;
+
+import com.griotold.prompthub.domain.tag.TagUsage;
+
+public record PopularTagResponse(
+        Long id,
+        String name,
+        int usageCount
+) {
+    public static PopularTagResponse of(TagUsage tagUsage) {
+        return new PopularTagResponse(tagUsage.tagId(), tagUsage.name(), tagUsage.usageCount());
+    }
+}
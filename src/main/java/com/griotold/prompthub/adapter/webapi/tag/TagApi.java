@@ -0,0 +1,52 @@
+package com.griotold.prompthub.adapter.webapi.tag;
+
+import com.griotold.prompthub.adapter.security.user.LoginUser;
+import com.griotold.prompthub.adapter.webapi.dto.BaseResponse;
+import com.griotold.prompthub.application.tag.provided.TagFinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagApi {
+
+    private final TagFinder tagFinder;
+
+    /**
+     * 인기 태그 (공개 프롬프트에 많이 쓰인 순)
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<BaseResponse<List<PopularTagResponse>>> getPopularTags(
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal LoginUser loginUser) {
+        log.info("인기 태그 조회. size: {}, 사용자 ID: {}", size, loginUser.getMember().getId());
+
+        List<PopularTagResponse> responses = tagFinder.findPopular(size).stream()
+                .map(PopularTagResponse::of)
+                .toList();
+
+        return BaseResponse.success(responses);
+    }
+
+    /**
+     * 태그 클라우드 (인기 태그 상위 size개를 이름순으로, 사용 수에 따른 weight 포함)
+     */
+    @GetMapping("/cloud")
+    public ResponseEntity<BaseResponse<List<TagCloudResponse>>> getTagCloud(
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal LoginUser loginUser) {
+        log.info("태그 클라우드 조회. size: {}, 사용자 ID: {}", size, loginUser.getMember().getId());
+
+        return BaseResponse.success(TagCloudResponse.of(tagFinder.findPopular(size)));
+    }
+}
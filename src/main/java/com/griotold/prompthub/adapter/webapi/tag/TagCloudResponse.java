@@ -0,0 +1,39 @@
+package com.griotold.prompthub.adapter.webapi.tag;
+
+import com.griotold.prompthub.domain.tag.TagUsage;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 태그 클라우드 항목 - 이름순, weight는 사용 수를 로그 스케일로 나눈 1~5 단계 (글자 크기용)
+ */
+public record TagCloudResponse(
+        Long id,
+        String name,
+        int usageCount,
+        int weight
+) {
+    static final int MAX_WEIGHT = 5;
+
+    public static List<TagCloudResponse> of(List<TagUsage> tagUsages) {
+        if (tagUsages.isEmpty()) {
+            return List.of();
+        }
+        double min = Math.log(tagUsages.stream().mapToInt(TagUsage::usageCount).min().orElseThrow());
+        double max = Math.log(tagUsages.stream().mapToInt(TagUsage::usageCount).max().orElseThrow());
+
+        return tagUsages.stream()
+                .sorted(Comparator.comparing(TagUsage::name))
+                .map(tagUsage -> new TagCloudResponse(tagUsage.tagId(), tagUsage.name(), tagUsage.usageCount(),
+                        weight(Math.log(tagUsage.usageCount()), min, max)))
+                .toList();
+    }
+
+    private static int weight(double value, double min, double max) {
+        if (max == min) {
+            return 1;
+        }
+        return 1 + (int) Math.round((value - min) / (max - min) * (MAX_WEIGHT - 1));
+    }
+}
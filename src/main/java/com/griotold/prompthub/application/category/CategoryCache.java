@@ -0,0 +1,122 @@
+package com.griotold.prompthub.application.category;
+
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.application.support.AfterCommit;
+import com.griotold.prompthub.domain.category.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 스냅샷 캐시
+ * 카테고리는 거의 바뀌지 않으므로 ID별/이름별/활성 목록을 불변 스냅샷 하나로 들고 있다가
+ * 변경이 커밋된 뒤에 새 스냅샷으로 통째로 교체한다 (copy-on-write).
+ * 조회는 volatile 참조 하나만 읽으므로 락도, 할당도, DB 접근도 없다.
+ * <p>
+ * 스냅샷의 Category는 여러 스레드가 공유하는 준영속 객체이므로 읽기 전용으로만 사용한다.
+ * 수정은 CategoryModifyService가 트랜잭션 안에서 DB에서 다시 읽은 엔티티로 한다.
+ */
+@Slf4j
+@Component
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+
+    // 교체 직렬화. reload는 DB를 읽으므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어에 고정되지 않도록)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public CategoryCache(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+        log.info("카테고리 캐시 적재 완료: {}건", snapshot.byId.size());
+    }
+
+    /** DB에서 전체를 다시 읽어 스냅샷 교체 */
+    public void reload() {
+        lock.lock();
+        try {
+            snapshot = Snapshot.of(categoryRepository.findAll());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    public Category find(Long categoryId) {
+        return snapshot.byId.get(categoryId);
+    }
+
+    @Nullable
+    public Category findByName(String name) {
+        return snapshot.byName.get(name);
+    }
+
+    /** 활성 카테고리 이름순 (불변 리스트, 호출마다 같은 인스턴스) */
+    public List<Category> findActiveOrderByName() {
+        return snapshot.activeByName;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 변경된 카테고리로 스냅샷 교체
+     * 롤백되면 아무것도 하지 않는다. 트랜잭션 밖이면 바로 교체
+     */
+    public void replaceAfterCommit(Category category) {
+        AfterCommit.run(() -> replace(category));
+    }
+
+    private void replace(Category category) {
+        lock.lock();
+        try {
+            Category current = snapshot.byId.get(category.getId());
+            // 커밋 순서와 콜백 순서가 뒤바뀌어도 더 최근 변경을 덮어쓰지 않는다
+            if (current != null && current.getUpdatedAt() != null && category.getUpdatedAt() != null
+                    && current.getUpdatedAt().isAfter(category.getUpdatedAt())) {
+                return;
+            }
+            Map<Long, Category> categories = new HashMap<>(snapshot.byId);
+            categories.put(category.getId(), category);
+            snapshot = Snapshot.of(categories.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Comparator<Category> BY_NAME = Comparator.comparing(Category::getName);
+
+        private final Map<Long, Category> byId;
+        private final Map<String, Category> byName;
+        private final List<Category> activeByName;
+
+        private Snapshot(Map<Long, Category> byId, Map<String, Category> byName, List<Category> activeByName) {
+            this.byId = byId;
+            this.byName = byName;
+            this.activeByName = activeByName;
+        }
+
+        static Snapshot of(Collection<Category> categories) {
+            Map<Long, Category> byId = new HashMap<>();
+            Map<String, Category> byName = new HashMap<>();
+            for (Category category : categories) {
+                byId.put(category.getId(), category);
+                byName.put(category.getName(), category);
+            }
+            List<Category> activeByName = categories.stream()
+                    .filter(Category::getIsActive)
+                    .sorted(BY_NAME)
+                    .toList();
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byName), activeByName);
+        }
+    }
+}
@@ -22,6 +22,7 @@ public class CategoryModifyService implements CategoryRegister {
     private final CategoryFinder categoryFinder;
     private final CategoryValidator categoryValidator;
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
 
     @Override
     public Category register(CategoryRegisterRequest request) {
@@ -29,21 +30,21 @@ public class CategoryModifyService implements CategoryRegister {
         if (isDuplicated) {
             throw new DuplicateCategoryNameException("이미 존재하는 카테고리 이름입니다: " + request.name());
         }
-        return categoryRepository.save(Category.register(request));
+        return saveAndReplaceAfterCommit(Category.register(request));
     }
 
     @Override
     public Category deactivate(Long categoryId) {
         Category category = categoryFinder.find(categoryId);
         category.deactivate();
-        return categoryRepository.save(category);
+        return saveAndReplaceAfterCommit(category);
     }
 
     @Override
     public Category activate(Long categoryId) {
         Category category = categoryFinder.find(categoryId);
         category.activate();
-        return categoryRepository.save(category);
+        return saveAndReplaceAfterCommit(category);
     }
 
     @Override
@@ -54,6 +55,13 @@ public class CategoryModifyService implements CategoryRegister {
         }
         Category category = categoryFinder.find(categoryId);
         category.updateInfo(request);
-        return categoryRepository.save(category);
+        return saveAndReplaceAfterCommit(category);
+    }
+
+    // 쓰기 트랜잭션 안이므로 categoryFinder는 DB에서 읽은 영속 엔티티를 돌려준다 (캐시 객체를 수정하지 않음)
+    private Category saveAndReplaceAfterCommit(Category category) {
+        Category saved = categoryRepository.save(category);
+        categoryCache.replaceAfterCommit(saved);
+        return saved;
     }
 }
@@ -5,33 +5,58 @@ import com.griotold.prompthub.application.category.required.CategoryRepository;
 import com.griotold.prompthub.domain.category.Category;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
 
+/**
+ * 카테고리 조회
+ * 트랜잭션을 새로 열지 않고(SUPPORTS) CategoryCache 스냅샷에서 바로 응답한다.
+ * 쓰기 트랜잭션 안에서 호출되면 커밋 전 변경도 보여야 하므로 DB에서 읽는다.
+ * 스냅샷에 없는 ID/이름도 DB에서 한 번 더 확인한다.
+ */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 @Validated
 @RequiredArgsConstructor
 public class CategoryQueryService implements CategoryFinder {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
 
     @Override
     public Category find(Long categoryId) {
+        Category cached = inWriteTransaction() ? null : categoryCache.find(categoryId);
+        if (cached != null) {
+            return cached;
+        }
         return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다. id: " + categoryId));
     }
 
     @Override
     public Category findByName(String name) {
+        Category cached = inWriteTransaction() ? null : categoryCache.findByName(name);
+        if (cached != null) {
+            return cached;
+        }
         return categoryRepository.findByName(name)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다. name: " + name));
     }
 
     @Override
     public List<Category> findActiveOrderByName() {
-        return categoryRepository.findByIsActiveTrueOrderByName();
+        if (inWriteTransaction()) {
+            return categoryRepository.findByIsActiveTrueOrderByName();
+        }
+        return categoryCache.findActiveOrderByName();
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
     }
 }
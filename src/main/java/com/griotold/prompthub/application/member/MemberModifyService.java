@@ -18,6 +18,7 @@ public class MemberModifyService implements MemberRegister {
 
     private final MemberRepository memberRepository;
     private final MemberFinder memberFinder;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     @Override
     public Member registerWithSocial(SocialRegisterRequest registerRequest) {
@@ -28,11 +29,15 @@ public class MemberModifyService implements MemberRegister {
     public Member reactivate(Long memberId) {
         Member member = memberFinder.find(memberId);
         member.reactivate();
+        memberSnapshotCache.invalidateAfterCommit(memberId);
         return memberRepository.save(member);
     }
 
     @Override
     public Member save(Member member) {
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        // 상태/권한/프로필이 바뀌었을 수 있으므로 인증용 스냅샷은 커밋 후 버린다
+        memberSnapshotCache.invalidateAfterCommit(saved.getId());
+        return saved;
     }
 }
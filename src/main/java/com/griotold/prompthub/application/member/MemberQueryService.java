@@ -6,7 +6,9 @@ import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.member.Provider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -16,6 +18,7 @@ import java.util.Optional;
 public class MemberQueryService implements MemberFinder {
 
     private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     @Override
     public Member find(Long memberId) {
@@ -23,6 +26,21 @@ public class MemberQueryService implements MemberFinder {
                 .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. id: " + memberId));
     }
 
+    /**
+     * 인증용 회원 스냅샷
+     * 캐시 적중이면 트랜잭션도 열지 않는다 (SUPPORTS)
+     * 쓰기 트랜잭션 안에서는 커밋 전 변경이 보여야 하므로 캐시를 거치지 않는다
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Member findSnapshot(Long memberId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return find(memberId);
+        }
+        return memberSnapshotCache.get(memberId, this::find);
+    }
+
     public Member findById(Long memberId) {
         return find(memberId);
     }
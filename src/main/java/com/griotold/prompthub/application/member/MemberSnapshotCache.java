@@ -0,0 +1,121 @@
+package com.griotold.prompthub.application.member;
+
+import com.griotold.prompthub.application.support.AfterCommit;
+import com.griotold.prompthub.domain.member.Member;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 인증용 회원 스냅샷 캐시 (memberId → Member)
+ * 매 요청 JWT의 memberId로 회원을 다시 읽지 않도록 짧은 ttl 동안 들고 있는다.
+ * - 회원 변경은 MemberModifyService가 커밋 후 무효화한다. ttl은 그 밖의 경로(직접 DB 수정 등)에 대한 안전장치
+ * - ttl이 0 이하면 캐시하지 않는다
+ * - 인증 요청마다 거치므로 조회와 저장은 잠금을 잡지 않는다 (VerifiedTokenCache와 같은 방식)
+ * - max-entries를 넘으면 한 스레드만 만료된 항목을 쓸어내고, 그래도 넘치면 임의의 항목을 버려 3/4까지 줄인다
+ * <p>
+ * 캐시된 Member는 여러 요청이 공유하는 준영속 객체이므로 읽기 전용으로만 사용한다.
+ * 수정은 트랜잭션 안에서 DB에서 다시 읽은 엔티티로 한다.
+ */
+@Component
+public class MemberSnapshotCache {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evicting = new ReentrantLock();
+
+    // 적재 중에 무효화가 일어나면 적재 결과를 남기지 않는다 (옛 값으로 덮어쓰기 방지)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public MemberSnapshotCache(@Value("${app.member-cache.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${app.member-cache.max-entries:10000}") int maxEntries) {
+        this(Clock.systemUTC(), Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    MemberSnapshotCache(Clock clock, Duration ttl, int maxEntries) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    public Member get(Long memberId, Function<Long, Member> loader) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return loader.apply(memberId);
+        }
+
+        Instant now = clock.instant();
+        Entry cached = entries.get(memberId);
+        if (cached != null) {
+            if (!cached.isExpired(now, ttl)) {
+                return cached.member();
+            }
+            entries.remove(memberId, cached);
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Member member = loader.apply(memberId);
+        Entry entry = new Entry(member, now);
+        entries.put(memberId, entry);
+        // 저장 직전/직후에 무효화가 끼어들었으면 방금 넣은 값을 되돌린다 (무효화는 카운터를 올린 뒤 지운다)
+        if (invalidations.get() != invalidationsBefore) {
+            entries.remove(memberId, entry);
+        }
+        if (entries.size() > maxEntries) {
+            evict(now);
+        }
+        return member;
+    }
+
+    /** 즉시 무효화 (이미 커밋된 변경) */
+    public void invalidate(Long memberId) {
+        invalidations.incrementAndGet();
+        entries.remove(memberId);
+    }
+
+    /** 현재 트랜잭션이 커밋되면 무효화, 롤백되면 캐시는 그대로. 트랜잭션 밖이면 즉시 */
+    public void invalidateAfterCommit(Long memberId) {
+        AfterCommit.run(() -> invalidate(memberId));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(Instant now) {
+        if (!evicting.tryLock()) {
+            return;
+        }
+        try {
+            entries.values().removeIf(entry -> entry.isExpired(now, ttl));
+            if (entries.size() <= maxEntries) {
+                return;
+            }
+            int target = maxEntries - maxEntries / 4;
+            Iterator<Long> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.unlock();
+        }
+    }
+
+    private record Entry(Member member, Instant loadedAt) {
+        boolean isExpired(Instant now, Duration ttl) {
+            return !loadedAt.plus(ttl).isAfter(now);
+        }
+    }
+}
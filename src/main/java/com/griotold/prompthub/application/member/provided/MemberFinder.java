@@ -10,6 +10,9 @@ public interface MemberFinder {
     // JWT에서 memberId로 조회
     Member find(Long memberId);
 
+    // 인증용 회원 스냅샷 (짧은 ttl 캐시, 읽기 전용)
+    Member findSnapshot(Long memberId);
+
     // 소셜 로그인 시 기존 계정 확인
     Optional<Member> findBySocial(Provider provider, String providerId);
 }
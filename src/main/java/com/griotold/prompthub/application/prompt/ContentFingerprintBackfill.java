@@ -0,0 +1,49 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.domain.prompt.ContentFingerprint;
+import com.griotold.prompthub.domain.prompt.PromptText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 지문 컬럼이 생기기 전에 등록된 프롬프트의 본문 지문을 채운다
+ * 엔티티 없이 설명/본문만 읽어 계산하고 UPDATE로 반영한다. 모두 채워져 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentFingerprintBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PromptRepository promptRepository;
+
+    // 중복 인덱스(DuplicatePromptIndexInitializer)가 채워진 지문을 읽도록 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long updated = 0;
+        List<PromptText> batch = promptRepository.findTextsWithoutFingerprintAfter(0L, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            for (PromptText text : batch) {
+                ContentFingerprint fingerprint = ContentFingerprint.of(text.description(), text.content());
+                updated += promptRepository.updateContentFingerprint(text.id(), fingerprint.value());
+            }
+            batch = promptRepository.findTextsWithoutFingerprintAfter(batch.getLast().id(), Limit.of(BATCH_SIZE));
+        }
+        if (updated > 0) {
+            log.info("본문 지문 보정 완료 - 프롬프트 {}건", updated);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.application.support.AfterCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 회원별 좋아요한 프롬프트 ID 캐시 (목록의 하트 표시용)
+ * - 회원이 처음 목록을 볼 때 좋아요한 ID 전체를 한 번 읽어 비트맵으로 들고 있는다
+ * - 비트맵은 가장 작은 ID를 기준으로 잡고, ID가 흩어져 비트맵이 더 커지면 정렬된 배열로 저장한다
+ * - 좋아요 추가/취소가 커밋되면 해당 회원의 항목만 새 값으로 교체한다 (copy-on-write)
+ * - 적재 도중 그 회원의 좋아요가 바뀌면 적재 결과를 저장하지 않는다. 다른 회원의 변경은 영향이 없다
+ * - 적재 후 ttl이 지나면 다시 읽는다. 커밋 후 갱신을 거치지 않는 변경(프롬프트 삭제 등)에 대한 안전장치
+ * - 최대 max-members명, 가장 오래 쓰이지 않은 회원부터 밀어낸다. max-members나 ttl이 0 이하면 캐시하지 않는다
+ */
+@Component
+public class LikedPromptCache {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxMembers;
+    private final Map<Long, Entry> byMember;
+
+    // 적재 중인 회원별 변경 횟수. 적재를 시작할 때와 끝날 때 값이 다르면 옛 값이므로 버린다
+    private final Map<Long, Loading> loadingByMember = new HashMap<>();
+
+    @Autowired
+    public LikedPromptCache(@Value("${app.liked-cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${app.liked-cache.max-members:10000}") int maxMembers) {
+        this(Clock.systemUTC(), Duration.ofSeconds(ttlSeconds), maxMembers);
+    }
+
+    LikedPromptCache(Clock clock, Duration ttl, int maxMembers) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxMembers = maxMembers;
+        this.byMember = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > LikedPromptCache.this.maxMembers;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxMembers > 0 && !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * promptIds 중 회원이 좋아요한 ID
+     *
+     * @param loader 회원이 좋아요한 프롬프트 ID 전체 (캐시에 없을 때만 호출)
+     */
+    public Set<Long> likedAmong(Long memberId, Collection<Long> promptIds, Function<Long, Collection<Long>> loader) {
+        Instant now = clock.instant();
+        LikedIds liked = null;
+        long versionBefore = 0;
+        synchronized (byMember) {
+            Entry entry = byMember.get(memberId);
+            if (entry != null && !entry.isExpired(now, ttl)) {
+                liked = entry.ids();
+            } else {
+                versionBefore = startLoading(memberId);
+            }
+        }
+        if (liked == null) {
+            try {
+                liked = LikedIds.of(loader.apply(memberId));
+            } finally {
+                finishLoading(memberId, versionBefore, liked == null ? null : new Entry(liked, now));
+            }
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (Long promptId : promptIds) {
+            if (liked.contains(promptId)) {
+                result.add(promptId);
+            }
+        }
+        return result;
+    }
+
+    /** 현재 트랜잭션이 커밋되면 반영, 롤백되면 그대로. 트랜잭션 밖이면 즉시 */
+    public void updateAfterCommit(Long memberId, Long promptId, boolean liked) {
+        AfterCommit.run(() -> update(memberId, promptId, liked));
+    }
+
+    public int size() {
+        synchronized (byMember) {
+            return byMember.size();
+        }
+    }
+
+    private void update(Long memberId, Long promptId, boolean liked) {
+        synchronized (byMember) {
+            Loading loading = loadingByMember.get(memberId);
+            if (loading != null) {
+                loading.version++;
+            }
+            Entry current = byMember.get(memberId);
+            if (current != null) {
+                byMember.put(memberId, current.with(liked ? current.ids().with(promptId) : current.ids().without(promptId)));
+            }
+        }
+    }
+
+    // byMember 락을 잡은 상태에서 호출
+    private long startLoading(Long memberId) {
+        Loading loading = loadingByMember.computeIfAbsent(memberId, id -> new Loading());
+        loading.count++;
+        return loading.version;
+    }
+
+    // 적재에 실패했으면 loaded는 null
+    private void finishLoading(Long memberId, long versionBefore, @Nullable Entry loaded) {
+        synchronized (byMember) {
+            Loading loading = loadingByMember.get(memberId);
+            if (loaded != null && loading.version == versionBefore) {
+                byMember.put(memberId, loaded);
+            }
+            if (--loading.count == 0) {
+                loadingByMember.remove(memberId);
+            }
+        }
+    }
+
+    /** 적재 시각은 전체를 다시 읽은 시각. 커밋 후 갱신으로 바꾼 값도 그 시각 기준으로 만료된다 */
+    private record Entry(LikedIds ids, Instant loadedAt) {
+        boolean isExpired(Instant now, Duration ttl) {
+            return !loadedAt.plus(ttl).isAfter(now);
+        }
+
+        Entry with(LikedIds updated) {
+            return new Entry(updated, loadedAt);
+        }
+    }
+
+    private static final class Loading {
+        private int count;
+        private long version;
+    }
+
+    /**
+     * 불변 ID 집합. ID 범위가 좁으면 비트맵, 넓으면 정렬된 배열
+     */
+    static final class LikedIds {
+        private static final LikedIds EMPTY = new LikedIds(0, new BitSet(), null);
+
+        private final long base;
+        private final BitSet bits;
+        private final long[] sorted;
+
+        private LikedIds(long base, BitSet bits, long[] sorted) {
+            this.base = base;
+            this.bits = bits;
+            this.sorted = sorted;
+        }
+
+        static LikedIds of(Collection<Long> promptIds) {
+            if (promptIds.isEmpty()) {
+                return EMPTY;
+            }
+            long[] ids = promptIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            long base = ids[0];
+            long span = ids[ids.length - 1] - base + 1;
+            // 비트맵(span 비트)이 배열(개수 * 64비트)보다 크면 배열로
+            if (span > (long) ids.length * Long.SIZE || span > Integer.MAX_VALUE) {
+                return new LikedIds(0, null, ids);
+            }
+            BitSet bits = new BitSet((int) span);
+            for (long id : ids) {
+                bits.set((int) (id - base));
+            }
+            return new LikedIds(base, bits, null);
+        }
+
+        boolean contains(Long promptId) {
+            if (promptId == null) {
+                return false;
+            }
+            if (sorted != null) {
+                return Arrays.binarySearch(sorted, promptId) >= 0;
+            }
+            long offset = promptId - base;
+            return offset >= 0 && offset < bits.length() && bits.get((int) offset);
+        }
+
+        LikedIds with(Long promptId) {
+            if (contains(promptId)) {
+                return this;
+            }
+            List<Long> ids = toList();
+            ids.add(promptId);
+            return of(ids);
+        }
+
+        LikedIds without(Long promptId) {
+            if (!contains(promptId)) {
+                return this;
+            }
+            List<Long> ids = toList();
+            ids.remove(promptId);
+            return of(ids);
+        }
+
+        private List<Long> toList() {
+            List<Long> ids = new ArrayList<>();
+            if (sorted != null) {
+                for (long id : sorted) {
+                    ids.add(id);
+                }
+            } else {
+                bits.stream().forEach(offset -> ids.add(base + offset));
+            }
+            return ids;
+        }
+    }
+}
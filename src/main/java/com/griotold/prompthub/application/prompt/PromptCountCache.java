@@ -0,0 +1,120 @@
+package com.griotold.prompthub.application.prompt;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 필터별 총 건수 캐시 (stale-while-revalidate)
+ * 목록 API는 기본적으로 COUNT 없이 Slice로 응답하고, 총 건수를 요청한 경우에만 이 캐시를 거친다.
+ * - 처음 요청된 필터는 동기로 COUNT 후 저장
+ * - ttl이 지난 값은 그대로 응답하고, 백그라운드 스레드 하나에서 필터당 한 번만 다시 센다
+ * - ttl이 0 이하면 캐시하지 않고 매번 COUNT (테스트용)
+ * - 필터 수가 max-entries를 넘으면 가장 오래 쓰이지 않은 필터부터 버린다
+ */
+@Slf4j
+@Component
+public class PromptCountCache {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final Executor refresher;
+    private final ExecutorService ownedRefresher;
+
+    private final Map<String, Entry> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public PromptCountCache(@Value("${app.count-cache.ttl-seconds:60}") long ttlSeconds,
+                            @Value("${app.count-cache.max-entries:10000}") int maxEntries) {
+        this(Clock.systemDefaultZone(), Duration.ofSeconds(ttlSeconds), maxEntries, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prompt-count-refresher");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    PromptCountCache(Clock clock, Duration ttl, int maxEntries, Executor refresher) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.refresher = refresher;
+        this.ownedRefresher = refresher instanceof ExecutorService executorService ? executorService : null;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param filterKey 필터를 구분하는 키 (예: "category:3")
+     * @param counter   실제 COUNT 쿼리
+     */
+    public long get(String filterKey, LongSupplier counter) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return counter.getAsLong();
+        }
+
+        Entry entry = entries.get(filterKey);
+        if (entry == null) {
+            long count = counter.getAsLong();
+            entries.put(filterKey, new Entry(count, clock.instant()));
+            return count;
+        }
+
+        if (entry.isExpired(clock.instant(), ttl) && refreshing.add(filterKey)) {
+            refreshAsync(filterKey, counter);
+        }
+        return entry.count();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownedRefresher != null) {
+            ownedRefresher.shutdownNow();
+        }
+    }
+
+    private void refreshAsync(String filterKey, LongSupplier counter) {
+        try {
+            refresher.execute(() -> {
+                try {
+                    entries.put(filterKey, new Entry(counter.getAsLong(), clock.instant()));
+                } catch (RuntimeException e) {
+                    log.warn("총 건수 갱신 실패 - 이전 값 유지. 필터: {}", filterKey, e);
+                } finally {
+                    refreshing.remove(filterKey);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(filterKey);
+            log.warn("총 건수 갱신 예약 실패 - 이전 값 유지. 필터: {}", filterKey, e);
+        }
+    }
+
+    private record Entry(long count, Instant countedAt) {
+        boolean isExpired(Instant now, Duration ttl) {
+            return !countedAt.plus(ttl).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.application.support.AfterCommit;
+import com.griotold.prompthub.domain.prompt.PromptDetail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 프롬프트 상세 스냅샷 캐시
+ * - 최대 max-entries개, 가장 오래 쓰이지 않은 항목부터 밀어낸다 (LRU)
+ * - 같은 ID의 동시 미스는 한 번만 DB에서 읽고 나머지는 그 결과를 기다린다 (single-flight)
+ * - 적재 중인 항목도 슬롯으로 맵에 들어 있고, 무효화는 슬롯을 맵에서 뺀다.
+ *   무효화 전에 시작된 적재가 늦게 끝나도 빠진 슬롯의 future만 채우므로 캐시에 다시 들어오지 않는다.
+ *   적재 실패도 자기 슬롯일 때만 뺀다 (remove(promptId, slot)). 그 사이 새로 적재 중인 슬롯은 건드리지 않는다
+ * - 변경은 커밋된 뒤에 무효화한다. 커밋 전에 무효화하면 그 사이 다른 요청이 옛 값을 다시 채울 수 있다
+ * - 조회수는 무효화하지 않고 DB에 반영한 증가분을 캐시된 스냅샷에 더한다
+ */
+@Component
+public class PromptDetailCache {
+
+    private final int maxEntries;
+
+    private final Map<Long, Slot> slots;
+    // 조회수 반영 순번. 적재를 마친 시점의 순번과 비교해 증가분이 이미 들어있는지 판단한다
+    private final AtomicLong viewUpdates = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PromptDetailCache(@Value("${app.prompt-detail-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.slots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Slot> eldest) {
+                if (size() > PromptDetailCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있으면 바로, 다른 요청이 읽는 중이면 그 결과를, 없으면 loader로 읽어서 반환
+     * loader가 던진 예외는 그대로 전파되고 캐시에 남지 않는다
+     */
+    public PromptDetail get(Long promptId, Function<Long, PromptDetail> loader) {
+        Slot slot;
+        boolean owner = false;
+        synchronized (slots) {
+            slot = slots.get(promptId);
+            if (slot == null) {
+                slot = new Slot(new CompletableFuture<>());
+                slots.put(promptId, slot);
+                owner = true;
+                misses.incrementAndGet();
+            } else if (slot.future().isDone()) {
+                hits.incrementAndGet();
+            } else {
+                coalesced.incrementAndGet();
+            }
+        }
+
+        if (owner) {
+            load(promptId, slot, loader);
+        }
+        return await(slot.future());
+    }
+
+    /** 즉시 무효화 (이미 커밋된 변경) */
+    public void invalidate(Long promptId) {
+        synchronized (slots) {
+            if (slots.remove(promptId) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /** 현재 트랜잭션이 커밋되면 무효화, 롤백되면 캐시는 그대로. 트랜잭션 밖이면 즉시 */
+    public void invalidateAfterCommit(Long promptId) {
+        AfterCommit.run(() -> invalidate(promptId));
+    }
+
+    /** 조회수 증가분을 DB에 쓰기 직전에 호출해 순번을 받는다 */
+    public long beginViewUpdate() {
+        return viewUpdates.incrementAndGet();
+    }
+
+    /**
+     * DB에 반영한 조회수 증가분을 캐시된 스냅샷에 더한다
+     * 순번을 받기 전에 적재를 마친 항목만 더하고, 그 뒤에 적재했거나 적재 중인 항목은 증가분이 이미 들어있을 수 있어 버린다
+     * @param updateSequence beginViewUpdate가 돌려준 순번
+     */
+    public void addViews(long updateSequence, Map<Long, Long> viewDeltas) {
+        synchronized (slots) {
+            viewDeltas.forEach((promptId, delta) -> {
+                Slot slot = slots.get(promptId);
+                if (slot == null) {
+                    return;
+                }
+                if (slot.loadedAt < updateSequence) {
+                    Slot patched = new Slot(CompletableFuture.completedFuture(slot.future().join().withViewsAdded(delta)));
+                    patched.loadedAt = slot.loadedAt;
+                    slots.put(promptId, patched);
+                } else {
+                    slots.remove(promptId);
+                    invalidations.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public Metrics metrics() {
+        int size;
+        synchronized (slots) {
+            size = slots.size();
+        }
+        return new Metrics(size, maxEntries, hits.get(), misses.get(), coalesced.get(), evictions.get(), invalidations.get());
+    }
+
+    private void load(Long promptId, Slot slot, Function<Long, PromptDetail> loader) {
+        try {
+            PromptDetail detail = loader.apply(promptId);
+            slot.loadedAt = viewUpdates.get();
+            slot.future().complete(detail);
+        } catch (RuntimeException | Error e) {
+            // 자기 슬롯일 때만 제거 (그 사이 무효화 후 새로 적재 중인 항목은 건드리지 않음)
+            synchronized (slots) {
+                slots.remove(promptId, slot);
+            }
+            slot.future().completeExceptionally(e);
+        }
+    }
+
+    private static PromptDetail await(CompletableFuture<PromptDetail> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Slot {
+        private final CompletableFuture<PromptDetail> future;
+        // 적재를 마친 시점의 조회수 반영 순번 (적재 중이거나 실패하면 최댓값)
+        private volatile long loadedAt = Long.MAX_VALUE;
+
+        private Slot(CompletableFuture<PromptDetail> future) {
+            this.future = future;
+        }
+
+        CompletableFuture<PromptDetail> future() {
+            return future;
+        }
+    }
+
+    /**
+     * @param size          현재 항목 수
+     * @param maxEntries    최대 항목 수
+     * @param hits          캐시 적중
+     * @param misses        미스 (DB 적재 횟수)
+     * @param coalesced     다른 요청의 적재를 기다려 함께 받은 횟수
+     * @param evictions     용량 초과로 밀려난 항목 수
+     * @param invalidations 변경으로 무효화된 항목 수
+     */
+    public record Metrics(int size, int maxEntries, long hits, long misses, long coalesced,
+                          long evictions, long invalidations) {
+    }
+}
@@ -2,20 +2,33 @@ package com.griotold.prompthub.application.prompt;
 
 import com.griotold.prompthub.application.prompt.provided.PromptFinder;
 import com.griotold.prompthub.application.prompt.provided.PromptRegister;
+import com.griotold.prompthub.application.prompt.provided.PromptTagRegister;
+import com.griotold.prompthub.application.prompt.required.DuplicatePromptIndex;
+import com.griotold.prompthub.application.prompt.required.PromptHotRanking;
 import com.griotold.prompthub.application.prompt.required.PromptLikeRepository;
 import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.application.prompt.required.PromptSearchIndex;
+import com.griotold.prompthub.application.prompt.required.PromptSimilarityIndex;
+import com.griotold.prompthub.application.support.AfterCommit;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.prompt.ContentFingerprint;
 import com.griotold.prompthub.domain.prompt.Prompt;
-import com.griotold.prompthub.domain.prompt.PromptLike;
 import com.griotold.prompthub.domain.prompt.PromptRegisterRequest;
 import com.griotold.prompthub.domain.prompt.PromptUpdateRequest;
 import com.griotold.prompthub.domain.review.Review;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -24,10 +37,23 @@ public class PromptModifyService implements PromptRegister {
     private final PromptRepository promptRepository;
     private final PromptFinder promptFinder;
     private final PromptLikeRepository promptLikeRepository;
+    private final PromptSearchIndex promptSearchIndex;
+    private final PromptSimilarityIndex promptSimilarityIndex;
+    private final DuplicatePromptIndex duplicatePromptIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PromptHotRanking promptHotRanking;
+    private final PromptDetailCache promptDetailCache;
+    private final LikedPromptCache likedPromptCache;
+    private final PromptTagRegister promptTagRegister;
 
     @Override
     public Prompt register(PromptRegisterRequest registerRequest, Member member, Category category) {
-        return promptRepository.save(Prompt.register(registerRequest, member, category));
+        Prompt prompt = promptRepository.save(Prompt.register(registerRequest, member, category));
+        AfterCommit.run(() -> promptSearchIndex.index(prompt));
+        AfterCommit.run(() -> promptSimilarityIndex.index(prompt));
+        applyFingerprint(prompt, null);
+        AfterCommit.run(() -> promptHotRanking.register(prompt));
+        return prompt;
     }
 
     // todo 변경 할 때, 카테고리 변경이랑 통합해야하는 것이 아닌가?
@@ -38,7 +64,12 @@ public class PromptModifyService implements PromptRegister {
     public Prompt updateInfo(Long promptId, PromptUpdateRequest request,  Member currentMember) {
         Prompt prompt = promptFinder.find(promptId);
         validateOwnership(prompt, currentMember);
+        ContentFingerprint previousFingerprint = prompt.getContentFingerprint();
         prompt.update(request);
+        AfterCommit.run(() -> promptSearchIndex.index(prompt));
+        AfterCommit.run(() -> promptSimilarityIndex.index(prompt));
+        applyFingerprint(prompt, previousFingerprint);
+        promptDetailCache.invalidateAfterCommit(promptId);
         return promptRepository.save(prompt);
     }
 
@@ -46,7 +77,19 @@ public class PromptModifyService implements PromptRegister {
     public Prompt makePublic(Long promptId, Member currentMember) {
         Prompt prompt = promptFinder.find(promptId);
         validateOwnership(prompt, currentMember);
+        boolean changed = !prompt.getIsPublic();
         prompt.makePublic();
+        if (changed) {
+            promptTagRegister.applyVisibility(prompt);
+        }
+        AfterCommit.run(() -> promptSearchIndex.index(prompt));
+        AfterCommit.run(() -> promptSimilarityIndex.index(prompt));
+        applyFingerprint(prompt, null);
+        if (changed) {
+            // 이미 공개면 랭킹의 최근 반응을 작성 시각으로 다시 계산하지 않도록 그대로 둔다
+            AfterCommit.run(() -> promptHotRanking.register(prompt));
+        }
+        promptDetailCache.invalidateAfterCommit(promptId);
         return promptRepository.save(prompt);
     }
 
@@ -54,64 +97,141 @@ public class PromptModifyService implements PromptRegister {
     public Prompt makePrivate(Long promptId, Member currentMember) {
         Prompt prompt = promptFinder.find(promptId);
         validateOwnership(prompt, currentMember);
+        boolean changed = prompt.getIsPublic();
         prompt.makePrivate();
+        if (changed) {
+            promptTagRegister.applyVisibility(prompt);
+        }
+        AfterCommit.run(() -> promptSearchIndex.remove(promptId));
+        AfterCommit.run(() -> promptSimilarityIndex.remove(promptId));
+        ContentFingerprint fingerprint = prompt.getContentFingerprint();
+        if (fingerprint != null) {
+            AfterCommit.run(() -> duplicatePromptIndex.remove(promptId, fingerprint));
+        }
+        AfterCommit.run(() -> promptHotRanking.remove(promptId));
+        promptDetailCache.invalidateAfterCommit(promptId);
         return promptRepository.save(prompt);
     }
 
+    /**
+     * 조회수는 버퍼에만 기록하고 DB 반영은 ViewCountBuffer가 모아서 처리
+     * DB에 접근하지 않으므로 트랜잭션도 열지 않는다
+     */
     @Override
-    public Prompt increaseViewCount(Long promptId) {
-        Prompt prompt = promptFinder.find(promptId);
-        prompt.increaseViewCount();
-        return promptRepository.save(prompt);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void increaseViewCount(Long promptId) {
+        viewCountBuffer.increment(promptId);
     }
 
     @Override
     public void addLike(Long promptId, Member member) {
-        Prompt prompt = promptFinder.find(promptId);
-
-        // 이미 좋아요한 경우 예외 처리
-        if (promptLikeRepository.existsByPromptAndMember(prompt, member)) {
-            throw new IllegalStateException("이미 좋아요한 프롬프트입니다.");
-        }
-
-        // 좋아요 추가 및 카운트 증가
-        promptLikeRepository.save(PromptLike.create(member, prompt));
-        prompt.increaseLikeCount();
-        promptRepository.save(prompt);
+        // 이미 좋아요한 경우 유니크 제약 위반으로 예외 처리
+        insertLike(promptId, member, "이미 좋아요한 프롬프트입니다.");
     }
 
     @Override
     public void removeLike(Long promptId, Member member) {
-        Prompt prompt = promptFinder.find(promptId);
-
         // 좋아요하지 않은 경우 예외 처리
-        if (!promptLikeRepository.existsByPromptAndMember(prompt, member)) {
+        if (!deleteLike(promptId, member)) {
             throw new IllegalStateException("좋아요하지 않은 프롬프트입니다.");
         }
+    }
 
-        // 좋아요 삭제 및 카운트 감소
-        promptLikeRepository.deleteByPromptAndMember(prompt, member);
-        prompt.decreaseLikeCount();
-        promptRepository.save(prompt);
+    @Override
+    public boolean toggleLike(Long promptId, Member member) {
+        if (deleteLike(promptId, member)) {
+            return false;
+        }
+        // 같은 회원의 토글이 동시에 들어와 둘 다 추가를 시도한 경우, 늦은 쪽은 롤백
+        insertLike(promptId, member, "좋아요 처리 중 다른 요청과 충돌했습니다. 다시 시도해주세요.");
+        return true;
     }
 
     @Override
     public void addReview(Prompt prompt, Review review) {
-        prompt.addRating(review);
-        promptRepository.save(prompt);
+        applyRating(prompt.getId(), review.getRating(), 0);
+        AfterCommit.run(() -> promptHotRanking.recordReview(prompt.getId(), review.getRating(), 1));
     }
 
     @Override
     public void updateReview(Prompt prompt, Integer oldRating, Integer newRating) {
-        prompt.removeRating(oldRating);
-        prompt.addRating(newRating);
-        promptRepository.save(prompt);
+        applyRating(prompt.getId(), newRating, oldRating);
+        AfterCommit.run(() -> {
+            promptHotRanking.recordReview(prompt.getId(), oldRating, -1);
+            promptHotRanking.recordReview(prompt.getId(), newRating, 1);
+        });
     }
 
     @Override
     public void removeReview(Prompt prompt, Review review) {
-        prompt.removeRating(review);
-        promptRepository.save(prompt);
+        applyRating(prompt.getId(), 0, review.getRating());
+        AfterCommit.run(() -> promptHotRanking.recordReview(prompt.getId(), review.getRating(), -1));
+    }
+
+    /**
+     * 총점, 리뷰 수, 별점별 리뷰 수를 UPDATE 한 번으로 반영 (엔티티를 읽어 통째로 저장하지 않으므로 동시 리뷰에도 유실 없음)
+     * 반영된 평점을 다시 읽어 검색 가중치를 맞춘다
+     */
+    private void applyRating(Long promptId, int added, int removed) {
+        if (promptRepository.applyRating(promptId, added, removed) == 0) {
+            throw new IllegalStateException("평점을 반영할 수 없습니다. 프롬프트가 없거나 삭제할 리뷰가 없습니다. id: " + promptId);
+        }
+        promptRepository.findRatingById(promptId)
+                .ifPresent(rating -> AfterCommit.run(() -> promptSearchIndex.updateRating(promptId, rating.getAverage())));
+        promptDetailCache.invalidateAfterCommit(promptId);
+    }
+
+    /**
+     * 공개 프롬프트의 본문 지문을 커밋된 뒤 중복 인덱스에 반영하고, 유사 중복이 있으면 로그로 남긴다
+     * 등록을 막지는 않는다. 묶음은 관리자 API에서 확인한다
+     */
+    private void applyFingerprint(Prompt prompt, @Nullable ContentFingerprint previous) {
+        Long promptId = prompt.getId();
+        ContentFingerprint fingerprint = prompt.getIsPublic() ? prompt.getContentFingerprint() : null;
+        AfterCommit.run(() -> {
+            if (previous != null) {
+                duplicatePromptIndex.remove(promptId, previous);
+            }
+            if (fingerprint == null) {
+                return;
+            }
+            List<Long> duplicates = duplicatePromptIndex.findNearDuplicates(fingerprint, promptId);
+            if (!duplicates.isEmpty()) {
+                log.warn("유사 중복 프롬프트 감지. ID: {}, 비슷한 프롬프트: {}건 {}", promptId, duplicates.size(),
+                        duplicates.subList(0, Math.min(duplicates.size(), 10)));
+            }
+            duplicatePromptIndex.add(promptId, fingerprint);
+        });
+    }
+
+    /**
+     * 카운트를 먼저 올려 프롬프트 존재를 확인하고 행 잠금을 잡은 뒤 좋아요 행을 추가
+     */
+    private void insertLike(Long promptId, Member member, String duplicateMessage) {
+        if (promptRepository.increaseLikesCount(promptId) == 0) {
+            throw new IllegalArgumentException("프롬프트를 찾을 수 없습니다. id: " + promptId);
+        }
+        try {
+            promptLikeRepository.insertLike(promptId, member.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException(duplicateMessage, e);
+        }
+        AfterCommit.run(() -> promptSearchIndex.adjustLikes(promptId, 1));
+        AfterCommit.run(() -> promptHotRanking.recordLike(promptId, 1));
+        promptDetailCache.invalidateAfterCommit(promptId);
+        likedPromptCache.updateAfterCommit(member.getId(), promptId, true);
+    }
+
+    private boolean deleteLike(Long promptId, Member member) {
+        if (promptLikeRepository.deleteByPromptIdAndMemberId(promptId, member.getId()) == 0) {
+            return false;
+        }
+        promptRepository.decreaseLikesCount(promptId);
+        AfterCommit.run(() -> promptSearchIndex.adjustLikes(promptId, -1));
+        AfterCommit.run(() -> promptHotRanking.recordLike(promptId, -1));
+        promptDetailCache.invalidateAfterCommit(promptId);
+        likedPromptCache.updateAfterCommit(member.getId(), promptId, false);
+        return true;
     }
 
     private void validateOwnership(Prompt prompt, Member currentMember) {
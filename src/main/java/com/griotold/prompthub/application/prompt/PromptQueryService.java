@@ -1,24 +1,69 @@
 package com.griotold.prompthub.application.prompt;
 
 import com.griotold.prompthub.application.prompt.provided.PromptFinder;
+import com.griotold.prompthub.application.prompt.required.DuplicatePromptIndex;
+import com.griotold.prompthub.application.prompt.required.PromptHotRanking;
 import com.griotold.prompthub.application.prompt.required.PromptLikeRepository;
 import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.application.prompt.required.PromptSearchIndex;
+import com.griotold.prompthub.application.prompt.required.PromptSimilarityIndex;
+import com.griotold.prompthub.application.prompt.required.PromptTagIndex;
+import com.griotold.prompthub.application.prompt.required.RelatedPromptIndex;
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
+import com.griotold.prompthub.application.tag.provided.TagFinder;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDetail;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
+import com.griotold.prompthub.domain.tag.TagNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PromptQueryService implements PromptFinder {
 
+    static final int MAX_RELATED_SIZE = 50;
+    static final int MAX_DUPLICATE_CLUSTERS = 100;
+
+    // 비슷한 프롬프트가 모자랄 때 채우는 데 쓸 동시 출현 태그 수
+    private static final int RELATED_FALLBACK_TAGS = 3;
+
     private final PromptRepository promptRepository;
     private final PromptLikeRepository  promptLikeRepository;
+    private final PromptSearchIndex promptSearchIndex;
+    private final PromptTagIndex promptTagIndex;
+    private final PromptSimilarityIndex promptSimilarityIndex;
+    private final DuplicatePromptIndex duplicatePromptIndex;
+    private final RelatedPromptIndex relatedPromptIndex;
+    private final TagFinder tagFinder;
+    private final PromptHotRanking promptHotRanking;
+    private final PromptCountCache promptCountCache;
+    private final PromptDetailCache promptDetailCache;
+    private final LikedPromptCache likedPromptCache;
 
 
     @Override
@@ -28,60 +73,280 @@ public class PromptQueryService implements PromptFinder {
     }
 
     /**
-     * 공개 프롬프트 조회 (메인 페이지)
+     * 상세 스냅샷 조회
+     * 캐시 적중이면 트랜잭션도 열지 않는다 (SUPPORTS). 미스면 fetch join 한 번으로 적재
+     * 쓰기 트랜잭션 안에서는 커밋 전 변경이 보여야 하므로 캐시를 거치지 않는다
      * */
     @Override
-    public Page<Prompt> findAllPublic(Pageable pageable) {
-        return promptRepository.findAllPublic(pageable);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PromptDetail findDetail(Long promptId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PromptDetail.of(find(promptId));
+        }
+        return promptDetailCache.get(promptId, id -> PromptDetail.of(find(id)));
     }
 
     /**
-     * 카테고리별 조회
+     * 특정 프롬프트에 대한 사용자의 좋아요 여부 확인
+     * 프론트에서 UI 표시를 위해. 프롬프트를 다시 읽지 않고 좋아요 테이블만 확인
      * */
     @Override
-    public Page<Prompt> findAllPublicByCategory(Category category, Pageable pageable) {
-        return promptRepository.findAllPublicByCategory(category, pageable);
+    public boolean isLikedBy(Long promptId, Member member) {
+        return promptLikeRepository.existsByPromptIdAndMemberId(promptId, member.getId());
     }
 
     /**
-     * 자신의 프롬프트 조회
+     * 목록 한 페이지의 좋아요 여부 일괄 확인
+     * 회원별 좋아요 캐시를 쓰고, 캐시가 꺼져 있거나 쓰기 트랜잭션 안이면 IN 쿼리 한 번
      * */
     @Override
-    public Page<Prompt> findAllByMember(Member member, Pageable pageable) {
-        return promptRepository.findAllByMember(member, pageable);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Set<Long> likedAmong(Member member, Collection<Long> promptIds) {
+        if (promptIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!likedPromptCache.isEnabled()
+                || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return Set.copyOf(promptLikeRepository.findLikedPromptIds(member.getId(), promptIds));
+        }
+        return likedPromptCache.likedAmong(member.getId(), promptIds, promptLikeRepository::findPromptIdsByMemberId);
     }
 
     /**
-     * 검색 - 타이틀 키워드, 내용 키워드
+     * 공개 프롬프트 목록 (요약)
      * */
     @Override
-    public Page<Prompt> searchPublic(String keyword, Pageable pageable) {
-        return promptRepository.searchPublic(keyword, pageable);
+    public Slice<PromptSummary> findPublicSummaries(Pageable pageable) {
+        return promptRepository.findSummariesPublic(pageable);
     }
 
     /**
-     * 인기 프롬프트
+     * 카테고리별 목록 (요약)
      * */
     @Override
-    public Page<Prompt> findPopular(Pageable pageable) {
-        return promptRepository.findPopular(pageable);
+    public Slice<PromptSummary> findPublicSummariesByCategory(Category category, Pageable pageable) {
+        return promptRepository.findSummariesPublicByCategory(category, pageable);
     }
 
     /**
-     * 특정 프롬프트에 대한 사용자의 좋아요 여부 확인
-     * 프론트에서 UI 표시를 위해
+     * 자신의 프롬프트 목록 (요약)
      * */
     @Override
-    public boolean isLikedBy(Long promptId, Member member) {
-        Prompt prompt = find(promptId);
-        return promptLikeRepository.existsByPromptAndMember(prompt, member);
+    public Slice<PromptSummary> findSummariesByMember(Member member, Pageable pageable) {
+        return promptRepository.findSummariesByMember(member, pageable);
+    }
+
+    /**
+     * 공개 프롬프트 키셋 조회 (요약)
+     * */
+    @Override
+    public CursorSlice<PromptSummary> findPublicSummaries(@Nullable Cursor cursor, int size) {
+        CursorSlice.validateSize(size);
+        List<PromptSummary> fetched = cursor == null
+                ? promptRepository.findSummariesPublicFirst(Limit.of(size + 1))
+                : promptRepository.findSummariesPublicAfter(cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorSlice.of(fetched, size, PromptQueryService::cursorOf);
+    }
+
+    /**
+     * 카테고리별 키셋 조회 (요약)
+     * */
+    @Override
+    public CursorSlice<PromptSummary> findPublicSummariesByCategory(Category category, @Nullable Cursor cursor, int size) {
+        CursorSlice.validateSize(size);
+        List<PromptSummary> fetched = cursor == null
+                ? promptRepository.findSummariesPublicByCategoryFirst(category, Limit.of(size + 1))
+                : promptRepository.findSummariesPublicByCategoryAfter(category, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorSlice.of(fetched, size, PromptQueryService::cursorOf);
+    }
+
+    /**
+     * 자신의 프롬프트 키셋 조회 (요약)
+     * */
+    @Override
+    public CursorSlice<PromptSummary> findSummariesByMember(Member member, @Nullable Cursor cursor, int size) {
+        CursorSlice.validateSize(size);
+        List<PromptSummary> fetched = cursor == null
+                ? promptRepository.findSummariesByMemberFirst(member, Limit.of(size + 1))
+                : promptRepository.findSummariesByMemberAfter(member, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorSlice.of(fetched, size, PromptQueryService::cursorOf);
+    }
+
+    /**
+     * 검색 (요약) - 타이틀 키워드, 내용 키워드
+     * 역색인에서 BM25 순으로 ID를 받고, DB에서는 PK로만 조회한다 (LIKE 풀스캔 없음)
+     * 인덱스 반영이 늦은 프롬프트는 DB 조회에서 걸러진다
+     * */
+    @Override
+    public Page<PromptSummary> searchPublicSummaries(String keyword, Pageable pageable) {
+        PromptSearchIndex.Hits hits = promptSearchIndex.search(keyword, offsetOf(pageable), pageable.getPageSize());
+        List<PromptSummary> summaries = findAllPublicInOrder(hits.promptIds(), promptRepository::findSummariesPublicByIdIn, PromptSummary::id);
+        return new PageImpl<>(summaries, pageable, hits.totalHits());
+    }
+
+    /**
+     * 태그 교집합 (요약)
+     * */
+    @Override
+    public Page<PromptSummary> findPublicSummariesByTags(List<String> tagNames, Pageable pageable) {
+        TagNames names = TagNames.ofDistinct(tagNames);
+        if (names.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<Long> tagIds = tagFinder.findIdsByNames(names);
+        if (tagIds.size() < names.keys().size()) {
+            return Page.empty(pageable);
+        }
+        PromptTagIndex.Hits hits = promptTagIndex.findByAllTags(tagIds, offsetOf(pageable), pageable.getPageSize());
+        List<PromptSummary> summaries = findAllPublicInOrder(hits.promptIds(), promptRepository::findSummariesPublicByIdIn, PromptSummary::id);
+        return new PageImpl<>(summaries, pageable, hits.totalHits());
+    }
+
+    /**
+     * 인기 프롬프트 (요약)
+     * */
+    @Override
+    public Page<PromptSummary> findPopularSummaries(Pageable pageable) {
+        return findHot(null, pageable, promptRepository::findSummariesPublicByIdIn, PromptSummary::id);
+    }
+
+    /**
+     * 관련 프롬프트 (요약)
+     * */
+    @Override
+    public List<PromptSummary> findRelatedSummaries(Long promptId, int limit) {
+        if (limit < 1 || limit > MAX_RELATED_SIZE) {
+            throw new IllegalArgumentException("조회할 관련 프롬프트 수는 1~" + MAX_RELATED_SIZE + " 사이여야 합니다.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(relatedPromptIndex.findSimilar(promptId, limit));
+        for (Long tagId : relatedPromptIndex.findCooccurringTags(promptId, RELATED_FALLBACK_TAGS)) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            promptTagIndex.findByAllTags(List.of(tagId), 0, limit + 1).promptIds().stream()
+                    .filter(id -> !id.equals(promptId))
+                    .forEach(ids::add);
+        }
+        List<Long> related = ids.stream().limit(limit).toList();
+        return findAllPublicInOrder(related, promptRepository::findSummariesPublicByIdIn, PromptSummary::id);
+    }
+
+    /**
+     * 내용이 비슷한 프롬프트 (요약)
+     * */
+    @Override
+    public List<PromptSummary> findSimilarSummaries(Long promptId, int limit) {
+        if (limit < 1 || limit > MAX_RELATED_SIZE) {
+            throw new IllegalArgumentException("조회할 비슷한 프롬프트 수는 1~" + MAX_RELATED_SIZE + " 사이여야 합니다.");
+        }
+        List<Long> similar = promptSimilarityIndex.findSimilar(promptId, limit);
+        return findAllPublicInOrder(similar, promptRepository::findSummariesPublicByIdIn, PromptSummary::id);
+    }
+
+    /**
+     * 유사 중복 묶음 (요약)
+     * */
+    @Override
+    public List<List<PromptSummary>> findDuplicateClusters(int limit) {
+        if (limit < 1 || limit > MAX_DUPLICATE_CLUSTERS) {
+            throw new IllegalArgumentException("조회할 중복 묶음 수는 1~" + MAX_DUPLICATE_CLUSTERS + " 사이여야 합니다.");
+        }
+        List<List<Long>> clusters = duplicatePromptIndex.findClusters(limit);
+        if (clusters.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PromptSummary> summaries = promptRepository.findSummariesPublicByIdIn(clusters.stream().flatMap(List::stream).toList())
+                .stream()
+                .collect(Collectors.toMap(PromptSummary::id, Function.identity()));
+        return clusters.stream()
+                .map(cluster -> cluster.stream().map(summaries::get).filter(Objects::nonNull).toList())
+                .filter(cluster -> cluster.size() > 1)
+                .toList();
+    }
+
+    /**
+     * 카테고리별 인기 프롬프트 (요약)
+     * */
+    @Override
+    public Page<PromptSummary> findPopularSummariesByCategory(Category category, Pageable pageable) {
+        return findHot(category.getId(), pageable, promptRepository::findSummariesPublicByIdIn, PromptSummary::id);
     }
 
     /**
-     * 사용자가 좋아요한 프롬프트 목록
+     * 사용자가 좋아요한 프롬프트 목록 (요약)
      * */
     @Override
-    public Page<Prompt> findLikedByMember(Member member, Pageable pageable) {
-        return promptRepository.findLikedByMember(member, pageable);
+    public Slice<PromptSummary> findLikedSummariesByMember(Member member, Pageable pageable) {
+        return promptRepository.findLikedSummariesByMember(member, pageable);
+    }
+
+    /**
+     * 공개 프롬프트 총 건수 (캐시)
+     * */
+    @Override
+    public long countPublic() {
+        return promptCountCache.get("public", promptRepository::countPublic);
+    }
+
+    /**
+     * 카테고리별 총 건수 (캐시)
+     * */
+    @Override
+    public long countPublicByCategory(Category category) {
+        return promptCountCache.get("category:" + category.getId(), () -> promptRepository.countPublicByCategory(category));
+    }
+
+    /**
+     * 자신의 프롬프트 총 건수 (캐시)
+     * */
+    @Override
+    public long countByMember(Member member) {
+        return promptCountCache.get("member:" + member.getId(), () -> promptRepository.countByMember(member));
+    }
+
+    /**
+     * 좋아요한 프롬프트 총 건수 (캐시)
+     * */
+    @Override
+    public long countLikedByMember(Member member) {
+        return promptCountCache.get("liked:" + member.getId(), () -> promptRepository.countLikedByMember(member));
+    }
+
+    /**
+     * 랭킹에서 ID를 받아 PK로만 조회 (정렬 스캔 없음)
+     * 랭킹은 커밋 후에 갱신되므로 방금 비공개/삭제된 프롬프트가 잠깐 남아 있을 수 있다.
+     * 조회에서는 랭킹을 바꾸지 않고 DB에 없는 ID만 결과에서 뺀다
+     */
+    private <T> Page<T> findHot(@Nullable Long categoryId, Pageable pageable,
+                                Function<List<Long>, List<T>> loader, Function<T, Long> idExtractor) {
+        List<Long> ids = promptHotRanking.topIds(categoryId, offsetOf(pageable), pageable.getPageSize());
+        List<T> found = findAllPublicInOrder(ids, loader, idExtractor);
+        return new PageImpl<>(found, pageable, promptHotRanking.size(categoryId));
+    }
+
+    // 메모리 인덱스는 int 위치를 쓴다. int 범위를 넘는 offset은 어떤 인덱스 크기보다 크므로 빈 페이지가 된다
+    private static int offsetOf(Pageable pageable) {
+        return (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    }
+
+    // 랭킹된 ID 순서를 유지해서 공개 프롬프트 조회
+    private static <T> List<T> findAllPublicInOrder(List<Long> ids, Function<List<Long>, List<T>> loader,
+                                                    Function<T, Long> idExtractor) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> rankById = new HashMap<>();
+        for (int rank = 0; rank < ids.size(); rank++) {
+            rankById.put(ids.get(rank), rank);
+        }
+        return loader.apply(ids).stream()
+                .sorted(Comparator.comparing(found -> rankById.get(idExtractor.apply(found))))
+                .toList();
+    }
+
+    private static Cursor cursorOf(PromptSummary summary) {
+        return new Cursor(summary.createdAt(), summary.id());
     }
 }
@@ -1,19 +1,29 @@
 package com.griotold.prompthub.application.prompt;
 
 import com.griotold.prompthub.application.prompt.provided.PromptTagRegister;
+import com.griotold.prompthub.application.prompt.required.PromptTagIndex;
 import com.griotold.prompthub.application.prompt.required.PromptTagRepository;
+import com.griotold.prompthub.application.prompt.required.RelatedPromptIndex;
+import com.griotold.prompthub.application.support.AfterCommit;
 import com.griotold.prompthub.application.tag.provided.TagRegister;
 import com.griotold.prompthub.domain.prompt.Prompt;
-import com.griotold.prompthub.domain.prompt.PromptTag;
 import com.griotold.prompthub.domain.tag.TagNames;
-import com.griotold.prompthub.domain.tag.Tags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 프롬프트-태그 연결은 현재 태그 ID를 한 번 읽어 추가/삭제 집합만 반영한다.
+ * 태그 수와 관계없이 조회 1번 + INSERT 1번 + DELETE 1번 (바뀐 게 없으면 조회만)
+ * 공개 프롬프트면 추가/삭제된 태그의 사용 수도 UPDATE 한 번씩으로 증감하고 태그 인덱스, 관련 프롬프트 인덱스에 반영한다.
+ * 두 인덱스는 커밋된 뒤에만 바꾼다 - 롤백된 연결이 태그 검색, 관련 프롬프트에 남지 않도록
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,6 +32,8 @@ public class PromptTagModifyService implements PromptTagRegister {
 
     private final PromptTagRepository promptTagRepository;
     private final TagRegister tagRegister;
+    private final PromptTagIndex promptTagIndex;
+    private final RelatedPromptIndex relatedPromptIndex;
 
     @Override
     public void linkTagsByNames(Prompt prompt, List<String> tagNameList) {
@@ -29,37 +41,104 @@ public class PromptTagModifyService implements PromptTagRegister {
             return;
         }
 
-        // List<String> -> TagNames 변환 (내부에서 처리)
-        TagNames tagNames = TagNames.of(tagNameList);
+        Set<Long> tagIds = ensureTagIds(tagNameList);
+        Set<Long> currentTagIds = currentTagIds(prompt);
 
-        // 태그들 존재 확인 및 자동 생성
-         Tags tags = tagRegister.ensureTags(tagNames);
-
-        // 프롬프트-태그 연결 생성 및 저장
-        List<PromptTag> promptTags = tags.createLinksTo(prompt);
-        List<PromptTag> newPromptTags = filterNewLinks(promptTags, prompt);
-
-        promptTagRepository.saveAll(newPromptTags);
+        // 이미 연결된 태그는 제외하고 추가
+        Set<Long> added = difference(tagIds, currentTagIds);
+        insertLinks(prompt, added);
+        addUsage(prompt, added, 1);
     }
 
     @Override
     public void updateTagsByNames(Prompt prompt, List<String> tagNameList) {
-        unlinkAllTags(prompt);
-        linkTagsByNames(prompt, tagNameList);
+        Set<Long> tagIds = (tagNameList == null || tagNameList.isEmpty()) ? Set.of() : ensureTagIds(tagNameList);
+        Set<Long> currentTagIds = currentTagIds(prompt);
+
+        // 그대로 유지되는 연결은 건드리지 않는다
+        Set<Long> added = difference(tagIds, currentTagIds);
+        Set<Long> removed = difference(currentTagIds, tagIds);
+        insertLinks(prompt, added);
+        deleteLinks(prompt, removed);
+        addUsage(prompt, added, 1);
+        addUsage(prompt, removed, -1);
     }
 
     @Override
     public void unlinkAllTags(Prompt prompt) {
-        promptTagRepository.deleteByPrompt(prompt);
+        Set<Long> currentTagIds = prompt.getIsPublic() ? currentTagIds(prompt) : Set.of();
+        promptTagRepository.deleteAllLinks(prompt.getId());
+        addUsage(prompt, currentTagIds, -1);
+    }
+
+    @Override
+    public void applyVisibility(Prompt prompt) {
+        Set<Long> currentTagIds = currentTagIds(prompt);
+        tagRegister.addUsage(currentTagIds, prompt.getIsPublic() ? 1 : -1);
+        if (prompt.getIsPublic()) {
+            addToIndexes(prompt, currentTagIds);
+        } else {
+            Long promptId = prompt.getId();
+            AfterCommit.run(() -> {
+                promptTagIndex.removePrompt(promptId);
+                relatedPromptIndex.removePrompt(promptId);
+            });
+        }
+    }
+
+    private Set<Long> ensureTagIds(List<String> tagNameList) {
+        // 태그들 존재 확인 및 자동 생성
+        return new LinkedHashSet<>(tagRegister.ensureTagIds(TagNames.of(tagNameList)));
     }
 
-    /**
-     * 이미 연결된 태그는 제외하고 새로 연결할 PromptTag만 반환
-     */
-    private List<PromptTag> filterNewLinks(List<PromptTag> promptTags, Prompt prompt) {
-        return promptTags.stream()
-                .filter(pt -> !promptTagRepository.existsByPromptAndTag(prompt, pt.getTag()))
-                .toList();
+    private Set<Long> currentTagIds(Prompt prompt) {
+        return new HashSet<>(promptTagRepository.findTagIdsByPromptId(prompt.getId()));
+    }
+
+    private void insertLinks(Prompt prompt, Set<Long> tagIds) {
+        if (!tagIds.isEmpty()) {
+            promptTagRepository.insertLinks(prompt.getId(), tagIds);
+        }
     }
 
+    private void deleteLinks(Prompt prompt, Set<Long> tagIds) {
+        if (!tagIds.isEmpty()) {
+            promptTagRepository.deleteLinks(prompt.getId(), tagIds);
+        }
+    }
+
+    // 비공개 프롬프트의 태그는 사용 수와 인덱스에 넣지 않는다
+    private void addUsage(Prompt prompt, Set<Long> tagIds, int delta) {
+        if (!prompt.getIsPublic()) {
+            return;
+        }
+        tagRegister.addUsage(tagIds, delta);
+        if (delta > 0) {
+            addToIndexes(prompt, tagIds);
+        } else {
+            removeFromIndexes(prompt, tagIds);
+        }
+    }
+
+    private void addToIndexes(Prompt prompt, Set<Long> tagIds) {
+        Long promptId = prompt.getId();
+        AfterCommit.run(() -> {
+            promptTagIndex.add(promptId, tagIds);
+            relatedPromptIndex.add(promptId, tagIds);
+        });
+    }
+
+    private void removeFromIndexes(Prompt prompt, Set<Long> tagIds) {
+        Long promptId = prompt.getId();
+        AfterCommit.run(() -> {
+            promptTagIndex.remove(promptId, tagIds);
+            relatedPromptIndex.remove(promptId, tagIds);
+        });
+    }
+
+    private static Set<Long> difference(Set<Long> from, Set<Long> exclude) {
+        Set<Long> result = new LinkedHashSet<>(from);
+        result.removeAll(exclude);
+        return result;
+    }
 }
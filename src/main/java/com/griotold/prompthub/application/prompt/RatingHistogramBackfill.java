@@ -0,0 +1,30 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 별점별 리뷰 수 컬럼이 생기기 전에 작성된 리뷰를 반영
+ * 별점별 합계가 리뷰 수와 다른 프롬프트만 p_review에서 다시 센다. 이미 맞으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingHistogramBackfill {
+
+    private final PromptRepository promptRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = promptRepository.backfillRatingHistograms();
+        if (updated > 0) {
+            log.info("별점별 리뷰 수 보정 완료 - 프롬프트 {}건", updated);
+        }
+    }
+}
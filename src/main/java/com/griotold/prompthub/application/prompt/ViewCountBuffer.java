@@ -0,0 +1,231 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.application.prompt.required.PromptHotRanking;
+import com.griotold.prompthub.application.prompt.required.PromptViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 write-behind 버퍼
+ * 상세 조회마다 행을 갱신하지 않고 프롬프트별 LongAdder에 모았다가
+ * 주기적으로 UPDATE ... SET views_count = views_count + ? 배치 한 번으로 반영한다.
+ * - 조회는 LongAdder를 꺼내 더하기만 한다 (같은 프롬프트를 동시에 조회해도 맵 잠금을 잡지 않는다)
+ * - 반영할 때는 LongAdder를 떼어내 닫은 뒤 거둔다. 닫힌 LongAdder에 늦게 더한 조회는 스스로 거둬 새 LongAdder로 옮긴다
+ * - 버퍼의 키 수가 max-buffered-keys에 도달하면 요청 스레드 대신 반영 스레드에서 바로 반영
+ * - DB 반영 실패 시에만 증가분을 버퍼로 되돌려 다음 주기에 재시도 (랭킹/캐시 실패는 DB에 다시 쓰지 않는다)
+ * - 종료 시 남은 증가분 반영 (flush-on-shutdown)
+ * - 반영한 증가분은 hot 랭킹에도 한 번에 전달하고, 상세 캐시는 무효화하지 않고 조회수만 더한다
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final PromptViewCountRepository promptViewCountRepository;
+    private final PromptHotRanking promptHotRanking;
+    private final PromptDetailCache promptDetailCache;
+    private final int maxBufferedKeys;
+    private final boolean flushOnShutdown;
+
+    private final Executor flusher;
+    private final ExecutorService ownedFlusher;
+
+    private final ConcurrentHashMap<Long, Counter> buffer = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+
+    @Autowired
+    public ViewCountBuffer(PromptViewCountRepository promptViewCountRepository,
+                           PromptHotRanking promptHotRanking,
+                           PromptDetailCache promptDetailCache,
+                           @Value("${app.view-count.max-buffered-keys:10000}") int maxBufferedKeys,
+                           @Value("${app.view-count.flush-on-shutdown:true}") boolean flushOnShutdown) {
+        this(promptViewCountRepository, promptHotRanking, promptDetailCache, maxBufferedKeys, flushOnShutdown,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "view-count-flusher");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ViewCountBuffer(PromptViewCountRepository promptViewCountRepository,
+                    PromptHotRanking promptHotRanking,
+                    PromptDetailCache promptDetailCache,
+                    int maxBufferedKeys,
+                    boolean flushOnShutdown,
+                    Executor flusher) {
+        this.promptViewCountRepository = promptViewCountRepository;
+        this.promptHotRanking = promptHotRanking;
+        this.promptDetailCache = promptDetailCache;
+        this.maxBufferedKeys = maxBufferedKeys;
+        this.flushOnShutdown = flushOnShutdown;
+        this.flusher = flusher;
+        this.ownedFlusher = flusher instanceof ExecutorService executorService ? executorService : null;
+    }
+
+    public void increment(Long promptId) {
+        add(promptId, 1);
+
+        if (buffer.size() >= maxBufferedKeys) {
+            requestFlush();
+        }
+    }
+
+    /** 아직 DB에 반영되지 않은 조회수 */
+    public long pending(Long promptId) {
+        Counter counter = buffer.get(promptId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}",
+            initialDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownedFlusher != null) {
+            ownedFlusher.shutdownNow();
+        }
+        if (!flushOnShutdown) {
+            log.info("조회수 버퍼 종료 - 반영하지 않은 프롬프트 {}건 폐기", buffer.size());
+            return;
+        }
+        flush();
+        log.info("조회수 버퍼 종료 - 남은 증가분 반영 완료");
+    }
+
+    public Metrics metrics() {
+        long pendingViews = buffer.values().stream().mapToLong(LongAdder::sum).sum();
+        return new Metrics(buffer.size(), pendingViews, flushCount.get(), flushedViews.get(),
+                failedFlushCount.get(), lastFlushMillis.get());
+    }
+
+    // 요청 스레드에서는 DB에 쓰지 않고 반영 스레드에 한 번만 맡긴다
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 다음 주기나 종료 시 반영에 맡긴다
+            flushRequested.set(false);
+        }
+    }
+
+    // flushLock 안에서 호출
+    private void drainAndWrite() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long updateSequence = promptDetailCache.beginViewUpdate();
+        try {
+            promptViewCountRepository.increaseViewCounts(deltas);
+        } catch (RuntimeException e) {
+            failedFlushCount.incrementAndGet();
+            deltas.forEach(this::add);
+            log.error("조회수 반영 실패 - 다음 주기에 재시도. 프롬프트 {}건", deltas.size(), e);
+            return;
+        } finally {
+            lastFlushMillis.set(System.currentTimeMillis() - startedAt);
+        }
+        flushCount.incrementAndGet();
+        flushedViews.addAndGet(deltas.values().stream().mapToLong(Long::longValue).sum());
+        log.debug("조회수 반영 - 프롬프트 {}건", deltas.size());
+
+        // DB에는 이미 반영됐으므로 여기서 실패해도 증가분을 되돌리지 않는다
+        try {
+            promptHotRanking.recordViews(deltas);
+        } catch (RuntimeException e) {
+            log.error("조회수 랭킹 반영 실패. 프롬프트 {}건", deltas.size(), e);
+        }
+        try {
+            promptDetailCache.addViews(updateSequence, deltas);
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 후 상세 캐시 갱신 실패. 프롬프트 {}건", deltas.size(), e);
+        }
+    }
+
+    /**
+     * 버퍼의 LongAdder를 떼어내 닫고 증가분을 거둔다
+     * 닫은 뒤에 더해진 조회는 더한 쪽이 닫힌 것을 보고 직접 거두므로, sumThenReset으로 나눠 가져가 중복도 유실도 없다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long promptId : buffer.keySet()) {
+            Counter counter = buffer.remove(promptId);
+            if (counter == null) {
+                continue;
+            }
+            counter.closed = true;
+            long delta = counter.sumThenReset();
+            if (delta > 0) {
+                deltas.merge(promptId, delta, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    // 반영이 이미 떼어낸 LongAdder에 더했으면 거둬서 새 LongAdder로 옮긴다
+    private void add(Long promptId, long delta) {
+        long remaining = delta;
+        while (remaining > 0) {
+            Counter counter = buffer.computeIfAbsent(promptId, id -> new Counter());
+            counter.add(remaining);
+            if (!counter.closed) {
+                return;
+            }
+            remaining = counter.sumThenReset();
+        }
+    }
+
+    // 반영이 떼어낸 뒤 닫힌 LongAdder
+    private static final class Counter extends LongAdder {
+        volatile boolean closed;
+    }
+
+    /**
+     * @param bufferedKeys     반영 대기 중인 프롬프트 수
+     * @param pendingViews     반영 대기 중인 조회수 합계
+     * @param flushCount       성공한 반영 횟수
+     * @param flushedViews     지금까지 반영한 조회수 합계
+     * @param failedFlushCount 실패한 반영 횟수
+     * @param lastFlushMillis  마지막 반영 소요 시간(ms)
+     */
+    public record Metrics(int bufferedKeys, long pendingViews, long flushCount, long flushedViews,
+                          long failedFlushCount, long lastFlushMillis) {
+    }
+}
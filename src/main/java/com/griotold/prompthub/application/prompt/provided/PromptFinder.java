@@ -1,26 +1,93 @@
 package com.griotold.prompthub.application.prompt.provided;
 
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDetail;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface PromptFinder {
     /** ID로 단건 조회(없으면 예외) */
     Prompt find(Long promptId);
 
-    Page<Prompt> findAllPublic(Pageable pageable);
+    /** 상세 화면용 스냅샷 조회(없으면 예외) - 캐시에서 제공, 변경은 커밋 후 반영 */
+    PromptDetail findDetail(Long promptId);
 
-    Page<Prompt> findAllPublicByCategory(Category category, Pageable pageable);
+    boolean isLikedBy(Long promptId, Member member);
 
-    Page<Prompt> findAllByMember(Member member, Pageable pageable);
+    /** promptIds 중 회원이 좋아요한 ID (목록 한 페이지를 한 번에 확인) */
+    Set<Long> likedAmong(Member member, Collection<Long> promptIds);
 
-    Page<Prompt> searchPublic(String keyword, Pageable pageable);
+    /*
+     * 목록 화면용 요약 조회
+     * 엔티티 대신 목록 컬럼만 PromptSummary로 읽는다 (content 미조회, 영속성 컨텍스트 미사용)
+     * 페이지 조회는 COUNT 없는 Slice, 총 건수가 필요하면 count* 메서드를 따로 호출
+     */
+    Slice<PromptSummary> findPublicSummaries(Pageable pageable);
 
-    Page<Prompt> findPopular(Pageable pageable);
+    Slice<PromptSummary> findPublicSummariesByCategory(Category category, Pageable pageable);
 
-    boolean isLikedBy(Long promptId, Member member);
+    Slice<PromptSummary> findSummariesByMember(Member member, Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션 조회 (createdAt, id 내림차순, COUNT 쿼리 없음)
+     * cursor가 null이면 첫 페이지
+     */
+    CursorSlice<PromptSummary> findPublicSummaries(@Nullable Cursor cursor, int size);
+
+    CursorSlice<PromptSummary> findPublicSummariesByCategory(Category category, @Nullable Cursor cursor, int size);
+
+    CursorSlice<PromptSummary> findSummariesByMember(Member member, @Nullable Cursor cursor, int size);
+
+    Page<PromptSummary> searchPublicSummaries(String keyword, Pageable pageable);
+
+    /**
+     * 주어진 태그를 모두 가진 공개 프롬프트 (최신순)
+     * 태그 인덱스의 교집합으로 ID를 찾고 목록 컬럼만 다시 조회한다. 없는 태그가 섞이면 빈 페이지
+     */
+    Page<PromptSummary> findPublicSummariesByTags(List<String> tagNames, Pageable pageable);
+
+    /** 인기 프롬프트 - hot 랭킹(지수 감쇠) 상위 K개 안에서 페이징 */
+    Page<PromptSummary> findPopularSummaries(Pageable pageable);
+
+    /**
+     * 관련 프롬프트 - 태그 집합이 비슷한 공개 프롬프트 limit개 (자기 자신 제외)
+     * 모자라면 함께 자주 쓰인 태그의 최신 프롬프트로 채운다. 메모리 인덱스에서 ID를 찾고 목록 컬럼만 조회
+     */
+    List<PromptSummary> findRelatedSummaries(Long promptId, int limit);
+
+    /**
+     * 내용(제목, 설명, 본문)이 비슷한 공개 프롬프트 limit개 (코사인 유사도 내림차순, 자기 자신 제외)
+     * 근사 최근접 이웃 인덱스에서 ID를 찾고 목록 컬럼만 조회한다. 비공개이거나 아직 색인되지 않았으면 빈 목록
+     */
+    List<PromptSummary> findSimilarSummaries(Long promptId, int limit);
+
+    /**
+     * 본문이 거의 같은(SimHash 거리 7 이하) 공개 프롬프트 묶음 - 큰 묶음부터 limit개, 묶음 안은 먼저 등록된 순
+     * 중복 인덱스에서 ID를 찾고 목록 컬럼만 조회한다. 비공개로 바뀌어 두 개 미만이 된 묶음은 뺀다
+     */
+    List<List<PromptSummary>> findDuplicateClusters(int limit);
+
+    Page<PromptSummary> findPopularSummariesByCategory(Category category, Pageable pageable);
+
+    Slice<PromptSummary> findLikedSummariesByMember(Member member, Pageable pageable);
+
+    /** 필터별 총 건수 - 캐시된 값이며 갱신 주기만큼 늦을 수 있음 */
+    long countPublic();
+
+    long countPublicByCategory(Category category);
+
+    long countByMember(Member member);
 
-    Page<Prompt> findLikedByMember(Member member, Pageable pageable);
+    long countLikedByMember(Member member);
 }
@@ -22,13 +22,20 @@ public interface PromptRegister {
     Prompt makePublic(Long promptId, Member currentMember);
     Prompt makePrivate(Long promptId, Member currentMember);
 
-    // 조회수 증가
-    Prompt increaseViewCount(Long promptId);
+    // 조회수 증가 (버퍼에 모았다가 주기적으로 반영)
+    void increaseViewCount(Long promptId);
 
     // 좋아요 관리
     void addLike(Long promptId, Member member);
     void removeLike(Long promptId, Member member);
 
+    /**
+     * 좋아요 토글 - 좋아요 삭제를 먼저 시도하고, 지울 것이 없으면 추가
+     * 엔티티를 읽지 않고 DELETE/INSERT 한 번과 likes_count ± 1 UPDATE 한 번으로 처리
+     * @return 토글 후 좋아요 상태
+     */
+    boolean toggleLike(Long promptId, Member member);
+
     /**
      * 리뷰 등록 시 프롬프트 평점 추가
      * TODO: 이벤트 발행으로 개선 예정 (ReviewRegisteredEvent)
@@ -17,7 +17,7 @@ public interface PromptTagRegister {
     void linkTagsByNames(Prompt prompt, List<String> tagNameList);
 
     /**
-     * 프롬프트의 태그들을 업데이트 (기존 태그 모두 삭제 후 새로 연결)
+     * 프롬프트의 태그들을 업데이트 (빠진 태그만 연결 해제, 새 태그만 연결)
      * @param prompt 프롬프트 엔티티
      * @param tagNameList 새로운 태그 이름들
      */
@@ -28,4 +28,10 @@ public interface PromptTagRegister {
      * @param prompt 프롬프트 엔티티
      */
     void unlinkAllTags(Prompt prompt);
-}
\ No newline at end of file
+
+    /**
+     * 프롬프트의 공개 여부가 바뀐 뒤 호출 - 연결된 태그들의 사용 수를 공개면 +1, 비공개면 -1
+     * @param prompt 공개 여부가 바뀐 프롬프트 엔티티
+     */
+    void applyVisibility(Prompt prompt);
+}
@@ -0,0 +1,24 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import com.griotold.prompthub.domain.prompt.ContentFingerprint;
+
+import java.util.List;
+
+/**
+ * 공개 프롬프트의 본문 지문(SimHash) 인덱스 (유사 중복 검사용)
+ * 조회는 프롬프트 ID만 돌려주고, 목록 컬럼은 DB에서 다시 조회한다.
+ */
+public interface DuplicatePromptIndex {
+
+    /** 프롬프트의 지문을 추가한다 (같은 지문으로 이미 있으면 무시) */
+    void add(Long promptId, ContentFingerprint fingerprint);
+
+    /** 프롬프트의 지문을 뺀다 (추가할 때의 지문을 넘긴다) */
+    void remove(Long promptId, ContentFingerprint fingerprint);
+
+    /** 지문이 유사 중복 거리 안인 프롬프트 (거리 오름차순, 같으면 먼저 등록된 순, excludePromptId 제외) */
+    List<Long> findNearDuplicates(ContentFingerprint fingerprint, Long excludePromptId);
+
+    /** 서로 유사 중복으로 이어진 프롬프트 묶음 (큰 묶음부터 limit개, 묶음 안은 먼저 등록된 순) */
+    List<List<Long>> findClusters(int limit);
+}
@@ -0,0 +1,39 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptStats;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기(hot) 프롬프트 랭킹
+ * 좋아요, 조회, 리뷰, 작성 시점을 지수 감쇠로 합산한 점수를 증분 갱신하고
+ * 전체/카테고리별 상위 K개를 메모리에 유지한다.
+ */
+public interface PromptHotRanking {
+
+    /** 현재 카운트와 작성 시각으로 점수를 초기화해서 등록 (신규, 재공개, 시작 시 적재) */
+    void register(Prompt prompt);
+
+    /** 공개 프롬프트의 카운트 프로젝션으로 등록 (시작 시 적재, 엔티티 없이) */
+    void register(PromptStats stats);
+
+    void remove(Long promptId);
+
+    /** 좋아요 +1 / -1 */
+    void recordLike(Long promptId, int delta);
+
+    /** 조회수 증가분 일괄 반영 */
+    void recordViews(Map<Long, Long> viewDeltas);
+
+    /** 리뷰 추가(+1) / 삭제(-1) */
+    void recordReview(Long promptId, int rating, int delta);
+
+    /** 점수 내림차순 프롬프트 ID. categoryId가 null이면 전체 */
+    List<Long> topIds(@Nullable Long categoryId, int offset, int limit);
+
+    /** 랭킹에 올라 있는 프롬프트 수 (최대 K) */
+    int size(@Nullable Long categoryId);
+}
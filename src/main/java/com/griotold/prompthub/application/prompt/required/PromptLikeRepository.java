@@ -4,12 +4,38 @@ import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.prompt.PromptLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PromptLikeRepository extends JpaRepository<PromptLike, Long> {
 
     boolean existsByPromptAndMember(Prompt prompt, Member member);
+    boolean existsByPromptIdAndMemberId(Long promptId, Long memberId);
     void deleteByPromptAndMember(Prompt prompt, Member member);
 
+    // 목록 한 페이지의 좋아요 여부를 IN 쿼리 한 번으로 확인
+    @Query("SELECT pl.prompt.id FROM PromptLike pl WHERE pl.member.id = :memberId AND pl.prompt.id IN :promptIds")
+    List<Long> findLikedPromptIds(@Param("memberId") Long memberId, @Param("promptIds") Collection<Long> promptIds);
+
+    // 회원이 좋아요한 프롬프트 ID 전체 (좋아요 캐시 적재용)
+    @Query("SELECT pl.prompt.id FROM PromptLike pl WHERE pl.member.id = :memberId")
+    List<Long> findPromptIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 엔티티 로딩 없이 삭제, 삭제된 행 수(0 또는 1) 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PromptLike pl WHERE pl.prompt.id = :promptId AND pl.member.id = :memberId")
+    int deleteByPromptIdAndMemberId(@Param("promptId") Long promptId, @Param("memberId") Long memberId);
+
+    // 엔티티 로딩 없이 추가, 중복이면 (member_id, prompt_id) 유니크 제약 위반
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO p_prompt_like (member_id, prompt_id, created_at) VALUES (:memberId, :promptId, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertLike(@Param("promptId") Long promptId, @Param("memberId") Long memberId);
+
     // 추가로 유용할 것 같은 메서드들
     //long countByPrompt(Prompt prompt);  // 특정 프롬프트의 좋아요 수
     //List<PromptLike> findByMember(Member member);  // 특정 회원이 좋아요한 목록
@@ -3,40 +3,175 @@ package com.griotold.prompthub.application.prompt.required;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
-import org.springframework.data.domain.Page;
+import com.griotold.prompthub.domain.prompt.PromptDocument;
+import com.griotold.prompthub.domain.prompt.PromptFingerprint;
+import com.griotold.prompthub.domain.prompt.PromptStats;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
+import com.griotold.prompthub.domain.prompt.PromptText;
+import com.griotold.prompthub.domain.prompt.Rating;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PromptRepository extends JpaRepository<Prompt, Long> {
 
+    // 목록용 프로젝션: content(TEXT)를 읽지 않고, 카테고리/회원도 엔티티 대신 이름만 가져온다
+    String SUMMARY_SELECT = "SELECT new com.griotold.prompthub.domain.prompt.PromptSummary(" +
+            "p.id, p.title, p.description, c.name, m.nickname, p.viewsCount, p.likesCount, p.createdAt) " +
+            "FROM Prompt p JOIN p.category c JOIN p.member m ";
+
     @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member WHERE p.id = :id")
     Optional<Prompt> findByIdWithCategoryAndMember(@Param("id") Long id);
 
-    // 공개 프롬프트 조회 (메인 페이지)
-    @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member WHERE p.isPublic = true ORDER BY p.createdAt DESC")
-    Page<Prompt> findAllPublic(Pageable pageable);
+    // 좋아요 수 원자적 증가 (행을 읽지 않고 DB에서 계산, 동시 요청에도 유실 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Prompt p SET p.likesCount = p.likesCount + 1 WHERE p.id = :id")
+    int increaseLikesCount(@Param("id") Long id);
+
+    // 좋아요 수 원자적 감소 (0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Prompt p SET p.likesCount = p.likesCount - 1 WHERE p.id = :id AND p.likesCount > 0")
+    int decreaseLikesCount(@Param("id") Long id);
+
+    // 별점별 리뷰 수 증감식 (:added 별점 +1, :removed 별점 -1, 해당 없으면 0)
+    String HISTOGRAM_DELTA =
+            "p.ratingHistogram.oneStar = p.ratingHistogram.oneStar + (CASE WHEN :added = 1 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 1 THEN 1 ELSE 0 END), " +
+            "p.ratingHistogram.twoStars = p.ratingHistogram.twoStars + (CASE WHEN :added = 2 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 2 THEN 1 ELSE 0 END), " +
+            "p.ratingHistogram.threeStars = p.ratingHistogram.threeStars + (CASE WHEN :added = 3 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 3 THEN 1 ELSE 0 END), " +
+            "p.ratingHistogram.fourStars = p.ratingHistogram.fourStars + (CASE WHEN :added = 4 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 4 THEN 1 ELSE 0 END), " +
+            "p.ratingHistogram.fiveStars = p.ratingHistogram.fiveStars + (CASE WHEN :added = 5 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 5 THEN 1 ELSE 0 END) ";
+
+    /**
+     * 평점 원자적 반영 - 총점, 리뷰 수, 별점별 리뷰 수를 한 UPDATE 문에서 함께 증감 (동시 리뷰에도 유실 없음)
+     * 추가만 하면 removed = 0, 삭제만 하면 added = 0, 수정이면 둘 다 지정
+     * 삭제하는 별점의 리뷰가 없으면 반영하지 않는다 (0 반환)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Prompt p SET " +
+            "p.rating.totalScore = p.rating.totalScore + :added - :removed, " +
+            "p.rating.reviewsCount = p.rating.reviewsCount + (CASE WHEN :added > 0 THEN 1 ELSE 0 END) - (CASE WHEN :removed > 0 THEN 1 ELSE 0 END), " +
+            HISTOGRAM_DELTA +
+            "WHERE p.id = :id AND (:removed = 0 " +
+            "OR (:removed = 1 AND p.ratingHistogram.oneStar > 0) " +
+            "OR (:removed = 2 AND p.ratingHistogram.twoStars > 0) " +
+            "OR (:removed = 3 AND p.ratingHistogram.threeStars > 0) " +
+            "OR (:removed = 4 AND p.ratingHistogram.fourStars > 0) " +
+            "OR (:removed = 5 AND p.ratingHistogram.fiveStars > 0))")
+    int applyRating(@Param("id") Long id, @Param("added") int added, @Param("removed") int removed);
+
+    // 반영 후 평점 (검색 랭킹 가중치 갱신용)
+    @Query("SELECT p.rating FROM Prompt p WHERE p.id = :id")
+    Optional<Rating> findRatingById(@Param("id") Long id);
+
+    /**
+     * 별점별 리뷰 수가 리뷰 수와 맞지 않는 프롬프트(컬럼 추가 전 데이터)를 p_review에서 다시 센다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Prompt p SET " +
+            "p.ratingHistogram.oneStar = CAST((SELECT COUNT(r) FROM Review r WHERE r.prompt.id = p.id AND r.rating = 1) AS Integer), " +
+            "p.ratingHistogram.twoStars = CAST((SELECT COUNT(r) FROM Review r WHERE r.prompt.id = p.id AND r.rating = 2) AS Integer), " +
+            "p.ratingHistogram.threeStars = CAST((SELECT COUNT(r) FROM Review r WHERE r.prompt.id = p.id AND r.rating = 3) AS Integer), " +
+            "p.ratingHistogram.fourStars = CAST((SELECT COUNT(r) FROM Review r WHERE r.prompt.id = p.id AND r.rating = 4) AS Integer), " +
+            "p.ratingHistogram.fiveStars = CAST((SELECT COUNT(r) FROM Review r WHERE r.prompt.id = p.id AND r.rating = 5) AS Integer) " +
+            "WHERE p.rating.reviewsCount <> p.ratingHistogram.oneStar + p.ratingHistogram.twoStars " +
+            "+ p.ratingHistogram.threeStars + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars")
+    int backfillRatingHistograms();
+
+    // 공개 프롬프트 지문 (ID 키셋) - 중복 인덱스 적재용
+    @Query("SELECT new com.griotold.prompthub.domain.prompt.PromptFingerprint(p.id, p.contentFingerprint.value) FROM Prompt p " +
+            "WHERE p.isPublic = true AND p.contentFingerprint.value IS NOT NULL AND p.id > :afterId ORDER BY p.id")
+    List<PromptFingerprint> findPublicFingerprintsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 지문이 없는 프롬프트의 설명/본문 (ID 키셋) - 지문 컬럼이 생기기 전 데이터
+    @Query("SELECT new com.griotold.prompthub.domain.prompt.PromptText(p.id, p.description, p.content) FROM Prompt p " +
+            "WHERE p.contentFingerprint.value IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<PromptText> findTextsWithoutFingerprintAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Prompt p SET p.contentFingerprint.value = :fingerprint WHERE p.id = :id")
+    int updateContentFingerprint(@Param("id") Long id, @Param("fingerprint") Long fingerprint);
+
+    // 공개 프롬프트 카운트 (ID 키셋) - 인기 랭킹 적재용, content와 연관 엔티티는 읽지 않는다
+    @Query("SELECT new com.griotold.prompthub.domain.prompt.PromptStats(p.id, p.category.id, p.viewsCount, p.likesCount, " +
+            "p.rating.totalScore, p.rating.reviewsCount, p.createdAt) FROM Prompt p " +
+            "WHERE p.isPublic = true AND p.id > :afterId ORDER BY p.id")
+    List<PromptStats> findPublicStatsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 공개 프롬프트 본문 (ID 키셋) - 검색/유사도 인덱스 적재용, 영속성 컨텍스트와 연관 엔티티 없이
+    @Query("SELECT new com.griotold.prompthub.domain.prompt.PromptDocument(p.id, p.title, p.description, p.content, p.likesCount, " +
+            "p.rating.totalScore, p.rating.reviewsCount) FROM Prompt p " +
+            "WHERE p.isPublic = true AND p.id > :afterId ORDER BY p.id")
+    List<PromptDocument> findPublicDocumentsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 시각 이후 수정된 프롬프트 (공개/비공개 모두, ID 키셋) - 유사도 인덱스 스냅샷 이후 변경분
+    @Query("SELECT p FROM Prompt p WHERE p.updatedAt >= :since AND p.id > :afterId ORDER BY p.id")
+    List<Prompt> findAllUpdatedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Limit limit);
+
+    // 공개 프롬프트 목록 (프로젝션, Slice라 COUNT 쿼리 없이 size + 1건만 조회)
+    @Query(SUMMARY_SELECT + "WHERE p.isPublic = true ORDER BY p.createdAt DESC")
+    Slice<PromptSummary> findSummariesPublic(Pageable pageable);
+
+    // 카테고리별 목록 (프로젝션)
+    @Query(SUMMARY_SELECT + "WHERE p.category = :category AND p.isPublic = true ORDER BY p.createdAt DESC")
+    Slice<PromptSummary> findSummariesPublicByCategory(@Param("category") Category category, Pageable pageable);
+
+    // 사용자별 목록 (프로젝션)
+    @Query(SUMMARY_SELECT + "WHERE p.member = :member ORDER BY p.createdAt DESC")
+    Slice<PromptSummary> findSummariesByMember(@Param("member") Member member, Pageable pageable);
+
+    // 좋아요한 프롬프트 목록 (프로젝션)
+    @Query(SUMMARY_SELECT + "JOIN PromptLike pl ON p.id = pl.prompt.id WHERE pl.member = :member ORDER BY pl.createdAt DESC")
+    Slice<PromptSummary> findLikedSummariesByMember(@Param("member") Member member, Pageable pageable);
+
+    // 목록 전체 건수 (총 건수를 요청한 경우에만 PromptCountCache를 거쳐 사용)
+    @Query("SELECT COUNT(p) FROM Prompt p WHERE p.isPublic = true")
+    long countPublic();
+
+    @Query("SELECT COUNT(p) FROM Prompt p WHERE p.category = :category AND p.isPublic = true")
+    long countPublicByCategory(@Param("category") Category category);
+
+    @Query("SELECT COUNT(p) FROM Prompt p WHERE p.member = :member")
+    long countByMember(@Param("member") Member member);
+
+    @Query("SELECT COUNT(pl) FROM PromptLike pl WHERE pl.member = :member")
+    long countLikedByMember(@Param("member") Member member);
+
+    // 랭킹된 ID로 공개 프롬프트 목록 조회 (프로젝션)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids AND p.isPublic = true")
+    List<PromptSummary> findSummariesPublicByIdIn(@Param("ids") List<Long> ids);
+
+    // 공개 프롬프트 키셋 조회 (프로젝션) - 첫 페이지
+    @Query(SUMMARY_SELECT + "WHERE p.isPublic = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<PromptSummary> findSummariesPublicFirst(Limit limit);
 
-    // 카테고리별 조회
-    @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member WHERE p.category = :category AND p.isPublic = true ORDER BY p.createdAt DESC")
-    Page<Prompt> findAllPublicByCategory(@Param("category") Category category, Pageable pageable);
+    // 공개 프롬프트 키셋 조회 (프로젝션) - 커서 이후
+    @Query(SUMMARY_SELECT + "WHERE p.isPublic = true " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PromptSummary> findSummariesPublicAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 
-    // 사용자별 프롬프트 (마이페이지)
-    @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member WHERE p.member = :member ORDER BY p.createdAt DESC")
-    Page<Prompt> findAllByMember(@Param("member") Member member, Pageable pageable);
+    // 카테고리별 키셋 조회 (프로젝션) - 첫 페이지
+    @Query(SUMMARY_SELECT + "WHERE p.category = :category AND p.isPublic = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<PromptSummary> findSummariesPublicByCategoryFirst(@Param("category") Category category, Limit limit);
 
-    // 검색 (제목, 내용)
-    @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member WHERE p.isPublic = true AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) ORDER BY p.createdAt DESC")
-    Page<Prompt> searchPublic(@Param("keyword") String keyword, Pageable pageable);
+    // 카테고리별 키셋 조회 (프로젝션) - 커서 이후
+    @Query(SUMMARY_SELECT + "WHERE p.category = :category AND p.isPublic = true " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PromptSummary> findSummariesPublicByCategoryAfter(@Param("category") Category category, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 
-    // 인기 프롬프트 (좋아요순)
-    @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member WHERE p.isPublic = true ORDER BY p.likesCount DESC, p.createdAt DESC")
-    Page<Prompt> findPopular(Pageable pageable);
+    // 사용자별 키셋 조회 (프로젝션) - 첫 페이지
+    @Query(SUMMARY_SELECT + "WHERE p.member = :member ORDER BY p.createdAt DESC, p.id DESC")
+    List<PromptSummary> findSummariesByMemberFirst(@Param("member") Member member, Limit limit);
 
-    // 좋아요한 프롬프트 목록
-    @Query("SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member JOIN PromptLike pl ON p.id = pl.prompt.id WHERE pl.member = :member ORDER BY pl.createdAt DESC")
-    Page<Prompt> findLikedByMember(@Param("member") Member member, Pageable pageable);
+    // 사용자별 키셋 조회 (프로젝션) - 커서 이후
+    @Query(SUMMARY_SELECT + "WHERE p.member = :member " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PromptSummary> findSummariesByMemberAfter(@Param("member") Member member, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
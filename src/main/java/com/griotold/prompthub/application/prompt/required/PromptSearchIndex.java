@@ -0,0 +1,37 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDocument;
+
+import java.util.List;
+
+/**
+ * 공개 프롬프트 전문 검색 인덱스
+ * 검색은 랭킹된 프롬프트 ID만 돌려주고, 엔티티는 DB에서 다시 조회한다.
+ */
+public interface PromptSearchIndex {
+
+    /** 프롬프트를 색인한다. 이미 있으면 교체, 비공개면 제거 */
+    void index(Prompt prompt);
+
+    /** 공개 프롬프트의 본문 프로젝션을 색인한다 (시작 시 적재, 엔티티 없이) */
+    void index(PromptDocument document);
+
+    /** 인덱스에서 프롬프트를 제거한다 */
+    void remove(Long promptId);
+
+    /** 좋아요 수 가중치만 증감한다 (엔티티 없이 토글할 때) */
+    void adjustLikes(Long promptId, int delta);
+
+    /** 평균 평점 가중치만 교체한다 (엔티티 없이 평점을 반영할 때) */
+    void updateRating(Long promptId, double averageRating);
+
+    /** 키워드의 모든 토큰을 포함하는 프롬프트를 BM25 점수 순으로 조회 */
+    Hits search(String keyword, int offset, int limit);
+
+    record Hits(List<Long> promptIds, long totalHits) {
+        public static Hits empty() {
+            return new Hits(List.of(), 0);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import com.griotold.prompthub.domain.prompt.Prompt;
+
+import java.util.List;
+
+/**
+ * 내용(제목, 설명, 본문)이 비슷한 공개 프롬프트를 찾는 근사 최근접 이웃 인덱스
+ * 외부 서비스 없이 로컬에서 벡터를 만들고, 조회는 프롬프트 ID만 돌려준다.
+ */
+public interface PromptSimilarityIndex {
+
+    /** 프롬프트를 색인한다. 이미 있으면 교체, 비공개면 제거 */
+    void index(Prompt prompt);
+
+    /** 인덱스에서 프롬프트를 제거한다 */
+    void remove(Long promptId);
+
+    /** 내용이 비슷한 프롬프트 (코사인 유사도 내림차순, 자기 자신 제외) */
+    List<Long> findSimilar(Long promptId, int limit);
+}
@@ -0,0 +1,29 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 태그별 공개 프롬프트 인덱스 (태그 교집합 목록용)
+ * 조회는 프롬프트 ID만 돌려주고, 목록 컬럼은 DB에서 다시 조회한다.
+ */
+public interface PromptTagIndex {
+
+    /** 프롬프트에 태그들을 추가한다 (이미 있으면 무시) */
+    void add(Long promptId, Collection<Long> tagIds);
+
+    /** 프롬프트에서 태그들을 뺀다 */
+    void remove(Long promptId, Collection<Long> tagIds);
+
+    /** 프롬프트를 모든 태그에서 뺀다 */
+    void removePrompt(Long promptId);
+
+    /** 모든 태그를 가진 프롬프트를 최신순(ID 내림차순)으로 조회 */
+    Hits findByAllTags(Collection<Long> tagIds, int offset, int limit);
+
+    record Hits(List<Long> promptIds, long totalHits) {
+        public static Hits empty() {
+            return new Hits(List.of(), 0);
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.griotold.prompthub.application.prompt.required;
 
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.prompt.PromptTag;
+import com.griotold.prompthub.domain.prompt.PromptTagLink;
 import com.griotold.prompthub.domain.tag.Tag;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,9 +25,29 @@ public interface PromptTagRepository extends JpaRepository<PromptTag, Long> {
     @Query("SELECT pt FROM PromptTag pt JOIN FETCH pt.prompt WHERE pt.tag = :tag")
     List<PromptTag> findByTagWithPrompt(@Param("tag") Tag tag);
 
-    // 프롬프트-태그 조합 존재 여부 확인
-    boolean existsByPromptAndTag(Prompt prompt, Tag tag);
+    // 프롬프트에 연결된 태그 ID만 조회 (연결 diff 계산용)
+    @Query("SELECT pt.tag.id FROM PromptTag pt WHERE pt.prompt.id = :promptId")
+    List<Long> findTagIdsByPromptId(@Param("promptId") Long promptId);
 
-    // 프롬프트의 기존 태그들 삭제 (태그 업데이트 시)
-    void deleteByPrompt(Prompt prompt);
+    // 태그 수와 관계없이 INSERT 한 번으로 연결, 이미 연결된 태그가 섞이면 (prompt_id, tag_id) 유니크 제약 위반
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO p_prompt_tag (prompt_id, tag_id, created_at) " +
+            "SELECT :promptId, t.id, CURRENT_TIMESTAMP FROM p_tag t WHERE t.id IN (:tagIds)",
+            nativeQuery = true)
+    int insertLinks(@Param("promptId") Long promptId, @Param("tagIds") Collection<Long> tagIds);
+
+    // 엔티티 로딩 없이 DELETE 한 번으로 연결 해제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PromptTag pt WHERE pt.prompt.id = :promptId AND pt.tag.id IN :tagIds")
+    int deleteLinks(@Param("promptId") Long promptId, @Param("tagIds") Collection<Long> tagIds);
+
+    // 엔티티 로딩 없이 프롬프트의 연결 전체 해제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PromptTag pt WHERE pt.prompt.id = :promptId")
+    int deleteAllLinks(@Param("promptId") Long promptId);
+
+    // 공개 프롬프트의 연결 ID만 연결 ID 순 키셋으로 조회 (태그 인덱스 적재용)
+    @Query("SELECT new com.griotold.prompthub.domain.prompt.PromptTagLink(pt.id, pt.prompt.id, pt.tag.id) " +
+            "FROM PromptTag pt WHERE pt.prompt.isPublic = true AND pt.id > :afterId ORDER BY pt.id")
+    List<PromptTagLink> findPublicLinksAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -0,0 +1,13 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import java.util.Map;
+
+/**
+ * 조회수 일괄 반영
+ * 엔티티를 읽지 않고 views_count = views_count + delta 로만 갱신한다.
+ */
+public interface PromptViewCountRepository {
+
+    /** 프롬프트 ID별 증가분을 한 번의 배치로 반영 */
+    void increaseViewCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,26 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 태그 집합이 비슷한 공개 프롬프트 인덱스 (관련 프롬프트 추천)
+ * 조회는 프롬프트 ID만 돌려주고, 목록 컬럼은 DB에서 다시 조회한다.
+ */
+public interface RelatedPromptIndex {
+
+    /** 프롬프트에 태그들을 추가한다 (이미 있으면 무시) */
+    void add(Long promptId, Collection<Long> tagIds);
+
+    /** 프롬프트에서 태그들을 뺀다 */
+    void remove(Long promptId, Collection<Long> tagIds);
+
+    /** 프롬프트를 인덱스에서 뺀다 */
+    void removePrompt(Long promptId);
+
+    /** 태그 집합이 비슷한 프롬프트 (자카드 유사도 내림차순, 같으면 최신순, 자기 자신 제외) */
+    List<Long> findSimilar(Long promptId, int limit);
+
+    /** 프롬프트의 태그와 함께 많이 쓰인 다른 태그 (동시 출현 수 내림차순) */
+    List<Long> findCooccurringTags(Long promptId, int limit);
+}
@@ -79,11 +79,11 @@ public class ReviewModifyService implements ReviewRegister {
             throw new IllegalArgumentException("본인이 작성한 리뷰만 삭제할 수 있습니다.");
         }
 
+        // 3. 리뷰 삭제
+        reviewRepository.delete(review);
+
         // todo 이벤트 발행 방식으로 리팩토링하기
-        // 3. 프롬프트에서 평점 제거
+        // 4. 프롬프트에서 평점 제거 (원자적 UPDATE 전에 리뷰 삭제가 먼저 반영된다)
         promptRegister.removeReview(review.getPrompt(), review);
-
-        // 4. 리뷰 삭제
-        reviewRepository.delete(review);
     }
 }
@@ -2,14 +2,18 @@ package com.griotold.prompthub.application.review;
 
 import com.griotold.prompthub.application.review.provided.ReviewFinder;
 import com.griotold.prompthub.application.review.required.ReviewRepository;
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.review.Review;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -77,6 +81,35 @@ public class ReviewQueryService implements ReviewFinder {
         return buildSliceWithMyReviewFirst(myReview.get(), prompt, member, pageable);
     }
 
+    @Override
+    public CursorSlice<Review> findByPromptWithMyReviewFirst(Long promptId, Member member, @Nullable Cursor cursor, int size) {
+        CursorSlice.validateSize(size);
+        if (cursor != null) {
+            List<Review> fetched = reviewRepository.findByPromptIdExcludingMemberAfter(
+                    promptId, member.getId(), cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+            return CursorSlice.of(fetched, size, ReviewQueryService::cursorOf);
+        }
+
+        // 다른 사람들 리뷰는 인덱스 순서대로 키셋 조회, 내 리뷰는 유니크 키로 따로 찾아 size와 별개로 맨 앞에 고정
+        // 다음 커서는 다른 사람들 리뷰의 마지막 위치 (내 리뷰는 이후 페이지에서 제외)
+        CursorSlice<Review> others = CursorSlice.of(
+                reviewRepository.findByPromptIdExcludingMemberFirst(promptId, member.getId(), Limit.of(size + 1)),
+                size, ReviewQueryService::cursorOf);
+        Optional<Review> myReview = reviewRepository.findByPromptIdAndMemberId(promptId, member.getId());
+        if (myReview.isEmpty()) {
+            return others;
+        }
+
+        List<Review> content = new ArrayList<>(others.content().size() + 1);
+        content.add(myReview.get());
+        content.addAll(others.content());
+        return new CursorSlice<>(content, others.nextCursor());
+    }
+
+    private static Cursor cursorOf(Review review) {
+        return new Cursor(review.getCreatedAt(), review.getId());
+    }
+
     private Slice<Review> buildSliceWithMyReviewFirst(Review myReview, Prompt prompt, Member member, Pageable pageable) {
         // size가 1 이하면 내 리뷰만 반환
         if (pageable.getPageSize() <= 1) {
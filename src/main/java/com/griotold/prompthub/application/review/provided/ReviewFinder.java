@@ -1,10 +1,13 @@
 package com.griotold.prompthub.application.review.provided;
 
+import com.griotold.prompthub.application.support.Cursor;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.review.Review;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
 
@@ -52,4 +55,11 @@ public interface ReviewFinder {
      * - 이후 페이지: 다른 사람들 리뷰만
      */
     Slice<Review> findByPromptWithMyReviewFirst(Prompt prompt, Member member, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 프롬프트의 리뷰 피드를 내 리뷰 우선으로 키셋 조회
+     * - 첫 페이지(cursor == null): 내 리뷰가 있으면 맨 앞에 고정하고, 그 뒤에 다른 사람들 리뷰 size개 (쿼리 2번 - 내 리뷰, 다른 사람들 리뷰)
+     * - 이후 페이지: 다른 사람들 리뷰만 (createdAt, id) 내림차순으로 size개 (쿼리 1번)
+     */
+    CursorSlice<Review> findByPromptWithMyReviewFirst(Long promptId, Member member, @Nullable Cursor cursor, int size);
+}
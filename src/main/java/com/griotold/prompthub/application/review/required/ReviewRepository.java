@@ -3,12 +3,14 @@ package com.griotold.prompthub.application.review.required;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.review.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +46,27 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.prompt = :prompt ORDER BY r.createdAt DESC")
     Slice<Review> findByPromptOrderByCreatedAtDesc(@Param("prompt") Prompt prompt, Pageable pageable);
+
+    /**
+     * 리뷰 피드에서 맨 앞에 고정할 회원의 리뷰 - uk_member_prompt_review 유니크 키로 한 건만 조회
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.prompt.id = :promptId AND r.member.id = :memberId")
+    Optional<Review> findByPromptIdAndMemberId(@Param("promptId") Long promptId, @Param("memberId") Long memberId);
+
+    /**
+     * 리뷰 피드 첫 페이지 - 회원의 리뷰를 제외하고 (createdAt, id) 최신순
+     * 정렬이 idx_review_prompt_created 인덱스 순서와 같아서 limit 만큼만 읽고 멈춘다
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.prompt.id = :promptId AND r.member.id <> :memberId " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findByPromptIdExcludingMemberFirst(@Param("promptId") Long promptId, @Param("memberId") Long memberId, Limit limit);
+
+    /**
+     * 리뷰 피드 커서 이후 - 회원의 리뷰를 제외하고 (createdAt, id) 키셋으로 조회
+     * idx_review_prompt_created 인덱스 범위 스캔이라 깊은 페이지도 일정한 속도
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.prompt.id = :promptId AND r.member.id <> :memberId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findByPromptIdExcludingMemberAfter(@Param("promptId") Long promptId, @Param("memberId") Long memberId,
+                                                    @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,28 @@
+package com.griotold.prompthub.application.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 인덱스/랭킹처럼 DB 밖에 있는 상태를 커밋된 뒤에만 바꾸기 위한 도우미
+ * - 트랜잭션 안이면 커밋 후에 실행하고, 롤백되면 실행하지 않는다
+ * - 트랜잭션 밖이면 바로 실행한다
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.griotold.prompthub.application.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 키셋(seek) 페이지네이션 위치
+ * - (createdAt, id) 내림차순 정렬에서 마지막으로 내려준 행의 위치를 나타낸다.
+ * - 클라이언트에는 encode() 결과인 불투명(opaque) 토큰만 노출한다.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public Cursor {
+        requireNonNull(createdAt, "커서의 생성일시는 필수입니다");
+        requireNonNull(id, "커서의 ID는 필수입니다");
+    }
+
+    /**
+     * 불투명 토큰으로 변환
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 복원 (잘못된 토큰이면 예외)
+     */
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.griotold.prompthub.application.support;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 조회 결과
+ * - COUNT 쿼리 없이 다음 페이지 존재 여부와 다음 커서만 제공한다.
+ */
+public record CursorSlice<T>(List<T> content, @Nullable Cursor nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    public CursorSlice {
+        content = List.copyOf(content);
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 슬라이스 생성
+     * 초과분이 있으면 다음 페이지가 있다고 보고, 마지막 요소의 위치를 다음 커서로 삼는다.
+     */
+    public static <T> CursorSlice<T> of(List<T> fetched, int size, Function<T, Cursor> cursorExtractor) {
+        validateSize(size);
+        if (fetched.size() <= size) {
+            return new CursorSlice<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorSlice<>(content, cursorExtractor.apply(content.getLast()));
+    }
+
+    /**
+     * 조회 크기 검증 (1 ~ MAX_SIZE)
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다: " + size);
+        }
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorSlice<>(content.stream().<R>map(converter).toList(), nextCursor);
+    }
+}
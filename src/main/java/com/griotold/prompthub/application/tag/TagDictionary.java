@@ -0,0 +1,80 @@
+package com.griotold.prompthub.application.tag;
+
+import com.griotold.prompthub.application.support.AfterCommit;
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.tag.Tag;
+import com.griotold.prompthub.domain.tag.TagNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 키(TagNames.keyOf) → 태그 ID, 태그 ID → 태그명 사전
+ * 태그는 생성만 되고 지워지지 않으므로 시작할 때 전부 적재하고, 이후에는 커밋된 새 태그만 추가한다.
+ * 프롬프트 저장 시 태그가 모두 사전에 있으면 태그 테이블을 읽지 않는다.
+ * <p>
+ * 키가 같은 태그가 여럿 있으면(정규화 이전 데이터) ID가 가장 작은 태그로 모은다.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public TagDictionary(TagRepository tagRepository) {
+        this.tagRepository = tagRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Tag tag : tagRepository.findAll(Sort.by("id"))) {
+            put(tag.getId(), tag.getName());
+        }
+        log.info("태그 사전 적재 완료: {}건", idsByKey.size());
+    }
+
+    @Nullable
+    public Long find(String key) {
+        return idsByKey.get(key);
+    }
+
+    @Nullable
+    public String nameOf(Long tagId) {
+        return namesById.get(tagId);
+    }
+
+    public int size() {
+        return idsByKey.size();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 사전에 추가
+     * 롤백되면 아무것도 하지 않는다 (롤백된 태그 ID가 사전에 남지 않도록). 트랜잭션 밖이면 바로 추가
+     */
+    public void putAfterCommit(Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        Map<Long, String> snapshot = tags.stream().collect(Collectors.toUnmodifiableMap(Tag::getId, Tag::getName));
+        AfterCommit.run(() -> put(snapshot));
+    }
+
+    private void put(Map<Long, String> names) {
+        names.forEach(this::put);
+    }
+
+    private void put(Long tagId, String name) {
+        idsByKey.merge(TagNames.keyOf(name), tagId, Math::min);
+        namesById.put(tagId, name);
+    }
+}
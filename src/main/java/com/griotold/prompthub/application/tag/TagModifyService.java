@@ -1,6 +1,5 @@
 package com.griotold.prompthub.application.tag;
 
-import com.griotold.prompthub.application.tag.provided.TagFinder;
 import com.griotold.prompthub.application.tag.provided.TagRegister;
 import com.griotold.prompthub.application.tag.required.TagRepository;
 import com.griotold.prompthub.domain.tag.Tag;
@@ -11,7 +10,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -19,8 +20,9 @@ import java.util.List;
 @Validated
 public class TagModifyService implements TagRegister {
 
-    private final TagFinder tagFinder;
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagUsageRanking tagUsageRanking;
 
     @Override
     public Tag register(Tag tag) {
@@ -29,23 +31,85 @@ public class TagModifyService implements TagRegister {
 
     @Override
     public Tags ensureTags(TagNames tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
+        List<Long> tagIds = ensureTagIds(tagNames);
+        if (tagIds.isEmpty()) {
             return Tags.of(List.of());
         }
 
-        // 0. 입력 태그명 중복 제거
+        // 입력 순서대로 반환
+        Map<Long, Tag> tagsById = tagRepository.findAllById(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+        return Tags.of(tagIds.stream().map(tagsById::get).toList());
+    }
+
+    @Override
+    public List<Long> ensureTagIds(TagNames tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return List.of();
+        }
+
+        // 0. 입력 태그명 중복 제거 (대소문자 무시)
         TagNames distinctTagNames = tagNames.distinct();
 
-        // 1. 기존에 있는 태그들 조회
-        Tags existingTags = Tags.of(tagFinder.findByNames(distinctTagNames.toList()));
+        // 1. 사전에서 찾기 - 대부분 여기서 끝난다
+        Map<String, Long> idsByKey = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : distinctTagNames.toList()) {
+            String key = TagNames.keyOf(name);
+            Long id = tagDictionary.find(key);
+            if (id != null) {
+                idsByKey.put(key, id);
+            } else {
+                missing.put(key, name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Tag> resolved = resolve(missing);
+            resolved.forEach((key, tag) -> idsByKey.put(key, tag.getId()));
+            tagDictionary.putAfterCommit(resolved.values());
+        }
+
+        return distinctTagNames.keys().stream().map(idsByKey::get).toList();
+    }
+
+    @Override
+    public void addUsage(Collection<Long> tagIds, int delta) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        tagRepository.addUsageCount(tagIds, delta);
+        tagUsageRanking.recordAfterCommit(tagIds, delta);
+    }
 
-        // 2. 없는 태그명들 추출
-        TagNames newTagNames = distinctTagNames.filterExisting(existingTags.extractNames());
+    /**
+     * 사전에 없는 태그를 DB에서 찾고, 그래도 없으면 생성
+     * 같은 태그를 동시에 만들면 한쪽의 INSERT는 무시되고, 다시 읽어서 먼저 만든 쪽의 ID를 쓴다
+     */
+    private Map<String, Tag> resolve(Map<String, String> missing) {
+        Map<String, Tag> resolved = findByKeys(missing.keySet());
 
-        // 3. 새 태그들 생성 및 저장
-        Tags savedNewTags = Tags.of(tagRepository.saveAll(newTagNames.createTags()));
+        List<String> keysToCreate = missing.keySet().stream()
+                .filter(key -> !resolved.containsKey(key))
+                .toList();
+        if (keysToCreate.isEmpty()) {
+            return resolved;
+        }
 
-        // 4. 기존 + 새로 생성된 태그들 모두 반환
-        return existingTags.combine(savedNewTags);
+        keysToCreate.forEach(key -> tagRepository.insertIfAbsent(missing.get(key), key));
+        resolved.putAll(findByKeys(keysToCreate));
+
+        if (!resolved.keySet().containsAll(keysToCreate)) {
+            throw new IllegalStateException("태그를 생성하지 못했습니다: " + keysToCreate);
+        }
+        return resolved;
+    }
+
+    private Map<String, Tag> findByKeys(Collection<String> keys) {
+        Map<String, Tag> tags = new HashMap<>();
+        for (Tag tag : tagRepository.findByKeyIn(keys)) {
+            tags.put(tag.getNameKey(), tag);
+        }
+        return tags;
     }
 }
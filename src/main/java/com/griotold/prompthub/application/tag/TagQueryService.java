@@ -3,11 +3,14 @@ package com.griotold.prompthub.application.tag;
 import com.griotold.prompthub.application.tag.provided.TagFinder;
 import com.griotold.prompthub.application.tag.required.TagRepository;
 import com.griotold.prompthub.domain.tag.Tag;
+import com.griotold.prompthub.domain.tag.TagNames;
+import com.griotold.prompthub.domain.tag.TagUsage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -16,7 +19,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TagQueryService implements TagFinder {
 
+    static final int MAX_POPULAR_SIZE = 100;
+
     private final TagRepository tagRepository;
+    private final TagUsageRanking tagUsageRanking;
+    private final TagDictionary tagDictionary;
 
     @Override
     public Tag find(Long tagId) {
@@ -35,4 +42,30 @@ public class TagQueryService implements TagFinder {
         return tagRepository.findByNameIn(names);
     }
 
+    @Override
+    public List<Long> findIdsByNames(TagNames names) {
+        List<Long> ids = new ArrayList<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : names.keys()) {
+            Long id = tagDictionary.find(key);
+            if (id != null) {
+                ids.add(id);
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            // 사전이 아직 모르는 태그 (다른 인스턴스가 만든 태그 등)
+            tagRepository.findByKeyIn(missingKeys).forEach(tag -> ids.add(tag.getId()));
+        }
+        return ids;
+    }
+
+    @Override
+    public List<TagUsage> findPopular(int limit) {
+        if (limit < 1 || limit > MAX_POPULAR_SIZE) {
+            throw new IllegalArgumentException("조회할 태그 수는 1~" + MAX_POPULAR_SIZE + " 사이여야 합니다.");
+        }
+        return tagUsageRanking.top(limit);
+    }
 }
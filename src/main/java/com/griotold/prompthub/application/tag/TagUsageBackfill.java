@@ -0,0 +1,75 @@
+package com.griotold.prompthub.application.tag;
+
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.tag.Tag;
+import com.griotold.prompthub.domain.tag.TagNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용 수, 키 컬럼이 생기기 전에 만든 태그를 반영
+ * 키는 비어 있는 태그만 채우므로 매번 실행한다 (이미 채워졌으면 인덱스 조회 한 번으로 끝난다)
+ * 사용 수는 모든 태그를 p_prompt_tag에서 다시 세므로 컬럼을 추가한 뒤 한 번만 켜서 실행한다 (app.tag-usage.backfill-on-startup)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagUsageBackfill {
+
+    private final TagRepository tagRepository;
+
+    @Value("${app.tag-usage.backfill-on-startup:false}")
+    private boolean backfillUsageCounts;
+
+    // TagUsageRanking이 보정된 값을 읽도록 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int keyed = backfillNameKeys();
+        if (keyed > 0) {
+            log.info("태그 키 보정 완료 - 태그 {}건", keyed);
+        }
+        if (backfillUsageCounts) {
+            int updated = tagRepository.backfillUsageCounts();
+            log.info("태그 사용 수 보정 완료 - 태그 {}건", updated);
+        }
+    }
+
+    /**
+     * 키는 SQL LOWER가 아니라 TagNames.keyOf(NFC, 공백 정리, 소문자)로 계산한다 - 새 태그와 같은 키가 나와야 중복 생성되지 않는다
+     * 키가 같은 태그가 여럿이면 ID가 가장 작은 태그만 키를 갖고, 이미 그 키를 가진 태그가 있으면 채우지 않는다
+     */
+    private int backfillNameKeys() {
+        Map<String, Tag> firstByKey = new LinkedHashMap<>();
+        for (Tag tag : tagRepository.findByNameKeyIsNullOrderById()) {
+            firstByKey.putIfAbsent(TagNames.keyOf(tag.getName()), tag);
+        }
+        if (firstByKey.isEmpty()) {
+            return 0;
+        }
+        Set<String> taken = tagRepository.findByKeyIn(firstByKey.keySet()).stream()
+                .map(Tag::getNameKey)
+                .collect(Collectors.toSet());
+        int keyed = 0;
+        for (Map.Entry<String, Tag> entry : firstByKey.entrySet()) {
+            if (!taken.contains(entry.getKey())) {
+                entry.getValue().fillNameKey();
+                keyed++;
+            }
+        }
+        return keyed;
+    }
+}
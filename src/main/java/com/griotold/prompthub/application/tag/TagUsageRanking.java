@@ -0,0 +1,106 @@
+package com.griotold.prompthub.application.tag;
+
+import com.griotold.prompthub.application.support.AfterCommit;
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.tag.Tag;
+import com.griotold.prompthub.domain.tag.TagUsage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 태그 사용 수 랭킹 (인기 태그, 태그 클라우드)
+ * 시작할 때 사용 중인 태그의 usageCount를 한 번 읽고, 이후에는 커밋된 증감만 반영한다.
+ * 조회는 정렬된 집합의 앞부분만 읽으므로 GROUP BY 집계가 없다.
+ * 태그명은 태그 사전에서 채운다.
+ */
+@Slf4j
+@Component
+public class TagUsageRanking {
+
+    // 사용 수 내림차순, 같으면 먼저 만들어진 태그(ID 오름차순)
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::usageCount).reversed()
+            .thenComparing(Entry::tagId);
+
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranked = new TreeSet<>(ORDER);
+
+    public TagUsageRanking(TagRepository tagRepository, TagDictionary tagDictionary) {
+        this.tagRepository = tagRepository;
+        this.tagDictionary = tagDictionary;
+    }
+
+    // 사용 수 보정(TagUsageBackfill)이 끝난 뒤에 적재
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Tag> tags = tagRepository.findByUsageCountGreaterThan(0);
+        synchronized (this) {
+            entries.clear();
+            ranked.clear();
+            tags.forEach(tag -> put(new Entry(tag.getId(), tag.getUsageCount())));
+        }
+        log.info("태그 사용 수 랭킹 적재 완료: {}건", tags.size());
+    }
+
+    /** 사용 수 내림차순 상위 limit개 (사용 중인 태그만) */
+    public List<TagUsage> top(int limit) {
+        List<Entry> top;
+        synchronized (this) {
+            top = ranked.stream().limit(limit).toList();
+        }
+        return top.stream()
+                .map(entry -> new TagUsage(entry.tagId(), nameOf(entry.tagId()), entry.usageCount()))
+                .toList();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 태그들의 사용 수를 delta만큼 증감
+     * 롤백되면 아무것도 하지 않는다. 트랜잭션 밖이면 바로 반영
+     */
+    public void recordAfterCommit(Collection<Long> tagIds, int delta) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        List<Long> snapshot = List.copyOf(tagIds);
+        AfterCommit.run(() -> record(snapshot, delta));
+    }
+
+    private synchronized void record(List<Long> tagIds, int delta) {
+        for (Long tagId : tagIds) {
+            Entry current = entries.remove(tagId);
+            if (current != null) {
+                ranked.remove(current);
+            }
+            int usageCount = Math.max(0, (current == null ? 0 : current.usageCount()) + delta);
+            if (usageCount > 0) {
+                put(new Entry(tagId, usageCount));
+            }
+        }
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.tagId(), entry);
+        ranked.add(entry);
+    }
+
+    private String nameOf(Long tagId) {
+        String name = tagDictionary.nameOf(tagId);
+        if (name != null) {
+            return name;
+        }
+        // 사전이 아직 모르는 태그 (다른 인스턴스가 만든 태그 등)
+        return tagRepository.findById(tagId).map(Tag::getName).orElse("");
+    }
+
+    private record Entry(Long tagId, int usageCount) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.griotold.prompthub.application.tag.provided;
 
 import com.griotold.prompthub.domain.tag.Tag;
+import com.griotold.prompthub.domain.tag.TagNames;
+import com.griotold.prompthub.domain.tag.TagUsage;
 
 import java.util.List;
 
@@ -21,5 +23,15 @@ public interface TagFinder {
      */
     List<Tag> findByNames(List<String> names);
 
+    /**
+     * 태그명들을 태그 ID로 변환 (대소문자 무시, 태그를 만들지 않음)
+     * 태그 사전에서 먼저 찾고 모르는 이름만 DB에서 찾는다. 없는 태그는 결과에서 빠진다.
+     */
+    List<Long> findIdsByNames(TagNames names);
 
+    /**
+     * 공개 프롬프트에 많이 쓰인 태그 상위 limit개 (사용 수 내림차순)
+     * 메모리 랭킹에서 제공 - 집계 쿼리 없음
+     */
+    List<TagUsage> findPopular(int limit);
 }
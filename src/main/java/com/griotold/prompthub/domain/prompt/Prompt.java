@@ -3,7 +3,6 @@ package com.griotold.prompthub.domain.prompt;
 import com.griotold.prompthub.domain.AbstractEntity;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.member.Member;
-import com.griotold.prompthub.domain.review.Review;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,7 +18,11 @@ import static java.util.Objects.requireNonNull;
 
 @Entity
 @Getter
-@Table(name = "p_prompt")
+@Table(name = "p_prompt", indexes = {
+        @Index(name = "idx_prompt_public_created", columnList = "is_public, created_at DESC, id DESC"),
+        @Index(name = "idx_prompt_category_created", columnList = "category_id, created_at DESC, id DESC"),
+        @Index(name = "idx_prompt_member_created", columnList = "member_id, created_at DESC, id DESC")
+})
 @ToString(callSuper = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -28,6 +31,7 @@ public class Prompt extends AbstractEntity {
     @Column(length = 200, nullable = false)
     private String title;
 
+    // app.prompt-compression.enabled이면 긴 값은 압축해서 저장 (컨버터는 META-INF/orm.xml에서 붙인다)
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
@@ -51,9 +55,16 @@ public class Prompt extends AbstractEntity {
     @Embedded
     private Rating rating = Rating.empty();
 
+    @Embedded
+    private RatingHistogram ratingHistogram = RatingHistogram.empty();
+
     @Embedded
     private Price price = Price.free();
 
+    // 설명/본문 SimHash - 지문 컬럼이 생기기 전 행은 ContentFingerprintBackfill이 채운다
+    @Embedded
+    private ContentFingerprint contentFingerprint;
+
     @Column(nullable = false)
     private Boolean isPublic = true;
 
@@ -74,8 +85,10 @@ public class Prompt extends AbstractEntity {
         prompt.viewsCount = 0;
         prompt.likesCount = 0;
         prompt.rating = Rating.empty();
+        prompt.ratingHistogram = RatingHistogram.empty();
         prompt.price = Price.free();
         prompt.isPublic = true;
+        prompt.contentFingerprint = ContentFingerprint.of(prompt.description, prompt.content);
 
         return prompt;
     }
@@ -92,43 +105,14 @@ public class Prompt extends AbstractEntity {
         this.title = requireNonNull(request.title());
         this.content = requireNonNull(request.content());
         this.description = request.description();
-    }
-
-    public void increaseViewCount() {
-        this.viewsCount++;
+        this.contentFingerprint = ContentFingerprint.of(description, content);
     }
 
     public boolean isOwnedBy(Member member) {
         return this.member.equals(member);
     }
 
-    public void increaseLikeCount() {
-        this.likesCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likesCount > 0) {
-            this.likesCount--;
-        }
-    }
-
     // Rating 관련 메서드들
-    public void addRating(Review review) {
-        this.rating = this.rating.add(review);
-    }
-
-    public void addRating(Integer rating) {
-        this.rating = this.rating.add(rating);
-    }
-
-    public void removeRating(Review review) {
-        this.rating = this.rating.remove(review);
-    }
-
-    public void removeRating(Integer rating) {
-        this.rating = this.rating.remove(rating);
-    }
-
     public Double getAverageRating() {
         return rating.getAverage();
     }
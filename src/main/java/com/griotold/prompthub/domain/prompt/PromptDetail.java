@@ -0,0 +1,50 @@
+package com.griotold.prompthub.domain.prompt;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상세 화면용 프롬프트 스냅샷 (불변)
+ * 여러 요청이 공유해서 캐시할 수 있도록 엔티티 대신 값만 복사해 둔다.
+ * 카테고리는 ID만 들고, 이름 등은 카테고리 캐시에서 최신 값으로 채운다.
+ */
+public record PromptDetail(
+        Long id,
+        String title,
+        String content,
+        String description,
+        Long categoryId,
+        Long memberId,
+        String authorNickname,
+        Integer viewsCount,
+        Integer likesCount,
+        Rating rating,
+        RatingHistogram ratingHistogram,
+        boolean isPublic,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static PromptDetail of(Prompt prompt) {
+        return new PromptDetail(
+                prompt.getId(),
+                prompt.getTitle(),
+                prompt.getContent(),
+                prompt.getDescription(),
+                prompt.getCategory().getId(),
+                prompt.getMember().getId(),
+                prompt.getMember().getNickname(),
+                prompt.getViewsCount(),
+                prompt.getLikesCount(),
+                prompt.getRating(),
+                prompt.getRatingHistogram(),
+                prompt.getIsPublic(),
+                prompt.getCreatedAt(),
+                prompt.getUpdatedAt()
+        );
+    }
+
+    /** DB에 반영한 조회수 증가분을 더한 스냅샷 */
+    public PromptDetail withViewsAdded(long delta) {
+        return new PromptDetail(id, title, content, description, categoryId, memberId, authorNickname,
+                Math.toIntExact(viewsCount + delta), likesCount, rating, ratingHistogram, isPublic, createdAt, updatedAt);
+    }
+}
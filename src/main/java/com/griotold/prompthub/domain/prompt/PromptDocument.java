@@ -0,0 +1,25 @@
+package com.griotold.prompthub.domain.prompt;
+
+/**
+ * 검색/유사도 인덱스 적재에 필요한 본문과 가중치만 담은 읽기 전용 프로젝션 (시작 시 적재용)
+ * 영속성 컨텍스트에 올리지 않고, 카테고리/회원도 조인하지 않는다.
+ */
+public record PromptDocument(
+        Long id,
+        String title,
+        String description,
+        String content,
+        Integer likesCount,
+        Integer totalScore,
+        Integer reviewsCount
+) {
+
+    public static PromptDocument of(Prompt prompt) {
+        return new PromptDocument(prompt.getId(), prompt.getTitle(), prompt.getDescription(), prompt.getContent(),
+                prompt.getLikesCount(), prompt.getRating().totalScore(), prompt.getRating().reviewsCount());
+    }
+
+    public double averageRating() {
+        return new Rating(totalScore, reviewsCount).getAverage();
+    }
+}
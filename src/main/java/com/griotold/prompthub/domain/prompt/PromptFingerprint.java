@@ -0,0 +1,10 @@
+package com.griotold.prompthub.domain.prompt;
+
+/**
+ * 프롬프트 ID와 본문 지문만 담은 읽기 전용 프로젝션 (중복 인덱스 적재용)
+ */
+public record PromptFingerprint(
+        Long id,
+        Long fingerprint
+) {
+}
@@ -0,0 +1,23 @@
+package com.griotold.prompthub.domain.prompt;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 랭킹 점수 계산에 필요한 카운트만 담은 읽기 전용 프로젝션 (시작 시 적재용)
+ * content(TEXT)와 회원은 읽지 않고, 카테고리는 ID만 가져온다.
+ */
+public record PromptStats(
+        Long id,
+        Long categoryId,
+        Integer viewsCount,
+        Integer likesCount,
+        Integer totalScore,
+        Integer reviewsCount,
+        LocalDateTime createdAt
+) {
+
+    public static PromptStats of(Prompt prompt) {
+        return new PromptStats(prompt.getId(), prompt.getCategory().getId(), prompt.getViewsCount(), prompt.getLikesCount(),
+                prompt.getRating().totalScore(), prompt.getRating().reviewsCount(), prompt.getCreatedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.griotold.prompthub.domain.prompt;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 프롬프트 요약 (읽기 전용 프로젝션)
+ * 엔티티 대신 목록에 필요한 컬럼만 조회해서 담는다. content(TEXT)는 읽지 않는다.
+ */
+public record PromptSummary(
+        Long id,
+        String title,
+        String description,
+        String categoryName,
+        String authorNickname,
+        Integer viewsCount,
+        Integer likesCount,
+        LocalDateTime createdAt
+) {
+}
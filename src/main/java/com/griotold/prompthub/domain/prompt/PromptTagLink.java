@@ -0,0 +1,11 @@
+package com.griotold.prompthub.domain.prompt;
+
+/**
+ * 프롬프트-태그 연결의 ID만 담은 읽기 전용 프로젝션 (태그 인덱스 적재용)
+ */
+public record PromptTagLink(
+        Long id,
+        Long promptId,
+        Long tagId
+) {
+}
@@ -0,0 +1,11 @@
+package com.griotold.prompthub.domain.prompt;
+
+/**
+ * 프롬프트 ID와 설명/본문만 담은 읽기 전용 프로젝션 (지문 보정용)
+ */
+public record PromptText(
+        Long id,
+        String description,
+        String content
+) {
+}
@@ -0,0 +1,78 @@
+package com.griotold.prompthub.domain.prompt;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * 별점별 리뷰 수 (1~5점)
+ * Rating(총점, 리뷰 수)과 같은 UPDATE 문에서 함께 증감하므로 합계는 항상 리뷰 수와 같다.
+ */
+@Embeddable
+public record RatingHistogram(
+        @Column(name = "rating_1_count", nullable = false, columnDefinition = "integer default 0")
+        Integer oneStar,
+
+        @Column(name = "rating_2_count", nullable = false, columnDefinition = "integer default 0")
+        Integer twoStars,
+
+        @Column(name = "rating_3_count", nullable = false, columnDefinition = "integer default 0")
+        Integer threeStars,
+
+        @Column(name = "rating_4_count", nullable = false, columnDefinition = "integer default 0")
+        Integer fourStars,
+
+        @Column(name = "rating_5_count", nullable = false, columnDefinition = "integer default 0")
+        Integer fiveStars
+) {
+
+    public RatingHistogram {
+        if (oneStar < 0 || twoStars < 0 || threeStars < 0 || fourStars < 0 || fiveStars < 0) {
+            throw new IllegalArgumentException("별점별 리뷰 수는 0 이상이어야 합니다.");
+        }
+    }
+
+    public static RatingHistogram empty() {
+        return new RatingHistogram(0, 0, 0, 0, 0);
+    }
+
+    public RatingHistogram add(int rating) {
+        return adjust(rating, 1);
+    }
+
+    /**
+     * @throws IllegalStateException 해당 별점의 리뷰가 없을 때
+     */
+    public RatingHistogram remove(int rating) {
+        if (count(rating) == 0) {
+            throw new IllegalStateException("삭제할 리뷰가 없습니다.");
+        }
+        return adjust(rating, -1);
+    }
+
+    /** rating점 리뷰 수 */
+    public int count(int rating) {
+        return switch (rating) {
+            case 1 -> oneStar;
+            case 2 -> twoStars;
+            case 3 -> threeStars;
+            case 4 -> fourStars;
+            case 5 -> fiveStars;
+            default -> throw new IllegalArgumentException("평점은 1~5 범위여야 합니다.");
+        };
+    }
+
+    public int total() {
+        return oneStar + twoStars + threeStars + fourStars + fiveStars;
+    }
+
+    private RatingHistogram adjust(int rating, int delta) {
+        return switch (rating) {
+            case 1 -> new RatingHistogram(oneStar + delta, twoStars, threeStars, fourStars, fiveStars);
+            case 2 -> new RatingHistogram(oneStar, twoStars + delta, threeStars, fourStars, fiveStars);
+            case 3 -> new RatingHistogram(oneStar, twoStars, threeStars + delta, fourStars, fiveStars);
+            case 4 -> new RatingHistogram(oneStar, twoStars, threeStars, fourStars + delta, fiveStars);
+            case 5 -> new RatingHistogram(oneStar, twoStars, threeStars, fourStars, fiveStars + delta);
+            default -> throw new IllegalArgumentException("평점은 1~5 범위여야 합니다.");
+        };
+    }
+}
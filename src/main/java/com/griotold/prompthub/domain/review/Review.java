@@ -20,7 +20,9 @@ import static java.util.Objects.requireNonNull;
 @Entity
 @Getter
 @Table(name = "p_review",
-        uniqueConstraints = @UniqueConstraint(name = "uk_member_prompt_review", columnNames = {"member_id", "prompt_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_prompt_review", columnNames = {"member_id", "prompt_id"}),
+        // 리뷰 피드 키셋 조회용 (prompt_id 범위를 최신순으로 읽고, member_id 제외 조건까지 인덱스에서 판단)
+        indexes = @Index(name = "idx_review_prompt_created", columnList = "prompt_id, created_at DESC, id DESC, member_id"))
 @ToString(callSuper = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
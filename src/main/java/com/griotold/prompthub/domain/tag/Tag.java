@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "p_tag")
+@Table(name = "p_tag",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tag_name_key", columnNames = "name_key"))
 @ToString(callSuper = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -25,12 +27,29 @@ public class Tag extends AbstractEntity {
     @Column(length = 50, nullable = false, unique = true)
     private String name;
 
+    // 같은 태그인지 비교하는 키(TagNames.keyOf) - 대소문자만 다른 태그가 동시에 만들어지지 않도록 유니크
+    // 컬럼이 생기기 전에 만든 태그는 TagUsageBackfill이 채운다
+    @Column(name = "name_key", length = 50)
+    private String nameKey;
+
+    // 이 태그가 달린 공개 프롬프트 수 (연결 추가/삭제, 공개 여부 변경 시 증감)
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private Integer usageCount = 0;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
     public static Tag create(String name) {
         Tag tag = new Tag();
-        tag.name = name;
+        tag.name = TagNames.normalize(name);
+        tag.nameKey = TagNames.keyOf(name);
         return tag;
     }
+
+    /** 키 컬럼이 생기기 전에 만든 태그의 키를 이름에서 채운다 */
+    public void fillNameKey() {
+        if (nameKey == null) {
+            nameKey = TagNames.keyOf(name);
+        }
+    }
 }
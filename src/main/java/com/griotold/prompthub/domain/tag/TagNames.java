@@ -1,8 +1,20 @@
 package com.griotold.prompthub.domain.tag;
 
+import java.text.Normalizer;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
 
+/**
+ * 태그명 목록
+ * 생성 시 표기를 정규화(NFC, 앞뒤 공백 제거, 연속 공백 하나로)하고 빈 이름은 버린다.
+ * 같은 태그인지는 대소문자를 무시한 키({@link #keyOf})로 판단한다 - "Spring"과 "spring "은 같은 태그
+ */
 public class TagNames {
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
     private final List<String> names;
 
     private TagNames(List<String> names) {
@@ -10,24 +22,47 @@ public class TagNames {
     }
 
     public static TagNames of(List<String> names) {
-        return new TagNames(names);
+        return new TagNames(names.stream()
+                .map(TagNames::normalize)
+                .filter(name -> !name.isEmpty())
+                .toList());
     }
 
     public static TagNames ofDistinct(List<String> names) {
-        return new TagNames(names.stream().distinct().toList());
+        return of(names).distinct();
+    }
+
+    /** 저장할 표기: NFC 정규화, 앞뒤 공백 제거, 연속 공백은 공백 하나로 */
+    public static String normalize(String name) {
+        String composed = Normalizer.normalize(name, Normalizer.Form.NFC).strip();
+        return WHITESPACES.matcher(composed).replaceAll(" ");
     }
 
+    /** 같은 태그인지 비교하는 키: 정규화한 표기의 소문자 */
+    public static String keyOf(String name) {
+        return normalize(name).toLowerCase(Locale.ROOT);
+    }
+
+    /** 키가 같은 이름은 처음 나온 표기만 남긴다 */
     public TagNames distinct() {
-        return new TagNames(names.stream().distinct().toList());
+        Set<String> seen = new HashSet<>();
+        return new TagNames(names.stream()
+                .filter(name -> seen.add(keyOf(name)))
+                .toList());
     }
 
     public List<String> toList() {
         return List.copyOf(names);
     }
 
+    public List<String> keys() {
+        return names.stream().map(TagNames::keyOf).toList();
+    }
+
     public TagNames filterExisting(TagNames existingNames) {
+        Set<String> existingKeys = new HashSet<>(existingNames.keys());
         List<String> filteredNames = this.names.stream()
-                .filter(name -> !existingNames.names.contains(name))
+                .filter(name -> !existingKeys.contains(keyOf(name)))
                 .toList();
         return new TagNames(filteredNames);
     }
@@ -0,0 +1,7 @@
+package com.griotold.prompthub.domain.tag;
+
+/**
+ * 태그와 그 태그가 달린 공개 프롬프트 수 (인기 태그, 태그 클라우드용)
+ */
+public record TagUsage(Long tagId, String name, int usageCount) {
+}
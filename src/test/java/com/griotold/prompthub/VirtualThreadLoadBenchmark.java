@@ -0,0 +1,271 @@
+package com.griotold.prompthub;
+
+import com.griotold.prompthub.adapter.security.jwt.JwtTokenProvider;
+import com.griotold.prompthub.application.category.provided.CategoryRegister;
+import com.griotold.prompthub.application.member.provided.MemberFinder;
+import com.griotold.prompthub.application.member.provided.MemberRegister;
+import com.griotold.prompthub.application.prompt.provided.PromptRegister;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.Provider;
+import com.griotold.prompthub.domain.member.SocialRegisterRequest;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(Tomcat 스레드 풀) vs 가상 스레드 요청 처리 부하 벤치마크
+ * - 로그인: 느린 구글 스텁(토큰 발급 + userinfo 두 번 왕복)과 느린 DB
+ * - 프롬프트 상세: 느린 DB (좋아요 여부 조회 등 요청마다 커넥션을 잡는 구간)
+ * 느린 DB는 커넥션을 얻은 뒤 지연을 주는 DataSource 래퍼로 흉내낸다 (커넥션을 쥔 채 기다리는 쿼리 대기).
+ * 같은 JVM에서 모드별로 애플리케이션을 따로 띄워 처리량과 p50/p99 지연을 비교한다.
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * -Dbenchmark.concurrency=400 (동시 클라이언트), -Dbenchmark.seconds=10 (측정 시간),
+ * -Dbenchmark.provider-delay-ms=100, -Dbenchmark.db-delay-ms=20, -Dbenchmark.db-pool=50
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final int WARMUP_SECONDS = Math.max(1, SECONDS / 3);
+    private static final long PROVIDER_DELAY_MS = Long.getLong("benchmark.provider-delay-ms", 100);
+    private static final long DB_DELAY_MS = Long.getLong("benchmark.db-delay-ms", 20);
+    private static final int DB_POOL = Integer.getInteger("benchmark.db-pool", 50);
+
+    static HttpServer provider;
+    static ExecutorService providerExecutor;
+    static HttpClient httpClient;
+    static ExecutorService clientExecutor;
+
+    @BeforeAll
+    static void startProvider() throws IOException {
+        providerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        provider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        provider.createContext("/token", exchange -> respondSlowly(exchange,
+                "{\"access_token\":\"bench-access\",\"token_type\":\"Bearer\",\"expires_in\":3600}"));
+        provider.createContext("/userinfo", exchange -> respondSlowly(exchange,
+                "{\"sub\":\"bench-google\",\"email\":\"bench@gmail.com\",\"name\":\"bench\"}"));
+        provider.setExecutor(providerExecutor);
+        provider.start();
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @AfterAll
+    static void stopProvider() {
+        provider.stop(0);
+        providerExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void 플랫폼_스레드_vs_가상_스레드() throws Exception {
+        List<Row> rows = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+                String mode = virtual ? "virtual" : "platform";
+
+                HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/google/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"authorizationCode\":\"bench\"}"))
+                        .build();
+                // 첫 로그인은 회원 가입이므로 동시 요청 전에 한 번 보낸다
+                assertThat(httpClient.send(login, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(201);
+                rows.add(run(mode, "login", login));
+
+                HttpRequest detail = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/prompts/" + seedPrompt(context)))
+                        .header("Authorization", "Bearer " + accessToken(context))
+                        .GET()
+                        .build();
+                rows.add(run(mode, "prompt-detail", detail));
+            }
+        }
+
+        System.out.printf("concurrency=%d, provider delay=%dms, db delay=%dms, db pool=%d%n",
+                CONCURRENCY, PROVIDER_DELAY_MS, DB_DELAY_MS, DB_POOL);
+        System.out.printf("%-9s %-14s %12s %10s %10s %8s%n", "mode", "endpoint", "throughput/s", "p50(ms)", "p99(ms)", "errors");
+        for (Row row : rows) {
+            System.out.printf("%-9s %-14s %,12.0f %,10.1f %,10.1f %,8d%n",
+                    row.mode(), row.endpoint(), row.throughput(), row.p50Millis(), row.p99Millis(), row.errors());
+            assertThat(row.requests()).isPositive();
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        String providerUrl = "http://127.0.0.1:" + provider.getAddress().getPort();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtual);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:vt-bench-" + virtual + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.hikari.maximum-pool-size", DB_POOL);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.griotold.prompthub", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("google.token-uri", providerUrl + "/token");
+        properties.put("google.user-info-uri", providerUrl + "/userinfo");
+        properties.put("app.outbound.google.max-concurrent-calls", CONCURRENCY * 2);
+        properties.put("app.outbound.google.read-timeout-ms", 30_000);
+
+        return new SpringApplicationBuilder(PrompthubApplication.class)
+                .profiles("test")
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new SlowDataSourcePostProcessor()))
+                // 기본 속성(properties)은 application-test.yml보다 우선순위가 낮으므로 명령행 인자로 넘긴다
+                .run(properties.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+    }
+
+    private static Long seedPrompt(ConfigurableApplicationContext context) {
+        Member member = context.getBean(MemberRegister.class).registerWithSocial(
+                new SocialRegisterRequest("reader@gmail.com", "reader", Provider.GOOGLE, "bench-reader"));
+        Category category = context.getBean(CategoryRegister.class).register(CategoryFixture.createCategoryRegisterRequest());
+        Prompt prompt = context.getBean(PromptRegister.class).register(PromptFixture.createPromptRegisterRequest(), member, category);
+        return prompt.getId();
+    }
+
+    private static String accessToken(ConfigurableApplicationContext context) {
+        Member member = context.getBean(MemberFinder.class)
+                .findBySocial(Provider.GOOGLE, "bench-reader")
+                .orElseThrow();
+        return context.getBean(JwtTokenProvider.class).createAccessToken(member);
+    }
+
+    /**
+     * CONCURRENCY개의 클라이언트가 쉬지 않고 요청을 보낸다. 워밍업 구간의 응답은 집계하지 않는다.
+     */
+    private Row run(String mode, String endpoint, HttpRequest request) throws InterruptedException {
+        long warmupEndsAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long endsAt = warmupEndsAt + TimeUnit.SECONDS.toNanos(SECONDS);
+        Queue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < endsAt) {
+                        long startedAt = System.nanoTime();
+                        boolean ok;
+                        try {
+                            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            ok = status / 100 == 2;
+                        } catch (IOException | InterruptedException e) {
+                            ok = false;
+                        }
+                        long finishedAt = System.nanoTime();
+                        if (startedAt < warmupEndsAt || finishedAt > endsAt) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = finishedAt - startedAt;
+                    }
+                    latencies.add(Arrays.copyOf(samples, count));
+                });
+            }
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Row(mode, endpoint, all.length, all.length / (double) SECONDS,
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99), errors.get());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void respondSlowly(HttpExchange exchange, String body) throws IOException {
+        sleep(PROVIDER_DELAY_MS);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Row(String mode, String endpoint, long requests, double throughput,
+                       double p50Millis, double p99Millis, long errors) {
+    }
+
+    /**
+     * 커넥션을 얻은 뒤 DB_DELAY_MS만큼 기다려 원격 DB의 쿼리 대기를 흉내낸다
+     */
+    static class SlowDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof SlowDataSource)) {
+                return new SlowDataSource(dataSource);
+            }
+            return bean;
+        }
+    }
+
+    static class SlowDataSource extends DelegatingDataSource {
+
+        SlowDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            sleep(DB_DELAY_MS);
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.griotold.prompthub.adapter.integration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버로 제한 시간, 동시 호출 한도, 회로 차단 확인
+ */
+class ProviderHttpClientTest {
+
+    HttpServer server;
+    ExecutorService serverExecutor;
+    String baseUrl;
+    AtomicInteger hits;
+    CountDownLatch blocked;
+    CountDownLatch release;
+    MutableClock clock;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        hits = new AtomicInteger();
+        blocked = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200, "ok"));
+        server.createContext("/slow", exchange -> {
+            sleep(2_000);
+            respond(exchange, 200, "slow");
+        });
+        server.createContext("/error", exchange -> respond(exchange, 500, "error"));
+        server.createContext("/bad", exchange -> respond(exchange, 400, "bad"));
+        server.createContext("/block", exchange -> {
+            blocked.countDown();
+            await(release);
+            respond(exchange, 200, "released");
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void call_응답이_늦으면_제한_시간에_실패() {
+        ProviderHttpClient client = client(settings(Duration.ofMillis(200), 10, 5));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> get(client, "/slow")).isInstanceOf(ResourceAccessException.class);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(1_500);
+        assertThat(client.metrics().failures()).isEqualTo(1);
+        assertThat(client.metrics().calls()).isEqualTo(1);
+    }
+
+    @Test
+    void call_연속_실패하면_회로를_열고_호출하지_않고_바로_실패() {
+        ProviderHttpClient client = client(settings(Duration.ofSeconds(1), 10, 2));
+
+        assertThatThrownBy(() -> get(client, "/error")).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> get(client, "/error")).isInstanceOf(HttpServerErrorException.class);
+        int hitsBeforeOpen = hits.get();
+
+        assertThatThrownBy(() -> get(client, "/ok")).isInstanceOf(OutboundCallRejectedException.class);
+        assertThat(hits.get()).isEqualTo(hitsBeforeOpen);
+        assertThat(client.metrics().circuitState()).isEqualTo("OPEN");
+        assertThat(client.metrics().shortCircuited()).isEqualTo(1);
+    }
+
+    @Test
+    void call_열린_시간이_지나면_시험_호출이_성공해_회로를_닫는다() {
+        ProviderHttpClient client = client(settings(Duration.ofSeconds(1), 10, 1));
+        assertThatThrownBy(() -> get(client, "/error")).isInstanceOf(HttpServerErrorException.class);
+        assertThat(client.metrics().circuitState()).isEqualTo("OPEN");
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(get(client, "/ok")).isEqualTo("ok");
+        assertThat(client.metrics().circuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void call_4xx는_제공자_장애로_보지_않는다() {
+        ProviderHttpClient client = client(settings(Duration.ofSeconds(1), 10, 1));
+
+        assertThatThrownBy(() -> get(client, "/bad")).isInstanceOf(HttpClientErrorException.BadRequest.class);
+
+        assertThat(client.metrics().circuitState()).isEqualTo("CLOSED");
+        assertThat(client.metrics().failures()).isZero();
+    }
+
+    @Test
+    void call_동시_호출_한도를_넘으면_기다리지_않고_실패() throws Exception {
+        ProviderHttpClient client = client(settings(Duration.ofSeconds(5), 1, 5));
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        Future<String> inFlight = caller.submit(() -> get(client, "/block"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> get(client, "/ok")).isInstanceOf(OutboundCallRejectedException.class);
+        assertThat((System.nanoTime() - startedAt) / 1_000_000).isLessThan(500);
+        assertThat(client.metrics().rejected()).isEqualTo(1);
+        assertThat(client.metrics().inFlight()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("released");
+        caller.shutdownNow();
+    }
+
+    private ProviderHttpClient client(OutboundHttpSettings settings) {
+        return ProviderHttpClient.create("stub", settings, clock);
+    }
+
+    private static OutboundHttpSettings settings(Duration readTimeout, int maxConcurrentCalls, int failureThreshold) {
+        return new OutboundHttpSettings(Duration.ofMillis(500), readTimeout, maxConcurrentCalls, failureThreshold,
+                Duration.ofSeconds(30));
+    }
+
+    private String get(ProviderHttpClient client, String path) {
+        return client.call(restClient -> restClient.get()
+                .uri(baseUrl + path)
+                .retrieve()
+                .body(String.class));
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        hits.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.griotold.prompthub.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompressedTextConverterTest {
+
+    static final String LONG_CONTENT = """
+            당신은 10년 경력의 마케팅 카피라이터입니다. 아래 제품 정보를 바탕으로 인스타그램 광고 문구를 작성해 주세요.
+            - 타깃: 20~30대 직장인
+            - 톤: 친근하고 위트 있게, 이모지는 두 개 이하
+            - 형식: 헤드라인 1줄, 본문 3줄, 해시태그 5개
+            You are a senior copywriter. Keep every headline under 20 characters and avoid exaggerated claims.
+            """.repeat(10);
+
+    CompressedTextConverter converter = new CompressedTextConverter(true, 1024, 65536);
+
+    @Test
+    void 기준_크기_이상이면_압축해서_저장하고_그대로_읽는다() {
+        String stored = converter.convertToDatabaseColumn(LONG_CONTENT);
+
+        assertThat(stored).startsWith(CompressedTextConverter.PREFIX);
+        assertThat(stored.length()).isLessThan(LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length / 2);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void 기준_크기보다_작거나_줄지_않으면_그대로_저장() {
+        assertThat(converter.convertToDatabaseColumn("짧은 본문")).isEqualTo("짧은 본문");
+
+        // 반복이 없는 값은 압축해도 Base64 때문에 오히려 커진다
+        StringBuilder random = new StringBuilder();
+        Random generator = new Random(42);
+        while (random.length() < 2048) {
+            random.append((char) ('!' + generator.nextInt(90)));
+        }
+        assertThat(converter.convertToDatabaseColumn(random.toString())).isEqualTo(random.toString());
+    }
+
+    @Test
+    void 압축_전에_저장된_행과_null은_그대로_읽는다() {
+        assertThat(converter.convertToEntityAttribute(LONG_CONTENT)).isEqualTo(LONG_CONTENT);
+        assertThat(converter.convertToEntityAttribute("")).isEmpty();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    void 설정을_꺼도_압축된_행은_읽는다() {
+        CompressedTextConverter disabled = new CompressedTextConverter(false, 1024, 65536);
+        String stored = converter.convertToDatabaseColumn(LONG_CONTENT);
+
+        assertThat(disabled.convertToDatabaseColumn(LONG_CONTENT)).isEqualTo(LONG_CONTENT);
+        assertThat(disabled.convertToEntityAttribute(stored)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void 접두사로_시작하는_원문은_항상_압축해서_구분한다() {
+        String tricky = CompressedTextConverter.PREFIX + "압축된 값처럼 보이는 본문";
+        CompressedTextConverter disabled = new CompressedTextConverter(false, 1024, 65536);
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(tricky))).isEqualTo(tricky);
+        assertThat(disabled.convertToEntityAttribute(disabled.convertToDatabaseColumn(tricky))).isEqualTo(tricky);
+    }
+
+    @Test
+    void 깨진_압축_값은_예외() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(CompressedTextConverter.PREFIX + "AAAAZP//"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 길이_헤더가_허용_범위를_벗어나면_배열을_잡기_전에_예외() {
+        // 0x7FFFFFFF, 0xFFFFFFFF (음수)
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(CompressedTextConverter.PREFIX + "f////w=="))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("허용 범위");
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(CompressedTextConverter.PREFIX + "/////w=="))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("허용 범위");
+    }
+
+    @Test
+    void 최대_크기를_넘는_값은_압축해서_쓰지_않고_예외() {
+        CompressedTextConverter small = new CompressedTextConverter(true, 16, 1024);
+
+        assertThatThrownBy(() -> small.convertToDatabaseColumn(LONG_CONTENT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 크기");
+    }
+
+    @Test
+    void 기준_크기는_0_이상() {
+        assertThatThrownBy(() -> new CompressedTextConverter(true, -1, 65536))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("압축 기준 크기는 0 이상이어야 합니다.");
+    }
+}
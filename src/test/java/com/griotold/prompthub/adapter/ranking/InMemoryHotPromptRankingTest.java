@@ -0,0 +1,243 @@
+package com.griotold.prompthub.adapter.ranking;
+
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.*;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryHotPromptRankingTest {
+
+    MutableClock clock;
+    InMemoryHotPromptRanking ranking;
+    Member member;
+    Category category1;
+    Category category2;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+        ranking = new InMemoryHotPromptRanking(clock, 24, 3);
+        member = Member.register(MemberFixture.createMemberRegisterRequest(), MemberFixture.createPasswordEncoder());
+        category1 = category(1L, "콘텐츠 작성");
+        category2 = category(2L, "업무 자동화");
+    }
+
+    @Test
+    void register_같은_반응이면_최신_프롬프트가_위() {
+        ranking.register(prompt(1L, category1));
+        clock.advance(Duration.ofHours(1));
+        ranking.register(prompt(2L, category1));
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void topIds_범위를_벗어난_offset() {
+        ranking.register(prompt(1L, category1));
+
+        assertThat(ranking.topIds(null, Integer.MAX_VALUE, 10)).isEmpty();
+        assertThat(ranking.topIds(null, -1, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void recordLike_오래된_프롬프트도_새_반응으로_올라감() {
+        ranking.register(prompt(1L, category1));
+        clock.advance(Duration.ofHours(1));
+        ranking.register(prompt(2L, category1));
+
+        ranking.recordLike(1L, 1);
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 반감기가_지나면_점수가_절반() {
+        ranking.register(prompt(1L, category1));
+        double initial = ranking.currentScore(1L);
+
+        clock.advance(Duration.ofHours(24));
+
+        assertThat(ranking.currentScore(1L)).isCloseTo(initial / 2, within(1e-9));
+    }
+
+    @Test
+    void 이틀_전의_좋아요_여러개보다_방금_좋아요가_더_큼() {
+        ranking.register(prompt(1L, category1));
+        ranking.register(prompt(2L, category1));
+        ranking.recordLike(1L, 1);
+        ranking.recordLike(1L, 1);
+        ranking.recordLike(1L, 1);
+
+        clock.advance(Duration.ofHours(48));
+        ranking.recordLike(2L, 1);
+        ranking.recordLike(2L, 1);
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void recordViews_recordReview_점수에_반영() {
+        ranking.register(prompt(1L, category1));
+        ranking.register(prompt(2L, category1));
+        ranking.register(prompt(3L, category1));
+
+        ranking.recordViews(Map.of(1L, 100L));
+        ranking.recordReview(3L, 5, 1);
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void recordLike_취소는_작성시점_점수_아래로_내려가지_않음() {
+        ranking.register(prompt(1L, category1));
+        double initial = ranking.currentScore(1L);
+
+        ranking.recordLike(1L, -1);
+        ranking.recordLike(1L, -1);
+
+        assertThat(ranking.currentScore(1L)).isCloseTo(initial, within(1e-9));
+    }
+
+    @Test
+    void recordLike_좋아요와_취소는_상쇄() {
+        ranking.register(prompt(1L, category1));
+        double initial = ranking.currentScore(1L);
+
+        ranking.recordLike(1L, 1);
+        ranking.recordLike(1L, -1);
+
+        assertThat(ranking.currentScore(1L)).isCloseTo(initial, within(1e-9));
+    }
+
+    @Test
+    void topIds_카테고리별_상위() {
+        ranking.register(prompt(1L, category1));
+        ranking.register(prompt(2L, category2));
+        ranking.register(prompt(3L, category1));
+
+        assertThat(ranking.topIds(1L, 0, 10)).containsExactly(3L, 1L);
+        assertThat(ranking.topIds(2L, 0, 10)).containsExactly(2L);
+        assertThat(ranking.topIds(99L, 0, 10)).isEmpty();
+        assertThat(ranking.size(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void 상위_K개만_유지하고_점수가_오르면_다시_진입() {
+        for (long id = 1; id <= 4; id++) {
+            ranking.register(prompt(id, category1));
+            clock.advance(Duration.ofMinutes(1));
+        }
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(4L, 3L, 2L);
+
+        ranking.recordLike(1L, 1);
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(1L, 4L, 3L);
+        assertThat(ranking.size(null)).isEqualTo(3);
+    }
+
+    @Test
+    void remove_빈_자리는_밀려나_있던_프롬프트로_다시_채움() {
+        for (long id = 1; id <= 4; id++) {
+            ranking.register(prompt(id, category1));
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        ranking.remove(3L);
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(4L, 2L, 1L);
+        assertThat(ranking.topIds(1L, 0, 10)).containsExactly(4L, 2L, 1L);
+        assertThat(ranking.size(null)).isEqualTo(3);
+    }
+
+    @Test
+    void recordLike_취소로_내려가면_밀려나_있던_프롬프트가_앞섬() {
+        for (long id = 1; id <= 4; id++) {
+            ranking.register(prompt(id, category1));
+            clock.advance(Duration.ofMinutes(1));
+        }
+        ranking.recordLike(1L, 1);
+        ranking.recordLike(2L, 1);
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(2L, 1L, 4L);
+
+        ranking.recordLike(2L, -1);
+
+        assertThat(ranking.topIds(null, 0, 10)).containsExactly(1L, 4L, 3L);
+        assertThat(ranking.size(null)).isEqualTo(3);
+    }
+
+    @Test
+    void remove_비공개_프롬프트() {
+        Prompt prompt = prompt(1L, category1);
+        ranking.register(prompt);
+        ranking.register(prompt(2L, category1));
+
+        prompt.makePrivate();
+        ranking.register(prompt);
+        ranking.remove(2L);
+
+        assertThat(ranking.topIds(null, 0, 10)).isEmpty();
+        assertThat(ranking.topIds(1L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void topIds_페이지_범위() {
+        for (long id = 1; id <= 3; id++) {
+            ranking.register(prompt(id, category1));
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        assertThat(ranking.topIds(null, 1, 1)).containsExactly(2L);
+        assertThat(ranking.topIds(null, 5, 1)).isEmpty();
+    }
+
+    private Prompt prompt(Long id, Category category) {
+        Prompt prompt = PromptFixture.createPrompt(member, category);
+        ReflectionTestUtils.setField(prompt, "id", id);
+        ReflectionTestUtils.setField(prompt, "createdAt", LocalDateTime.ofInstant(clock.instant(), clock.getZone()));
+        return prompt;
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = CategoryFixture.createCategory(name, "설명");
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
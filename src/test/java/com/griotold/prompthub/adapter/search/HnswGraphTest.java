@@ -0,0 +1,125 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.adapter.search.HashingVectorizer.QuantizedVector;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswGraphTest {
+
+    static final int DIMENSIONS = 32;
+
+    @Test
+    void search_전수_비교_대비_재현율() {
+        Random random = new Random(1);
+        List<QuantizedVector> vectors = IntStream.range(0, 2000).mapToObj(i -> randomVector(random)).toList();
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 16, 100, 42);
+        for (int i = 0; i < vectors.size(); i++) {
+            graph.add(i, vectors.get(i));
+        }
+
+        int found = 0;
+        int queries = 100;
+        for (int q = 0; q < queries; q++) {
+            QuantizedVector query = randomVector(random);
+            List<Long> exact = bruteForce(vectors, query, 10);
+            List<Long> approximate = graph.search(query, 10, 64, -1);
+            found += (int) approximate.stream().filter(exact::contains).count();
+        }
+
+        assertThat(found / (double) (queries * 10)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void remove_삭제한_노드는_결과에서_빠지고_다시_넣으면_교체() {
+        Random random = new Random(2);
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 16, 100, 42);
+        for (int i = 0; i < 100; i++) {
+            graph.add(i, randomVector(random));
+        }
+        QuantizedVector vector = graph.vectorOf(7);
+
+        assertThat(graph.search(vector, 1, 64, -1)).containsExactly(7L);
+        assertThat(graph.search(vector, 1, 64, 7)).doesNotContain(7L);
+
+        graph.remove(7);
+        assertThat(graph.contains(7)).isFalse();
+        assertThat(graph.search(vector, 10, 64, -1)).doesNotContain(7L);
+        assertThat(graph.liveSize()).isEqualTo(99);
+        assertThat(graph.deletedSize()).isEqualTo(1);
+
+        QuantizedVector replaced = randomVector(random);
+        graph.add(7, replaced);
+        graph.add(7, replaced);
+        assertThat(graph.search(replaced, 1, 64, -1)).containsExactly(7L);
+        assertThat(graph.liveSize()).isEqualTo(100);
+        assertThat(graph.liveVectors()).hasSize(100).containsKey(7L);
+    }
+
+    @Test
+    void writeTo_readFrom_같은_결과() throws IOException {
+        Random random = new Random(3);
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 16, 100, 42);
+        for (int i = 0; i < 300; i++) {
+            graph.add(i, randomVector(random));
+        }
+        graph.remove(10);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        graph.writeTo(new DataOutputStream(bytes));
+        HnswGraph restored = HnswGraph.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 42);
+
+        QuantizedVector query = randomVector(random);
+        assertThat(restored.search(query, 10, 64, -1)).isEqualTo(graph.search(query, 10, 64, -1));
+        assertThat(restored.liveSize()).isEqualTo(299);
+        assertThat(restored.contains(10)).isFalse();
+    }
+
+    @Test
+    void 빈_그래프는_빈_결과() {
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 16, 100, 42);
+
+        assertThat(graph.search(randomVector(new Random(4)), 10, 64, -1)).isEmpty();
+        assertThat(graph.vectorOf(1)).isNull();
+    }
+
+    private static List<Long> bruteForce(List<QuantizedVector> vectors, QuantizedVector query, int k) {
+        return IntStream.range(0, vectors.size()).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> vectors.get(i).dot(query)).reversed())
+                .limit(k)
+                .map(Integer::longValue)
+                .toList();
+    }
+
+    // 정규화한 뒤 성분 최댓값이 127이 되도록 양자화
+    static QuantizedVector randomVector(Random random) {
+        double[] values = new double[DIMENSIONS];
+        double norm = 0;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            values[i] = random.nextGaussian();
+            norm += values[i] * values[i];
+        }
+        norm = Math.sqrt(norm);
+        double max = 0;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            values[i] /= norm;
+            max = Math.max(max, Math.abs(values[i]));
+        }
+        float scale = (float) (max / Byte.MAX_VALUE);
+        byte[] quantized = new byte[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            quantized[i] = (byte) Math.round(values[i] / scale);
+        }
+        return new QuantizedVector(quantized, scale);
+    }
+}
@@ -0,0 +1,105 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.domain.prompt.ContentFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryDuplicatePromptIndexTest {
+
+    static final long BASE = 0x5DEECE66DL * 0x9E3779B97F4A7C15L;
+
+    InMemoryDuplicatePromptIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryDuplicatePromptIndex();
+    }
+
+    @Test
+    void findNearDuplicates_거리_7_이하만_가까운_순서_자기_자신_제외() {
+        index.add(1L, fingerprint(BASE));
+        index.add(2L, fingerprint(flip(BASE, 0, 17, 33, 49, 63, 5, 21)));  // 구간마다 1~2비트씩 7비트
+        index.add(3L, fingerprint(flip(BASE, 40)));
+        index.add(4L, fingerprint(flip(BASE, 0, 1, 16, 17, 32, 33, 48, 49)));  // 8비트
+        index.add(5L, fingerprint(~BASE));
+
+        assertThat(index.findNearDuplicates(fingerprint(BASE), 1L)).containsExactly(3L, 2L);
+        assertThat(index.findNearDuplicates(fingerprint(BASE), null)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void findNearDuplicates_7비트_이하로_다르면_빠짐없이_찾는다() {
+        Random random = new Random(42);
+        for (long id = 1; id <= 1000; id++) {
+            long value = random.nextLong();
+            long copy = value;
+            int bits = random.nextInt(ContentFingerprint.NEAR_DUPLICATE_DISTANCE + 1);
+            while (Long.bitCount(copy ^ value) < bits) {
+                copy ^= 1L << random.nextInt(Long.SIZE);
+            }
+            index.add(id, fingerprint(copy));
+
+            assertThat(index.findNearDuplicates(fingerprint(value), null)).contains(id);
+        }
+    }
+
+    @Test
+    void add_같은_프롬프트는_한_번만_remove하면_빠진다() {
+        index.add(1L, fingerprint(BASE));
+        index.add(1L, fingerprint(BASE));
+        index.add(2L, fingerprint(flip(BASE, 3)));
+        assertThat(index.size()).isEqualTo(2);
+
+        index.remove(1L, fingerprint(BASE));
+        index.remove(1L, fingerprint(BASE));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findNearDuplicates(fingerprint(BASE), null)).containsExactly(2L);
+    }
+
+    @Test
+    void findClusters_이어진_유사_중복끼리_묶고_큰_묶음부터() {
+        // 1-2-3은 이웃끼리만 가깝지만(1과 3은 8비트) 한 묶음
+        index.add(1L, fingerprint(BASE));
+        index.add(2L, fingerprint(flip(BASE, 0, 1, 2, 3)));
+        index.add(3L, fingerprint(flip(BASE, 0, 1, 2, 3, 20, 36, 52, 60)));
+        index.add(4L, fingerprint(~BASE));
+        index.add(5L, fingerprint(flip(~BASE, 10)));
+        index.add(6L, fingerprint(BASE ^ 0x00FF00FF00FF00FFL));
+
+        assertThat(index.findClusters(10)).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L));
+        assertThat(index.findClusters(1)).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void findClusters_크기가_같으면_최근_등록된_묶음부터() {
+        index.add(1L, fingerprint(BASE));
+        index.add(4L, fingerprint(flip(BASE, 7)));
+        index.add(2L, fingerprint(~BASE));
+        index.add(3L, fingerprint(flip(~BASE, 7)));
+
+        assertThat(index.findClusters(10)).containsExactly(List.of(1L, 4L), List.of(2L, 3L));
+    }
+
+    @Test
+    void 비어_있으면_빈_결과() {
+        assertThat(index.findNearDuplicates(fingerprint(BASE), null)).isEmpty();
+        assertThat(index.findClusters(10)).isEmpty();
+    }
+
+    private static ContentFingerprint fingerprint(long value) {
+        return new ContentFingerprint(value);
+    }
+
+    private static long flip(long value, int... bits) {
+        for (int bit : bits) {
+            value ^= 1L << bit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,163 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptSearchIndex.Hits;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPromptSearchIndexTest {
+
+    InMemoryPromptSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryPromptSearchIndex();
+    }
+
+    @Test
+    void search_모든_토큰을_포함한_문서만_매칭() {
+        index.index(prompt(1L, "블로그 작성법", "글쓰기 팁"));
+        index.index(prompt(2L, "블로그 마케팅", "홍보 전략"));
+        index.index(prompt(3L, "이메일 작성", "업무용"));
+
+        Hits hits = index.search("블로그 작성", 0, 10);
+
+        assertThat(hits.promptIds()).containsExactly(1L);
+        assertThat(hits.totalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void search_범위를_벗어난_offset은_빈_결과() {
+        index.index(prompt(1L, "블로그 작성법", "글쓰기 팁"));
+
+        assertThat(index.search("블로그", Integer.MAX_VALUE, 10).promptIds()).isEmpty();
+        assertThat(index.search("블로그", -1, 10).promptIds()).containsExactly(1L);
+    }
+
+    @Test
+    void search_제목_매칭이_본문보다_높은_점수() {
+        index.index(prompt(1L, "다른 제목", "블로그 관련 내용"));
+        index.index(prompt(2L, "블로그 작성법", "내용"));
+
+        Hits hits = index.search("블로그", 0, 10);
+
+        assertThat(hits.promptIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search_좋아요와_평점이_랭킹을_끌어올림() {
+        index.index(prompt(1L, "요약 프롬프트", "문서를 요약"));
+        index.index(prompt(2L, "요약 프롬프트", "문서를 요약"));
+        index.adjustLikes(2L, 2);
+        index.updateRating(2L, 5.0);
+
+        Hits hits = index.search("요약", 0, 10);
+
+        assertThat(hits.promptIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void adjustLikes_본문_재색인_없이_순위_변경() {
+        index.index(prompt(1L, "요약 프롬프트", "문서를 요약"));
+        index.index(prompt(2L, "요약 프롬프트", "문서를 요약"));
+
+        index.adjustLikes(1L, 1);
+
+        assertThat(index.search("요약", 0, 10).promptIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_한_음절_질의는_여러_음절_단어에서도_매칭() {
+        index.index(prompt(1L, "블로그 글쓰기", "초안"));
+        index.index(prompt(2L, "책 추천", "읽을 책"));
+        index.index(prompt(3L, "이메일 작성", "업무용"));
+
+        assertThat(index.search("글", 0, 10).promptIds()).containsExactly(1L);
+        assertThat(index.search("책", 0, 10).promptIds()).containsExactly(2L);
+        assertThat(index.search("글 초안", 0, 10).promptIds()).containsExactly(1L);
+    }
+
+    @Test
+    void index_수정하면_이전_토큰은_검색되지_않음() {
+        Prompt prompt = prompt(1L, "블로그 작성법", "내용");
+        index.index(prompt);
+
+        prompt.update(PromptFixture.createPromptUpdateRequest("이메일 작성법", "내용", "설명"));
+        index.index(prompt);
+
+        assertThat(index.search("블로그", 0, 10).promptIds()).isEmpty();
+        assertThat(index.search("이메일", 0, 10).promptIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void index_비공개_프롬프트는_제거() {
+        Prompt prompt = prompt(1L, "블로그 작성법", "내용");
+        index.index(prompt);
+
+        prompt.makePrivate();
+        index.index(prompt);
+
+        assertThat(index.search("블로그", 0, 10).promptIds()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void remove() {
+        index.index(prompt(1L, "블로그 작성법", "내용"));
+        index.index(prompt(2L, "블로그 마케팅", "내용"));
+
+        index.remove(1L);
+
+        assertThat(index.search("블로그", 0, 10).promptIds()).containsExactly(2L);
+    }
+
+    @Test
+    void search_페이지_범위() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(prompt(id, "블로그 " + id, "내용"));
+        }
+
+        Hits hits = index.search("블로그", 2, 2);
+
+        assertThat(hits.promptIds()).hasSize(2);
+        assertThat(hits.totalHits()).isEqualTo(5);
+        assertThat(index.search("블로그", 10, 2).promptIds()).isEmpty();
+    }
+
+    @Test
+    void index_수정을_반복해도_버려진_번호를_압축해서_배열이_커지지_않음() {
+        Prompt first = prompt(1L, "요약 프롬프트", "문서를 요약");
+        Prompt second = prompt(2L, "요약 프롬프트", "문서를 요약");
+        index.index(first);
+        index.index(second);
+        int capacity = index.capacity();
+
+        for (int i = 0; i < capacity * 4; i++) {
+            index.index(i % 2 == 0 ? second : first);
+        }
+
+        assertThat(index.capacity()).isEqualTo(capacity);
+        assertThat(index.size()).isEqualTo(2);
+        // 압축 후에도 번호 순서가 유지되어 동점이면 마지막으로 색인된 first가 앞선다
+        assertThat(index.search("요약", 0, 10).promptIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_없는_토큰() {
+        index.index(prompt(1L, "블로그 작성법", "내용"));
+
+        assertThat(index.search("유튜브", 0, 10).promptIds()).isEmpty();
+        assertThat(index.search("   ", 0, 10).promptIds()).isEmpty();
+    }
+
+    private static Prompt prompt(Long id, String title, String content) {
+        Prompt prompt = PromptFixture.createPrompt(title, content, "설명");
+        ReflectionTestUtils.setField(prompt, "id", id);
+        return prompt;
+    }
+}
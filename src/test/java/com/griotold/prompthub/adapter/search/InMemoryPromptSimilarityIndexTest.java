@@ -0,0 +1,172 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.adapter.search.HashingVectorizer.QuantizedVector;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryPromptSimilarityIndexTest {
+
+    InMemoryPromptSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryPromptSimilarityIndex();
+    }
+
+    @Test
+    void findSimilar_내용이_비슷할수록_앞_자기_자신_제외() {
+        index.index(prompt(1L, "블로그 글쓰기", "블로그 포스팅 초안을 작성해 주세요"));
+        index.index(prompt(2L, "블로그 포스팅", "블로그 글 초안 작성"));
+        index.index(prompt(3L, "이메일 답장", "업무 메일에 정중하게 답장"));
+
+        assertThat(index.findSimilar(1L, 10)).startsWith(2L).doesNotContain(1L);
+        assertThat(index.findSimilar(1L, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void index_비공개와_수정이_바로_반영() {
+        Prompt hidden = prompt(2L, "블로그 포스팅", "블로그 글 초안 작성");
+        index.index(prompt(1L, "블로그 글쓰기", "블로그 포스팅 초안을 작성해 주세요"));
+        index.index(hidden);
+
+        hidden.makePrivate();
+        index.index(hidden);
+        assertThat(index.findSimilar(1L, 10)).doesNotContain(2L);
+        assertThat(index.findSimilar(2L, 10)).isEmpty();
+
+        index.index(prompt(3L, "블로그 포스팅", "블로그 글 초안 작성"));
+        index.remove(1L);
+        assertThat(index.findSimilar(3L, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void finishRebuild_재구축_중의_변경을_다시_반영() {
+        index.index(prompt(1L, "블로그 글쓰기", "블로그 포스팅 초안"));
+
+        HashingVectorizer vectorizer = index.beginRebuild();
+        HnswGraph graph = index.newGraph();
+        float[] frequencies = vectorizer.termFrequencies("블로그 글쓰기", "설명", "블로그 포스팅 초안");
+        vectorizer.addDocument(frequencies);
+        graph.add(1L, vectorizer.vectorize(frequencies));
+
+        index.index(prompt(2L, "블로그 포스팅", "블로그 글 초안"));
+        index.finishRebuild(vectorizer, graph);
+
+        assertThat(index.findSimilar(1L, 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void compact_삭제_표시를_정리해도_결과는_같다() {
+        for (long id = 1; id <= 10; id++) {
+            index.index(prompt(id, "블로그 글쓰기 " + id, "블로그 포스팅 초안 " + id));
+        }
+        for (long id = 1; id <= 5; id++) {
+            index.remove(id);
+        }
+        assertThat(index.needsCompaction()).isTrue();
+
+        index.compact();
+
+        assertThat(index.needsCompaction()).isFalse();
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.findSimilar(6L, 10)).containsExactlyInAnyOrder(7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void finishCompaction_압축_중의_변경은_그래프에만_다시_반영() {
+        InMemoryPromptSimilarityIndex uncompacted = new InMemoryPromptSimilarityIndex();
+        for (InMemoryPromptSimilarityIndex target : List.of(index, uncompacted)) {
+            for (long id = 1; id <= 4; id++) {
+                target.index(prompt(id, "블로그 글쓰기 " + id, "블로그 포스팅 초안 " + id));
+            }
+            target.remove(1L);
+            target.remove(2L);
+        }
+        assertThat(index.needsCompaction()).isTrue();
+
+        // when - 살아 있는 노드를 읽은 뒤, 교체하기 전에 쓰기가 들어온다
+        Map<Long, QuantizedVector> live = index.beginCompaction();
+        for (InMemoryPromptSimilarityIndex target : List.of(index, uncompacted)) {
+            target.index(prompt(5L, "블로그 포스팅", "블로그 글 초안"));
+            target.index(prompt(6L, "블로그 글쓰기", "블로그 포스팅 초안 작성"));
+            target.index(prompt(3L, "이메일 답장", "업무 메일에 정중하게 답장"));
+            target.remove(4L);
+        }
+        HnswGraph compacted = index.newGraph();
+        live.forEach(compacted::add);
+        index.finishCompaction(compacted);
+
+        // then - 문서 빈도는 한 번만 반영되고, 그래프는 압축 중의 변경까지 담는다
+        assertThat(index.documents()).isEqualTo(uncompacted.documents()).isEqualTo(3);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.findSimilar(4L, 10)).isEmpty();
+        assertThat(index.findSimilar(5L, 10)).startsWith(6L).doesNotContain(4L);
+    }
+
+    @Test
+    void save_restore_스냅샷으로_같은_결과(@TempDir Path directory) throws IOException {
+        index.index(prompt(1L, "블로그 글쓰기", "블로그 포스팅 초안을 작성해 주세요"));
+        index.index(prompt(2L, "블로그 포스팅", "블로그 글 초안 작성"));
+        index.index(prompt(3L, "이메일 답장", "업무 메일에 정중하게 답장"));
+        Path snapshot = directory.resolve("similarity.idx");
+
+        assertThat(index.isDirty()).isTrue();
+        index.save(snapshot);
+        assertThat(index.isDirty()).isFalse();
+
+        InMemoryPromptSimilarityIndex restored = new InMemoryPromptSimilarityIndex();
+        restored.restore(snapshot);
+
+        assertThat(restored.size()).isEqualTo(3);
+        assertThat(restored.findSimilar(1L, 10)).isEqualTo(index.findSimilar(1L, 10));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(snapshot); // 임시 파일이 남지 않는다
+        }
+    }
+
+    @Test
+    void save_파일을_쓰지_못하면_다시_저장할_차례(@TempDir Path directory) throws IOException {
+        index.index(prompt(1L, "블로그 글쓰기", "블로그 포스팅 초안"));
+        Path notDirectory = Files.writeString(directory.resolve("file"), "");
+
+        assertThatThrownBy(() -> index.save(notDirectory.resolve("similarity.idx"))).isInstanceOf(IOException.class);
+        assertThat(index.isDirty()).isTrue();
+    }
+
+    @Test
+    void restore_형식이_다르면_예외_기존_인덱스_유지(@TempDir Path directory) throws IOException {
+        index.index(prompt(1L, "블로그 글쓰기", "블로그 포스팅 초안"));
+        index.index(prompt(2L, "블로그 포스팅", "블로그 글 초안"));
+        Path broken = Files.write(directory.resolve("broken.idx"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> index.restore(broken)).isInstanceOf(IOException.class);
+        assertThat(index.findSimilar(1L, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void 없는_프롬프트는_빈_결과() {
+        assertThat(index.findSimilar(99L, 10)).isEmpty();
+    }
+
+    private static Prompt prompt(Long id, String title, String content) {
+        Prompt prompt = PromptFixture.createPrompt(title, content, "설명");
+        ReflectionTestUtils.setField(prompt, "id", id);
+        return prompt;
+    }
+}
@@ -0,0 +1,78 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.application.prompt.required.PromptTagIndex.Hits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPromptTagIndexTest {
+
+    InMemoryPromptTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryPromptTagIndex();
+    }
+
+    @Test
+    void findByAllTags_모든_태그를_가진_프롬프트만_최신순() {
+        index.add(1L, List.of(10L, 20L));
+        index.add(2L, List.of(10L));
+        index.add(3L, List.of(10L, 20L, 30L));
+        index.add(4L, List.of(20L));
+
+        Hits hits = index.findByAllTags(List.of(10L, 20L), 0, 10);
+
+        assertThat(hits.promptIds()).containsExactly(3L, 1L);
+        assertThat(hits.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    void findByAllTags_없는_태그가_섞이면_빈_결과() {
+        index.add(1L, List.of(10L));
+
+        assertThat(index.findByAllTags(List.of(10L, 99L), 0, 10)).isEqualTo(Hits.empty());
+        assertThat(index.findByAllTags(List.of(), 0, 10)).isEqualTo(Hits.empty());
+    }
+
+    @Test
+    void findByAllTags_페이징() {
+        for (long promptId = 1; promptId <= 100; promptId++) {
+            index.add(promptId, promptId % 2 == 0 ? List.of(1L, 2L) : List.of(1L));
+        }
+
+        Hits hits = index.findByAllTags(List.of(1L, 2L), 10, 5);
+
+        assertThat(hits.promptIds()).containsExactly(80L, 78L, 76L, 74L, 72L);
+        assertThat(hits.totalHits()).isEqualTo(50);
+        assertThat(index.findByAllTags(List.of(1L, 2L), 50, 5).promptIds()).isEmpty();
+    }
+
+    @Test
+    void add_순서와_관계없이_정렬_유지() {
+        index.add(5L, List.of(1L));
+        index.add(2L, List.of(1L));
+        index.add(9L, List.of(1L));
+        index.add(2L, List.of(1L));
+
+        Hits hits = index.findByAllTags(List.of(1L), 0, 10);
+
+        assertThat(hits.promptIds()).containsExactly(9L, 5L, 2L);
+    }
+
+    @Test
+    void remove_태그와_프롬프트_제거() {
+        index.add(1L, List.of(10L, 20L));
+        index.add(2L, List.of(10L, 20L));
+
+        index.remove(1L, List.of(20L));
+        assertThat(index.findByAllTags(List.of(10L, 20L), 0, 10).promptIds()).containsExactly(2L);
+
+        index.removePrompt(2L);
+        assertThat(index.findByAllTags(List.of(10L), 0, 10).promptIds()).containsExactly(1L);
+        assertThat(index.findByAllTags(List.of(20L), 0, 10)).isEqualTo(Hits.empty());
+    }
+}
@@ -0,0 +1,78 @@
+package com.griotold.prompthub.adapter.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRelatedPromptIndexTest {
+
+    InMemoryRelatedPromptIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryRelatedPromptIndex();
+    }
+
+    @Test
+    void findSimilar_태그가_많이_겹칠수록_앞() {
+        index.add(1L, List.of(10L, 20L, 30L));
+        index.add(2L, List.of(10L, 20L, 30L));
+        index.add(3L, List.of(10L, 20L, 40L));
+        index.add(4L, List.of(50L, 60L));
+
+        List<Long> similar = index.findSimilar(1L, 10);
+
+        assertThat(similar).startsWith(2L).doesNotContain(1L, 4L);
+    }
+
+    @Test
+    void findSimilar_유사도가_같으면_최신순() {
+        index.add(1L, List.of(10L, 20L));
+        index.add(2L, List.of(10L, 20L));
+        index.add(3L, List.of(10L, 20L));
+
+        assertThat(index.findSimilar(1L, 10)).containsExactly(3L, 2L);
+        assertThat(index.findSimilar(1L, 1)).containsExactly(3L);
+    }
+
+    @Test
+    void findSimilar_태그_변경이_바로_반영() {
+        index.add(1L, List.of(10L, 20L));
+        index.add(2L, List.of(10L, 20L));
+
+        index.remove(2L, List.of(10L, 20L));
+        assertThat(index.findSimilar(1L, 10)).isEmpty();
+
+        index.add(2L, List.of(10L, 20L));
+        index.removePrompt(1L);
+        assertThat(index.findSimilar(1L, 10)).isEmpty();
+        assertThat(index.findSimilar(2L, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void findCooccurringTags_함께_많이_쓰인_순서_자신의_태그_제외() {
+        index.add(1L, List.of(10L, 20L));
+        index.add(2L, List.of(10L, 30L));
+        index.add(3L, List.of(10L, 30L));
+        index.add(4L, List.of(20L, 30L));
+        index.add(5L, List.of(10L));
+
+        // 10과 함께: 20 1번, 30 2번 / 20과 함께: 10 1번, 30 1번
+        assertThat(index.findCooccurringTags(1L, 10)).containsExactly(30L);
+
+        index.removePrompt(2L);
+        index.removePrompt(3L);
+        index.removePrompt(4L);
+        assertThat(index.findCooccurringTags(1L, 10)).isEmpty();
+    }
+
+    @Test
+    void 없는_프롬프트는_빈_결과() {
+        assertThat(index.findSimilar(99L, 10)).isEmpty();
+        assertThat(index.findCooccurringTags(99L, 10)).isEmpty();
+    }
+}
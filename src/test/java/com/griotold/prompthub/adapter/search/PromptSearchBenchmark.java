@@ -0,0 +1,132 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 역색인 검색 vs LIKE '%keyword%' 비교 벤치마크
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * 문서 수: -Dbenchmark.prompts=1000000 (기본 100만)
+ */
+@Tag("benchmark")
+class PromptSearchBenchmark {
+
+    private static final int PROMPTS = Integer.getInteger("benchmark.prompts", 1_000_000);
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String[] WORDS = {
+            "블로그", "작성법", "마케팅", "이메일", "요약", "번역", "코드", "리뷰", "유튜브", "대본",
+            "보고서", "회의록", "자기소개서", "면접", "여행", "일정", "레시피", "운동", "계획", "기획서",
+            "chatgpt", "prompt", "python", "java", "sql", "seo", "summary", "email", "resume", "travel"
+    };
+    private static final List<String> QUERIES = List.of("블로그", "자기소개서 면접", "python 코드 리뷰", "여행 일정");
+
+    @Test
+    void 역색인_vs_LIKE() throws SQLException {
+        Random random = new Random(42);
+        Member member = Member.register(MemberFixture.createMemberRegisterRequest(), MemberFixture.createPasswordEncoder());
+        Category category = CategoryFixture.createCategory();
+        InMemoryPromptSearchIndex index = new InMemoryPromptSearchIndex();
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1", "sa", "")) {
+            createTable(connection);
+
+            long loadStartedAt = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO bench_prompt (id, title, content, is_public, created_at) VALUES (?, ?, ?, TRUE, ?)")) {
+                LocalDateTime now = LocalDateTime.now();
+                for (long id = 1; id <= PROMPTS; id++) {
+                    String title = sentence(random, 3);
+                    String content = sentence(random, 30);
+
+                    Prompt prompt = Prompt.register(PromptFixture.createPromptRegisterRequest(title, content, null), member, category);
+                    ReflectionTestUtils.setField(prompt, "id", id);
+                    index.index(prompt);
+
+                    insert.setLong(1, id);
+                    insert.setString(2, title);
+                    insert.setString(3, content);
+                    insert.setTimestamp(4, Timestamp.valueOf(now.minusSeconds(PROMPTS - id)));
+                    insert.addBatch();
+                    if (id % 10_000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            System.out.printf("적재 완료: %,d건, %,dms%n", PROMPTS, (System.nanoTime() - loadStartedAt) / 1_000_000);
+
+            System.out.printf("%-20s %15s %15s%n", "query", "index(us)", "LIKE(us)");
+            for (String query : QUERIES) {
+                long indexMicros = measure(() -> index.search(query, 0, PAGE_SIZE));
+                long likeMicros = measure(() -> searchWithLike(connection, query));
+                System.out.printf("%-20s %,15d %,15d%n", query, indexMicros, likeMicros);
+            }
+
+            assertThat(index.size()).isEqualTo(PROMPTS);
+        }
+    }
+
+    private static void createTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_prompt");
+            statement.execute("CREATE TABLE bench_prompt (id BIGINT PRIMARY KEY, title VARCHAR(200) NOT NULL, "
+                    + "content CHARACTER LARGE OBJECT NOT NULL, is_public BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL)");
+        }
+    }
+
+    // PromptRepository.searchPublic 과 같은 형태: 페이지 조회 + COUNT
+    private static void searchWithLike(Connection connection, String keyword) {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id FROM bench_prompt WHERE is_public = TRUE AND (title LIKE ? OR content LIKE ?) ORDER BY created_at DESC LIMIT ?");
+             PreparedStatement count = connection.prepareStatement(
+                     "SELECT COUNT(*) FROM bench_prompt WHERE is_public = TRUE AND (title LIKE ? OR content LIKE ?)")) {
+            page.setString(1, pattern);
+            page.setString(2, pattern);
+            page.setInt(3, PAGE_SIZE);
+            page.executeQuery().close();
+
+            count.setString(1, pattern);
+            count.setString(2, pattern);
+            count.executeQuery().close();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS / 1_000;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return builder.toString().trim();
+    }
+}
@@ -0,0 +1,151 @@
+package com.griotold.prompthub.adapter.search;
+
+import com.griotold.prompthub.adapter.search.HashingVectorizer.QuantizedVector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사도 인덱스(HNSW) vs 전체 코사인 비교 벤치마크
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * 프롬프트 수: -Dbenchmark.prompts=100000 (기본 10만)
+ * 문서는 주제별 단어 묶음에서 뽑은 합성 텍스트
+ * 재현율은 같은 양자화 벡터로 전부 비교한 정답 상위 10개의 최저 점수 이상인 결과의 비율 (동점은 어느 쪽이든 정답)
+ */
+@Tag("benchmark")
+class PromptSimilarityBenchmark {
+
+    private static final int PROMPTS = Integer.getInteger("benchmark.prompts", 100_000);
+    private static final int TOPICS = 500;
+    private static final int WORDS_PER_TOPIC = 40;
+    private static final int COMMON_WORDS = 2_000;
+    private static final int QUERIES = 200;
+    private static final int LIMIT = 10;
+
+    @Test
+    void 유사도_인덱스_vs_전체_코사인(@TempDir Path directory) throws IOException {
+        Random random = new Random(42);
+        String[][] documents = new String[PROMPTS + 1][];
+        for (int id = 1; id <= PROMPTS; id++) {
+            documents[id] = randomDocument(random);
+        }
+
+        InMemoryPromptSimilarityIndex index = new InMemoryPromptSimilarityIndex();
+        long buildStartedAt = System.nanoTime();
+        HashingVectorizer vectorizer = index.beginRebuild();
+        for (int id = 1; id <= PROMPTS; id++) {
+            vectorizer.addDocument(termFrequencies(vectorizer, documents[id]));
+        }
+        HnswGraph graph = index.newGraph();
+        QuantizedVector[] vectors = new QuantizedVector[PROMPTS + 1];
+        for (int id = 1; id <= PROMPTS; id++) {
+            vectors[id] = vectorizer.vectorize(termFrequencies(vectorizer, documents[id]));
+            graph.add(id, vectors[id]);
+        }
+        index.finishRebuild(vectorizer, graph);
+        System.out.printf("구축 완료: %,d건, %,dms%n", PROMPTS, (System.nanoTime() - buildStartedAt) / 1_000_000);
+
+        long[] queryIds = random.longs(QUERIES, 1, PROMPTS + 1).toArray();
+        for (long id : queryIds) {
+            index.findSimilar(id, LIMIT);
+        }
+
+        long[] indexNanos = new long[QUERIES];
+        long bruteForceNanos = 0;
+        double recall = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long startedAt = System.nanoTime();
+            List<Long> similar = index.findSimilar(queryIds[i], LIMIT);
+            indexNanos[i] = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            float threshold = tenthBestScore(vectors, queryIds[i]);
+            bruteForceNanos += System.nanoTime() - startedAt;
+
+            QuantizedVector query = vectors[(int) queryIds[i]];
+            recall += (double) similar.stream().filter(id -> query.dot(vectors[id.intValue()]) >= threshold).count() / LIMIT;
+        }
+
+        Path snapshot = directory.resolve("similarity.idx");
+        long saveStartedAt = System.nanoTime();
+        index.save(snapshot);
+        long saveMillis = (System.nanoTime() - saveStartedAt) / 1_000_000;
+        long restoreStartedAt = System.nanoTime();
+        InMemoryPromptSimilarityIndex restored = new InMemoryPromptSimilarityIndex();
+        restored.restore(snapshot);
+        long restoreMillis = (System.nanoTime() - restoreStartedAt) / 1_000_000;
+
+        Arrays.sort(indexNanos);
+        System.out.printf("index       p50 %,dus, p99 %,dus%n",
+                indexNanos[QUERIES / 2] / 1_000, indexNanos[QUERIES * 99 / 100] / 1_000);
+        System.out.printf("brute force avg %,dus%n", bruteForceNanos / QUERIES / 1_000);
+        System.out.printf("recall@%d %.3f%n", LIMIT, recall / QUERIES);
+        System.out.printf("snapshot %,dKB, save %,dms, restore %,dms%n",
+                Files.size(snapshot) / 1024, saveMillis, restoreMillis);
+
+        assertThat(restored.size()).isEqualTo(PROMPTS);
+        assertThat(restored.findSimilar(queryIds[0], LIMIT)).isEqualTo(index.findSimilar(queryIds[0], LIMIT));
+    }
+
+    // 전체 코사인 상위 LIMIT개 중 최저 점수
+    private static float tenthBestScore(QuantizedVector[] vectors, long promptId) {
+        QuantizedVector query = vectors[(int) promptId];
+        PriorityQueue<Float> top = new PriorityQueue<>();
+        for (int id = 1; id < vectors.length; id++) {
+            if (id == promptId) {
+                continue;
+            }
+            float score = query.dot(vectors[id]);
+            if (top.size() < LIMIT) {
+                top.offer(score);
+            } else if (score > top.peek()) {
+                top.poll();
+                top.offer(score);
+            }
+        }
+        return top.isEmpty() ? 0 : top.peek();
+    }
+
+    private static float[] termFrequencies(HashingVectorizer vectorizer, String[] document) {
+        return vectorizer.termFrequencies(document[0], document[1], document[2]);
+    }
+
+    // 제목 4단어, 설명 8단어, 본문 60단어 - 주제 하나의 단어가 절반, 나머지는 공통 단어
+    private static String[] randomDocument(Random random) {
+        int topic = random.nextInt(TOPICS);
+        return new String[]{
+                words(random, topic, 4),
+                words(random, topic, 8),
+                words(random, topic, 60)
+        };
+    }
+
+    private static String words(Random random, int topic, int count) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < count; i++) {
+            int word = random.nextBoolean()
+                    ? COMMON_WORDS + topic * WORDS_PER_TOPIC + random.nextInt(WORDS_PER_TOPIC)
+                    : (int) (Math.pow(random.nextDouble(), 2) * COMMON_WORDS);
+            joiner.add(word(word));
+        }
+        return joiner.toString();
+    }
+
+    // 숫자를 영문 소문자 단어로 (토크나이저가 한 토큰으로 자르도록)
+    private static String word(int number) {
+        StringBuilder builder = new StringBuilder();
+        int value = number;
+        do {
+            builder.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return builder.toString();
+    }
+}
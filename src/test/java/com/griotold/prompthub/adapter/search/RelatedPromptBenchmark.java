@@ -0,0 +1,162 @@
+package com.griotold.prompthub.adapter.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.*;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관련 프롬프트 인덱스(MinHash LSH) vs 태그 자기 조인 GROUP BY 비교 벤치마크
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * 프롬프트 수: -Dbenchmark.prompts=1000000 (기본 100만)
+ * 재현율은 전체 프롬프트를 자카드 유사도로 훑은 정답 상위 10개의 최저 점수 이상인 결과의 비율
+ */
+@Tag("benchmark")
+class RelatedPromptBenchmark {
+
+    private static final int PROMPTS = Integer.getInteger("benchmark.prompts", 1_000_000);
+    private static final int TAGS = 5_000;
+    private static final int QUERIES = 200;
+    private static final int SQL_QUERIES = 20;
+    private static final int LIMIT = 10;
+
+    @Test
+    void 관련_프롬프트_인덱스_vs_SQL() throws SQLException {
+        Random random = new Random(42);
+        InMemoryRelatedPromptIndex index = new InMemoryRelatedPromptIndex();
+        long[][] tagsByPrompt = new long[PROMPTS + 1][];
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:related-benchmark;DB_CLOSE_DELAY=-1", "sa", "")) {
+            createTable(connection);
+
+            long loadStartedAt = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO bench_prompt_tag (prompt_id, tag_id) VALUES (?, ?)")) {
+                for (int id = 1; id <= PROMPTS; id++) {
+                    long[] tags = randomTags(random);
+                    tagsByPrompt[id] = tags;
+                    index.add((long) id, Arrays.stream(tags).boxed().toList());
+
+                    for (long tag : tags) {
+                        insert.setLong(1, id);
+                        insert.setLong(2, tag);
+                        insert.addBatch();
+                    }
+                    if (id % 10_000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            System.out.printf("적재 완료: %,d건, %,dms%n", PROMPTS, (System.nanoTime() - loadStartedAt) / 1_000_000);
+
+            long[] queryIds = random.longs(QUERIES, 1, PROMPTS + 1).toArray();
+            for (long id : queryIds) {
+                index.findSimilar(id, LIMIT);
+            }
+
+            long[] indexNanos = new long[QUERIES];
+            double recall = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                long startedAt = System.nanoTime();
+                List<Long> similar = index.findSimilar(queryIds[i], LIMIT);
+                indexNanos[i] = System.nanoTime() - startedAt;
+                if (i < SQL_QUERIES) {
+                    recall += recall(tagsByPrompt, queryIds[i], similar);
+                }
+            }
+
+            long cooccurrenceStartedAt = System.nanoTime();
+            for (long id : queryIds) {
+                index.findCooccurringTags(id, 3);
+            }
+            long cooccurrenceNanos = System.nanoTime() - cooccurrenceStartedAt;
+
+            long sqlNanos = 0;
+            for (int i = 0; i < SQL_QUERIES; i++) {
+                long startedAt = System.nanoTime();
+                relatedWithSql(connection, queryIds[i]);
+                sqlNanos += System.nanoTime() - startedAt;
+            }
+
+            Arrays.sort(indexNanos);
+            System.out.printf("index  p50 %,dus, p99 %,dus%n",
+                    indexNanos[QUERIES / 2] / 1_000, indexNanos[QUERIES * 99 / 100] / 1_000);
+            System.out.printf("co-occurring tags avg %,dus%n", cooccurrenceNanos / QUERIES / 1_000);
+            System.out.printf("SQL    avg %,dus%n", sqlNanos / SQL_QUERIES / 1_000);
+            System.out.printf("recall@%d %.2f%n", LIMIT, recall / SQL_QUERIES);
+
+            assertThat(index.size()).isEqualTo(PROMPTS);
+        }
+    }
+
+    private static void createTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_prompt_tag");
+            statement.execute("CREATE TABLE bench_prompt_tag (prompt_id BIGINT NOT NULL, tag_id BIGINT NOT NULL, "
+                    + "PRIMARY KEY (prompt_id, tag_id))");
+            statement.execute("CREATE INDEX idx_bench_prompt_tag_tag ON bench_prompt_tag (tag_id, prompt_id)");
+        }
+    }
+
+    // 겹치는 태그 수가 많은 순 (인덱스 없이 DB로 구하는 일반적인 형태)
+    private static void relatedWithSql(Connection connection, long promptId) {
+        try (PreparedStatement related = connection.prepareStatement(
+                "SELECT other.prompt_id, COUNT(*) AS shared FROM bench_prompt_tag mine "
+                        + "JOIN bench_prompt_tag other ON other.tag_id = mine.tag_id AND other.prompt_id <> mine.prompt_id "
+                        + "WHERE mine.prompt_id = ? GROUP BY other.prompt_id ORDER BY shared DESC, other.prompt_id DESC LIMIT ?")) {
+            related.setLong(1, promptId);
+            related.setInt(2, LIMIT);
+            related.executeQuery().close();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double recall(long[][] tagsByPrompt, long promptId, List<Long> found) {
+        long[] tags = tagsByPrompt[(int) promptId];
+        PriorityQueue<Double> top = new PriorityQueue<>();
+        for (int id = 1; id < tagsByPrompt.length; id++) {
+            if (id == promptId) {
+                continue;
+            }
+            top.offer(jaccard(tags, tagsByPrompt[id]));
+            if (top.size() > LIMIT) {
+                top.poll();
+            }
+        }
+        double threshold = top.isEmpty() ? 0 : top.peek();
+        long hits = found.stream().filter(id -> jaccard(tags, tagsByPrompt[id.intValue()]) >= threshold).count();
+        return (double) hits / LIMIT;
+    }
+
+    // 두 배열 모두 오름차순
+    private static double jaccard(long[] left, long[] right) {
+        int common = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+            if (left[i] == right[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (left.length + right.length - common);
+    }
+
+    // 태그 3~6개, 앞쪽 태그일수록 자주 쓰이도록 치우친 분포
+    private static long[] randomTags(Random random) {
+        int count = 3 + random.nextInt(4);
+        Set<Long> tags = new TreeSet<>();
+        while (tags.size() < count) {
+            tags.add((long) (Math.pow(random.nextDouble(), 2) * TAGS) + 1);
+        }
+        return tags.stream().mapToLong(Long::longValue).toArray();
+    }
+}
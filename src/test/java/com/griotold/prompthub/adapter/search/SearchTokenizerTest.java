@@ -0,0 +1,47 @@
+package com.griotold.prompthub.adapter.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void tokenize_한글은_음절_바이그램() {
+        assertThat(SearchTokenizer.tokenize("블로그 작성법"))
+                .containsExactly("블로", "로그", "작성", "성법");
+    }
+
+    @Test
+    void tokenize_한글_한음절은_그대로() {
+        assertThat(SearchTokenizer.tokenize("책 추천")).containsExactly("책", "추천");
+    }
+
+    @Test
+    void tokenize_영문은_단어_소문자() {
+        assertThat(SearchTokenizer.tokenize("ChatGPT Prompt, v2!"))
+                .containsExactly("chatgpt", "prompt", "v2");
+    }
+
+    @Test
+    void tokenize_한글과_영문이_붙어있으면_분리() {
+        assertThat(SearchTokenizer.tokenize("GPT로 요약하기"))
+                .containsExactly("gpt", "로", "요약", "약하", "하기");
+    }
+
+    @Test
+    void tokenize_전각문자는_정규화() {
+        assertThat(SearchTokenizer.tokenize("ＧＰＴ")).containsExactly("gpt");
+    }
+
+    @Test
+    void syllables_여러_음절_한글_단어의_음절만() {
+        assertThat(SearchTokenizer.syllables("책 블로그 GPT로")).containsExactly("블", "로", "그");
+    }
+
+    @Test
+    void tokenize_빈문자열() {
+        assertThat(SearchTokenizer.tokenize("  ")).isEmpty();
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+    }
+}
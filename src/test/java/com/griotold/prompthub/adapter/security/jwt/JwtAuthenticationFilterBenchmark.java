@@ -0,0 +1,139 @@
+package com.griotold.prompthub.adapter.security.jwt;
+
+import com.griotold.prompthub.adapter.security.user.LoginUser;
+import com.griotold.prompthub.adapter.security.user.LoginUserResolver;
+import com.griotold.prompthub.application.member.provided.MemberFinder;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.member.Provider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import javax.crypto.SecretKey;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 경로 벤치마크
+ * - 기존: 요청마다 파서를 새로 만들어 getUsername, isExpired에서 두 번 검증
+ * - 단일 검증: 미리 만든 파서로 한 번만 검증 (캐시 크기 0)
+ * - 단일 검증 + 캐시: 같은 토큰이 반복되는 경우 (한 사용자의 연속 요청)
+ * 회원 조회는 고정된 회원을 돌려주는 스텁으로 대체해 토큰 처리 비용만 잰다.
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * 반복 횟수: -Dbenchmark.jwt-iterations=100000 (기본 10만)
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "462D4A614E645266556A586E3272357538782F413F4428472B4B625065536856";
+    private static final long ONE_HOUR = Duration.ofHours(1).toMillis();
+    private static final int ITERATIONS = Integer.getInteger("benchmark.jwt-iterations", 100_000);
+    private static final int WARMUP = ITERATIONS / 5;
+
+    private final Member member = MemberFixture.createGoogleMember("bench@prompthub.app", "bench");
+    private final UserDetailsService userDetailsService = username -> new LoginUser(member);
+    private final LoginUserResolver loginUserResolver = new LoginUserResolver(userDetailsService, new FixedMemberFinder(), true);
+
+    @Test
+    void 기존_vs_단일검증_vs_캐시() throws Exception {
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, ONE_HOUR, ONE_HOUR, 0, Clock.systemUTC());
+        JwtTokenProvider cached = new JwtTokenProvider(SECRET, ONE_HOUR, ONE_HOUR, 10_000, Clock.systemUTC());
+        String token = cached.createAccessToken(1L, "bench@prompthub.app", "USER");
+        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        JwtAuthenticationFilter uncachedFilter = new JwtAuthenticationFilter(uncached, loginUserResolver);
+        JwtAuthenticationFilter cachedFilter = new JwtAuthenticationFilter(cached, loginUserResolver);
+
+        Result legacy = measure(() -> legacyAuthenticate(token, secretKey));
+        Result single = measure(() -> doFilter(uncachedFilter, token));
+        Result withCache = measure(() -> doFilter(cachedFilter, token));
+
+        System.out.printf("%-20s %12s %16s%n", "path", "latency(ns)", "allocated(B)");
+        System.out.printf("%-20s %,12d %,16d%n", "legacy(2x parse)", legacy.nanos(), legacy.allocatedBytes());
+        System.out.printf("%-20s %,12d %,16d%n", "single verify", single.nanos(), single.allocatedBytes());
+        System.out.printf("%-20s %,12d %,16d%n", "single + cache", withCache.nanos(), withCache.allocatedBytes());
+
+        assertThat(cached.verify(token)).isSameAs(cached.verify(token));
+    }
+
+    /**
+     * 변경 전 필터 경로: 파서를 매번 만들고 이메일 추출과 만료 확인에서 각각 검증
+     */
+    private void legacyAuthenticate(String token, SecretKey secretKey) {
+        Claims forUsername = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        UserDetails loaded = userDetailsService.loadUserByUsername(forUsername.get("email", String.class));
+        Claims forExpiry = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        if (forExpiry.getExpiration().before(new Date()) || loaded == null) {
+            throw new IllegalStateException("만료된 토큰");
+        }
+    }
+
+    private void doFilter(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/prompts");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                throw new IllegalStateException("인증 실패: " + request.getAttribute("exception"));
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static Result measure(ThrowingRunnable path) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            path.run();
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            path.run();
+        }
+        long nanos = (System.nanoTime() - startedAt) / ITERATIONS;
+        long allocatedBytes = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+        return new Result(nanos, allocatedBytes);
+    }
+
+    private class FixedMemberFinder implements MemberFinder {
+        @Override
+        public Member find(Long memberId) {
+            return member;
+        }
+
+        @Override
+        public Member findSnapshot(Long memberId) {
+            return member;
+        }
+
+        @Override
+        public Optional<Member> findBySocial(Provider provider, String providerId) {
+            return Optional.of(member);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private record Result(long nanos, long allocatedBytes) {
+    }
+}
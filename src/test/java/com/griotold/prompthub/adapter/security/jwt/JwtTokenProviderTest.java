@@ -0,0 +1,112 @@
+package com.griotold.prompthub.adapter.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    static final String SECRET = "462D4A614E645266556A586E3272357538782F413F4428472B4B625065536856";
+    static final long ONE_HOUR = Duration.ofHours(1).toMillis();
+
+    MutableClock clock;
+    JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+        provider = new JwtTokenProvider(SECRET, ONE_HOUR, ONE_HOUR * 24, 100, clock);
+    }
+
+    @Test
+    void verify_액세스_토큰_클레임() {
+        String token = provider.createAccessToken(1L, "user@prompthub.app", "USER");
+
+        JwtClaims claims = provider.verify(token);
+
+        assertThat(claims.memberId()).isEqualTo(1L);
+        assertThat(claims.email()).isEqualTo("user@prompthub.app");
+        assertThat(claims.role()).isEqualTo("USER");
+        assertThat(claims.type()).isEqualTo("access");
+        assertThat(claims.expiresAt()).isEqualTo(clock.instant().plusMillis(ONE_HOUR));
+    }
+
+    @Test
+    void verify_최근_검증한_토큰은_다시_파싱하지_않는다() {
+        String token = provider.createAccessToken(1L, "user@prompthub.app", "USER");
+
+        assertThat(provider.verify(token)).isSameAs(provider.verify(token));
+    }
+
+    @Test
+    void verify_캐시에_있어도_만료되면_예외() {
+        String token = provider.createAccessToken(1L, "user@prompthub.app", "USER");
+        provider.verify(token);
+
+        clock.advance(Duration.ofHours(1).plusSeconds(1));
+
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(provider.isExpired(token)).isTrue();
+    }
+
+    @Test
+    void verify_서명이_다르면_예외() {
+        JwtTokenProvider other = new JwtTokenProvider(SECRET.replace('4', '5'), ONE_HOUR, ONE_HOUR, 100, clock);
+        String forged = other.createAccessToken(1L, "user@prompthub.app", "ADMIN");
+
+        assertThatThrownBy(() -> provider.verify(forged)).isInstanceOf(JwtException.class);
+        assertThat(provider.validateToken(forged)).isFalse();
+    }
+
+    @Test
+    void verify_캐시_크기가_0이면_매번_검증() {
+        JwtTokenProvider noCache = new JwtTokenProvider(SECRET, ONE_HOUR, ONE_HOUR, 0, clock);
+        String token = noCache.createAccessToken(1L, "user@prompthub.app", "USER");
+
+        assertThat(noCache.verify(token)).isNotSameAs(noCache.verify(token)).isEqualTo(noCache.verify(token));
+    }
+
+    @Test
+    void 리프레시_토큰() {
+        String refreshToken = provider.createRefreshToken(1L);
+
+        assertThat(provider.verify(refreshToken).email()).isNull();
+        assertThat(provider.getTokenType(refreshToken)).isEqualTo("refresh");
+        assertThat(provider.isValidRefreshToken(refreshToken)).isTrue();
+        assertThat(provider.isRefreshTokenMatchUser(refreshToken, 1L)).isTrue();
+        assertThat(provider.isRefreshTokenMatchUser(refreshToken, 2L)).isFalse();
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.griotold.prompthub.adapter.security.social.google;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.*;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬에서 만든 RSA 키로 서명한 id_token 검증 테스트
+ */
+class GoogleIdTokenVerifierTest {
+
+    static final String CLIENT_ID = "test-client-id";
+    static final String ISSUER = "https://accounts.google.com";
+
+    MutableClock clock;
+    Map<String, PublicKey> jwks;
+    AtomicInteger fetches;
+    KeyPair k1;
+    GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+        k1 = generateKeyPair();
+        jwks = new HashMap<>(Map.of("k1", k1.getPublic()));
+        fetches = new AtomicInteger();
+        verifier = new GoogleIdTokenVerifier(CLIENT_ID, () -> {
+            fetches.incrementAndGet();
+            return new GoogleIdTokenVerifier.PublicKeys(Map.copyOf(jwks), Duration.ofHours(1));
+        }, clock);
+    }
+
+    @Test
+    void verify_서명이_맞으면_클레임에서_사용자_정보를_읽는다() {
+        GoogleUserResponse user = verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+
+        assertThat(user.sub()).isEqualTo("google-123");
+        assertThat(user.email()).isEqualTo("user@gmail.com");
+        assertThat(user.name()).isEqualTo("구글사용자");
+    }
+
+    @Test
+    void verify_공개키는_한번만_받아온다() {
+        verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+        verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+
+        assertThat(fetches.get()).isEqualTo(1);
+
+        // max-age가 지나면 다시 받아온다
+        clock.advance(Duration.ofHours(1));
+        verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_키가_교체되면_다시_받아와서_검증() {
+        verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+
+        // 구글이 새 키로 교체
+        KeyPair k2 = generateKeyPair();
+        jwks.put("k2", k2.getPublic());
+        clock.advance(Duration.ofMinutes(2));
+
+        GoogleUserResponse user = verifier.verify(idToken("k2", k2.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+
+        assertThat(user.sub()).isEqualTo("google-123");
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_모르는_kid가_반복되어도_최소_간격_안에서는_다시_받아오지_않는다() {
+        verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600)));
+        KeyPair forged = generateKeyPair();
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> verifier.verify(idToken("unknown", forged.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_다른_키로_서명하면_실패() {
+        KeyPair other = generateKeyPair();
+
+        assertThatThrownBy(() -> verifier.verify(idToken("k1", other.getPrivate(), ISSUER, CLIENT_ID, expiresIn(3600))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_audience가_다르면_실패() {
+        assertThatThrownBy(() -> verifier.verify(idToken("k1", k1.getPrivate(), ISSUER, "other-client", expiresIn(3600))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_발급자가_다르면_실패() {
+        assertThatThrownBy(() -> verifier.verify(idToken("k1", k1.getPrivate(), "https://evil.example.com", CLIENT_ID, expiresIn(3600))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_만료된_토큰은_실패() {
+        String idToken = idToken("k1", k1.getPrivate(), ISSUER, CLIENT_ID, expiresIn(60));
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> verifier.verify(idToken)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Date expiresIn(long seconds) {
+        return Date.from(clock.instant().plusSeconds(seconds));
+    }
+
+    private String idToken(String kid, PrivateKey privateKey, String issuer, String audience, Date expiration) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .subject("google-123")
+                .claim("email", "user@gmail.com")
+                .claim("name", "구글사용자")
+                .issuedAt(Date.from(clock.instant()))
+                .expiration(expiration)
+                .signWith(privateKey)
+                .compact();
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
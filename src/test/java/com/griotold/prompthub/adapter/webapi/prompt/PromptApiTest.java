@@ -0,0 +1,104 @@
+package com.griotold.prompthub.adapter.webapi.prompt;
+
+import com.griotold.prompthub.adapter.security.jwt.JwtTokenProvider;
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.application.member.required.MemberRepository;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.support.annotation.IntegrationTest;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+
+@IntegrationTest
+@RequiredArgsConstructor
+class PromptApiTest {
+
+    final MockMvcTester mvcTester;
+    final MemberRepository memberRepository;
+    final CategoryRepository categoryRepository;
+    final JwtTokenProvider jwtTokenProvider;
+
+    Category category;
+    String token;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(CategoryFixture.createCategory("AI", "AI 카테고리"));
+        Member member = memberRepository.save(MemberFixture.createGoogleMember("user@prompthub.app", "사용자"));
+        token = jwtTokenProvider.createAccessToken(member);
+    }
+
+    @Test
+    void getPrompts_카테고리와_키워드를_함께_주면_400() {
+        MvcTestResult result = mvcTester.get()
+                .uri("/api/v1/prompts?categoryId={categoryId}&keyword=블로그", category.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        assertThat(result)
+                .apply(print())
+                .hasStatus(HttpStatus.BAD_REQUEST)
+                .bodyJson()
+                .hasPathSatisfying("$.detail", detail ->
+                        assertThat(detail).asString().contains("하나만 지정할 수 있습니다"));
+    }
+
+    @Test
+    void getPrompts_태그와_키워드를_함께_주면_400() {
+        MvcTestResult result = mvcTester.get()
+                .uri("/api/v1/prompts?tags=요약,번역&keyword=블로그")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        assertThat(result)
+                .apply(print())
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getPromptsByCursor_키워드나_태그를_주면_400() {
+        MvcTestResult keywordResult = mvcTester.get()
+                .uri("/api/v1/prompts?cursor=&keyword=블로그")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        assertThat(keywordResult)
+                .apply(print())
+                .hasStatus(HttpStatus.BAD_REQUEST)
+                .bodyJson()
+                .hasPathSatisfying("$.detail", detail ->
+                        assertThat(detail).asString().contains("커서 모드에서는"));
+
+        MvcTestResult tagsResult = mvcTester.get()
+                .uri("/api/v1/prompts?cursor=&tags=요약,번역")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        assertThat(tagsResult)
+                .apply(print())
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getPrompts_빈_키워드는_필터로_치지_않는다() {
+        MvcTestResult result = mvcTester.get()
+                .uri("/api/v1/prompts?categoryId={categoryId}&keyword=", category.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        assertThat(result)
+                .hasStatusOk()
+                .bodyJson()
+                .hasPathSatisfying("$.success", success -> assertThat(success).isEqualTo(true));
+    }
+}
@@ -0,0 +1,110 @@
+package com.griotold.prompthub.application.category;
+
+import com.griotold.prompthub.application.category.provided.CategoryFinder;
+import com.griotold.prompthub.application.category.provided.CategoryRegister;
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryRegisterRequest;
+import com.griotold.prompthub.domain.category.CategoryUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카테고리 스냅샷 캐시 테스트
+ * 커밋 후에 스냅샷이 교체되는지 봐야 하므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record CategoryCacheTest(CategoryRegister categoryRegister,
+                         CategoryFinder categoryFinder,
+                         CategoryCache categoryCache,
+                         CategoryRepository categoryRepository,
+                         PlatformTransactionManager transactionManager) {
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        categoryCache.reload();
+    }
+
+    @Test
+    void register_커밋되면_DB를_거치지_않고_스냅샷에서_조회() {
+        // given
+        Category category = categoryRegister.register(new CategoryRegisterRequest("콘텐츠 작성", "설명"));
+
+        // when - DB에서 지워도 스냅샷에서 응답
+        categoryRepository.deleteAllInBatch();
+
+        // then
+        assertThat(categoryFinder.find(category.getId()).getName()).isEqualTo("콘텐츠 작성");
+        assertThat(categoryFinder.findByName("콘텐츠 작성").getId()).isEqualTo(category.getId());
+        assertThat(categoryFinder.findActiveOrderByName()).extracting(Category::getId).containsExactly(category.getId());
+    }
+
+    @Test
+    void register_롤백되면_스냅샷에_반영안됨() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Category category = transactionTemplate.execute(status -> {
+            Category registered = categoryRegister.register(new CategoryRegisterRequest("콘텐츠 작성", "설명"));
+            status.setRollbackOnly();
+            return registered;
+        });
+
+        // then
+        assertThat(categoryCache.find(category.getId())).isNull();
+        assertThat(categoryFinder.findActiveOrderByName()).isEmpty();
+    }
+
+    @Test
+    void updateInfo_이름이_바뀌면_새_이름으로만_조회() {
+        // given
+        Category category = categoryRegister.register(new CategoryRegisterRequest("콘텐츠 작성", "설명"));
+
+        // when
+        categoryRegister.updateInfo(category.getId(), new CategoryUpdateRequest("블로그 작성", "수정 설명"));
+
+        // then
+        assertThat(categoryFinder.find(category.getId()).getName()).isEqualTo("블로그 작성");
+        assertThat(categoryFinder.findByName("블로그 작성").getDescription()).isEqualTo("수정 설명");
+        assertThatThrownBy(() -> categoryFinder.findByName("콘텐츠 작성"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deactivate_activate_활성_목록에_반영() {
+        // given
+        Category category1 = categoryRegister.register(new CategoryRegisterRequest("업무 자동화", "설명"));
+        Category category2 = categoryRegister.register(new CategoryRegisterRequest("콘텐츠 작성", "설명"));
+
+        // when
+        categoryRegister.deactivate(category1.getId());
+
+        // then
+        assertThat(categoryFinder.findActiveOrderByName()).extracting(Category::getId).containsExactly(category2.getId());
+        assertThat(categoryFinder.find(category1.getId()).getIsActive()).isFalse();
+
+        // when
+        categoryRegister.activate(category1.getId());
+
+        // then
+        assertThat(categoryFinder.findActiveOrderByName()).extracting(Category::getId)
+                .containsExactly(category1.getId(), category2.getId());
+    }
+
+    @Test
+    void findActiveOrderByName_변경이_없으면_같은_인스턴스() {
+        categoryRegister.register(new CategoryRegisterRequest("콘텐츠 작성", "설명"));
+
+        assertThat(categoryFinder.findActiveOrderByName()).isSameAs(categoryFinder.findActiveOrderByName());
+    }
+}
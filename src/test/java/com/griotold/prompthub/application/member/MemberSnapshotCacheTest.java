@@ -0,0 +1,127 @@
+package com.griotold.prompthub.application.member;
+
+import com.griotold.prompthub.application.member.provided.MemberFinder;
+import com.griotold.prompthub.application.member.provided.MemberRegister;
+import com.griotold.prompthub.application.member.required.MemberRepository;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.member.Provider;
+import com.griotold.prompthub.domain.member.SocialRegisterRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증용 회원 스냅샷 캐시 테스트
+ * 커밋 후에 무효화되는지 봐야 하므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record MemberSnapshotCacheTest(MemberRegister memberRegister,
+                               MemberFinder memberFinder,
+                               MemberRepository memberRepository,
+                               PlatformTransactionManager transactionManager) {
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findSnapshot_두번째부터는_DB를_거치지_않는다() {
+        // given
+        Member member = register("snapshot@test.com", "스냅샷");
+        Member first = memberFinder.findSnapshot(member.getId());
+
+        // when - DB에서 지워도 캐시에서 응답
+        memberRepository.deleteAllInBatch();
+
+        // then
+        assertThat(memberFinder.findSnapshot(member.getId())).isSameAs(first);
+    }
+
+    @Test
+    void save_커밋되면_스냅샷_무효화() {
+        // given
+        Member member = register("deactivate@test.com", "비활성화");
+        assertThat(memberFinder.findSnapshot(member.getId()).isActive()).isTrue();
+
+        // when
+        Member loaded = memberFinder.find(member.getId());
+        loaded.deactivate();
+        memberRegister.save(loaded);
+
+        // then
+        assertThat(memberFinder.findSnapshot(member.getId()).isActive()).isFalse();
+
+        // when
+        memberRegister.reactivate(member.getId());
+
+        // then
+        assertThat(memberFinder.findSnapshot(member.getId()).isActive()).isTrue();
+    }
+
+    @Test
+    void save_롤백되면_스냅샷_유지() {
+        // given
+        Member member = register("rollback@test.com", "롤백");
+        Member cached = memberFinder.findSnapshot(member.getId());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            Member loaded = memberFinder.find(member.getId());
+            loaded.deactivate();
+            memberRegister.save(loaded);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(memberFinder.findSnapshot(member.getId())).isSameAs(cached);
+    }
+
+    @Test
+    void get_적재_중에_무효화되면_적재한_값을_남기지_않는다() {
+        // given
+        MemberSnapshotCache cache = new MemberSnapshotCache(Clock.systemUTC(), Duration.ofMinutes(1), 100);
+        Member stale = MemberFixture.createGoogleMember("stale@test.com", "옛값");
+        Member fresh = MemberFixture.createGoogleMember("fresh@test.com", "새값");
+
+        // when - 적재하는 사이에 커밋된 변경이 무효화된다
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return stale;
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1L, id -> fresh)).isSameAs(fresh);
+    }
+
+    @Test
+    void get_최대_개수를_넘으면_줄인다() {
+        // given
+        MemberSnapshotCache cache = new MemberSnapshotCache(Clock.systemUTC(), Duration.ofMinutes(1), 8);
+
+        // when
+        for (long id = 1; id <= 20; id++) {
+            cache.get(id, ignored -> MemberFixture.createGoogleMember("bound@test.com", "상한"));
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(8);
+    }
+
+    private Member register(String email, String nickname) {
+        return memberRegister.registerWithSocial(
+                new SocialRegisterRequest(email, nickname, Provider.GOOGLE, "google_" + email));
+    }
+}
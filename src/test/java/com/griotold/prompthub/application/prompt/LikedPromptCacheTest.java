@@ -0,0 +1,140 @@
+package com.griotold.prompthub.application.prompt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikedPromptCacheTest {
+
+    MutableClock clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+    LikedPromptCache cache = new LikedPromptCache(clock, Duration.ofMinutes(10), 2);
+    AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void likedAmong_처음에만_적재하고_이후에는_캐시() {
+        assertThat(cache.likedAmong(1L, List.of(10L, 11L, 12L), id -> load(List.of(10L, 12L))))
+                .containsExactlyInAnyOrder(10L, 12L);
+        assertThat(cache.likedAmong(1L, List.of(11L, 12L), id -> load(List.of())))
+                .containsExactly(12L);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void updateAfterCommit_캐시된_회원의_좋아요_변경_반영() {
+        cache.likedAmong(1L, List.of(10L), id -> load(List.of(10L)));
+
+        // 트랜잭션 밖이면 즉시 반영
+        cache.updateAfterCommit(1L, 11L, true);
+        cache.updateAfterCommit(1L, 10L, false);
+
+        assertThat(cache.likedAmong(1L, List.of(10L, 11L), id -> load(List.of()))).containsExactly(11L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void likedAmong_적재_중에_좋아요가_바뀌면_결과를_저장하지_않는다() {
+        cache.likedAmong(1L, List.of(10L), id -> {
+            List<Long> stale = load(List.of(10L));
+            cache.updateAfterCommit(1L, 10L, false);
+            return stale;
+        });
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.likedAmong(1L, List.of(10L), id -> load(List.of()))).isEmpty();
+    }
+
+    @Test
+    void likedAmong_다른_회원의_좋아요_변경은_적재_결과를_버리지_않는다() {
+        cache.likedAmong(1L, List.of(10L), id -> {
+            List<Long> loaded = load(List.of(10L));
+            cache.updateAfterCommit(2L, 10L, true);
+            return loaded;
+        });
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.likedAmong(1L, List.of(10L), id -> load(List.of()))).containsExactly(10L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void likedAmong_ttl이_지나면_다시_적재() {
+        cache.likedAmong(1L, List.of(10L), id -> load(List.of(10L)));
+        cache.updateAfterCommit(1L, 11L, true);
+
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(cache.likedAmong(1L, List.of(10L, 11L), id -> load(List.of(11L)))).containsExactly(11L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void ttl이_0이면_캐시하지_않는다() {
+        assertThat(new LikedPromptCache(clock, Duration.ZERO, 2).isEnabled()).isFalse();
+        assertThat(new LikedPromptCache(clock, Duration.ofMinutes(10), 0).isEnabled()).isFalse();
+        assertThat(cache.isEnabled()).isTrue();
+    }
+
+    @Test
+    void likedAmong_ID가_흩어져_있어도_정확히_확인() {
+        List<Long> sparse = List.of(1L, 1_000_000L, 5_000_000_000L);
+
+        assertThat(cache.likedAmong(1L, List.of(1L, 2L, 1_000_000L, 5_000_000_000L, 999L), id -> load(sparse)))
+                .containsExactlyInAnyOrder(1L, 1_000_000L, 5_000_000_000L);
+
+        cache.updateAfterCommit(1L, 2L, true);
+        assertThat(cache.likedAmong(1L, List.of(2L), id -> load(List.of()))).containsExactly(2L);
+    }
+
+    @Test
+    void likedAmong_최대_회원_수를_넘으면_오래된_회원부터_제거() {
+        cache.likedAmong(1L, List.of(10L), id -> load(List.of(10L)));
+        cache.likedAmong(2L, List.of(10L), id -> load(List.of(10L)));
+        cache.likedAmong(3L, List.of(10L), id -> load(List.of(10L)));
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.likedAmong(1L, List.of(10L), id -> load(List.of(10L)));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    private List<Long> load(Collection<Long> ids) {
+        loads.incrementAndGet();
+        return List.copyOf(ids);
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.griotold.prompthub.application.prompt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptCountCacheTest {
+
+    MutableClock clock;
+    QueuedExecutor executor;
+    PromptCountCache cache;
+    AtomicLong rows;
+    AtomicLong countQueries;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+        executor = new QueuedExecutor();
+        cache = new PromptCountCache(clock, Duration.ofSeconds(60), 2, executor);
+        rows = new AtomicLong(10);
+        countQueries = new AtomicLong();
+    }
+
+    @Test
+    void get_처음에는_동기로_세고_이후에는_캐시() {
+        assertThat(cache.get("public", this::count)).isEqualTo(10);
+        rows.set(20);
+
+        assertThat(cache.get("public", this::count)).isEqualTo(10);
+        assertThat(countQueries.get()).isEqualTo(1);
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    void get_만료되면_이전_값을_응답하고_백그라운드에서_갱신() {
+        cache.get("public", this::count);
+        rows.set(20);
+        clock.advance(Duration.ofSeconds(61));
+
+        // when - 만료 후 여러 번 요청해도 갱신은 한 번만 예약
+        long stale = cache.get("public", this::count);
+        cache.get("public", this::count);
+
+        // then
+        assertThat(stale).isEqualTo(10);
+        assertThat(executor.tasks).hasSize(1);
+
+        executor.runAll();
+        assertThat(cache.get("public", this::count)).isEqualTo(20);
+        assertThat(countQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_갱신이_실패하면_이전_값_유지후_다시_예약() {
+        cache.get("public", this::count);
+        clock.advance(Duration.ofSeconds(61));
+
+        cache.get("public", () -> {
+            throw new IllegalStateException("DB 오류");
+        });
+        executor.runAll();
+
+        assertThat(cache.get("public", this::count)).isEqualTo(10);
+        assertThat(executor.tasks).hasSize(1);
+    }
+
+    @Test
+    void get_필터별로_따로_캐시하고_최대_개수를_넘으면_오래된_필터부터_제거() {
+        cache.get("category:1", () -> 1);
+        cache.get("category:2", () -> 2);
+        cache.get("category:1", () -> 1);
+        cache.get("category:3", () -> 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("category:1", () -> 11)).isEqualTo(1);
+        assertThat(cache.get("category:2", () -> 22)).isEqualTo(22);
+    }
+
+    @Test
+    void get_ttl이_0이면_매번_센다() {
+        PromptCountCache noCache = new PromptCountCache(clock, Duration.ZERO, 2, executor);
+
+        noCache.get("public", this::count);
+        noCache.get("public", this::count);
+
+        assertThat(countQueries.get()).isEqualTo(2);
+        assertThat(noCache.size()).isZero();
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return rows.get();
+    }
+
+    static class QueuedExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> queued = new ArrayList<>(tasks);
+            tasks.clear();
+            queued.forEach(Runnable::run);
+        }
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.domain.prompt.PromptDetail;
+import com.griotold.prompthub.domain.prompt.Rating;
+import com.griotold.prompthub.domain.prompt.RatingHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptDetailCacheTest {
+
+    PromptDetailCache cache = new PromptDetailCache(2);
+    AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_처음에는_적재하고_이후에는_캐시() {
+        PromptDetail first = cache.get(1L, this::load);
+        PromptDetail second = cache.get(1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.metrics().misses()).isEqualTo(1);
+        assertThat(cache.metrics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void get_동시에_미스나도_적재는_한번() throws Exception {
+        // given - 첫 적재를 붙잡아 두고 나머지 요청을 보낸다
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<PromptDetail>> results = new ArrayList<>();
+
+        // when
+        results.add(executor.submit(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return load(id);
+        })));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < threads; i++) {
+            results.add(executor.submit(() -> cache.get(1L, this::load)));
+        }
+        while (cache.metrics().coalesced() < threads - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        PromptDetail loaded = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<PromptDetail> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.metrics().misses()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void get_적재_실패는_캐시하지_않는다() {
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalArgumentException("프롬프트를 찾을 수 없습니다. id: " + id);
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.metrics().size()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_적재_중에_무효화되면_옛_값은_다시_들어오지_않는다() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<PromptDetail> stale = executor.submit(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return detail(id, "수정 전");
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // when - 적재 중에 변경이 커밋됨
+        cache.invalidate(1L);
+        release.countDown();
+
+        // then - 먼저 시작한 요청은 옛 값을 받지만, 다음 요청은 새로 적재
+        assertThat(stale.get(5, TimeUnit.SECONDS).title()).isEqualTo("수정 전");
+        assertThat(cache.get(1L, id -> detail(id, "수정 후")).title()).isEqualTo("수정 후");
+        assertThat(cache.metrics().invalidations()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void get_최대_개수를_넘으면_오래_쓰이지_않은_항목부터_제거() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+        cache.get(3L, this::load);
+
+        assertThat(cache.metrics().size()).isEqualTo(2);
+        assertThat(cache.metrics().evictions()).isEqualTo(1);
+
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(2L, this::load);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void invalidateAfterCommit_트랜잭션_밖이면_즉시_무효화() {
+        cache.get(1L, this::load);
+
+        cache.invalidateAfterCommit(1L);
+
+        assertThat(cache.metrics().size()).isZero();
+        assertThat(cache.metrics().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void addViews_반영_전에_적재한_항목은_조회수만_더한다() {
+        // given
+        cache.get(1L, this::load);
+        long updateSequence = cache.beginViewUpdate();
+        cache.get(2L, this::load);
+
+        // when - 2번은 DB 반영 중에 적재되어 증가분이 이미 들어있을 수 있다
+        cache.addViews(updateSequence, Map.of(1L, 3L, 2L, 5L));
+
+        // then
+        assertThat(cache.get(1L, this::load).viewsCount()).isEqualTo(3);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.get(2L, this::load).viewsCount()).isZero();
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.metrics().invalidations()).isEqualTo(1);
+    }
+
+    private PromptDetail load(Long id) {
+        loads.incrementAndGet();
+        return detail(id, "프롬프트 " + id);
+    }
+
+    private static PromptDetail detail(Long id, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PromptDetail(id, title, "내용", "설명", 1L, 1L, "작성자",
+                0, 0, Rating.empty(), RatingHistogram.empty(), true, now, now);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
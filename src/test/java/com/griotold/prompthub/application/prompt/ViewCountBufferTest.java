@@ -0,0 +1,221 @@
+package com.griotold.prompthub.application.prompt;
+
+import com.griotold.prompthub.application.prompt.required.PromptHotRanking;
+import com.griotold.prompthub.application.prompt.required.PromptViewCountRepository;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDetail;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import com.griotold.prompthub.domain.prompt.PromptStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountBufferTest {
+
+    @Test
+    void flush_증가분을_한번에_반영() {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        RecordingHotRanking ranking = new RecordingHotRanking();
+        PromptDetailCache detailCache = new PromptDetailCache(100);
+        detailCache.get(1L, id -> PromptDetail.of(PromptFixture.createPrompt()));
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, ranking, detailCache, 100, true);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(repository.batches).isEqualTo(1);
+        assertThat(repository.views).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(buffer.metrics().bufferedKeys()).isZero();
+        assertThat(buffer.metrics().flushedViews()).isEqualTo(3);
+        assertThat(ranking.views).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(detailCache.metrics().invalidations()).isZero();
+        assertThat(detailCache.get(1L, id -> {
+            throw new AssertionError("캐시된 스냅샷을 다시 읽지 않는다");
+        }).viewsCount()).isEqualTo(2);
+    }
+
+    @Test
+    void increment_최대_키수에_도달하면_즉시_반영() {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        List<Runnable> scheduled = new ArrayList<>();
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, new RecordingHotRanking(), new PromptDetailCache(100), 3, true, scheduled::add);
+
+        // when
+        buffer.increment(1L);
+        buffer.increment(2L);
+        buffer.increment(3L);
+        buffer.increment(4L);
+
+        // then - 요청 스레드에서는 쓰지 않고 반영 스레드에 한 번만 맡긴다
+        assertThat(repository.batches).isZero();
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.getFirst().run();
+        assertThat(repository.batches).isEqualTo(1);
+        assertThat(repository.views).hasSize(4);
+        assertThat(buffer.metrics().bufferedKeys()).isZero();
+    }
+
+    @Test
+    void flush_랭킹_반영이_실패해도_DB_증가분은_다시_쓰지_않음() {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        RecordingHotRanking ranking = new RecordingHotRanking();
+        ranking.failNext = true;
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, ranking, new PromptDetailCache(100), 100, true, Runnable::run);
+        buffer.increment(1L);
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        assertThat(repository.views).containsEntry(1L, 1L);
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.metrics().failedFlushCount()).isZero();
+    }
+
+    @Test
+    void flush_실패하면_증가분을_버퍼로_되돌림() {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        repository.failNext = true;
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, new RecordingHotRanking(), new PromptDetailCache(100), 100, true);
+        buffer.increment(1L);
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+
+        // then
+        assertThat(buffer.pending(1L)).isEqualTo(2);
+        assertThat(buffer.metrics().failedFlushCount()).isEqualTo(1);
+
+        buffer.flush();
+        assertThat(repository.views).containsEntry(1L, 2L);
+    }
+
+    @Test
+    void shutdown_설정에_따라_남은_증가분_반영() {
+        RecordingRepository flushing = new RecordingRepository();
+        ViewCountBuffer flushOnShutdown = new ViewCountBuffer(flushing, new RecordingHotRanking(), new PromptDetailCache(100), 100, true);
+        flushOnShutdown.increment(1L);
+        flushOnShutdown.shutdown();
+        assertThat(flushing.views).containsEntry(1L, 1L);
+
+        RecordingRepository discarding = new RecordingRepository();
+        ViewCountBuffer discardOnShutdown = new ViewCountBuffer(discarding, new RecordingHotRanking(), new PromptDetailCache(100), 100, false);
+        discardOnShutdown.increment(1L);
+        discardOnShutdown.shutdown();
+        assertThat(discarding.views).isEmpty();
+    }
+
+    @Test
+    void increment_동시에_flush가_일어나도_증가분_유실없음() throws InterruptedException {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, new RecordingHotRanking(), new PromptDetailCache(100), 100_000, true);
+        int threads = 8;
+        int incrementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    buffer.increment((long) (i % 10));
+                }
+                done.countDown();
+            });
+        }
+        executor.submit(() -> {
+            while (done.getCount() > 0) {
+                buffer.flush();
+            }
+        });
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        buffer.flush();
+
+        // then
+        long total = repository.views.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+    static class RecordingRepository implements PromptViewCountRepository {
+        final Map<Long, Long> views = new ConcurrentHashMap<>();
+        volatile int batches;
+        volatile boolean failNext;
+
+        @Override
+        public void increaseViewCounts(Map<Long, Long> deltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("DB 오류");
+            }
+            batches++;
+            deltas.forEach((id, delta) -> views.merge(id, delta, Long::sum));
+        }
+    }
+
+    static class RecordingHotRanking implements PromptHotRanking {
+        final Map<Long, Long> views = new ConcurrentHashMap<>();
+        volatile boolean failNext;
+
+        @Override
+        public void recordViews(Map<Long, Long> viewDeltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("랭킹 오류");
+            }
+            viewDeltas.forEach((id, delta) -> views.merge(id, delta, Long::sum));
+        }
+
+        @Override
+        public void register(Prompt prompt) {
+        }
+
+        @Override
+        public void register(PromptStats stats) {
+        }
+
+        @Override
+        public void remove(Long promptId) {
+        }
+
+        @Override
+        public void recordLike(Long promptId, int delta) {
+        }
+
+        @Override
+        public void recordReview(Long promptId, int rating, int delta) {
+        }
+
+        @Override
+        public List<Long> topIds(Long categoryId, int offset, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public int size(Long categoryId) {
+            return 0;
+        }
+    }
+}
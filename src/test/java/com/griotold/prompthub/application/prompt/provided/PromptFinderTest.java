@@ -2,6 +2,7 @@ package com.griotold.prompthub.application.prompt.provided;
 
 import com.griotold.prompthub.application.prompt.required.PromptLikeRepository;
 import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.category.CategoryFixture;
 import com.griotold.prompthub.domain.member.Member;
@@ -9,16 +10,22 @@ import com.griotold.prompthub.domain.member.MemberFixture;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.prompt.PromptFixture;
 import com.griotold.prompthub.domain.prompt.PromptLike;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
 import com.griotold.prompthub.support.annotation.ApplicationTest;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
 @ApplicationTest
 record PromptFinderTest(PromptFinder promptFinder,
+                        PromptRegister promptRegister,
                         PromptRepository promptRepository,
                         PromptLikeRepository promptLikeRepository,
                         EntityManager entityManager) {
@@ -47,7 +54,7 @@ record PromptFinderTest(PromptFinder promptFinder,
     }
 
     @Test
-    void findAllPublic() {
+    void findPublicSummaries() {
         // given
         Member member = createAndSaveMember("test@test.com", "testnick");
         Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
@@ -59,15 +66,15 @@ record PromptFinderTest(PromptFinder promptFinder,
         promptRepository.save(privatePrompt);
 
         // when
-        Page<Prompt> publicPrompts = promptFinder.findAllPublic(PageRequest.of(0, 10));
+        Slice<PromptSummary> publicPrompts = promptFinder.findPublicSummaries(PageRequest.of(0, 10));
 
         // then
         assertThat(publicPrompts.getContent()).hasSize(1);
-        assertThat(publicPrompts.getContent().getFirst().getTitle()).isEqualTo("공개 프롬프트");
+        assertThat(publicPrompts.getContent().getFirst().title()).isEqualTo("공개 프롬프트");
     }
 
     @Test
-    void findAllPublicByCategory() {
+    void findPublicSummariesByCategory() {
         // given
         Member member = createAndSaveMember("test@test.com", "testnick");
         Category category1 = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
@@ -77,15 +84,15 @@ record PromptFinderTest(PromptFinder promptFinder,
         createAndSavePrompt("카테고리2 프롬프트", "내용", member, category2);
 
         // when
-        Page<Prompt> category1Prompts = promptFinder.findAllPublicByCategory(category1, PageRequest.of(0, 10));
+        Slice<PromptSummary> category1Prompts = promptFinder.findPublicSummariesByCategory(category1, PageRequest.of(0, 10));
 
         // then
         assertThat(category1Prompts.getContent()).hasSize(1);
-        assertThat(category1Prompts.getContent().getFirst().getTitle()).isEqualTo("카테고리1 프롬프트");
+        assertThat(category1Prompts.getContent().getFirst().title()).isEqualTo("카테고리1 프롬프트");
     }
 
     @Test
-    void findAllByMember() {
+    void findSummariesByMember() {
         // given
         Member member1 = createAndSaveMember("test1@test.com", "testnick1");
         Member member2 = createAndSaveMember("test2@test.com", "testnick2");
@@ -95,50 +102,133 @@ record PromptFinderTest(PromptFinder promptFinder,
         createAndSavePrompt("회원2 프롬프트", "내용", member2, category);
 
         // when
-        Page<Prompt> member1Prompts = promptFinder.findAllByMember(member1, PageRequest.of(0, 10));
+        Slice<PromptSummary> member1Prompts = promptFinder.findSummariesByMember(member1, PageRequest.of(0, 10));
 
         // then
         assertThat(member1Prompts.getContent()).hasSize(1);
-        assertThat(member1Prompts.getContent().getFirst().getTitle()).isEqualTo("회원1 프롬프트");
+        assertThat(member1Prompts.getContent().getFirst().title()).isEqualTo("회원1 프롬프트");
     }
 
     @Test
-    void searchPublic() {
+    void findPublicSummaries_커서_비공개_제외() {
         // given
         Member member = createAndSaveMember("test@test.com", "testnick");
         Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
 
-        createAndSavePrompt("블로그 작성법", "내용", member, category);
-        createAndSavePrompt("다른 제목", "블로그 관련 내용", member, category);
-        createAndSavePrompt("관련없음", "관련없는 내용", member, category);
+        createAndSavePrompt("프롬프트1", "내용", member, category);
+        createAndSavePrompt("프롬프트2", "내용", member, category);
+        createAndSavePrompt("프롬프트3", "내용", member, category);
+        Prompt privatePrompt = createAndSavePrompt("비공개 프롬프트", "내용", member, category);
+        privatePrompt.makePrivate();
+        promptRepository.save(privatePrompt);
 
         // when
-        Page<Prompt> searchResults = promptFinder.searchPublic("블로그", PageRequest.of(0, 10));
+        CursorSlice<PromptSummary> firstPage = promptFinder.findPublicSummaries(null, 2);
+        CursorSlice<PromptSummary> secondPage = promptFinder.findPublicSummaries(firstPage.nextCursor(), 2);
 
         // then
-        assertThat(searchResults.getContent()).hasSize(2);
+        assertThat(firstPage.content()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.content()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(firstPage.content()).extracting(PromptSummary::id)
+                .doesNotContainAnyElementsOf(secondPage.content().stream().map(PromptSummary::id).toList());
+        assertThat(secondPage.content()).extracting(PromptSummary::title).doesNotContain("비공개 프롬프트");
     }
 
     @Test
-    void findPopular() {
+    void findPublicSummariesByCategory_커서() {
         // given
         Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category1 = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Category category2 = createAndSaveCategory("업무 자동화", "업무용 프롬프트");
+
+        createAndSavePrompt("카테고리1 프롬프트", "내용", member, category1);
+        createAndSavePrompt("카테고리2 프롬프트", "내용", member, category2);
+
+        // when
+        CursorSlice<PromptSummary> prompts = promptFinder.findPublicSummariesByCategory(category1, null, 10);
+
+        // then
+        assertThat(prompts.content()).hasSize(1);
+        assertThat(prompts.content().getFirst().title()).isEqualTo("카테고리1 프롬프트");
+        assertThat(prompts.hasNext()).isFalse();
+    }
+
+    @Test
+    void findSummariesByMember_커서() {
+        // given
+        Member member1 = createAndSaveMember("test1@test.com", "testnick1");
+        Member member2 = createAndSaveMember("test2@test.com", "testnick2");
         Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
 
-        Prompt normalPrompt = createAndSavePrompt("일반 프롬프트", "내용", member, category);
+        createAndSavePrompt("회원1 프롬프트1", "내용", member1, category);
+        createAndSavePrompt("회원1 프롬프트2", "내용", member1, category);
+        createAndSavePrompt("회원2 프롬프트", "내용", member2, category);
+
+        // when
+        CursorSlice<PromptSummary> firstPage = promptFinder.findSummariesByMember(member1, null, 1);
+        CursorSlice<PromptSummary> secondPage = promptFinder.findSummariesByMember(member1, firstPage.nextCursor(), 1);
+
+        // then
+        assertThat(firstPage.content()).hasSize(1);
+        assertThat(secondPage.content()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+    }
 
-        Prompt popularPrompt = createAndSavePrompt("인기 프롬프트", "내용", member, category);
-        popularPrompt.increaseLikeCount();
-        popularPrompt.increaseLikeCount();
-        promptRepository.save(popularPrompt);
+    @Test
+    void findPublicSummaries_커서() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt older = createAndSavePrompt("이전 프롬프트", "내용", member, category);
+        Prompt newer = createAndSavePrompt("최신 프롬프트", "내용", member, category);
 
         // when
-        Page<Prompt> popularPrompts = promptFinder.findPopular(PageRequest.of(0, 10));
+        CursorSlice<PromptSummary> firstPage = promptFinder.findPublicSummaries(null, 1);
+        CursorSlice<PromptSummary> secondPage = promptFinder.findPublicSummaries(firstPage.nextCursor(), 1);
 
         // then
-        assertThat(popularPrompts.getContent()).hasSize(2);
-        assertThat(popularPrompts.getContent().getFirst().getTitle()).isEqualTo("인기 프롬프트");
-        assertThat(popularPrompts.getContent().getFirst().getLikesCount()).isEqualTo(2);
+        assertThat(firstPage.content()).extracting(PromptSummary::id).containsExactly(newer.getId());
+        assertThat(firstPage.content().getFirst().authorNickname()).isEqualTo("testnick");
+        assertThat(secondPage.content()).extracting(PromptSummary::id).containsExactly(older.getId());
+    }
+
+    @Test
+    void findSummariesByMember_Slice와_총건수() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        createAndSavePrompt("첫번째", "내용", member, category);
+        createAndSavePrompt("두번째", "내용", member, category);
+        createAndSavePrompt("세번째", "내용", member, category);
+
+        // when
+        Slice<PromptSummary> firstPage = promptFinder.findSummariesByMember(member, PageRequest.of(0, 2));
+        long total = promptFinder.countByMember(member);
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(total).isEqualTo(3);
+    }
+
+    @Test
+    void findRelatedSummaries_조회_수_범위_검증() {
+        assertThatThrownBy(() -> promptFinder.findRelatedSummaries(1L, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> promptFinder.findRelatedSummaries(1L, 51)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findSimilarSummaries_조회_수_범위_검증() {
+        assertThatThrownBy(() -> promptFinder.findSimilarSummaries(1L, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> promptFinder.findSimilarSummaries(1L, 51)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findDuplicateClusters_조회_수_범위_검증() {
+        assertThatThrownBy(() -> promptFinder.findDuplicateClusters(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> promptFinder.findDuplicateClusters(101)).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -172,6 +262,26 @@ record PromptFinderTest(PromptFinder promptFinder,
         assertThat(isLiked).isFalse();
     }
 
+    @Test
+    void likedAmong_주어진_ID_중_좋아요한_것만() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Member other = createAndSaveMember("other@test.com", "othernick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt liked = createAndSavePrompt("좋아요한 프롬프트", "내용", member, category);
+        Prompt notLiked = createAndSavePrompt("좋아요하지 않은 프롬프트", "내용", member, category);
+        Prompt likedByOther = createAndSavePrompt("다른 회원이 좋아요한 프롬프트", "내용", member, category);
+        promptLikeRepository.save(PromptLike.create(member, liked));
+        promptLikeRepository.save(PromptLike.create(other, likedByOther));
+
+        // when
+        Set<Long> result = promptFinder.likedAmong(member, List.of(liked.getId(), notLiked.getId(), likedByOther.getId()));
+
+        // then
+        assertThat(result).containsExactly(liked.getId());
+        assertThat(promptFinder.likedAmong(member, List.of())).isEmpty();
+    }
+
     private Member createAndSaveMember(String email, String nickname) {
         Member member = Member.register(
                 MemberFixture.createMemberRegisterRequest(email, "password123", "password123", nickname),
@@ -191,6 +301,16 @@ record PromptFinderTest(PromptFinder promptFinder,
         return category;
     }
 
+    private Prompt registerPrompt(String title, String content, Member member, Category category) {
+        Prompt prompt = promptRegister.register(
+                PromptFixture.createPromptRegisterRequest(title, content, "설명"),
+                member, category
+        );
+        entityManager.flush();
+        entityManager.clear();
+        return prompt;
+    }
+
     private Prompt createAndSavePrompt(String title, String content, Member member, Category category) {
         Prompt prompt = Prompt.register(
                 PromptFixture.createPromptRegisterRequest(title, content, "설명"),
@@ -0,0 +1,406 @@
+package com.griotold.prompthub.application.prompt.provided;
+
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.application.member.required.MemberRepository;
+import com.griotold.prompthub.application.prompt.required.PromptLikeRepository;
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.application.prompt.required.PromptSimilarityIndex;
+import com.griotold.prompthub.application.prompt.required.PromptTagRepository;
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 인덱스(검색, 인기 랭킹, 태그 등)를 거치는 프롬프트 조회 테스트
+ * 인덱스는 커밋된 뒤에만 갱신되므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ * 남은 공개 프롬프트는 비공개로 바꿔 인덱스에서도 빼고 지운다.
+ * 태그 사전에는 지운 태그가 남으므로 테스트마다 다른 태그명을 쓴다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record PromptIndexQueryTest(PromptFinder promptFinder,
+                            PromptRegister promptRegister,
+                            PromptTagRegister promptTagRegister,
+                            PromptRepository promptRepository,
+                            PromptTagRepository promptTagRepository,
+                            TagRepository tagRepository,
+                            PromptLikeRepository promptLikeRepository,
+                            MemberRepository memberRepository,
+                            CategoryRepository categoryRepository,
+                            PromptSimilarityIndex promptSimilarityIndex,
+                            PlatformTransactionManager transactionManager,
+                            JdbcTemplate jdbcTemplate) {
+
+    @AfterEach
+    void tearDown() {
+        promptRepository.findAll().stream()
+                .filter(Prompt::getIsPublic)
+                .forEach(prompt -> promptRegister.makePrivate(prompt.getId(), prompt.getMember()));
+        promptTagRepository.deleteAllInBatch();
+        promptLikeRepository.deleteAllInBatch();
+        promptRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        tagRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void searchPublicSummaries_제목_매칭이_먼저() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+
+        registerPrompt("블로그 작성법", "내용", member, category);
+        registerPrompt("다른 제목", "블로그 관련 내용", member, category);
+        registerPrompt("관련없음", "관련없는 내용", member, category);
+
+        // when
+        Page<PromptSummary> searchResults = promptFinder.searchPublicSummaries("블로그", PageRequest.of(0, 10));
+
+        // then
+        assertThat(searchResults.getContent()).hasSize(2);
+        assertThat(searchResults.getContent().getFirst().title()).isEqualTo("블로그 작성법");
+    }
+
+    @Test
+    void searchPublicSummaries_비공개로_바꾸면_검색안됨() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+
+        Prompt prompt = registerPrompt("숨길 유튜브 대본", "내용", member, category);
+        promptRegister.makePrivate(prompt.getId(), member);
+
+        // when
+        Page<PromptSummary> searchResults = promptFinder.searchPublicSummaries("유튜브 대본", PageRequest.of(0, 10));
+
+        // then
+        assertThat(searchResults.getContent()).isEmpty();
+    }
+
+    @Test
+    void searchPublicSummaries() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt prompt = registerPrompt("블로그 글쓰기", "블로그 포스팅 작성", member, category);
+        registerPrompt("이메일 작성", "업무 메일", member, category);
+
+        // when
+        Page<PromptSummary> results = promptFinder.searchPublicSummaries("블로그", PageRequest.of(0, 10));
+
+        // then
+        assertThat(results.getContent()).extracting(PromptSummary::id).containsExactly(prompt.getId());
+        assertThat(results.getContent().getFirst().categoryName()).isEqualTo("콘텐츠 작성");
+    }
+
+    @Test
+    void searchPublicSummaries_페이지_번호가_int_범위를_넘으면_빈_페이지() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        registerPrompt("블로그 글쓰기", "블로그 포스팅 작성", member, category);
+
+        // when - offset 100억은 int로 자르면 음수가 된다
+        Page<PromptSummary> results = promptFinder.searchPublicSummaries("블로그", PageRequest.of(1_000_000_000, 10));
+
+        // then
+        assertThat(results.getContent()).isEmpty();
+    }
+
+    @Test
+    void findPopularSummaries_좋아요가_많은_순서() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Member another = createAndSaveMember("test2@test.com", "testnick2");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+
+        Prompt normalPrompt = registerPrompt("일반 프롬프트", "내용", member, category);
+
+        Prompt popularPrompt = registerPrompt("인기 프롬프트", "내용", member, category);
+        promptRegister.toggleLike(popularPrompt.getId(), member);
+        promptRegister.toggleLike(popularPrompt.getId(), another);
+
+        // when
+        Page<PromptSummary> popularPrompts = promptFinder.findPopularSummaries(PageRequest.of(0, 10));
+
+        // then
+        assertThat(popularPrompts.getContent()).extracting(PromptSummary::id)
+                .containsSubsequence(popularPrompt.getId(), normalPrompt.getId());
+        PromptSummary first = popularPrompts.getContent().stream()
+                .filter(summary -> summary.id().equals(popularPrompt.getId()))
+                .findFirst().orElseThrow();
+        assertThat(first.likesCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findPopularSummaries_페이지_번호가_int_범위를_넘으면_빈_페이지() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        registerPrompt("인기 프롬프트", "내용", member, category);
+
+        // when
+        Page<PromptSummary> popularPrompts = promptFinder.findPopularSummaries(PageRequest.of(1_000_000_000, 10));
+
+        // then
+        assertThat(popularPrompts.getContent()).isEmpty();
+    }
+
+    @Test
+    void makePublic_이미_공개면_인기_순위를_다시_계산하지_않음() {
+        // given - 사흘 전에 작성된 프롬프트가 방금 좋아요를 받아 새 프롬프트보다 위에 있다
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt oldPrompt = registerPrompt("오래된 프롬프트", "내용", member, category);
+        jdbcTemplate.update("UPDATE p_prompt SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(3), oldPrompt.getId());
+        promptRegister.makePrivate(oldPrompt.getId(), member);
+        promptRegister.makePublic(oldPrompt.getId(), member);
+
+        Prompt newPrompt = registerPrompt("새 프롬프트", "내용", member, category);
+        promptRegister.toggleLike(oldPrompt.getId(), member);
+        for (int i = 0; i < 3; i++) {
+            promptRegister.toggleLike(oldPrompt.getId(), createAndSaveMember("liker" + i + "@test.com", "liker" + i));
+        }
+        assertThat(promptFinder.findPopularSummaries(PageRequest.of(0, 10)).getContent()).extracting(PromptSummary::id)
+                .containsSubsequence(oldPrompt.getId(), newPrompt.getId());
+
+        // when
+        promptRegister.makePublic(oldPrompt.getId(), member);
+
+        // then
+        assertThat(promptFinder.findPopularSummaries(PageRequest.of(0, 10)).getContent()).extracting(PromptSummary::id)
+                .containsSubsequence(oldPrompt.getId(), newPrompt.getId());
+    }
+
+    @Test
+    void findPopularSummariesByCategory() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category1 = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Category category2 = createAndSaveCategory("업무 자동화", "업무용 프롬프트");
+
+        Prompt prompt1 = registerPrompt("카테고리1 프롬프트", "내용", member, category1);
+        registerPrompt("카테고리2 프롬프트", "내용", member, category2);
+
+        // when
+        Page<PromptSummary> popularPrompts = promptFinder.findPopularSummariesByCategory(category1, PageRequest.of(0, 10));
+
+        // then
+        assertThat(popularPrompts.getContent()).extracting(PromptSummary::id).containsExactly(prompt1.getId());
+    }
+
+    @Test
+    void findPopularSummaries_비공개로_바꾸면_제외() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+
+        Prompt prompt = registerPrompt("숨길 프롬프트", "내용", member, category);
+        promptRegister.makePrivate(prompt.getId(), member);
+
+        // when
+        Page<PromptSummary> popularPrompts = promptFinder.findPopularSummaries(PageRequest.of(0, 10));
+
+        // then
+        assertThat(popularPrompts.getContent()).extracting(PromptSummary::id).doesNotContain(prompt.getId());
+    }
+
+    @Test
+    void findPopularSummaries() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt normalPrompt = registerPrompt("일반 프롬프트", "내용", member, category);
+        Prompt popularPrompt = registerPrompt("인기 프롬프트", "내용", member, category);
+        promptRegister.toggleLike(popularPrompt.getId(), member);
+
+        // when
+        Page<PromptSummary> popular = promptFinder.findPopularSummaries(PageRequest.of(0, 10));
+
+        // then
+        assertThat(popular.getContent()).extracting(PromptSummary::id)
+                .containsSubsequence(popularPrompt.getId(), normalPrompt.getId());
+    }
+
+    @Test
+    void findPublicSummariesByTags_모든_태그를_가진_프롬프트를_최신순으로() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt older = registerPrompt("오래된 프롬프트", "내용", member, category);
+        Prompt onlyOneTag = registerPrompt("태그 하나", "내용", member, category);
+        Prompt newer = registerPrompt("최신 프롬프트", "내용", member, category);
+        promptTagRegister.linkTagsByNames(older, List.of("교집합A", "교집합B"));
+        promptTagRegister.linkTagsByNames(onlyOneTag, List.of("교집합A"));
+        promptTagRegister.linkTagsByNames(newer, List.of("교집합A", "교집합B", "교집합C"));
+
+        // when - 대소문자, 공백, 중복은 태그 등록과 같은 규칙으로 정리된다
+        Page<PromptSummary> results = promptFinder.findPublicSummariesByTags(
+                List.of("교집합a", " 교집합B ", "교집합A"), PageRequest.of(0, 10));
+
+        // then
+        assertThat(results.getContent()).extracting(PromptSummary::id).containsExactly(newer.getId(), older.getId());
+        assertThat(results.getTotalElements()).isEqualTo(2);
+
+        // when - 두 번째 페이지
+        Page<PromptSummary> secondPage = promptFinder.findPublicSummariesByTags(
+                List.of("교집합A", "교집합B"), PageRequest.of(1, 1));
+
+        // then
+        assertThat(secondPage.getContent()).extracting(PromptSummary::id).containsExactly(older.getId());
+        assertThat(secondPage.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findPublicSummariesByTags_없는_태그나_비공개_프롬프트는_제외() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt prompt = registerPrompt("공개 프롬프트", "내용", member, category);
+        Prompt hidden = registerPrompt("비공개 예정", "내용", member, category);
+        promptTagRegister.linkTagsByNames(prompt, List.of("필터태그"));
+        promptTagRegister.linkTagsByNames(hidden, List.of("필터태그"));
+        promptRegister.makePrivate(hidden.getId(), member);
+
+        // when
+        Page<PromptSummary> results = promptFinder.findPublicSummariesByTags(List.of("필터태그"), PageRequest.of(0, 10));
+        Page<PromptSummary> unknown = promptFinder.findPublicSummariesByTags(List.of("필터태그", "없는태그"), PageRequest.of(0, 10));
+
+        // then
+        assertThat(results.getContent()).extracting(PromptSummary::id).containsExactly(prompt.getId());
+        assertThat(unknown.getContent()).isEmpty();
+        assertThat(unknown.getTotalElements()).isZero();
+    }
+
+    @Test
+    void findRelatedSummaries_태그가_비슷한_공개_프롬프트() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt prompt = registerPrompt("기준 프롬프트", "내용", member, category);
+        Prompt similar = registerPrompt("비슷한 프롬프트", "내용", member, category);
+        Prompt partial = registerPrompt("조금 비슷한 프롬프트", "내용", member, category);
+        Prompt unrelated = registerPrompt("무관한 프롬프트", "내용", member, category);
+        promptTagRegister.linkTagsByNames(prompt, List.of("관련A", "관련B", "관련C"));
+        promptTagRegister.linkTagsByNames(similar, List.of("관련A", "관련B", "관련C"));
+        promptTagRegister.linkTagsByNames(partial, List.of("관련A", "관련D"));
+        promptTagRegister.linkTagsByNames(unrelated, List.of("무관"));
+
+        // when
+        List<PromptSummary> related = promptFinder.findRelatedSummaries(prompt.getId(), 10);
+
+        // then
+        assertThat(related).extracting(PromptSummary::id)
+                .startsWith(similar.getId())
+                .doesNotContain(prompt.getId(), unrelated.getId());
+    }
+
+    @Test
+    void findSimilarSummaries_롤백된_등록은_유사도_인덱스에_반영안됨() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt prompt = registerPrompt("terraform module guide", "write a terraform module for aws vpc", member, category);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Prompt rolledBack = transactionTemplate.execute(status -> {
+            Prompt registered = registerPrompt("terraform vpc module", "write a terraform module for aws vpc", member, category);
+            status.setRollbackOnly();
+            return registered;
+        });
+
+        // then
+        assertThat(promptSimilarityIndex.findSimilar(rolledBack.getId(), 10)).isEmpty();
+        assertThat(promptSimilarityIndex.findSimilar(prompt.getId(), 10)).doesNotContain(rolledBack.getId());
+    }
+
+    @Test
+    void findDuplicateClusters_몇_글자만_고친_공개_복제본끼리_묶는다() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        String content = """
+                당신은 여행 작가입니다. 아래 여행지 정보를 바탕으로 2박 3일 일정표를 만들어 주세요.
+                하루를 오전, 오후, 저녁으로 나누고 이동 시간과 예상 비용을 함께 적어 주세요.
+                현지 음식점은 하루에 두 곳 이상 추천하고, 비가 올 때 갈 수 있는 실내 일정도 하나씩 넣어 주세요.
+                마지막에는 준비물 목록과 주의할 점을 다섯 가지로 정리해 주세요.
+                여행지: {도시}, 인원: {인원}, 예산: {예산}
+                """;
+        Prompt original = registerPrompt("여행 일정표", content, member, category);
+        Prompt copy = registerPrompt("여행 일정 만들기", content.replace("2박 3일", "3박 4일"), member, category);
+        Prompt other = registerPrompt("감성 에세이", "가을 여행 에세이를 써 주세요", member, category);
+        Prompt hidden = registerPrompt("여행 일정표 복사", content.replace("다섯 가지", "일곱 가지"), member, category);
+        promptRegister.makePrivate(hidden.getId(), member);
+
+        // when
+        List<List<PromptSummary>> clusters = promptFinder.findDuplicateClusters(100);
+
+        // then
+        assertThat(clusters)
+                .filteredOn(cluster -> cluster.stream().anyMatch(summary -> summary.id().equals(original.getId())))
+                .singleElement()
+                .satisfies(cluster -> assertThat(cluster).extracting(PromptSummary::id)
+                        .containsExactly(original.getId(), copy.getId())
+                        .doesNotContain(other.getId(), hidden.getId()));
+    }
+
+    @Test
+    void findSimilarSummaries_내용이_비슷한_공개_프롬프트() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt prompt = registerPrompt("kubernetes deployment guide", "write a kubernetes deployment yaml with helm chart", member, category);
+        Prompt similar = registerPrompt("kubernetes helm chart", "write a helm chart for kubernetes deployment", member, category);
+        registerPrompt("감성 에세이", "가을 여행 에세이를 써 주세요", member, category);
+        Prompt hidden = registerPrompt("kubernetes deployment yaml", "write a kubernetes deployment yaml with helm chart", member, category);
+        promptRegister.makePrivate(hidden.getId(), member);
+
+        // when
+        List<PromptSummary> similarPrompts = promptFinder.findSimilarSummaries(prompt.getId(), 10);
+
+        // then
+        assertThat(similarPrompts).extracting(PromptSummary::id)
+                .startsWith(similar.getId())
+                .doesNotContain(prompt.getId(), hidden.getId());
+    }
+
+    private Member createAndSaveMember(String email, String nickname) {
+        return memberRepository.save(Member.register(
+                MemberFixture.createMemberRegisterRequest(email, "password123", "password123", nickname),
+                MemberFixture.createPasswordEncoder()
+        ));
+    }
+
+    private Category createAndSaveCategory(String name, String description) {
+        return categoryRepository.save(CategoryFixture.createCategory(name, description));
+    }
+
+    private Prompt registerPrompt(String title, String content, Member member, Category category) {
+        return promptRegister.register(
+                PromptFixture.createPromptRegisterRequest(title, content, "설명"),
+                member, category
+        );
+    }
+}
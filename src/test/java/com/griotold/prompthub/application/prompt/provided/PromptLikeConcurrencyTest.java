@@ -0,0 +1,126 @@
+package com.griotold.prompthub.application.prompt.provided;
+
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.application.member.required.MemberRepository;
+import com.griotold.prompthub.application.prompt.required.PromptLikeRepository;
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 토글 동시성 테스트
+ * 각 토글이 실제로 커밋되어야 하므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record PromptLikeConcurrencyTest(PromptRegister promptRegister,
+                                 PromptRepository promptRepository,
+                                 PromptLikeRepository promptLikeRepository,
+                                 MemberRepository memberRepository,
+                                 CategoryRepository categoryRepository) {
+
+    private static final int TOGGLES = 1_000;
+
+    @AfterEach
+    void tearDown() {
+        promptLikeRepository.deleteAllInBatch();
+        promptRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void toggleLike_1000건_동시_토글후_카운트_일치() throws InterruptedException {
+        // given
+        Category category = categoryRepository.save(CategoryFixture.createCategory("동시성", "동시성 테스트"));
+        List<Member> members = memberRepository.saveAll(IntStream.range(0, TOGGLES)
+                .mapToObj(i -> Member.register(
+                        MemberFixture.createMemberRegisterRequest("like" + i + "@test.com", "password123", "password123", "like" + i),
+                        MemberFixture.createPasswordEncoder()))
+                .toList());
+        Prompt prompt = promptRepository.save(Prompt.register(
+                PromptFixture.createPromptRegisterRequest("인기 프롬프트", "내용", "설명"), members.getFirst(), category));
+
+        // when - 모든 회원이 동시에 좋아요
+        int failures = toggleConcurrently(prompt.getId(), members);
+
+        // then
+        assertThat(failures).isZero();
+        assertThat(promptRepository.findById(prompt.getId()).orElseThrow().getLikesCount()).isEqualTo(TOGGLES);
+        assertThat(promptLikeRepository.count()).isEqualTo(TOGGLES);
+
+        // when - 절반이 동시에 좋아요 취소
+        failures = toggleConcurrently(prompt.getId(), members.subList(0, TOGGLES / 2));
+
+        // then
+        assertThat(failures).isZero();
+        assertThat(promptRepository.findById(prompt.getId()).orElseThrow().getLikesCount()).isEqualTo(TOGGLES / 2);
+        assertThat(promptLikeRepository.count()).isEqualTo(TOGGLES / 2);
+    }
+
+    @Test
+    void toggleLike_같은_회원이_동시에_토글해도_카운트는_행수와_일치() throws InterruptedException {
+        // given
+        Category category = categoryRepository.save(CategoryFixture.createCategory("동시성", "동시성 테스트"));
+        Member member = memberRepository.save(Member.register(
+                MemberFixture.createMemberRegisterRequest("same@test.com", "password123", "password123", "same"),
+                MemberFixture.createPasswordEncoder()));
+        Prompt prompt = promptRepository.save(Prompt.register(
+                PromptFixture.createPromptRegisterRequest("인기 프롬프트", "내용", "설명"), member, category));
+
+        // when
+        toggleConcurrently(prompt.getId(), Collections.nCopies(TOGGLES, member));
+
+        // then - 충돌한 요청은 롤백되므로 카운트와 좋아요 행 수가 항상 같다
+        long likeRows = promptLikeRepository.count();
+        assertThat(likeRows).isBetween(0L, 1L);
+        assertThat(promptRepository.findById(prompt.getId()).orElseThrow().getLikesCount()).isEqualTo((int) likeRows);
+    }
+
+    private int toggleConcurrently(Long promptId, List<Member> members) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Member member : members) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    promptRegister.toggleLike(promptId, member);
+                } catch (RuntimeException e) {
+                    // 같은 회원의 동시 토글 충돌 등은 롤백되고 실패로 집계
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        executor.shutdown();
+        return failures.get();
+    }
+}
@@ -1,5 +1,6 @@
 package com.griotold.prompthub.application.prompt.provided;
 
+import com.griotold.prompthub.application.prompt.ViewCountBuffer;
 import com.griotold.prompthub.application.prompt.required.PromptLikeRepository;
 import com.griotold.prompthub.application.prompt.required.PromptRepository;
 import com.griotold.prompthub.domain.category.Category;
@@ -9,6 +10,7 @@ import com.griotold.prompthub.domain.member.MemberFixture;
 import com.griotold.prompthub.domain.prompt.Prompt;
 import com.griotold.prompthub.domain.prompt.PromptFixture;
 import com.griotold.prompthub.domain.prompt.PromptLike;
+import com.griotold.prompthub.domain.prompt.RatingHistogram;
 import com.griotold.prompthub.domain.review.Review;
 import com.griotold.prompthub.domain.review.ReviewFixture;
 import com.griotold.prompthub.support.annotation.ApplicationTest;
@@ -19,6 +21,7 @@ import static org.assertj.core.api.Assertions.*;
 
 @ApplicationTest
 record PromptRegisterTest(PromptRegister promptRegister,
+                          ViewCountBuffer viewCountBuffer,
                           PromptRepository promptRepository,
                           PromptLikeRepository promptLikeRepository,
                           EntityManager entityManager) {
@@ -99,10 +102,18 @@ record PromptRegisterTest(PromptRegister promptRegister,
         Prompt prompt = createAndSavePrompt("테스트", "내용", member, category);
 
         // when
-        Prompt viewed = promptRegister.increaseViewCount(prompt.getId());
+        promptRegister.increaseViewCount(prompt.getId());
+        promptRegister.increaseViewCount(prompt.getId());
 
-        // then
-        assertThat(viewed.getViewsCount()).isEqualTo(1);
+        // then - 버퍼에만 쌓이고 flush 시점에 반영
+        assertThat(viewCountBuffer.pending(prompt.getId())).isEqualTo(2);
+        assertThat(promptRepository.findById(prompt.getId()).orElseThrow().getViewsCount()).isEqualTo(0);
+
+        viewCountBuffer.flush();
+        entityManager.clear();
+
+        assertThat(viewCountBuffer.pending(prompt.getId())).isZero();
+        assertThat(promptRepository.findById(prompt.getId()).orElseThrow().getViewsCount()).isEqualTo(2);
     }
 
     @Test
@@ -144,8 +155,7 @@ record PromptRegisterTest(PromptRegister promptRegister,
         Prompt prompt = createAndSavePrompt("테스트", "내용", member, category);
 
         promptLikeRepository.save(PromptLike.create(member, prompt));
-        prompt.increaseLikeCount();
-        promptRepository.save(prompt);
+        promptRepository.increaseLikesCount(prompt.getId());
 
         // when
         promptRegister.removeLike(prompt.getId(), member);
@@ -169,6 +179,37 @@ record PromptRegisterTest(PromptRegister promptRegister,
                 .hasMessage("좋아요하지 않은 프롬프트입니다.");
     }
 
+    @Test
+    void toggleLike() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+        Category category = createAndSaveCategory("콘텐츠 작성", "블로그용 프롬프트");
+        Prompt prompt = createAndSavePrompt("테스트", "내용", member, category);
+
+        // when & then - 좋아요
+        assertThat(promptRegister.toggleLike(prompt.getId(), member)).isTrue();
+        Prompt liked = promptRepository.findById(prompt.getId()).orElseThrow();
+        assertThat(liked.getLikesCount()).isEqualTo(1);
+        assertThat(promptLikeRepository.existsByPromptAndMember(liked, member)).isTrue();
+
+        // when & then - 좋아요 취소
+        assertThat(promptRegister.toggleLike(prompt.getId(), member)).isFalse();
+        Prompt unliked = promptRepository.findById(prompt.getId()).orElseThrow();
+        assertThat(unliked.getLikesCount()).isEqualTo(0);
+        assertThat(promptLikeRepository.existsByPromptAndMember(unliked, member)).isFalse();
+    }
+
+    @Test
+    void toggleLike_없는_프롬프트() {
+        // given
+        Member member = createAndSaveMember("test@test.com", "testnick");
+
+        // when & then
+        assertThatThrownBy(() -> promptRegister.toggleLike(999999L, member))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("프롬프트를 찾을 수 없습니다");
+    }
+
     @Test
     void addReview() {
         // given
@@ -217,6 +258,7 @@ record PromptRegisterTest(PromptRegister promptRegister,
         Prompt updated = promptRepository.findById(prompt.getId()).get();
         assertThat(updated.getReviewsCount()).isEqualTo(2);
         assertThat(updated.getAverageRating()).isEqualTo(4.0); // (5+3)/2
+        assertThat(updated.getRatingHistogram()).isEqualTo(new RatingHistogram(0, 0, 1, 0, 1));
     }
 
     @Test
@@ -253,6 +295,7 @@ record PromptRegisterTest(PromptRegister promptRegister,
         Prompt updated = promptRepository.findById(prompt.getId()).get();
         assertThat(updated.getReviewsCount()).isEqualTo(1); // 개수는 변화없음
         assertThat(updated.getAverageRating()).isEqualTo(5.0); // 평점만 변경
+        assertThat(updated.getRatingHistogram()).isEqualTo(new RatingHistogram(0, 0, 0, 0, 1)); // 3점 → 5점
     }
 
     @Test
@@ -291,6 +334,7 @@ record PromptRegisterTest(PromptRegister promptRegister,
         Prompt updated = promptRepository.findById(prompt.getId()).get();
         assertThat(updated.getReviewsCount()).isEqualTo(1);
         assertThat(updated.getAverageRating()).isEqualTo(3.0); // review2만 남음
+        assertThat(updated.getRatingHistogram()).isEqualTo(new RatingHistogram(0, 0, 1, 0, 0));
     }
 
     @Test
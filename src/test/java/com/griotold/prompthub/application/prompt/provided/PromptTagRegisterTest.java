@@ -14,10 +14,13 @@ import com.griotold.prompthub.domain.tag.TagFixture;
 import com.griotold.prompthub.support.annotation.ApplicationTest;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -281,4 +284,133 @@ class PromptTagRegisterTest {
         List<PromptTag> afterUnlink = promptTagRepository.findByPromptWithTag(prompt1);
         assertThat(afterUnlink).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateTagsByNames_태그_수와_관계없이_SQL_문_수가_일정() {
+        // 태그 조회 1 + 현재 연결 조회 1 + INSERT 1 + DELETE 1 + 사용 수 UPDATE 2 (공개 프롬프트)
+        assertThat(statementsToReplaceHalf(prompt1, "few", 2)).isEqualTo(6);
+        assertThat(statementsToReplaceHalf(prompt2, "many", 30)).isEqualTo(6);
+    }
+
+    @Test
+    void updateTagsByNames_바뀐_태그가_없으면_연결을_유지하고_조회만() {
+        // given
+        List<String> tagNames = List.of("Spring", "JPA", "MySQL");
+        promptTagRegister.linkTagsByNames(prompt1, tagNames);
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> linkIdsBefore = promptTagRepository.findByPromptWithTag(prompt1).stream().map(PromptTag::getId).toList();
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // when
+        promptTagRegister.updateTagsByNames(prompt1, List.of("MySQL", "Spring", "JPA"));
+        entityManager.flush();
+
+        // then - 태그 조회 + 현재 연결 조회만, 연결 행은 그대로
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        entityManager.clear();
+        assertThat(promptTagRepository.findByPromptWithTag(prompt1)).extracting(PromptTag::getId)
+                .containsExactlyInAnyOrderElementsOf(linkIdsBefore);
+    }
+
+    @Test
+    void linkTagsByNames_updateTagsByNames_공개_프롬프트의_태그_사용_수_증감() {
+        // given - 두 프롬프트에 Spring 연결
+        promptTagRegister.linkTagsByNames(prompt1, List.of("Spring", "JPA"));
+        promptTagRegister.linkTagsByNames(prompt2, List.of("Spring"));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(usageCountOf("Spring")).isEqualTo(2);
+        assertThat(usageCountOf("JPA")).isEqualTo(1);
+
+        // when - prompt1에서 JPA를 빼고 Redis 추가
+        promptTagRegister.updateTagsByNames(prompt1, List.of("Spring", "Redis"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(usageCountOf("Spring")).isEqualTo(2);
+        assertThat(usageCountOf("JPA")).isZero();
+        assertThat(usageCountOf("Redis")).isEqualTo(1);
+
+        // when - 모든 연결 해제
+        promptTagRegister.unlinkAllTags(prompt1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(usageCountOf("Spring")).isEqualTo(1);
+        assertThat(usageCountOf("Redis")).isZero();
+    }
+
+    @Test
+    void applyVisibility_비공개로_바뀌면_태그_사용_수에서_빠진다() {
+        // given
+        promptTagRegister.linkTagsByNames(prompt1, List.of("Spring", "JPA"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - 비공개 전환
+        Prompt found = entityManager.find(Prompt.class, prompt1.getId());
+        found.makePrivate();
+        promptTagRegister.applyVisibility(found);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(usageCountOf("Spring")).isZero();
+        assertThat(usageCountOf("JPA")).isZero();
+
+        // when - 비공개 상태에서 태그를 바꿔도 사용 수는 그대로
+        Prompt privatePrompt = entityManager.find(Prompt.class, prompt1.getId());
+        promptTagRegister.updateTagsByNames(privatePrompt, List.of("Spring", "Redis"));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(usageCountOf("Redis")).isZero();
+
+        // when - 다시 공개
+        Prompt republished = entityManager.find(Prompt.class, prompt1.getId());
+        republished.makePublic();
+        promptTagRegister.applyVisibility(republished);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then - 지금 연결된 태그만 다시 센다
+        assertThat(usageCountOf("Spring")).isEqualTo(1);
+        assertThat(usageCountOf("Redis")).isEqualTo(1);
+        assertThat(usageCountOf("JPA")).isZero();
+    }
+
+    private int usageCountOf(String name) {
+        return tagRepository.findByName(name).orElseThrow().getUsageCount();
+    }
+
+    /**
+     * tagCount개가 연결된 프롬프트에서 절반을 새 태그로 바꿀 때 실행된 SQL 문 수
+     */
+    private long statementsToReplaceHalf(Prompt prompt, String prefix, int tagCount) {
+        List<String> names = IntStream.range(0, tagCount + tagCount / 2).mapToObj(i -> prefix + i).toList();
+        names.forEach(name -> tagRepository.save(TagFixture.createTag(name)));
+        promptTagRegister.linkTagsByNames(prompt, names.subList(0, tagCount));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        List<String> replaced = names.subList(tagCount / 2, names.size());
+        promptTagRegister.updateTagsByNames(prompt, replaced);
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        assertThat(promptTagRepository.findByPromptWithTag(prompt)).extracting(pt -> pt.getTag().getName())
+                .containsExactlyInAnyOrderElementsOf(replaced);
+        return statements;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,101 @@
+package com.griotold.prompthub.application.prompt.required;
+
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.application.member.required.MemberRepository;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회: 엔티티(JOIN FETCH) vs PromptSummary 프로젝션 비교 벤치마크
+ * 본문 10KB(UTF-8, 한글 약 3,400자) 프롬프트로 20건/100건 페이지를 조회하며 호출당 지연 시간과 스레드 할당 바이트를 잰다.
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * 적재 건수: -Dbenchmark.list-prompts=1000 (기본 1000)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+record PromptListProjectionBenchmark(PromptRepository promptRepository,
+                                     MemberRepository memberRepository,
+                                     CategoryRepository categoryRepository,
+                                     EntityManager entityManager) {
+
+    // 비교 기준: 프로젝션 도입 전 목록 조회 (저장소에서는 지웠으므로 여기서만 쓴다)
+    private static final String ENTITY_LIST = "SELECT p FROM Prompt p JOIN FETCH p.category JOIN FETCH p.member " +
+            "WHERE p.isPublic = true ORDER BY p.createdAt DESC, p.id DESC";
+
+    private static final int PROMPTS = Integer.getInteger("benchmark.list-prompts", 1_000);
+    private static final int CONTENT_BYTES = 10 * 1024;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final List<Integer> PAGE_SIZES = List.of(20, 100);
+
+    @AfterEach
+    void tearDown() {
+        promptRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 엔티티_vs_프로젝션() {
+        Category category = categoryRepository.save(CategoryFixture.createCategory("벤치마크", "목록 조회 벤치마크"));
+        Member member = memberRepository.save(Member.register(
+                MemberFixture.createMemberRegisterRequest("bench@test.com", "password123", "password123", "bench"),
+                MemberFixture.createPasswordEncoder()));
+
+        String content = "가".repeat(CONTENT_BYTES / 3);
+        promptRepository.saveAll(IntStream.range(0, PROMPTS)
+                .mapToObj(i -> Prompt.register(
+                        PromptFixture.createPromptRegisterRequest("벤치마크 프롬프트 " + i, content, "설명 " + i),
+                        member, category))
+                .toList());
+
+        System.out.printf("%-6s %-12s %12s %16s%n", "size", "query", "latency(us)", "allocated(KB)");
+        for (int size : PAGE_SIZES) {
+            Result entity = measure(() -> entityManager.createQuery(ENTITY_LIST, Prompt.class).setMaxResults(size).getResultList());
+            Result summary = measure(() -> promptRepository.findSummariesPublicFirst(Limit.of(size)));
+            System.out.printf("%-6d %-12s %,12d %,16d%n", size, "entity", entity.micros(), entity.allocatedKb());
+            System.out.printf("%-6d %-12s %,12d %,16d%n", size, "projection", summary.micros(), summary.allocatedKb());
+
+            assertThat(promptRepository.findSummariesPublicFirst(Limit.of(size))).hasSize(Math.min(size, PROMPTS));
+        }
+    }
+
+    private static Result measure(Supplier<List<?>> query) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        long micros = (System.nanoTime() - startedAt) / ITERATIONS / 1_000;
+        long allocatedKb = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS / 1024;
+        return new Result(micros, allocatedKb);
+    }
+
+    private record Result(long micros, long allocatedKb) {
+    }
+}
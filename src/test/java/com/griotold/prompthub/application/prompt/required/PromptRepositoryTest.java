@@ -4,15 +4,23 @@ import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.category.CategoryFixture;
 import com.griotold.prompthub.domain.member.Member;
 import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.adapter.persistence.CompressedTextConverter;
 import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptDocument;
 import com.griotold.prompthub.domain.prompt.PromptFixture;
+import com.griotold.prompthub.domain.prompt.PromptStats;
+import com.griotold.prompthub.domain.prompt.PromptSummary;
 import com.griotold.prompthub.support.annotation.RepositoryTest;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -49,136 +57,178 @@ class PromptRepositoryTest {
     }
 
     @Test
-    void findAllPublic() {
+    void findPublicStatsAfter_공개_프롬프트_카운트만_ID_순서로() {
+        // given
         Prompt privatePrompt = Prompt.register(
                 PromptFixture.createPromptRegisterRequest("비공개 제목", "비공개 내용", "비공개 설명"),
                 member, category
         );
         privatePrompt.makePrivate();
         promptRepository.save(privatePrompt);
+        Prompt newerPrompt = Prompt.register(
+                PromptFixture.createPromptRegisterRequest("최신 제목", "최신 내용", "최신 설명"),
+                member, category
+        );
+        promptRepository.save(newerPrompt);
+        entityManager.flush();
+        entityManager.clear();
 
-        Page<Prompt> publicPrompts = promptRepository.findAllPublic(PageRequest.of(0, 10));
+        // when
+        List<PromptStats> firstPage = promptRepository.findPublicStatsAfter(0L, Limit.of(1));
+        List<PromptStats> nextPage = promptRepository.findPublicStatsAfter(firstPage.getLast().id(), Limit.of(10));
 
-        assertThat(publicPrompts.getContent()).hasSize(1);
-        assertThat(publicPrompts.getContent().getFirst().getTitle()).isEqualTo("테스트 제목");
+        // then
+        assertThat(firstPage).extracting(PromptStats::id).containsExactly(prompt.getId());
+        assertThat(nextPage).extracting(PromptStats::id).containsExactly(newerPrompt.getId());
+        PromptStats stats = firstPage.getFirst();
+        assertThat(stats.categoryId()).isEqualTo(category.getId());
+        assertThat(stats.viewsCount()).isZero();
+        assertThat(stats.likesCount()).isZero();
+        assertThat(stats.reviewsCount()).isZero();
+        assertThat(stats.createdAt()).isNotNull();
     }
 
     @Test
-    void findAllPublicByCategory() {
-        Category anotherCategory = CategoryFixture.createCategory("업무 자동화", "업무용 프롬프트");
-        entityManager.persist(anotherCategory);
-
-        Prompt anotherPrompt = Prompt.register(
-                PromptFixture.createPromptRegisterRequest("다른 카테고리", "다른 내용", "다른 설명"),
-                member, anotherCategory
+    void findPublicDocumentsAfter_공개_프롬프트_본문을_ID_순서로() {
+        // given
+        Prompt privatePrompt = Prompt.register(
+                PromptFixture.createPromptRegisterRequest("비공개 제목", "비공개 내용", "비공개 설명"),
+                member, category
         );
-        promptRepository.save(anotherPrompt);
+        privatePrompt.makePrivate();
+        promptRepository.save(privatePrompt);
+        entityManager.flush();
+        entityManager.clear();
 
-        Page<Prompt> contentPrompts = promptRepository.findAllPublicByCategory(
-                category, PageRequest.of(0, 10)
-        );
+        // when
+        List<PromptDocument> documents = promptRepository.findPublicDocumentsAfter(0L, Limit.of(10));
 
-        assertThat(contentPrompts.getContent()).hasSize(1);
-        assertThat(contentPrompts.getContent().getFirst().getTitle()).isEqualTo("테스트 제목");
+        // then
+        assertThat(documents).extracting(PromptDocument::id).containsExactly(prompt.getId());
+        PromptDocument document = documents.getFirst();
+        assertThat(document.title()).isEqualTo("테스트 제목");
+        assertThat(document.description()).isEqualTo("테스트 설명");
+        assertThat(document.content()).isEqualTo("테스트 내용");
+        assertThat(document.averageRating()).isZero();
+        assertThat(promptRepository.findPublicDocumentsAfter(prompt.getId(), Limit.of(10))).isEmpty();
     }
 
     @Test
-    void findAllByMember() {
-        Member anotherMember = Member.register(
-                MemberFixture.createMemberRegisterRequest("another@test.com", "password123", "password123", "anothernick"),
-                MemberFixture.createPasswordEncoder()
+    void findSummariesPublic_목록_컬럼만_조회() {
+        // given
+        Prompt privatePrompt = Prompt.register(
+                PromptFixture.createPromptRegisterRequest("비공개 제목", "비공개 내용", "비공개 설명"),
+                member, category
         );
-        entityManager.persist(anotherMember);
+        privatePrompt.makePrivate();
+        promptRepository.save(privatePrompt);
+        entityManager.flush();
+        entityManager.clear();
 
-        Prompt anotherPrompt = Prompt.register(
-                PromptFixture.createPromptRegisterRequest("다른 사용자", "다른 내용", "다른 설명"),
-                anotherMember, category
-        );
-        promptRepository.save(anotherPrompt);
+        // when - 컨트롤러와 같이 정렬 조건을 붙여서 조회
+        Slice<PromptSummary> summaries = promptRepository.findSummariesPublic(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // then
+        assertThat(summaries.getContent()).hasSize(1);
+        assertThat(summaries.hasNext()).isFalse();
+        PromptSummary summary = summaries.getContent().getFirst();
+        assertThat(summary.id()).isEqualTo(prompt.getId());
+        assertThat(summary.title()).isEqualTo("테스트 제목");
+        assertThat(summary.description()).isEqualTo("테스트 설명");
+        assertThat(summary.categoryName()).isEqualTo("콘텐츠 작성");
+        assertThat(summary.authorNickname()).isEqualTo("testnick");
+        assertThat(summary.viewsCount()).isZero();
+        assertThat(summary.likesCount()).isZero();
+        assertThat(summary.createdAt()).isNotNull();
+    }
 
-        Page<Prompt> memberPrompts = promptRepository.findAllByMember(
-                member, PageRequest.of(0, 10)
+    @Test
+    void findSummariesPublicFirst_findSummariesPublicAfter() {
+        Prompt newerPrompt = Prompt.register(
+                PromptFixture.createPromptRegisterRequest("최신 제목", "최신 내용", "최신 설명"),
+                member, category
         );
+        promptRepository.save(newerPrompt);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PromptSummary> firstPage = promptRepository.findSummariesPublicFirst(Limit.of(1));
+        PromptSummary last = firstPage.getLast();
+        List<PromptSummary> nextPage = promptRepository.findSummariesPublicAfter(last.createdAt(), last.id(), Limit.of(10));
 
-        assertThat(memberPrompts.getContent()).hasSize(1);
-        assertThat(memberPrompts.getContent().getFirst().getTitle()).isEqualTo("테스트 제목");
+        assertThat(firstPage).hasSize(1);
+        assertThat(nextPage).extracting(PromptSummary::id).containsExactly(prompt.getId());
+        assertThat(last.id()).isEqualTo(newerPrompt.getId());
     }
 
     @Test
-    void searchPublic_제목으로_검색() {
-        // given
-        Prompt titleMatchPrompt = Prompt.register(
-                PromptFixture.createPromptRegisterRequest("블로그 작성 프롬프트", "다른 내용", "설명"),
+    void findSummariesPublicByIdIn_비공개_제외() {
+        Prompt privatePrompt = Prompt.register(
+                PromptFixture.createPromptRegisterRequest("비공개 제목", "비공개 내용", "비공개 설명"),
                 member, category
         );
-        promptRepository.save(titleMatchPrompt);
+        privatePrompt.makePrivate();
+        promptRepository.save(privatePrompt);
+        entityManager.flush();
+        entityManager.clear();
 
-        // when
-        Page<Prompt> searchResults = promptRepository.searchPublic(
-                "블로그",  PageRequest.of(0, 10)
-        );
+        List<PromptSummary> summaries = promptRepository.findSummariesPublicByIdIn(List.of(prompt.getId(), privatePrompt.getId()));
 
-        // then
-        assertThat(searchResults.getContent()).hasSize(1);
-        assertThat(searchResults.getContent().getFirst().getTitle()).contains("블로그");
+        assertThat(summaries).extracting(PromptSummary::id).containsExactly(prompt.getId());
     }
 
     @Test
-    void searchPublic_내용으로_검색() {
-        // given
-        Prompt contentMatchPrompt = Prompt.register(
-                PromptFixture.createPromptRegisterRequest("다른 제목", "ChatGPT 프롬프트 내용", "설명"),
+    void findSummariesPublic_다음_페이지_여부() {
+        Prompt newerPrompt = Prompt.register(
+                PromptFixture.createPromptRegisterRequest("최신 제목", "최신 내용", "최신 설명"),
                 member, category
         );
-        promptRepository.save(contentMatchPrompt);
+        promptRepository.save(newerPrompt);
+        entityManager.flush();
+        entityManager.clear();
 
-        // when
-        Page<Prompt> searchResults = promptRepository.searchPublic(
-                "ChatGPT",  PageRequest.of(0, 10)
-        );
+        Slice<PromptSummary> firstPage = promptRepository.findSummariesPublic(PageRequest.of(0, 1));
+        Slice<PromptSummary> secondPage = promptRepository.findSummariesPublic(PageRequest.of(1, 1));
 
-        // then
-        assertThat(searchResults.getContent()).hasSize(1);
-        assertThat(searchResults.getContent().getFirst().getContent()).contains("ChatGPT");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.getContent()).hasSize(1);
     }
 
     @Test
-    void searchPublic_비공개는_검색안됨() {
-        // given
+    void countPublic_countPublicByCategory_countByMember() {
         Prompt privatePrompt = Prompt.register(
-                PromptFixture.createPromptRegisterRequest("검색 키워드", "내용", "설명"),
+                PromptFixture.createPromptRegisterRequest("비공개 제목", "비공개 내용", "비공개 설명"),
                 member, category
         );
         privatePrompt.makePrivate();
         promptRepository.save(privatePrompt);
 
-        // when
-        Page<Prompt> searchResults = promptRepository.searchPublic(
-                "검색",  PageRequest.of(0, 10)
-        );
-
-        // then
-        assertThat(searchResults.getContent()).isEmpty();
+        assertThat(promptRepository.countPublic()).isEqualTo(1);
+        assertThat(promptRepository.countPublicByCategory(category)).isEqualTo(1);
+        assertThat(promptRepository.countByMember(member)).isEqualTo(2);
+        assertThat(promptRepository.countLikedByMember(member)).isZero();
     }
 
     @Test
-    void findPopular() {
-        // given
-        Prompt popularPrompt = Prompt.register(
-                PromptFixture.createPromptRegisterRequest("인기 프롬프트", "인기 내용", "설명"),
-                member, category
-        );
-        // 좋아요 수 직접 증가 (테스트용)
-        popularPrompt.increaseLikeCount();
-        popularPrompt.increaseLikeCount();
-        promptRepository.save(popularPrompt);
+    void findById_압축_저장된_본문과_설명도_원문으로_읽는다() {
+        String content = "당신은 여행 작가입니다. 2박 3일 일정표를 만들어 주세요.\n".repeat(50);
+        String description = "여행 일정표를 만드는 프롬프트입니다. ".repeat(50);
+        CompressedTextConverter converter = new CompressedTextConverter(true, 1024, 65536);
+        entityManager.createNativeQuery("UPDATE p_prompt SET content = :content, description = :description WHERE id = :id")
+                .setParameter("content", converter.convertToDatabaseColumn(content))
+                .setParameter("description", converter.convertToDatabaseColumn(description))
+                .setParameter("id", prompt.getId())
+                .executeUpdate();
+        entityManager.clear();
 
-        // when
-        Page<Prompt> popularPrompts = promptRepository.findPopular(PageRequest.of(0, 10));
+        Prompt found = promptRepository.findById(prompt.getId()).orElseThrow();
 
-        // then
-        assertThat(popularPrompts.getContent()).hasSize(2);
-        assertThat(popularPrompts.getContent().getFirst().getTitle()).isEqualTo("인기 프롬프트");
-        assertThat(popularPrompts.getContent().getFirst().getLikesCount()).isEqualTo(2);
+        assertThat(found.getContent()).isEqualTo(content);
+        assertThat(found.getDescription()).isEqualTo(description);
+        assertThat(promptRepository.findSummariesPublicByIdIn(List.of(prompt.getId())))
+                .extracting(PromptSummary::description)
+                .containsExactly(description);
     }
-}
\ No newline at end of file
+}
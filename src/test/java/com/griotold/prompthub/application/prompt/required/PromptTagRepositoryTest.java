@@ -155,48 +155,4 @@ class PromptTagRepositoryTest {
                 .extracting(pt -> pt.getPrompt().getTitle())
                 .containsExactlyInAnyOrder("프롬프트1", "프롬프트2");
     }
-
-    @Test
-    void existsByPromptAndTag() {
-        // given
-        PromptTag promptTag = PromptTag.link(prompt1, tag1);
-        promptTagRepository.save(promptTag);
-        entityManager.flush();
-        entityManager.clear();
-
-        // when & then
-        assertThat(promptTagRepository.existsByPromptAndTag(prompt1, tag1)).isTrue();
-        assertThat(promptTagRepository.existsByPromptAndTag(prompt1, tag2)).isFalse();
-        assertThat(promptTagRepository.existsByPromptAndTag(prompt2, tag1)).isFalse();
-        assertThat(promptTagRepository.existsByPromptAndTag(prompt2, tag2)).isFalse();
-    }
-
-    @Test
-    void deleteByPrompt() {
-        // given
-        PromptTag promptTag1 = PromptTag.link(prompt1, tag1);
-        PromptTag promptTag2 = PromptTag.link(prompt1, tag2);
-        PromptTag promptTag3 = PromptTag.link(prompt2, tag1); // 다른 프롬프트와 연결
-        promptTagRepository.saveAll(List.of(promptTag1, promptTag2, promptTag3));
-        entityManager.flush();
-        entityManager.clear();
-
-        // when
-        promptTagRepository.deleteByPrompt(prompt1);
-        entityManager.flush();
-        entityManager.clear();
-
-        // then
-        // prompt1과 연결된 PromptTag들은 삭제됨
-        List<PromptTag> remainingPromptTags = promptTagRepository.findByPromptWithTag(prompt1);
-        assertThat(remainingPromptTags).isEmpty();
-
-        // prompt2와 연결된 PromptTag는 남아있음
-        List<PromptTag> prompt2Tags = promptTagRepository.findByPromptWithTag(prompt2);
-        assertThat(prompt2Tags).hasSize(1);
-
-        // Tag 엔티티들은 삭제되지 않고 그대로 남아있음
-        assertThat(entityManager.find(Tag.class, tag1.getId())).isNotNull();
-        assertThat(entityManager.find(Tag.class, tag2.getId())).isNotNull();
-    }
 }
\ No newline at end of file
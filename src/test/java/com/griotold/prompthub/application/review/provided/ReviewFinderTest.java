@@ -4,6 +4,7 @@ import com.griotold.prompthub.application.category.required.CategoryRepository;
 import com.griotold.prompthub.application.member.required.MemberRepository;
 import com.griotold.prompthub.application.prompt.required.PromptRepository;
 import com.griotold.prompthub.application.review.required.ReviewRepository;
+import com.griotold.prompthub.application.support.CursorSlice;
 import com.griotold.prompthub.domain.category.Category;
 import com.griotold.prompthub.domain.category.CategoryFixture;
 import com.griotold.prompthub.domain.member.Member;
@@ -15,11 +16,14 @@ import com.griotold.prompthub.domain.review.ReviewFixture;
 import com.griotold.prompthub.support.annotation.ApplicationTest;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -299,4 +303,129 @@ class ReviewFinderTest {
         assertThat(result.getContent().get(0).getMember().getId()).isEqualTo(reviewer1.getId());
         assertThat(result.hasNext()).isFalse(); // 다음 페이지 없음
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByPromptWithMyReviewFirst_커서_첫_페이지는_내_리뷰를_size와_별개로_맨_앞에() {
+        // Given: 내 리뷰를 가장 먼저 작성 (최신순이면 맨 뒤)
+        Review myReview = reviewRepository.save(ReviewFixture.createExcellentReview(prompt1, reviewer1));
+        Review otherReview1 = reviewRepository.save(ReviewFixture.createGoodReview(prompt1, reviewer2));
+        Review otherReview2 = reviewRepository.save(ReviewFixture.createAverageReview(prompt1, author));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorSlice<Review> result = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, null, 1);
+
+        // Then: 내 리뷰 + 다른 사람 리뷰 1개(최신), 다음 커서는 다른 사람 리뷰 위치
+        assertThat(result.content()).extracting(Review::getId)
+                .containsExactly(myReview.getId(), otherReview2.getId());
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor().id()).isEqualTo(otherReview2.getId());
+
+        CursorSlice<Review> next = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, result.nextCursor(), 1);
+        assertThat(next.content()).extracting(Review::getId).containsExactly(otherReview1.getId());
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    void findByPromptWithMyReviewFirst_커서로_끝까지_넘기면_중복_없이_모든_리뷰() {
+        // Given: 다른 사용자 리뷰 7개 사이에 내 리뷰
+        List<Long> otherIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Member member = memberRepository.save(MemberFixture.createKakaoMember("cursor" + i + "@prompthub.app", "커서" + i));
+            otherIds.add(reviewRepository.save(ReviewFixture.createReview(prompt1, member)).getId());
+            if (i == 3) {
+                reviewRepository.save(ReviewFixture.createReview(prompt1, reviewer1));
+            }
+        }
+        reviewRepository.save(ReviewFixture.createReview(prompt2, reviewer2)); // 다른 프롬프트 (조회되면 안 됨)
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // When: size=3으로 끝까지 조회
+        List<Review> collected = new ArrayList<>();
+        CursorSlice<Review> page = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, null, 3);
+        collected.addAll(page.content());
+        int pages = 1;
+        while (page.hasNext()) {
+            page = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, page.nextCursor(), 3);
+            assertThat(page.content()).noneMatch(review -> review.getMember().getId().equals(reviewer1.getId()));
+            collected.addAll(page.content());
+            pages++;
+        }
+
+        // Then: 내 리뷰 1번 + 다른 사람 리뷰 7개가 최신순, 3페이지
+        assertThat(pages).isEqualTo(3);
+        assertThat(collected.getFirst().getMember().getId()).isEqualTo(reviewer1.getId());
+        assertThat(collected.subList(1, collected.size())).extracting(Review::getId)
+                .containsExactlyElementsOf(otherIds.reversed());
+    }
+
+    @Test
+    void findByPromptWithMyReviewFirst_커서_쿼리_수는_첫_페이지_2번_이후_1번() {
+        // Given
+        reviewRepository.save(ReviewFixture.createExcellentReview(prompt1, reviewer1));
+        reviewRepository.save(ReviewFixture.createGoodReview(prompt1, reviewer2));
+        reviewRepository.save(ReviewFixture.createAverageReview(prompt1, author));
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When: 첫 페이지 - 내 리뷰 + 다른 사람들 리뷰
+        CursorSlice<Review> first = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, null, 1);
+        first.content().forEach(review -> review.getMember().getNickname());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // When: 이후 페이지 - 다른 사람들 리뷰만
+        statistics.clear();
+        CursorSlice<Review> next = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, first.nextCursor(), 1);
+        next.content().forEach(review -> review.getMember().getNickname());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByPromptWithMyReviewFirst_커서_내_리뷰가_없을때() {
+        // Given
+        Review otherReview1 = reviewRepository.save(ReviewFixture.createGoodReview(prompt1, reviewer2));
+        Review otherReview2 = reviewRepository.save(ReviewFixture.createAverageReview(prompt1, author));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorSlice<Review> result = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, null, 4);
+
+        // Then: 최신순, 다음 페이지 없음
+        assertThat(result.content()).extracting(Review::getId)
+                .containsExactly(otherReview2.getId(), otherReview1.getId());
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void findByPromptWithMyReviewFirst_커서_내_리뷰만_있을때() {
+        // Given
+        Review myReview = reviewRepository.save(ReviewFixture.createExcellentReview(prompt1, reviewer1));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorSlice<Review> result = reviewFinder.findByPromptWithMyReviewFirst(prompt1.getId(), reviewer1, null, 4);
+
+        // Then
+        assertThat(result.content()).extracting(Review::getId).containsExactly(myReview.getId());
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
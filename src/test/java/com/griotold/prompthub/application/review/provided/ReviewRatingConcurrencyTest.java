@@ -0,0 +1,128 @@
+package com.griotold.prompthub.application.review.provided;
+
+import com.griotold.prompthub.application.category.required.CategoryRepository;
+import com.griotold.prompthub.application.member.required.MemberRepository;
+import com.griotold.prompthub.application.prompt.required.PromptRepository;
+import com.griotold.prompthub.application.review.required.ReviewRepository;
+import com.griotold.prompthub.domain.category.Category;
+import com.griotold.prompthub.domain.category.CategoryFixture;
+import com.griotold.prompthub.domain.member.Member;
+import com.griotold.prompthub.domain.member.MemberFixture;
+import com.griotold.prompthub.domain.prompt.Prompt;
+import com.griotold.prompthub.domain.prompt.PromptFixture;
+import com.griotold.prompthub.domain.prompt.RatingHistogram;
+import com.griotold.prompthub.domain.review.Review;
+import com.griotold.prompthub.domain.review.ReviewFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 평점 동시 반영 테스트
+ * 각 리뷰가 실제로 커밋되어야 하므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record ReviewRatingConcurrencyTest(ReviewRegister reviewRegister,
+                                   ReviewRepository reviewRepository,
+                                   PromptRepository promptRepository,
+                                   MemberRepository memberRepository,
+                                   CategoryRepository categoryRepository) {
+
+    private static final int REVIEWS = 200;
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        promptRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void register_delete_동시_리뷰에도_평점과_별점별_리뷰수_일치() throws InterruptedException {
+        // given
+        Category category = categoryRepository.save(CategoryFixture.createCategory("동시성", "동시성 테스트"));
+        List<Member> members = memberRepository.saveAll(IntStream.range(0, REVIEWS)
+                .mapToObj(i -> Member.register(
+                        MemberFixture.createMemberRegisterRequest("review" + i + "@test.com", "password123", "password123", "review" + i),
+                        MemberFixture.createPasswordEncoder()))
+                .toList());
+        Prompt prompt = promptRepository.save(Prompt.register(
+                PromptFixture.createPromptRegisterRequest("리뷰 많은 프롬프트", "내용", "설명"), members.getFirst(), category));
+
+        // when - 모든 회원이 동시에 리뷰 (평점 1~5 고르게)
+        List<Review> reviews = new CopyOnWriteArrayList<>();
+        int failures = runConcurrently(members, member -> reviews.add(reviewRegister.register(
+                ReviewFixture.createReviewRegisterRequest(ratingOf(member, members)), prompt, member)));
+
+        // then
+        assertThat(failures).isZero();
+        Prompt reviewed = promptRepository.findById(prompt.getId()).orElseThrow();
+        assertThat(reviewed.getReviewsCount()).isEqualTo(REVIEWS);
+        assertThat(reviewed.getRating().totalScore()).isEqualTo(REVIEWS / 5 * (1 + 2 + 3 + 4 + 5));
+        assertThat(reviewed.getRatingHistogram()).isEqualTo(new RatingHistogram(40, 40, 40, 40, 40));
+
+        // when - 1점, 2점 리뷰를 동시에 삭제
+        List<Member> lowRaters = members.stream().filter(member -> ratingOf(member, members) <= 2).toList();
+        failures = runConcurrently(lowRaters, member -> reviewRegister.delete(reviewOf(member, reviews).getId(), member));
+
+        // then
+        assertThat(failures).isZero();
+        Prompt afterDelete = promptRepository.findById(prompt.getId()).orElseThrow();
+        assertThat(afterDelete.getReviewsCount()).isEqualTo(120);
+        assertThat(afterDelete.getRating().totalScore()).isEqualTo(40 * (3 + 4 + 5));
+        assertThat(afterDelete.getRatingHistogram()).isEqualTo(new RatingHistogram(0, 0, 40, 40, 40));
+        assertThat(afterDelete.getRatingHistogram().total()).isEqualTo(afterDelete.getReviewsCount());
+    }
+
+    private static int ratingOf(Member member, List<Member> members) {
+        return members.indexOf(member) % 5 + 1;
+    }
+
+    private static Review reviewOf(Member member, List<Review> reviews) {
+        return reviews.stream()
+                .filter(review -> review.getMember().getId().equals(member.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int runConcurrently(List<Member> members, Consumer<Member> action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Member member : members) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    action.accept(member);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        executor.shutdown();
+        return failures.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.griotold.prompthub.application.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    void encode_decode_왕복() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 9, 19, 14, 30, 45, 123456000), 42L);
+
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_불투명_토큰() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 9, 19, 14, 30), 42L);
+
+        assertThat(cursor.encode()).doesNotContain("2025", "|");
+    }
+
+    @Test
+    void decode_잘못된_토큰이면_예외발생() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 커서입니다");
+    }
+
+    @Test
+    void CursorSlice_초과분이_있으면_다음커서_생성() {
+        List<Cursor> fetched = List.of(
+                new Cursor(LocalDateTime.of(2025, 9, 3, 0, 0), 3L),
+                new Cursor(LocalDateTime.of(2025, 9, 2, 0, 0), 2L),
+                new Cursor(LocalDateTime.of(2025, 9, 1, 0, 0), 1L)
+        );
+
+        CursorSlice<Cursor> slice = CursorSlice.of(fetched, 2, cursor -> cursor);
+
+        assertThat(slice.content()).hasSize(2);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.nextCursor()).isEqualTo(fetched.get(1));
+    }
+
+    @Test
+    void CursorSlice_마지막_페이지() {
+        List<Cursor> fetched = List.of(new Cursor(LocalDateTime.of(2025, 9, 1, 0, 0), 1L));
+
+        CursorSlice<Cursor> slice = CursorSlice.of(fetched, 2, cursor -> cursor);
+
+        assertThat(slice.content()).hasSize(1);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    void CursorSlice_조회크기_범위_검증() {
+        assertThatThrownBy(() -> CursorSlice.validateSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorSlice.validateSize(CursorSlice.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
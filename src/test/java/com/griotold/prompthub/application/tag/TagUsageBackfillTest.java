@@ -0,0 +1,53 @@
+package com.griotold.prompthub.application.tag;
+
+import com.griotold.prompthub.application.tag.provided.TagRegister;
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.tag.Tag;
+import com.griotold.prompthub.domain.tag.TagNames;
+import com.griotold.prompthub.support.annotation.ApplicationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationTest
+record TagUsageBackfillTest(TagUsageBackfill tagUsageBackfill,
+                            TagRegister tagRegister,
+                            TagRepository tagRepository,
+                            EntityManager em) {
+
+    @Test
+    void backfill_키는_TagNames_keyOf로_채워서_새_태그와_중복되지_않음() {
+        // given - 키 컬럼이 생기기 전에 정규화 없이 저장된 태그
+        em.createNativeQuery("INSERT INTO p_tag (name, created_at) VALUES ('Spring  AI', CURRENT_TIMESTAMP)")
+                .executeUpdate();
+        em.createNativeQuery("INSERT INTO p_tag (name, created_at) VALUES ('spring ai', CURRENT_TIMESTAMP)")
+                .executeUpdate();
+
+        // when
+        tagUsageBackfill.backfill();
+        List<Long> ids = tagRegister.ensureTagIds(TagNames.of(List.of("Spring AI")));
+
+        // then - ID가 작은 태그만 키를 갖고, 같은 이름은 그 태그로 찾는다
+        List<Tag> keyed = tagRepository.findByKeyIn(List.of("spring ai"));
+        assertThat(keyed).extracting(Tag::getName).containsExactly("Spring  AI");
+        assertThat(ids).containsExactly(keyed.get(0).getId());
+        assertThat(tagRepository.findByNameKeyIsNullOrderById()).extracting(Tag::getName).containsExactly("spring ai");
+    }
+
+    @Test
+    void backfill_사용_수는_설정을_켜지_않으면_다시_세지_않음() {
+        // given - 연결된 프롬프트가 없는데 사용 수가 남아 있는 태그
+        em.createNativeQuery("INSERT INTO p_tag (name, name_key, usage_count, created_at) VALUES ('요약', '요약', 3, CURRENT_TIMESTAMP)")
+                .executeUpdate();
+
+        // when
+        tagUsageBackfill.backfill();
+        em.clear();
+
+        // then - 기본값(꺼짐)에서는 시작할 때마다 전체 태그를 다시 세지 않는다
+        assertThat(tagRepository.findByKeyIn(List.of("요약"))).extracting(Tag::getUsageCount).containsExactly(3);
+    }
+}
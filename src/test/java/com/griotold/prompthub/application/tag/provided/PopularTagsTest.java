@@ -0,0 +1,67 @@
+package com.griotold.prompthub.application.tag.provided;
+
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.tag.TagNames;
+import com.griotold.prompthub.domain.tag.TagUsage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인기 태그 랭킹 테스트
+ * 랭킹은 커밋된 뒤에만 갱신되므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record PopularTagsTest(TagRegister tagRegister,
+                       TagFinder tagFinder,
+                       TagRepository tagRepository) {
+
+    @AfterEach
+    void tearDown() {
+        tagRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findPopular_커밋된_사용_수_순서() {
+        // given
+        List<Long> ids = tagRegister.ensureTagIds(TagNames.of(List.of("인기1", "인기2", "인기3")));
+        tagRegister.addUsage(List.of(ids.get(0), ids.get(1), ids.get(2)), 1);
+        tagRegister.addUsage(List.of(ids.get(1), ids.get(2)), 1);
+        tagRegister.addUsage(List.of(ids.get(2)), 1);
+
+        // when
+        List<TagUsage> popular = ofTags(tagFinder.findPopular(100), ids);
+
+        // then
+        assertThat(popular).extracting(TagUsage::name).containsExactly("인기3", "인기2", "인기1");
+        assertThat(popular).extracting(TagUsage::usageCount).containsExactly(3, 2, 1);
+
+        // when - 사용 수가 0이 되면 랭킹에서 빠진다
+        tagRegister.addUsage(List.of(ids.get(0)), -1);
+        tagRegister.addUsage(List.of(ids.get(2)), -3);
+
+        // then
+        assertThat(ofTags(tagFinder.findPopular(100), ids)).extracting(TagUsage::name).containsExactly("인기2");
+        assertThat(tagRepository.findById(ids.get(2)).orElseThrow().getUsageCount()).isZero();
+    }
+
+    @Test
+    void findPopular_조회_수_범위_검증() {
+        assertThatThrownBy(() -> tagFinder.findPopular(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tagFinder.findPopular(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 다른 테스트가 남긴 랭킹 항목은 제외
+    private static List<TagUsage> ofTags(List<TagUsage> usages, List<Long> tagIds) {
+        Set<Long> ids = Set.copyOf(tagIds);
+        return usages.stream().filter(usage -> ids.contains(usage.tagId())).toList();
+    }
+}
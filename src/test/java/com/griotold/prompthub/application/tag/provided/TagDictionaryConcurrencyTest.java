@@ -0,0 +1,106 @@
+package com.griotold.prompthub.application.tag.provided;
+
+import com.griotold.prompthub.application.tag.TagDictionary;
+import com.griotold.prompthub.application.tag.required.TagRepository;
+import com.griotold.prompthub.domain.tag.TagNames;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태그 사전과 동시 태그 생성 테스트
+ * 사전은 커밋된 뒤에만 채워지므로 @ApplicationTest(@Transactional) 대신 직접 데이터를 정리한다.
+ * 사전에는 지운 태그가 남으므로 테스트마다 다른 태그명을 쓴다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+record TagDictionaryConcurrencyTest(TagRegister tagRegister,
+                                    TagRepository tagRepository,
+                                    TagDictionary tagDictionary,
+                                    EntityManagerFactory entityManagerFactory) {
+
+    private static final int WRITERS = 32;
+
+    @AfterEach
+    void tearDown() {
+        tagRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ensureTagIds_같은_새_태그를_동시에_만들어도_한_행으로() throws InterruptedException {
+        // given - 표기만 다른 같은 태그 (대소문자만 다른 표기도 섞는다)
+        List<List<String>> inputs = List.of(
+                List.of("동시태그", "Concurrent Tag"),
+                List.of(" 동시태그", "concurrent  tag "),
+                List.of("동시태그\t", "CONCURRENT TAG"));
+
+        // when
+        Set<List<Long>> results = ConcurrentHashMap.newKeySet();
+        int failures = runConcurrently(writer -> results.add(tagRegister.ensureTagIds(TagNames.of(inputs.get(writer % inputs.size())))));
+
+        // then - 모두 같은 ID를 받고 태그는 두 개만
+        assertThat(failures).isZero();
+        assertThat(results).hasSize(1);
+        assertThat(tagRepository.findByKeyIn(List.of("동시태그", "concurrent tag"))).hasSize(2);
+    }
+
+    @Test
+    void ensureTagIds_커밋된_태그는_사전에서_찾아_DB를_읽지_않는다() {
+        // given
+        List<Long> created = tagRegister.ensureTagIds(TagNames.of(List.of("사전태그", "Dictionary")));
+        assertThat(tagDictionary.find("dictionary")).isEqualTo(created.get(1));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when - 대소문자, 공백만 다른 입력
+        List<Long> found = tagRegister.ensureTagIds(TagNames.of(List.of(" 사전태그 ", "DICTIONARY")));
+
+        // then
+        assertThat(found).isEqualTo(created);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private int runConcurrently(IntConsumer action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < WRITERS; i++) {
+            int writer = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    action.accept(writer);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        executor.shutdown();
+        return failures.get();
+    }
+}
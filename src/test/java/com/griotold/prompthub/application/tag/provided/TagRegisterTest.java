@@ -131,4 +131,21 @@ record TagRegisterTest(TagRegister tagRegister,
         assertThat(result.toList()).extracting(Tag::getName)
                 .containsExactly("Spring", "JPA", "MySQL");
     }
-}
\ No newline at end of file
+
+    @Test
+    void ensureTagIds_대소문자와_공백만_다르면_기존_태그() {
+        // Given
+        Tag spring = tagRepository.save(TagFixture.createTag("Spring Boot"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Long> tagIds = tagRegister.ensureTagIds(TagNames.of(List.of("spring boot", " SPRING  BOOT", "Kotlin")));
+
+        // Then: 중복 제거되어 기존 태그 + 새 태그
+        assertThat(tagIds).hasSize(2);
+        assertThat(tagIds.getFirst()).isEqualTo(spring.getId());
+        assertThat(tagRepository.count()).isEqualTo(2);
+        assertThat(tagRepository.findById(tagIds.get(1)).orElseThrow().getName()).isEqualTo("Kotlin");
+    }
+}
@@ -2,6 +2,7 @@ package com.griotold.prompthub.application.tag.required;
 
 import com.griotold.prompthub.domain.tag.Tag;
 import com.griotold.prompthub.domain.tag.TagFixture;
+import com.griotold.prompthub.domain.tag.TagNames;
 import com.griotold.prompthub.support.annotation.RepositoryTest;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -59,6 +60,23 @@ class TagRepositoryTest {
                 .containsExactlyInAnyOrder("마케팅", "광고");
     }
 
+    @Test
+    void insertIfAbsent_대소문자만_다른_태그는_넣지_않음() {
+        // given
+        tagRepository.save(TagFixture.createTag("Spring"));
+        em.flush();
+        em.clear();
+
+        // when
+        int inserted = tagRepository.insertIfAbsent("spring", TagNames.keyOf("spring"));
+
+        // then
+        assertThat(inserted).isZero();
+        assertThat(tagRepository.findByKeyIn(List.of("spring")))
+                .extracting(Tag::getName)
+                .containsExactly("Spring");
+    }
+
     @Test
     void findByNameIn_못찾으면_빈_리스트() {
         // when
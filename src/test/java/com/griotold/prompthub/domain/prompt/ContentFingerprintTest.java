@@ -0,0 +1,67 @@
+package com.griotold.prompthub.domain.prompt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ContentFingerprintTest {
+
+    static final String CONTENT = """
+            당신은 10년 경력의 마케팅 카피라이터입니다. 아래 제품 정보를 바탕으로 인스타그램 광고 문구를 작성해 주세요.
+            - 타깃: 20~30대 직장인
+            - 톤: 친근하고 위트 있게, 이모지는 두 개 이하
+            - 형식: 헤드라인 1줄, 본문 3줄, 해시태그 5개
+            제품의 핵심 장점 세 가지를 먼저 요약한 뒤, 각 장점을 일상 장면과 연결해서 보여 주세요.
+            마지막 줄에는 구매를 유도하는 짧은 행동 문구를 넣어 주세요.
+            과장된 표현이나 경쟁사 비교는 피하고, 가격과 할인 정보는 제품 정보에 있는 내용만 사용하세요.
+            문구를 세 가지 버전으로 작성한 뒤, 각 버전이 어떤 고객에게 더 잘 맞는지 한 줄씩 설명해 주세요.
+            마지막으로 가장 추천하는 버전을 고르고 그 이유를 두 문장으로 정리해 주세요.
+            제품 정보: {제품명}, {가격}, {주요 기능}, {구매처}
+            """;
+
+    @Test
+    void 같은_본문은_같은_지문() {
+        assertThat(ContentFingerprint.of("광고 문구", CONTENT)).isEqualTo(ContentFingerprint.of("광고 문구", CONTENT));
+    }
+
+    @Test
+    void 띄어쓰기_대소문자_문장부호만_다르면_같은_지문() {
+        ContentFingerprint original = ContentFingerprint.of("Ad Copy", CONTENT);
+        ContentFingerprint reformatted = ContentFingerprint.of("ad copy!", CONTENT.replace(" ", "").replace(".", "").replace("\n", " "));
+
+        assertThat(reformatted.distance(original)).isZero();
+    }
+
+    @Test
+    void 몇_글자만_고친_복제본은_유사_중복() {
+        ContentFingerprint original = ContentFingerprint.of("광고 문구", CONTENT);
+        ContentFingerprint copy = ContentFingerprint.of("광고 문구", CONTENT.replace("10년", "15년").replace("두 개", "세 개"));
+
+        assertThat(copy.isNearDuplicateOf(original)).isTrue();
+    }
+
+    @Test
+    void 다른_본문은_유사_중복이_아님() {
+        ContentFingerprint original = ContentFingerprint.of("광고 문구", CONTENT);
+        ContentFingerprint other = ContentFingerprint.of("코드 리뷰", """
+                You are a senior Java engineer. Review the following pull request for concurrency bugs,
+                missing null checks and N+1 queries. Answer with a numbered list of findings and a suggested fix for each.
+                """);
+
+        assertThat(other.isNearDuplicateOf(original)).isFalse();
+        assertThat(other.distance(original)).isGreaterThan(ContentFingerprint.NEAR_DUPLICATE_DISTANCE);
+    }
+
+    @Test
+    void 설명이_없거나_본문이_짧아도_계산() {
+        assertThatCode(() -> ContentFingerprint.of(null, "짧")).doesNotThrowAnyException();
+        assertThat(ContentFingerprint.of(null, "")).isEqualTo(new ContentFingerprint(0L));
+    }
+
+    @Test
+    void 지문_값은_필수() {
+        assertThatThrownBy(() -> new ContentFingerprint(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지문 값은 필수입니다.");
+    }
+}
@@ -0,0 +1,283 @@
+package com.griotold.prompthub.domain.prompt;
+
+import com.griotold.prompthub.adapter.persistence.CompressedTextConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 압축 저장(CompressedTextConverter) 벤치마크 - 저장 크기, 변환 지연, DB 쓰기/읽기
+ * 기본 테스트에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * 프롬프트 수: -Dbenchmark.prompts=20000 (기본 2만)
+ * 크기 분포: 짧은 프롬프트(~500B) 40%, 중간(~2KB) 35%, 긴 시스템 프롬프트(~8KB) 20%, 아주 긴 것(~32KB) 5%, 한국어 60%
+ */
+@Tag("benchmark")
+class PromptCompressionBenchmark {
+
+    private static final int PROMPTS = Integer.getInteger("benchmark.prompts", 20_000);
+    private static final int POINT_READS = 10_000;
+    private static final int MIN_BYTES = 1024;
+    private static final int MAX_BYTES = 65536;
+
+    private static final int[] BUCKET_LIMITS = {512, 2048, 8192, Integer.MAX_VALUE};
+    private static final String[] BUCKET_NAMES = {"~512B", "512B~2KB", "2KB~8KB", "8KB~"};
+
+    private static final String[] KOREAN = {
+            "당신은 {0} 분야에서 10년 이상 일한 전문가입니다.",
+            "사용자의 질문에 {0} 관점에서 단계별로 답해 주세요.",
+            "답변은 반드시 한국어로 작성하고, 전문 용어는 처음 나올 때 짧게 풀어서 설명합니다.",
+            "확실하지 않은 내용은 추측하지 말고 모른다고 답하세요.",
+            "{0}와 {1}의 차이를 표로 정리해 주세요.",
+            "각 항목마다 예시를 하나씩 들고, 마지막에 세 줄로 요약합니다.",
+            "출력 형식: 제목, 핵심 요약, 상세 설명, 주의할 점, 다음 단계",
+            "문장은 짧게 쓰고, 한 문단은 세 문장을 넘지 않게 합니다.",
+            "사용자가 {0}에 대해 물으면 먼저 목적과 상황을 되물어 확인합니다.",
+            "개인정보나 민감한 정보는 요청하지 않습니다.",
+            "{0} 예산과 {1} 일정 안에서 실행할 수 있는 계획만 제안하세요.",
+            "코드가 필요하면 {0}로 작성하고 주석은 한국어로 답니다.",
+            "잘못된 전제가 있으면 답하기 전에 바로잡아 주세요.",
+            "결과물은 마크다운으로 작성하고, 목록은 번호를 붙입니다."
+    };
+    private static final String[] ENGLISH = {
+            "You are an expert {0} consultant with a decade of hands-on experience.",
+            "Answer the user's question step by step from a {0} perspective.",
+            "Always respond in English and define technical terms the first time they appear.",
+            "If you are not sure about something, say so instead of guessing.",
+            "Compare {0} and {1} in a table with pros, cons and typical use cases.",
+            "Give one concrete example for each item and finish with a three-line summary.",
+            "Output format: title, key takeaways, detailed explanation, caveats, next steps.",
+            "Keep sentences short and never write more than three sentences per paragraph.",
+            "When the user asks about {0}, first clarify their goal and constraints.",
+            "Never ask for personal or sensitive information.",
+            "Only propose plans that fit a {0} budget and a {1} timeline.",
+            "When code is needed, write it in {0} and explain each block briefly.",
+            "If the question rests on a wrong assumption, correct it before answering.",
+            "Format the result as markdown with numbered lists."
+    };
+    private static final String[] KOREAN_TERMS = {
+            "마케팅", "데이터 분석", "백엔드 개발", "세무", "인사 관리", "교육 기획", "영상 편집", "브랜딩", "법률 검토", "여행 기획",
+            "고객 지원", "재무 모델링", "UX 리서치", "SEO", "채용", "콘텐츠 전략", "물류", "보안 점검", "제품 기획", "카피라이팅"
+    };
+    private static final String[] ENGLISH_TERMS = {
+            "marketing", "data analysis", "backend", "tax", "HR", "curriculum design", "video editing", "branding", "legal review",
+            "travel planning", "customer support", "financial modeling", "UX research", "SEO", "Python", "Java", "SQL", "Kotlin"
+    };
+
+    // 문장 틀만 쓰면 실제보다 압축이 잘 되므로, 프롬프트마다 다른 내용(고유명사, 예시 데이터)을 흉내 낸 단어를 섞는다
+    private static final String[] KOREAN_WORDS = words(new Random(0), 3_000, '가', 2_350);
+    private static final String[] ENGLISH_WORDS = words(new Random(1), 3_000, 'a', 26);
+
+    @Test
+    void 저장_크기와_변환_지연() {
+        List<String> prompts = generatePrompts(new Random(42), PROMPTS);
+        CompressedTextConverter converter = new CompressedTextConverter(true, MIN_BYTES, MAX_BYTES);
+
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            prompts.forEach(prompt -> converter.convertToEntityAttribute(converter.convertToDatabaseColumn(prompt)));
+        }
+
+        long[] counts = new long[BUCKET_LIMITS.length];
+        long[] originalBytes = new long[BUCKET_LIMITS.length];
+        long[] storedBytes = new long[BUCKET_LIMITS.length];
+        long[] writeNanos = new long[BUCKET_LIMITS.length];
+        long[] readNanos = new long[BUCKET_LIMITS.length];
+        for (String prompt : prompts) {
+            int bytes = utf8Length(prompt);
+            int bucket = bucketOf(bytes);
+
+            long startedAt = System.nanoTime();
+            String stored = converter.convertToDatabaseColumn(prompt);
+            long writtenAt = System.nanoTime();
+            String restored = converter.convertToEntityAttribute(stored);
+            long readAt = System.nanoTime();
+            assertThat(restored).isEqualTo(prompt);
+
+            counts[bucket]++;
+            originalBytes[bucket] += bytes;
+            storedBytes[bucket] += utf8Length(stored);
+            writeNanos[bucket] += writtenAt - startedAt;
+            readNanos[bucket] += readAt - writtenAt;
+        }
+
+        System.out.printf("기준 크기 %,dB%n", MIN_BYTES);
+        System.out.printf("%-10s %8s %12s %12s %8s %10s %10s%n", "size", "count", "avg(B)", "stored(B)", "ratio", "write(us)", "read(us)");
+        for (int bucket = 0; bucket < BUCKET_LIMITS.length; bucket++) {
+            if (counts[bucket] == 0) {
+                continue;
+            }
+            System.out.printf("%-10s %,8d %,12d %,12d %8.2f %10.1f %10.1f%n", BUCKET_NAMES[bucket], counts[bucket],
+                    originalBytes[bucket] / counts[bucket], storedBytes[bucket] / counts[bucket],
+                    (double) storedBytes[bucket] / originalBytes[bucket],
+                    writeNanos[bucket] / 1_000.0 / counts[bucket], readNanos[bucket] / 1_000.0 / counts[bucket]);
+        }
+
+        long total = prompts.stream().mapToLong(PromptCompressionBenchmark::utf8Length).sum();
+        System.out.printf("%n%-12s %14s %8s%n", "min-bytes", "total(B)", "ratio");
+        System.out.printf("%-12s %,14d %8.2f%n", "off", total, 1.0);
+        for (int minBytes : new int[]{0, 512, 1024, 2048, 4096}) {
+            CompressedTextConverter candidate = new CompressedTextConverter(true, minBytes, MAX_BYTES);
+            long stored = prompts.stream().mapToLong(prompt -> utf8Length(candidate.convertToDatabaseColumn(prompt))).sum();
+            System.out.printf("%-12d %,14d %8.2f%n", minBytes, stored, (double) stored / total);
+        }
+    }
+
+    @Test
+    void DB_쓰기_읽기() throws SQLException {
+        List<String> prompts = generatePrompts(new Random(7), PROMPTS);
+        CompressedTextConverter off = new CompressedTextConverter(false, MIN_BYTES, MAX_BYTES);
+        CompressedTextConverter on = new CompressedTextConverter(true, MIN_BYTES, MAX_BYTES);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:compression-benchmark;DB_CLOSE_DELAY=-1", "sa", "")) {
+            System.out.printf("%-12s %14s %12s %14s %12s%n", "mode", "stored(B)", "insert(ms)", "point read(us)", "scan(ms)");
+            // 워밍업으로 한 번씩 돌린 뒤 측정
+            for (int round = 0; round < 2; round++) {
+                for (CompressedTextConverter converter : List.of(off, on)) {
+                    Result result = roundTrip(connection, prompts, converter);
+                    if (round == 1) {
+                        System.out.printf("%-12s %,14d %,12d %,14.1f %,12d%n", converter == on ? "compressed" : "plain",
+                                result.storedBytes(), result.insertMillis(), result.pointReadMicros(), result.scanMillis());
+                    }
+                }
+            }
+        }
+    }
+
+    private record Result(long storedBytes, long insertMillis, double pointReadMicros, long scanMillis) {
+    }
+
+    private static Result roundTrip(Connection connection, List<String> prompts, CompressedTextConverter converter) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_prompt");
+            statement.execute("CREATE TABLE bench_prompt (id BIGINT PRIMARY KEY, content CHARACTER LARGE OBJECT NOT NULL)");
+        }
+
+        long startedAt = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bench_prompt (id, content) VALUES (?, ?)")) {
+            for (int i = 0; i < prompts.size(); i++) {
+                insert.setLong(1, i + 1);
+                insert.setString(2, converter.convertToDatabaseColumn(prompts.get(i)));
+                insert.addBatch();
+                if ((i + 1) % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        long insertMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        long storedBytes;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT SUM(OCTET_LENGTH(content)) FROM bench_prompt")) {
+            resultSet.next();
+            storedBytes = resultSet.getLong(1);
+        }
+
+        Random random = new Random(1);
+        startedAt = System.nanoTime();
+        try (PreparedStatement select = connection.prepareStatement("SELECT content FROM bench_prompt WHERE id = ?")) {
+            for (int i = 0; i < POINT_READS; i++) {
+                int id = random.nextInt(prompts.size()) + 1;
+                select.setLong(1, id);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    assertThat(converter.convertToEntityAttribute(resultSet.getString(1))).isEqualTo(prompts.get(id - 1));
+                }
+            }
+        }
+        double pointReadMicros = (System.nanoTime() - startedAt) / 1_000.0 / POINT_READS;
+
+        startedAt = System.nanoTime();
+        long characters = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT content FROM bench_prompt")) {
+            while (resultSet.next()) {
+                characters += converter.convertToEntityAttribute(resultSet.getString(1)).length();
+            }
+        }
+        long scanMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        assertThat(characters).isEqualTo(prompts.stream().mapToLong(String::length).sum());
+
+        return new Result(storedBytes, insertMillis, pointReadMicros, scanMillis);
+    }
+
+    private static List<String> generatePrompts(Random random, int count) {
+        List<String> prompts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double bucket = random.nextDouble();
+            int targetBytes;
+            if (bucket < 0.40) {
+                targetBytes = 100 + random.nextInt(400);
+            } else if (bucket < 0.75) {
+                targetBytes = 500 + random.nextInt(1_500);
+            } else if (bucket < 0.95) {
+                targetBytes = 2_000 + random.nextInt(6_000);
+            } else {
+                targetBytes = 8_000 + random.nextInt(24_000);
+            }
+            prompts.add(random.nextDouble() < 0.6
+                    ? prompt(random, targetBytes, KOREAN, KOREAN_TERMS, KOREAN_WORDS)
+                    : prompt(random, targetBytes, ENGLISH, ENGLISH_TERMS, ENGLISH_WORDS));
+        }
+        return prompts;
+    }
+
+    // 문장 틀에 용어를 채워 넣고, 절반쯤은 뒤에 고유한 단어를 붙인다. 가끔 제목과 목록으로 나눈다
+    private static String prompt(Random random, int targetBytes, String[] sentences, String[] terms, String[] words) {
+        StringBuilder builder = new StringBuilder();
+        int bytes = 0;
+        while (bytes < targetBytes) {
+            String line = sentences[random.nextInt(sentences.length)]
+                    .replace("{0}", terms[random.nextInt(terms.length)])
+                    .replace("{1}", terms[random.nextInt(terms.length)]);
+            int shape = random.nextInt(10);
+            if (shape == 0) {
+                line = "\n## " + terms[random.nextInt(terms.length)] + "\n";
+            } else if (shape < 4) {
+                line = "- " + line + " (" + random.nextInt(1_000) + ")";
+            }
+            if (shape != 0 && random.nextBoolean()) {
+                StringBuilder details = new StringBuilder(line);
+                for (int i = 2 + random.nextInt(5); i > 0; i--) {
+                    details.append(' ').append(words[random.nextInt(words.length)]);
+                }
+                line = details.toString();
+            }
+            builder.append(line).append('\n');
+            bytes += utf8Length(line) + 1;
+        }
+        return builder.toString();
+    }
+
+    // first부터 letters개 글자 중에서 2~4글자짜리 단어를 만든다
+    private static String[] words(Random random, int count, char first, int letters) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            char[] word = new char[2 + random.nextInt(3)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) (first + random.nextInt(letters));
+            }
+            words[i] = new String(word);
+        }
+        return words;
+    }
+
+    private static int bucketOf(int bytes) {
+        int bucket = 0;
+        while (bytes >= BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
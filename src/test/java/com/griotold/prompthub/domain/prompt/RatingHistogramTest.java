@@ -0,0 +1,57 @@
+package com.griotold.prompthub.domain.prompt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RatingHistogramTest {
+
+    @Test
+    void empty() {
+        RatingHistogram histogram = RatingHistogram.empty();
+
+        assertThat(histogram.total()).isZero();
+        for (int star = 1; star <= 5; star++) {
+            assertThat(histogram.count(star)).isZero();
+        }
+    }
+
+    @Test
+    void RatingHistogram_음수이면_예외발생() {
+        assertThatThrownBy(() -> new RatingHistogram(0, -1, 0, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("별점별 리뷰 수는 0 이상이어야 합니다.");
+    }
+
+    @Test
+    void add() {
+        RatingHistogram histogram = RatingHistogram.empty().add(5).add(5).add(3);
+
+        assertThat(histogram).isEqualTo(new RatingHistogram(0, 0, 1, 0, 2));
+        assertThat(histogram.count(5)).isEqualTo(2);
+        assertThat(histogram.total()).isEqualTo(3);
+    }
+
+    @Test
+    void remove() {
+        RatingHistogram histogram = new RatingHistogram(1, 0, 0, 0, 2).remove(5);
+
+        assertThat(histogram).isEqualTo(new RatingHistogram(1, 0, 0, 0, 1));
+    }
+
+    @Test
+    void remove_해당_별점의_리뷰가_없으면_예외발생() {
+        assertThatThrownBy(() -> new RatingHistogram(1, 0, 0, 0, 0).remove(2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("삭제할 리뷰가 없습니다.");
+    }
+
+    @Test
+    void 범위를_벗어난_평점은_예외발생() {
+        RatingHistogram histogram = RatingHistogram.empty();
+
+        assertThatThrownBy(() -> histogram.add(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> histogram.add(6)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> histogram.count(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -264,4 +264,35 @@ class TagNamesTest {
         assertThat(tags1).extracting(Tag::getName)
                 .isEqualTo(tags2.stream().map(Tag::getName).toList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void of_표기_정규화() {
+        String decomposed = "\u1112\u1161\u11AB\u1100\u1173\u11AF"; // "한글" 자모 분리형(NFD)
+
+        TagNames tagNames = TagNames.of(List.of("  Spring   Boot ", decomposed, "Java\tScript"));
+
+        assertThat(tagNames.toList()).containsExactly("Spring Boot", "한글", "Java Script");
+    }
+
+    @Test
+    void of_빈_이름은_제외() {
+        TagNames tagNames = TagNames.of(List.of("Spring", "  ", ""));
+
+        assertThat(tagNames.toList()).containsExactly("Spring");
+    }
+
+    @Test
+    void distinct_대소문자와_공백만_다르면_처음_표기만_남긴다() {
+        TagNames tagNames = TagNames.of(List.of("Spring", "spring", " SPRING ", "JPA")).distinct();
+
+        assertThat(tagNames.toList()).containsExactly("Spring", "JPA");
+    }
+
+    @Test
+    void filterExisting_대소문자_무시() {
+        TagNames allTagNames = TagNames.of(List.of("spring", "Redis"));
+        TagNames existingTagNames = TagNames.of(List.of("Spring"));
+
+        assertThat(allTagNames.filterExisting(existingTagNames).toList()).containsExactly("Redis");
+    }
+}